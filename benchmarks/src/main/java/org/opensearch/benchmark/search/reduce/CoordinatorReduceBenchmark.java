@@ -0,0 +1,393 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search.reduce;
+
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.action.search.QueryPhaseResultConsumer;
+import org.opensearch.action.search.SearchPhaseController;
+import org.opensearch.action.search.SearchProgressListener;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.NoopCircuitBreaker;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.InternalOrder;
+import org.opensearch.search.aggregations.MultiBucketConsumerService;
+import org.opensearch.search.aggregations.bucket.composite.CompositeValuesSourceBuilder;
+import org.opensearch.search.aggregations.bucket.composite.DateHistogramValuesSourceBuilder;
+import org.opensearch.search.aggregations.bucket.composite.InternalComposite;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.opensearch.search.aggregations.bucket.histogram.InternalDateHistogram;
+import org.opensearch.search.aggregations.bucket.missing.MissingOrder;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlus;
+import org.opensearch.search.aggregations.metrics.InternalCardinality;
+import org.opensearch.search.aggregations.metrics.InternalTDigestPercentiles;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+import org.opensearch.search.aggregations.pipeline.PipelineAggregator;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.search.sort.SortOrder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+/**
+ * JMH microbenchmarks for the reduce that the coordinating node runs over the query phase results of all the shards: the
+ * results are consumed by a {@link QueryPhaseResultConsumer}, which runs the batched partial reduces, and then reduced by
+ * {@link SearchPhaseController} into the final {@link SearchPhaseController.ReducedQueryPhase}.
+ *
+ * The shard results are synthetic and generated once per trial for each type of reduce:
+ *   - top_docs:       score sorted hits, {@code numBuckets} per shard
+ *   - field_sort:     hits sorted on a long field, {@code numBuckets} per shard
+ *   - date_histogram: a date_histogram with {@code numBuckets} daily buckets per shard
+ *   - cardinality:    a cardinality sketch of {@code numBuckets} distinct values per shard
+ *   - percentiles:    a t-digest of {@code numBuckets} values per shard
+ *   - composite:      a composite (terms, date_histogram) page of {@code numBuckets} buckets per shard
+ *
+ * The reduce path is mostly allocation bound, so it should be run with the JMH allocation profiler to track
+ * {@code gc.alloc.rate.norm} alongside the average time:
+ *
+ *   ./gradlew -p benchmarks run --args 'CoordinatorReduceBenchmark -prof gc'
+ */
+@Warmup(iterations = 5)
+@Measurement(iterations = 7)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class CoordinatorReduceBenchmark {
+    private static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+    private static final String SORT_FIELD = "timestamp";
+    private static final double[] PERCENTS = new double[] { 1, 5, 25, 50, 75, 95, 99 };
+
+    @Param({ "top_docs", "field_sort", "date_histogram", "cardinality", "percentiles", "composite" })
+    String type;
+
+    @Param({ "16", "128", "512" })
+    int numShards;
+
+    @Param({ "10", "1000" })
+    int numBuckets;
+
+    @Param({ "32", "512" })
+    int bufferSize;
+
+    @Param({ "1600172297" })
+    long seed;
+
+    private final SearchModule searchModule = new SearchModule(Settings.EMPTY, emptyList());
+    private final NamedWriteableRegistry namedWriteableRegistry = new NamedWriteableRegistry(searchModule.getNamedWriteables());
+    private final SearchPhaseController controller = new SearchPhaseController(
+        namedWriteableRegistry,
+        req -> new InternalAggregation.ReduceContextBuilder() {
+            @Override
+            public InternalAggregation.ReduceContext forPartialReduction() {
+                return InternalAggregation.ReduceContext.forPartialReduction(
+                    BigArrays.NON_RECYCLING_INSTANCE,
+                    null,
+                    () -> PipelineAggregator.PipelineTree.EMPTY
+                );
+            }
+
+            @Override
+            public InternalAggregation.ReduceContext forFinalReduction() {
+                final MultiBucketConsumerService.MultiBucketConsumer bucketConsumer = new MultiBucketConsumerService.MultiBucketConsumer(
+                    Integer.MAX_VALUE,
+                    new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)
+                );
+                return InternalAggregation.ReduceContext.forFinalReduction(
+                    BigArrays.NON_RECYCLING_INSTANCE,
+                    null,
+                    bucketConsumer,
+                    PipelineAggregator.PipelineTree.EMPTY
+                );
+            }
+        }
+    );
+
+    private SearchSourceBuilder source;
+    private TopDocs[] topDocs;
+    private DocValueFormat[] sortValueFormats;
+    private InternalAggregations[] aggregations;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() throws IOException {
+        Random rand = new Random(seed);
+        topDocs = new TopDocs[numShards];
+        aggregations = new InternalAggregations[numShards];
+        switch (type) {
+            case "top_docs":
+                source = new SearchSourceBuilder().size(numBuckets);
+                sortValueFormats = new DocValueFormat[0];
+                for (int i = 0; i < numShards; i++) {
+                    topDocs[i] = newScoreTopDocs(rand);
+                }
+                break;
+            case "field_sort":
+                source = new SearchSourceBuilder().size(numBuckets).sort(SORT_FIELD, SortOrder.DESC);
+                sortValueFormats = new DocValueFormat[] { DocValueFormat.RAW };
+                for (int i = 0; i < numShards; i++) {
+                    topDocs[i] = newFieldTopDocs(rand);
+                }
+                break;
+            case "date_histogram":
+                source = new SearchSourceBuilder().size(0)
+                    .aggregation(AggregationBuilders.dateHistogram("histo").field(SORT_FIELD).calendarInterval(DateHistogramInterval.DAY));
+                for (int i = 0; i < numShards; i++) {
+                    aggregations[i] = InternalAggregations.from(singletonList(newDateHistogram(rand)));
+                }
+                break;
+            case "cardinality":
+                source = new SearchSourceBuilder().size(0).aggregation(AggregationBuilders.cardinality("cardinality").field("id"));
+                for (int i = 0; i < numShards; i++) {
+                    aggregations[i] = InternalAggregations.from(singletonList(newCardinality(rand)));
+                }
+                break;
+            case "percentiles":
+                source = new SearchSourceBuilder().size(0)
+                    .aggregation(AggregationBuilders.percentiles("percentiles").field("value").percentiles(PERCENTS));
+                for (int i = 0; i < numShards; i++) {
+                    aggregations[i] = InternalAggregations.from(singletonList(newPercentiles(rand)));
+                }
+                break;
+            case "composite":
+                List<CompositeValuesSourceBuilder<?>> sources = Arrays.asList(
+                    new TermsValuesSourceBuilder("term").field("term"),
+                    new DateHistogramValuesSourceBuilder("date").field(SORT_FIELD).calendarInterval(DateHistogramInterval.DAY)
+                );
+                source = new SearchSourceBuilder().size(0)
+                    .aggregation(AggregationBuilders.composite("composite", sources).size(numBuckets));
+                for (int i = 0; i < numShards; i++) {
+                    aggregations[i] = InternalAggregations.from(singletonList(newComposite(rand)));
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown reduce type [" + type + "]");
+        }
+        if (aggregations[0] != null) {
+            for (int i = 0; i < numShards; i++) {
+                topDocs[i] = new TopDocs(new TotalHits(1000, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO), new ScoreDoc[0]);
+            }
+            sortValueFormats = new DocValueFormat[0];
+        }
+        executor = Executors.newFixedThreadPool(1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public SearchPhaseController.ReducedQueryPhase reduce() throws Exception {
+        SearchRequest request = new SearchRequest();
+        request.source(source);
+        request.setBatchedReduceSize(bufferSize);
+        QueryPhaseResultConsumer consumer = new QueryPhaseResultConsumer(
+            request,
+            executor,
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+            controller,
+            SearchProgressListener.NOOP,
+            namedWriteableRegistry,
+            numShards,
+            exc -> {}
+        );
+        CountDownLatch latch = new CountDownLatch(numShards);
+        for (int i = 0; i < numShards; i++) {
+            consumer.consumeResult(newQuerySearchResult(i), latch::countDown);
+        }
+        latch.await();
+        SearchPhaseController.ReducedQueryPhase phase = consumer.reduce();
+        consumer.close();
+        return phase;
+    }
+
+    private QuerySearchResult newQuerySearchResult(int shardIndex) {
+        // the shard results are consumed by the reduce, so they need to be created again for each invocation
+        QuerySearchResult result = new QuerySearchResult();
+        result.setShardIndex(shardIndex);
+        result.from(0);
+        result.size(source.size());
+        result.topDocs(new TopDocsAndMaxScore(topDocs[shardIndex], Float.NaN), sortValueFormats);
+        if (aggregations[shardIndex] != null) {
+            result.aggregations(aggregations[shardIndex]);
+        }
+        result.setSearchShardTarget(
+            new SearchShardTarget("node", new ShardId(new Index("index", "index"), shardIndex), null, OriginalIndices.NONE)
+        );
+        return result;
+    }
+
+    private TopDocs newScoreTopDocs(Random rand) {
+        ScoreDoc[] scoreDocs = new ScoreDoc[numBuckets];
+        float score = 100f;
+        for (int i = 0; i < numBuckets; i++) {
+            score -= rand.nextFloat() / numBuckets;
+            scoreDocs[i] = new ScoreDoc(rand.nextInt(1_000_000), score);
+        }
+        return new TopDocs(new TotalHits(numBuckets * 10L, TotalHits.Relation.EQUAL_TO), scoreDocs);
+    }
+
+    private TopFieldDocs newFieldTopDocs(Random rand) {
+        FieldDoc[] fieldDocs = new FieldDoc[numBuckets];
+        long value = System.currentTimeMillis();
+        for (int i = 0; i < numBuckets; i++) {
+            value -= rand.nextInt(1000);
+            fieldDocs[i] = new FieldDoc(rand.nextInt(1_000_000), Float.NaN, new Object[] { value });
+        }
+        SortField[] sortFields = new SortField[] { new SortField(SORT_FIELD, SortField.Type.LONG, true) };
+        return new TopFieldDocs(new TotalHits(numBuckets * 10L, TotalHits.Relation.EQUAL_TO), fieldDocs, sortFields);
+    }
+
+    /*
+     * The constructors of the following aggregations are not visible outside of their packages, so they are built from their
+     * serialized form, the same way the coordinating node builds them out of the shard responses.
+     */
+
+    private InternalDateHistogram newDateHistogram(Random rand) throws IOException {
+        // the shards hold overlapping ranges of days, so that the reduce needs to merge buckets
+        TreeSet<Long> keys = new TreeSet<>();
+        while (keys.size() < numBuckets) {
+            keys.add(rand.nextInt(numBuckets * 2) * DAY_MILLIS);
+        }
+        List<InternalDateHistogram.Bucket> buckets = new ArrayList<>(numBuckets);
+        for (long key : keys) {
+            long docCount = 1 + rand.nextInt(1000);
+            buckets.add(new InternalDateHistogram.Bucket(key, docCount, false, DocValueFormat.RAW, InternalAggregations.EMPTY));
+        }
+        return deserialize(out -> {
+            writeAggregationHeader(out, "histo");
+            InternalOrder.Streams.writeHistogramOrder(BucketOrder.key(true), out, false);
+            out.writeVLong(1); // min_doc_count, so that no empty buckets are added
+            out.writeLong(0); // offset
+            out.writeNamedWriteable(DocValueFormat.RAW);
+            out.writeBoolean(false); // keyed
+            out.writeList(buckets);
+        }, InternalDateHistogram::new);
+    }
+
+    private InternalCardinality newCardinality(Random rand) throws IOException {
+        int precision = HyperLogLogPlusPlus.DEFAULT_PRECISION;
+        try (HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(precision, BigArrays.NON_RECYCLING_INSTANCE, 1)) {
+            for (int i = 0; i < numBuckets; i++) {
+                counts.collect(0, rand.nextLong());
+            }
+            return deserialize(out -> {
+                writeAggregationHeader(out, "cardinality");
+                out.writeNamedWriteable(DocValueFormat.RAW);
+                out.writeBoolean(true);
+                counts.writeTo(0, out);
+            }, InternalCardinality::new);
+        }
+    }
+
+    private InternalTDigestPercentiles newPercentiles(Random rand) {
+        TDigestState state = new TDigestState(100.0);
+        for (int i = 0; i < numBuckets; i++) {
+            state.add(rand.nextGaussian() * 100);
+        }
+        return new InternalTDigestPercentiles("percentiles", PERCENTS, state, false, DocValueFormat.RAW, null);
+    }
+
+    private InternalComposite newComposite(Random rand) throws IOException {
+        // composite buckets are sorted by their (term, date) key on the shards
+        TreeSet<long[]> keys = new TreeSet<>((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+        while (keys.size() < numBuckets) {
+            keys.add(new long[] { rand.nextInt(numBuckets), rand.nextInt(30) * DAY_MILLIS });
+        }
+        return deserialize(out -> {
+            writeAggregationHeader(out, "composite");
+            out.writeVInt(numBuckets); // size
+            out.writeStringCollection(Arrays.asList("term", "date"));
+            out.writeNamedWriteable(DocValueFormat.RAW);
+            out.writeNamedWriteable(DocValueFormat.RAW);
+            out.writeIntArray(new int[] { 1, 1 }); // reverse muls
+            out.writeArray((o, order) -> order.writeTo(o), new MissingOrder[] { MissingOrder.DEFAULT, MissingOrder.DEFAULT });
+            out.writeVInt(keys.size());
+            for (long[] key : keys) {
+                writeCompositeKey(out, key);
+                out.writeVLong(1 + rand.nextInt(1000)); // doc count
+                InternalAggregations.EMPTY.writeTo(out);
+            }
+            out.writeBoolean(true); // after key
+            writeCompositeKey(out, keys.last());
+            out.writeBoolean(false); // early terminated
+        }, InternalComposite::new);
+    }
+
+    private static void writeCompositeKey(StreamOutput out, long[] key) throws IOException {
+        out.writeVInt(key.length);
+        for (long value : key) {
+            out.writeGenericValue(value);
+        }
+    }
+
+    private static void writeAggregationHeader(StreamOutput out, String name) throws IOException {
+        out.writeString(name);
+        out.writeGenericValue(null); // metadata
+    }
+
+    private <T> T deserialize(Writeable writer, Writeable.Reader<T> reader) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            writer.writeTo(out);
+            try (StreamInput in = new NamedWriteableAwareStreamInput(out.bytes().streamInput(), namedWriteableRegistry)) {
+                return reader.read(in);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.policy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A count-min sketch estimating how often keys were accessed, used by {@link TinyLfuPolicy}.
+ * Each slot of the table packs sixteen 4-bit counters, and every key is counted in four of them, each in a different slot.
+ * The estimated frequency of a key is the minimum of its four counters, so it saturates at 15.
+ * Once the number of increments reaches ten times the expected number of entries, all counters are halved so that
+ * the sketch ages out keys which used to be popular but are not accessed anymore.
+ * Updates are lock-free; a concurrent reset may drop some increments, which only makes the estimates slightly lower.
+ */
+public class FrequencySketch {
+
+    private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final int MAX_FREQUENCY = 15;
+    private static final int MAX_TABLE_SIZE = 1 << 30;
+
+    private final AtomicLongArray table;
+    private final int tableMask;
+    private final int sampleSize;
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Creates a sketch sized for the given number of entries.
+     * @param expectedEntries the number of entries the cache is expected to hold
+     */
+    public FrequencySketch(long expectedEntries) {
+        int maximum = (int) Math.min(Math.max(expectedEntries, 1L), MAX_TABLE_SIZE);
+        int tableSize = maximum == 1 ? 1 : Integer.highestOneBit(maximum - 1) << 1;
+        this.table = new AtomicLongArray(tableSize);
+        this.tableMask = tableSize - 1;
+        this.sampleSize = (int) Math.min(10L * maximum, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the estimated number of accesses of the key with the given hash, up to 15.
+     * @param hash the hash of the key
+     * @return the estimated frequency
+     */
+    public int frequency(int hash) {
+        int spread = spread(hash);
+        int start = (spread & 3) << 2;
+        int frequency = MAX_FREQUENCY;
+        for (int depth = 0; depth < SEEDS.length; depth++) {
+            int shift = (start + depth) << 2;
+            int count = (int) ((table.get(indexOf(spread, depth)) >>> shift) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records an access of the key with the given hash.
+     * @param hash the hash of the key
+     */
+    public void increment(int hash) {
+        int spread = spread(hash);
+        int start = (spread & 3) << 2;
+        boolean added = false;
+        for (int depth = 0; depth < SEEDS.length; depth++) {
+            added |= incrementAt(indexOf(spread, depth), start + depth);
+        }
+        if (added && size.incrementAndGet() == sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int shift = counter << 2;
+        long mask = 0xfL << shift;
+        while (true) {
+            long current = table.get(index);
+            if ((current & mask) == mask) {
+                // the counter is saturated
+                return false;
+            }
+            if (table.compareAndSet(index, current, current + (1L << shift))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Halves all counters, and the number of increments accordingly.
+     */
+    private void reset() {
+        int odd = 0;
+        for (int i = 0; i < table.length(); i++) {
+            long current;
+            do {
+                current = table.get(i);
+            } while (table.compareAndSet(i, current, (current >>> 1) & RESET_MASK) == false);
+            odd += Long.bitCount(current & ONE_MASK);
+        }
+        // each key is counted four times, so the truncation error of the halving is a quarter of the odd counters
+        size.set((sampleSize - (odd >>> 2)) >>> 1);
+    }
+
+    private int indexOf(int spread, int depth) {
+        long hash = (spread + SEEDS[depth]) * SEEDS[depth];
+        hash += hash >>> 32;
+        return ((int) hash) & tableMask;
+    }
+
+    /**
+     * Applies a supplemental hash function, as keys with poor hash codes would otherwise always land in the same slots.
+     */
+    private static int spread(int hash) {
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        return (hash >>> 16) ^ hash;
+    }
+
+    // pkg-private for testing
+    int getSampleSize() {
+        return sampleSize;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.policy;
+
+/**
+ * A cache tier admission policy which only accepts keys accessed more often than the ones the tier is evicting, in the
+ * style of TinyLFU. This keeps one-off entries from pushing hot entries out of a full tier.
+ * The access frequencies are estimated by a {@link FrequencySketch}, which may be shared between the policies of several
+ * tiers. As the tiers don't expose the entry they are about to evict, the candidate is compared against the entry the
+ * tier most recently evicted instead. Until the tier evicts anything, every key is admitted.
+ */
+public class TinyLfuPolicy {
+
+    private final FrequencySketch sketch;
+
+    private volatile boolean hasVictim;
+    private volatile int victimHash;
+
+    /**
+     * Constructs a TinyLFU policy.
+     * @param sketch the sketch holding the access frequencies of keys
+     */
+    public TinyLfuPolicy(FrequencySketch sketch) {
+        this.sketch = sketch;
+    }
+
+    /**
+     * Records that the tier evicted the key with the given hash.
+     * @param hash the hash of the evicted key
+     */
+    public void onEviction(int hash) {
+        victimHash = hash;
+        hasVictim = true;
+    }
+
+    /**
+     * Check whether to admit a key into the tier.
+     * @param hash the hash of the candidate key
+     * @return whether to admit the key
+     */
+    public boolean test(int hash) {
+        if (hasVictim == false) {
+            return true;
+        }
+        return sketch.frequency(hash) > sketch.frequency(victimHash);
+    }
+}
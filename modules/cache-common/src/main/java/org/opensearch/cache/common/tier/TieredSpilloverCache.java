@@ -10,6 +10,8 @@ package org.opensearch.cache.common.tier;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.cache.common.policy.FrequencySketch;
+import org.opensearch.cache.common.policy.TinyLfuPolicy;
 import org.opensearch.cache.common.policy.TookTimePolicy;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.common.cache.CacheType;
@@ -49,10 +51,14 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.ToLongBiFunction;
 
+import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.DEFAULT_TINY_LFU_EXPECTED_ENTRIES;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.DISK_CACHE_ENABLED_SETTING_MAP;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TIERED_SPILLOVER_DISK_STORE_SIZE;
+import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TIERED_SPILLOVER_DISK_TINY_LFU_ENABLED;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TIERED_SPILLOVER_ONHEAP_STORE_SIZE;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TIERED_SPILLOVER_SEGMENTS;
+import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TIERED_SPILLOVER_TINY_LFU_ENABLED;
+import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TIERED_SPILLOVER_TINY_LFU_EXPECTED_ENTRIES;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TOOK_TIME_DISK_TIER_POLICY_CONCRETE_SETTINGS_MAP;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TOOK_TIME_POLICY_CONCRETE_SETTINGS_MAP;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheStatsHolder.TIER_DIMENSION_VALUE_DISK;
@@ -153,6 +159,13 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
         // Policies guarding access to the disk tier.
         private final List<Predicate<V>> diskPolicies;
 
+        // Access frequencies of the keys of this segment, null if no tier uses a frequency based admission policy.
+        private final FrequencySketch frequencySketch;
+
+        // Frequency based admission policies of the tiers, null if disabled for that tier.
+        private final TinyLfuPolicy heapAdmissionPolicy;
+        private final TinyLfuPolicy diskAdmissionPolicy;
+
         private final TieredSpilloverCacheStatsHolder statsHolder;
 
         private final long onHeapCacheMaxWeight;
@@ -189,6 +202,9 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
                     .setValueType(builder.cacheConfig.getValueType())
                     .setSettings(builder.cacheConfig.getSettings())
                     .setWeigher(builder.cacheConfig.getWeigher())
+                    // Passed down so that a serializing store, like the off-heap one, can be used as the heap tier
+                    .setKeySerializer(builder.cacheConfig.getKeySerializer())
+                    .setValueSerializer(builder.cacheConfig.getValueSerializer())
                     .setDimensionNames(builder.cacheConfig.getDimensionNames())
                     .setMaxSizeInBytes(onHeapCacheSizeInBytes)
                     .setExpireAfterAccess(builder.cacheConfig.getExpireAfterAccess())
@@ -227,6 +243,13 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             this.caches = Collections.synchronizedMap(cacheListMap);
             this.policies = builder.policies;
             this.diskPolicies = builder.diskPolicies; // Will never be null; builder initializes it to an empty list
+            if (builder.heapTinyLfuEnabled || builder.diskTinyLfuEnabled) {
+                this.frequencySketch = new FrequencySketch(Math.max(1, builder.tinyLfuExpectedEntries / numberOfSegments));
+            } else {
+                this.frequencySketch = null;
+            }
+            this.heapAdmissionPolicy = builder.heapTinyLfuEnabled ? new TinyLfuPolicy(frequencySketch) : null;
+            this.diskAdmissionPolicy = builder.diskTinyLfuEnabled ? new TinyLfuPolicy(frequencySketch) : null;
             this.onHeapCacheMaxWeight = onHeapCacheSizeInBytes;
             this.diskCacheMaxWeight = diskCacheSizeInBytes;
         }
@@ -250,6 +273,7 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
 
         @Override
         public V get(ICacheKey<K> key) {
+            recordAccess(key);
             Tuple<V, String> cacheValueTuple = getValueFromTieredCache(true).apply(key);
             if (cacheValueTuple == null) {
                 return null;
@@ -263,6 +287,9 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             Tuple<V, String> cacheValueTuple = getValueFromTieredCache(true).apply(key);
             if (evaluatePoliciesList(value, policies)) {
                 if (cacheValueTuple == null) {
+                    if (admitByFrequency(key, heapAdmissionPolicy) == false) {
+                        return;
+                    }
                     // In case it is not present in any tier, put it inside onHeap cache by default.
                     try (ReleasableLock ignore = writeLock.acquire()) {
                         onHeapCache.put(key, value);
@@ -287,6 +314,7 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             // and it only has to be loaded one time, we should report one miss and the rest hits. But, if we do stats in
             // getValueFromTieredCache(),
             // we will see all misses. Instead, handle stats in computeIfAbsent().
+            recordAccess(key);
             Tuple<V, String> cacheValueTuple;
             CompletableFuture<Tuple<Tuple<ICacheKey<K>, V>, Boolean>> future = null;
             try (ReleasableLock ignore = readLock.acquire()) {
@@ -393,7 +421,11 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
                     throw new ExecutionException(npe);
                 } else {
                     wasRejectedByPolicy = !evaluatePoliciesList(value, policies);
-                    future.complete(new Tuple<>(new Tuple<>(key, value), wasRejectedByPolicy));
+                    // Unlike values rejected by the other policies, values refused by the frequency based admission policy
+                    // are cacheable, so they still count as misses.
+                    boolean wasRefusedByFrequency = !wasRejectedByPolicy
+                        && !admitByFrequency(key, heapAdmissionPolicy);
+                    future.complete(new Tuple<>(new Tuple<>(key, value), wasRejectedByPolicy || wasRefusedByFrequency));
                     wasCacheMiss = !wasRejectedByPolicy;
                 }
             } else {
@@ -472,11 +504,15 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
         void handleRemovalFromHeapTier(RemovalNotification<ICacheKey<K>, V> notification) {
             ICacheKey<K> key = notification.getKey();
             boolean wasEvicted = SPILLOVER_REMOVAL_REASONS.contains(notification.getRemovalReason());
+            if (wasEvicted && heapAdmissionPolicy != null) {
+                heapAdmissionPolicy.onEviction(key.hashCode());
+            }
             boolean countEvictionTowardsTotal = false; // Don't count this eviction towards the cache's total if it ends up in the disk tier
             boolean exceptionOccurredOnDiskCachePut = false;
             boolean canCacheOnDisk = caches.get(diskCache).isEnabled()
                 && wasEvicted
-                && evaluatePoliciesList(notification.getValue(), diskPolicies);
+                && evaluatePoliciesList(notification.getValue(), diskPolicies)
+                && admitByFrequency(key, diskAdmissionPolicy);
             if (canCacheOnDisk) {
                 try (ReleasableLock ignore = writeLock.acquire()) {
                     diskCache.put(key, notification.getValue()); // spill over to the disk tier and increment its stats
@@ -499,6 +535,20 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             updateStatsOnRemoval(TIER_DIMENSION_VALUE_ON_HEAP, wasEvicted, key, notification.getValue(), countEvictionTowardsTotal);
         }
 
+        private void recordAccess(ICacheKey<K> key) {
+            if (frequencySketch != null) {
+                frequencySketch.increment(key.hashCode());
+            }
+        }
+
+        /**
+         * Check whether the frequency based admission policy of a tier, if any, admits the key. Refused keys show up in the stats
+         * of the tier as the misses of later lookups.
+         */
+        private boolean admitByFrequency(ICacheKey<K> key, TinyLfuPolicy admissionPolicy) {
+            return admissionPolicy == null || admissionPolicy.test(key.hashCode());
+        }
+
         boolean evaluatePoliciesList(V value, List<Predicate<V>> policiesList) {
             for (Predicate<V> policy : policiesList) {
                 if (!policy.test(value)) {
@@ -541,6 +591,9 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             // Values removed from the disk tier leave the TSC entirely
             removalListener.onRemoval(notification);
             boolean wasEvicted = SPILLOVER_REMOVAL_REASONS.contains(notification.getRemovalReason());
+            if (wasEvicted && diskAdmissionPolicy != null) {
+                diskAdmissionPolicy.onEviction(notification.getKey().hashCode());
+            }
             updateStatsOnRemoval(TIER_DIMENSION_VALUE_DISK, wasEvicted, notification.getKey(), notification.getValue(), true);
         }
 
@@ -876,6 +929,14 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
                 .getBytes();
             long diskCacheSize = TIERED_SPILLOVER_DISK_STORE_SIZE.getConcreteSettingForNamespace(cacheType.getSettingPrefix())
                 .get(settings);
+            boolean heapTinyLfuEnabled = TIERED_SPILLOVER_TINY_LFU_ENABLED.getConcreteSettingForNamespace(cacheType.getSettingPrefix())
+                .get(settings);
+            boolean diskTinyLfuEnabled = TIERED_SPILLOVER_DISK_TINY_LFU_ENABLED.getConcreteSettingForNamespace(
+                cacheType.getSettingPrefix()
+            ).get(settings);
+            int tinyLfuExpectedEntries = TIERED_SPILLOVER_TINY_LFU_EXPECTED_ENTRIES.getConcreteSettingForNamespace(
+                cacheType.getSettingPrefix()
+            ).get(settings);
 
             return new Builder<K, V>().setDiskCacheFactory(diskCacheFactory)
                 .setOnHeapCacheFactory(onHeapCacheFactory)
@@ -901,6 +962,9 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
                 )
                 .setOnHeapCacheSizeInBytes(onHeapCacheSize)
                 .setDiskCacheSize(diskCacheSize)
+                .setHeapTinyLfuEnabled(heapTinyLfuEnabled)
+                .setDiskTinyLfuEnabled(diskTinyLfuEnabled)
+                .setTinyLfuExpectedEntries(tinyLfuExpectedEntries)
                 .build();
         }
 
@@ -928,6 +992,9 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
         private int numberOfSegments;
         private long onHeapCacheSizeInBytes;
         private long diskCacheSizeInBytes;
+        private boolean heapTinyLfuEnabled;
+        private boolean diskTinyLfuEnabled;
+        private int tinyLfuExpectedEntries = DEFAULT_TINY_LFU_EXPECTED_ENTRIES;
 
         /**
          * Default constructor
@@ -1044,6 +1111,36 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             return this;
         }
 
+        /**
+         * Sets whether entries must pass the frequency based admission policy to enter the heap tier
+         * @param heapTinyLfuEnabled whether the heap tier uses the frequency based admission policy
+         * @return builder
+         */
+        public Builder<K, V> setHeapTinyLfuEnabled(boolean heapTinyLfuEnabled) {
+            this.heapTinyLfuEnabled = heapTinyLfuEnabled;
+            return this;
+        }
+
+        /**
+         * Sets whether entries must pass the frequency based admission policy to spill over to the disk tier
+         * @param diskTinyLfuEnabled whether the disk tier uses the frequency based admission policy
+         * @return builder
+         */
+        public Builder<K, V> setDiskTinyLfuEnabled(boolean diskTinyLfuEnabled) {
+            this.diskTinyLfuEnabled = diskTinyLfuEnabled;
+            return this;
+        }
+
+        /**
+         * Sets the number of distinct keys the access frequency sketch is sized for, across all segments
+         * @param tinyLfuExpectedEntries expected number of distinct keys
+         * @return builder
+         */
+        public Builder<K, V> setTinyLfuExpectedEntries(int tinyLfuExpectedEntries) {
+            this.tinyLfuExpectedEntries = tinyLfuExpectedEntries;
+            return this;
+        }
+
         /**
          * Build tiered spillover cache.
          * @return TieredSpilloverCache
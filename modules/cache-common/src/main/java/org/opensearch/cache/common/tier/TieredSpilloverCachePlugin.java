@@ -73,6 +73,19 @@ public class TieredSpilloverCachePlugin extends Plugin implements CachePlugin {
             settingList.add(
                 TieredSpilloverCacheSettings.TIERED_SPILLOVER_DISK_STORE_SIZE.getConcreteSettingForNamespace(cacheType.getSettingPrefix())
             );
+            settingList.add(
+                TieredSpilloverCacheSettings.TIERED_SPILLOVER_TINY_LFU_ENABLED.getConcreteSettingForNamespace(cacheType.getSettingPrefix())
+            );
+            settingList.add(
+                TieredSpilloverCacheSettings.TIERED_SPILLOVER_DISK_TINY_LFU_ENABLED.getConcreteSettingForNamespace(
+                    cacheType.getSettingPrefix()
+                )
+            );
+            settingList.add(
+                TieredSpilloverCacheSettings.TIERED_SPILLOVER_TINY_LFU_EXPECTED_ENTRIES.getConcreteSettingForNamespace(
+                    cacheType.getSettingPrefix()
+                )
+            );
         }
         return settingList;
     }
@@ -48,6 +48,11 @@ public class TieredSpilloverCacheSettings {
      */
     public static final TimeValue DEFAULT_TOOK_TIME_DISK_THRESHOLD = new TimeValue(10, TimeUnit.MILLISECONDS);
 
+    /**
+     * The default number of distinct keys the access frequency sketch of the TinyLFU policies is sized for.
+     */
+    public static final int DEFAULT_TINY_LFU_EXPECTED_ENTRIES = 100_000;
+
     /**
      * Setting which defines the onHeap cache store to be used in TieredSpilloverCache.
      *
@@ -146,6 +151,38 @@ public class TieredSpilloverCacheSettings {
         )
     );
 
+    /**
+     * Setting to enable the frequency based (TinyLFU) admission policy for the heap tier, and therefore for the cache as a whole.
+     * When enabled, once the heap tier has started evicting, a new entry is only admitted if its key was accessed more often
+     * than the entry the heap tier most recently evicted.
+     *
+     * Pattern: {cache_type}.tiered_spillover.policies.tiny_lfu.enabled
+     * Example: indices.request.cache.tiered_spillover.policies.tiny_lfu.enabled
+     */
+    public static final Setting.AffixSetting<Boolean> TIERED_SPILLOVER_TINY_LFU_ENABLED = Setting.suffixKeySetting(
+        TieredSpilloverCache.TieredSpilloverCacheFactory.TIERED_SPILLOVER_CACHE_NAME + ".policies.tiny_lfu.enabled",
+        (key) -> Setting.boolSetting(key, false, NodeScope)
+    );
+
+    /**
+     * Setting to enable the frequency based (TinyLFU) admission policy for the disk tier. When enabled, once the disk tier
+     * has started evicting, an entry evicted from the heap tier only spills over to the disk tier if its key was accessed more
+     * often than the entry the disk tier most recently evicted. The heap tier then acts as the admission window of the disk tier.
+     */
+    public static final Setting.AffixSetting<Boolean> TIERED_SPILLOVER_DISK_TINY_LFU_ENABLED = Setting.suffixKeySetting(
+        TieredSpilloverCache.TieredSpilloverCacheFactory.TIERED_SPILLOVER_CACHE_NAME + ".disk.store.policies.tiny_lfu.enabled",
+        (key) -> Setting.boolSetting(key, false, NodeScope)
+    );
+
+    /**
+     * Setting defining the number of distinct keys the access frequency sketch of the TinyLFU policies is sized for, across
+     * all segments. The sketch uses 8 bytes per expected key, and ages its counters after ten times as many accesses.
+     */
+    public static final Setting.AffixSetting<Integer> TIERED_SPILLOVER_TINY_LFU_EXPECTED_ENTRIES = Setting.suffixKeySetting(
+        TieredSpilloverCache.TieredSpilloverCacheFactory.TIERED_SPILLOVER_CACHE_NAME + ".policies.tiny_lfu.expected_entries",
+        (key) -> Setting.intSetting(key, DEFAULT_TINY_LFU_EXPECTED_ENTRIES, 1, NodeScope)
+    );
+
     /**
      * Stores took time policy settings for various cache types as these are dynamic so that can be registered and
      * retrieved accordingly.
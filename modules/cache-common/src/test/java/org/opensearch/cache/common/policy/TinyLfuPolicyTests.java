@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.policy;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class TinyLfuPolicyTests extends OpenSearchTestCase {
+
+    public void testSketchFrequency() {
+        FrequencySketch sketch = new FrequencySketch(1024);
+        int hash = randomInt();
+        assertEquals(0, sketch.frequency(hash));
+        int accesses = randomIntBetween(1, 14);
+        for (int i = 0; i < accesses; i++) {
+            sketch.increment(hash);
+        }
+        assertEquals(accesses, sketch.frequency(hash));
+
+        // counters saturate at 15
+        for (int i = 0; i < 20; i++) {
+            sketch.increment(hash);
+        }
+        assertEquals(15, sketch.frequency(hash));
+    }
+
+    public void testSketchAging() {
+        FrequencySketch sketch = new FrequencySketch(64);
+        int hotHash = randomInt();
+        for (int i = 0; i < 8; i++) {
+            sketch.increment(hotHash);
+        }
+        assertEquals(8, sketch.frequency(hotHash));
+
+        // once the sample size is reached, all counters are halved
+        int hash = hotHash;
+        for (int increments = 8; increments < sketch.getSampleSize() - 1; increments++) {
+            sketch.increment(++hash);
+        }
+        int frequencyBeforeReset = sketch.frequency(hotHash);
+        assertThat(frequencyBeforeReset, greaterThanOrEqualTo(8));
+        sketch.increment(++hash);
+        assertThat(sketch.frequency(hotHash), lessThanOrEqualTo((frequencyBeforeReset + 1) / 2));
+    }
+
+    public void testPolicy() {
+        FrequencySketch sketch = new FrequencySketch(1024);
+        TinyLfuPolicy policy = new TinyLfuPolicy(sketch);
+        int hotHash = 1;
+        int coldHash = 2;
+        int candidateHash = 3;
+
+        // nothing was evicted yet, so everything is admitted
+        assertTrue(policy.test(candidateHash));
+
+        for (int i = 0; i < 3; i++) {
+            sketch.increment(hotHash);
+        }
+        sketch.increment(coldHash);
+        sketch.increment(candidateHash);
+
+        policy.onEviction(hotHash);
+        assertFalse(policy.test(candidateHash));
+
+        policy.onEviction(coldHash);
+        // as frequent as the victim is not enough
+        assertFalse(policy.test(candidateHash));
+        sketch.increment(candidateHash);
+        assertTrue(policy.test(candidateHash));
+    }
+}
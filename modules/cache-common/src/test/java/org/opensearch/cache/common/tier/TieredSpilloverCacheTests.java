@@ -2554,6 +2554,92 @@ public class TieredSpilloverCacheTests extends OpenSearchTestCase {
         assertEquals(expectedDiskSize / cache.getNumberOfSegments(), segment.getDiskCacheMaxWeight());
     }
 
+    public void testTinyLfuKeepsFrequentEntriesInHeapTier() throws Exception {
+        int onHeapCacheSize = randomIntBetween(10, 30);
+        int keyValueSize = 50;
+        int diskCacheSize = 10000;
+        int numOneOffKeys = randomIntBetween(onHeapCacheSize, 3 * onHeapCacheSize);
+
+        double[] hitRatios = new double[2];
+        for (int run = 0; run < 2; run++) {
+            boolean tinyLfuEnabled = run == 1;
+            MockCacheRemovalListener<String, String> removalListener = new MockCacheRemovalListener<>();
+            TieredSpilloverCache<String, String> tieredSpilloverCache = new TieredSpilloverCache.Builder<String, String>().setCacheType(
+                CacheType.INDICES_REQUEST_CACHE
+            )
+                .setRemovalListener(removalListener)
+                .setOnHeapCacheFactory(new OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory())
+                .setDiskCacheFactory(new MockDiskCache.MockDiskCacheFactory(0, diskCacheSize, false, keyValueSize))
+                .setNumberOfSegments(1)
+                .setOnHeapCacheSizeInBytes((long) onHeapCacheSize * keyValueSize)
+                .setDiskCacheSize(diskCacheSize)
+                .setCacheConfig(getCacheConfig(keyValueSize, Settings.EMPTY, removalListener, 1))
+                .setHeapTinyLfuEnabled(tinyLfuEnabled)
+                .build();
+
+            // Fill the heap tier with keys which are accessed several times
+            List<ICacheKey<String>> hotKeys = new ArrayList<>();
+            for (int i = 0; i < onHeapCacheSize; i++) {
+                hotKeys.add(getICacheKey(UUID.randomUUID().toString()));
+            }
+            for (int round = 0; round < 3; round++) {
+                for (ICacheKey<String> key : hotKeys) {
+                    tieredSpilloverCache.computeIfAbsent(key, getLoadAwareCacheLoader());
+                }
+            }
+            // Then stream keys which are only accessed once
+            for (int i = 0; i < numOneOffKeys; i++) {
+                tieredSpilloverCache.computeIfAbsent(getICacheKey(UUID.randomUUID().toString()), getLoadAwareCacheLoader());
+            }
+
+            long heapHitsBefore = getHitsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_ON_HEAP);
+            for (ICacheKey<String> key : hotKeys) {
+                tieredSpilloverCache.computeIfAbsent(key, getLoadAwareCacheLoader());
+            }
+            long hotKeyHeapHits = getHitsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_ON_HEAP) - heapHitsBefore;
+
+            if (tinyLfuEnabled) {
+                // The first one-off key is admitted as the heap tier was not evicting yet, and it evicts a single hot key.
+                // All later one-off keys are less frequent than that hot key, so they are refused.
+                assertEquals(onHeapCacheSize - 1, hotKeyHeapHits);
+            } else {
+                assertEquals(0, hotKeyHeapHits);
+            }
+            // Refused keys still count as misses
+            long heapMisses = getMissesForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_ON_HEAP);
+            assertEquals(onHeapCacheSize + numOneOffKeys + onHeapCacheSize - hotKeyHeapHits, heapMisses);
+            long heapHits = getHitsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_ON_HEAP);
+            hitRatios[run] = (double) heapHits / (heapHits + heapMisses);
+            tieredSpilloverCache.close();
+        }
+        assertTrue(hitRatios[1] > hitRatios[0]);
+    }
+
+    public void testTinyLfuSettings() {
+        String prefix = CacheType.INDICES_REQUEST_CACHE.getSettingPrefix();
+        Setting<Boolean> heapEnabled = TieredSpilloverCacheSettings.TIERED_SPILLOVER_TINY_LFU_ENABLED.getConcreteSettingForNamespace(
+            prefix
+        );
+        Setting<Boolean> diskEnabled = TieredSpilloverCacheSettings.TIERED_SPILLOVER_DISK_TINY_LFU_ENABLED.getConcreteSettingForNamespace(
+            prefix
+        );
+        Setting<Integer> expectedEntries = TieredSpilloverCacheSettings.TIERED_SPILLOVER_TINY_LFU_EXPECTED_ENTRIES
+            .getConcreteSettingForNamespace(prefix);
+
+        assertFalse(heapEnabled.get(Settings.EMPTY));
+        assertFalse(diskEnabled.get(Settings.EMPTY));
+        assertEquals(TieredSpilloverCacheSettings.DEFAULT_TINY_LFU_EXPECTED_ENTRIES, (int) expectedEntries.get(Settings.EMPTY));
+
+        Settings settings = Settings.builder().put(heapEnabled.getKey(), true).put(expectedEntries.getKey(), 10).build();
+        assertTrue(heapEnabled.get(settings));
+        assertFalse(diskEnabled.get(settings));
+        assertEquals(10, (int) expectedEntries.get(settings));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> expectedEntries.get(Settings.builder().put(expectedEntries.getKey(), 0).build())
+        );
+    }
+
     private List<String> getMockDimensions() {
         List<String> dims = new ArrayList<>();
         for (String dimensionName : dimensionNames) {
@@ -51,12 +51,16 @@ abstract class AbstractStringProcessor<T> extends AbstractProcessor {
     private final String field;
     private final boolean ignoreMissing;
     private final String targetField;
+    private final IngestDocument.FieldPath fieldPath;
+    private final IngestDocument.FieldPath targetFieldPath;
 
     AbstractStringProcessor(String tag, String description, boolean ignoreMissing, String targetField, String field) {
         super(tag, description);
         this.field = field;
         this.ignoreMissing = ignoreMissing;
         this.targetField = targetField;
+        this.fieldPath = new IngestDocument.FieldPath(field);
+        this.targetFieldPath = new IngestDocument.FieldPath(targetField);
     }
 
     public String getField() {
@@ -73,7 +77,7 @@ abstract class AbstractStringProcessor<T> extends AbstractProcessor {
 
     @Override
     public final IngestDocument execute(IngestDocument document) {
-        Object val = document.getFieldValue(field, Object.class, ignoreMissing);
+        Object val = document.getFieldValue(fieldPath, Object.class, ignoreMissing);
         Object newValue;
 
         if (val == null && ignoreMissing) {
@@ -113,7 +117,7 @@ abstract class AbstractStringProcessor<T> extends AbstractProcessor {
 
         }
 
-        document.setFieldValue(targetField, newValue);
+        document.setFieldValue(targetFieldPath, newValue);
         return document;
     }
 
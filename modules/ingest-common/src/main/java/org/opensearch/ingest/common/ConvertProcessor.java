@@ -184,6 +184,8 @@ public final class ConvertProcessor extends AbstractProcessor {
     private final String targetField;
     private final Type convertType;
     private final boolean ignoreMissing;
+    private final IngestDocument.FieldPath fieldPath;
+    private final IngestDocument.FieldPath targetFieldPath;
 
     ConvertProcessor(String tag, String description, String field, String targetField, Type convertType, boolean ignoreMissing) {
         super(tag, description);
@@ -191,6 +193,8 @@ public final class ConvertProcessor extends AbstractProcessor {
         this.targetField = targetField;
         this.convertType = convertType;
         this.ignoreMissing = ignoreMissing;
+        this.fieldPath = new IngestDocument.FieldPath(field);
+        this.targetFieldPath = new IngestDocument.FieldPath(targetField);
     }
 
     String getField() {
@@ -211,7 +215,7 @@ public final class ConvertProcessor extends AbstractProcessor {
 
     @Override
     public IngestDocument execute(IngestDocument document) {
-        Object oldValue = document.getFieldValue(field, Object.class, ignoreMissing);
+        Object oldValue = document.getFieldValue(fieldPath, Object.class, ignoreMissing);
         Object newValue;
 
         if (oldValue == null && ignoreMissing) {
@@ -229,7 +233,7 @@ public final class ConvertProcessor extends AbstractProcessor {
         } else {
             newValue = convertType.convert(oldValue);
         }
-        document.setFieldValue(targetField, newValue);
+        document.setFieldValue(targetFieldPath, newValue);
         return document;
     }
 
@@ -97,9 +97,10 @@ public final class RemoveProcessor extends AbstractProcessor {
     public IngestDocument execute(IngestDocument document) {
         if (fields != null && !fields.isEmpty()) {
             fields.forEach(field -> {
-                String path = document.renderTemplate(field);
+                IngestDocument.FieldPath fieldPath = document.renderFieldPath(field);
+                String path = fieldPath.getPath();
                 final boolean fieldPathIsNullOrEmpty = Strings.isNullOrEmpty(path);
-                if (fieldPathIsNullOrEmpty || document.hasField(path) == false) {
+                if (fieldPathIsNullOrEmpty || document.hasField(fieldPath) == false) {
                     if (ignoreMissing) {
                         return;
                     } else if (fieldPathIsNullOrEmpty) {
@@ -129,7 +130,7 @@ public final class RemoveProcessor extends AbstractProcessor {
                         );
                     }
                 }
-                document.removeField(path);
+                document.removeField(fieldPath);
             });
         }
 
@@ -87,8 +87,8 @@ public final class RenameProcessor extends AbstractProcessor {
 
     @Override
     public IngestDocument execute(IngestDocument document) {
-        String path = document.renderTemplate(field);
-        final boolean fieldPathIsNullOrEmpty = Strings.isNullOrEmpty(path);
+        IngestDocument.FieldPath path = document.renderFieldPath(field);
+        final boolean fieldPathIsNullOrEmpty = Strings.isNullOrEmpty(path.getPath());
         if (fieldPathIsNullOrEmpty || document.hasField(path, true) == false) {
             if (ignoreMissing) {
                 return document;
@@ -103,7 +103,7 @@ public final class RenameProcessor extends AbstractProcessor {
         // and then on failure processors would not see that value we tried to rename as we already
         // removed it. If the target field is out of range, we throw the exception no matter
         // what the parameter overrideTarget is.
-        String target = document.renderTemplate(targetField);
+        IngestDocument.FieldPath target = document.renderFieldPath(targetField);
         if (document.hasField(target, true) && !overrideTarget) {
             throw new IllegalArgumentException("field [" + target + "] already exists");
         }
@@ -16,6 +16,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.arrow.flight.bootstrap.tls.DefaultSslContextProvider;
 import org.opensearch.arrow.flight.bootstrap.tls.SslContextProvider;
+import org.opensearch.arrow.flight.bulk.FlightBulkIngester;
 import org.opensearch.arrow.flight.impl.BaseFlightProducer;
 import org.opensearch.arrow.flight.impl.FlightStreamManager;
 import org.opensearch.arrow.spi.StreamManager;
@@ -138,7 +139,10 @@ public class FlightService extends AuxTransport {
                 client
             );
             initializeStreamManager(clientManager);
-            serverComponents.setFlightProducer(new BaseFlightProducer(clientManager, streamManager, allocator));
+            FlightBulkIngester bulkIngester = ServerConfig.isBulkEnabled()
+                ? new FlightBulkIngester(client, serverComponents.clusterService, threadPool.getThreadContext(), allocator)
+                : null;
+            serverComponents.setFlightProducer(new BaseFlightProducer(clientManager, streamManager, allocator, bulkIngester));
             serverComponents.start();
         } catch (Exception e) {
             logger.error("Failed to start Flight server", e);
@@ -17,6 +17,7 @@ import org.apache.arrow.util.AutoCloseables;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.arrow.flight.bootstrap.tls.SslContextProvider;
+import org.opensearch.arrow.flight.bulk.CallerHeadersMiddleware;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.network.NetworkService;
@@ -182,6 +183,7 @@ public final class ServerComponents implements AutoCloseable {
             .bossEventLoopGroup(bossEventLoopGroup)
             .workerEventLoopGroup(workerEventLoopGroup)
             .executor(grpcExecutor)
+            .middleware(CallerHeadersMiddleware.KEY, new CallerHeadersMiddleware.Factory())
             .build();
         AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
             try {
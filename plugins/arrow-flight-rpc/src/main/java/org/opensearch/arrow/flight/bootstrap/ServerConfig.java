@@ -101,6 +101,8 @@ public class ServerConfig {
         Setting.Property.NodeScope
     );
 
+    static final Setting<Boolean> FLIGHT_BULK_ENABLE = Setting.boolSetting("flight.bulk.enable", false, Setting.Property.NodeScope);
+
     /**
      * The thread pool name for the Flight producer handling
      */
@@ -117,6 +119,7 @@ public class ServerConfig {
 
     private static final String host = "localhost";
     private static boolean enableSsl;
+    private static boolean enableBulk;
     private static int threadPoolMin;
     private static int threadPoolMax;
     private static TimeValue keepAlive;
@@ -140,6 +143,7 @@ public class ServerConfig {
             return null;
         });
         enableSsl = ARROW_SSL_ENABLE.get(settings);
+        enableBulk = FLIGHT_BULK_ENABLE.get(settings);
         threadPoolMin = FLIGHT_THREAD_POOL_MIN_SIZE.get(settings);
         threadPoolMax = FLIGHT_THREAD_POOL_MAX_SIZE.get(settings);
         keepAlive = FLIGHT_THREAD_POOL_KEEP_ALIVE.get(settings);
@@ -155,6 +159,16 @@ public class ServerConfig {
         return enableSsl;
     }
 
+    /**
+     * Checks if the Flight server indexes the record batches that are put to it. This is off by default, as puts are not
+     * authenticated, see {@link org.opensearch.arrow.flight.bulk.FlightBulkIngester}.
+     *
+     * @return true if bulk ingestion over DoPut is enabled, false otherwise
+     */
+    public static boolean isBulkEnabled() {
+        return enableBulk;
+    }
+
     /**
      * Gets the thread pool executor builder configured for the Flight server.
      *
@@ -204,6 +218,7 @@ public class ServerConfig {
                 ARROW_ENABLE_DEBUG_ALLOCATOR,
                 ARROW_ENABLE_UNSAFE_MEMORY_ACCESS,
                 ARROW_SSL_ENABLE,
+                FLIGHT_BULK_ENABLE,
                 FLIGHT_EVENT_LOOP_THREADS
             )
         );
@@ -0,0 +1,257 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.arrow.flight.bulk;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DateMilliVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.SmallIntVector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.arrow.vector.TinyIntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.util.Text;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts Arrow record batches into bulk requests. Each row of a batch becomes an index request whose source has a field per
+ * column of the batch, except for the {@value #ID_COLUMN} and {@value #ROUTING_COLUMN} columns which hold the id and the routing
+ * of the document. Null values are left out of the source.
+ * <p>
+ * The way a column is written is resolved once per batch from the type of its vector. The values of the common primitive, string
+ * and temporal types are read from the vectors by index, and columns of other types, such as lists and structs, are written from
+ * their {@link FieldVector#getObject(int) objects}.
+ * <p>
+ * Vectors are not mapped to the fields of the documents: every row is written as a JSON source, which the shards parse with the
+ * document parser like the source of any other bulk request. Indexing a batch thus costs at least as much as indexing a bulk
+ * request of the same documents; this only saves clients from encoding their batches into bulk requests.
+ *
+ * @opensearch.internal
+ */
+public class ArrowBulkRequestBuilder {
+
+    /**
+     * The name of the column that holds the ids of the documents.
+     */
+    public static final String ID_COLUMN = "_id";
+
+    /**
+     * The name of the column that holds the routing of the documents.
+     */
+    public static final String ROUTING_COLUMN = "_routing";
+
+    private static final long MILLIS_PER_DAY = java.util.concurrent.TimeUnit.DAYS.toMillis(1);
+
+    private final String index;
+    @Nullable
+    private final String pipeline;
+
+    /**
+     * Creates a builder of bulk requests that index into the given index.
+     *
+     * @param index the index the rows are indexed into
+     * @param pipeline the ingest pipeline the rows go through, or {@code null} to use the default pipeline of the index
+     */
+    public ArrowBulkRequestBuilder(String index, @Nullable String pipeline) {
+        this.index = index;
+        this.pipeline = pipeline;
+    }
+
+    /**
+     * The index the rows are indexed into.
+     */
+    public String getIndex() {
+        return index;
+    }
+
+    /**
+     * Builds a bulk request with an index request per row of the given batch.
+     */
+    public BulkRequest build(VectorSchemaRoot root) throws IOException {
+        final int rowCount = root.getRowCount();
+        VarCharVector ids = null;
+        VarCharVector routings = null;
+        final List<String> names = new ArrayList<>();
+        final List<FieldVector> vectors = new ArrayList<>();
+        final List<ColumnWriter> writers = new ArrayList<>();
+        for (FieldVector vector : root.getFieldVectors()) {
+            final String name = vector.getName();
+            if (ID_COLUMN.equals(name)) {
+                ids = metadataColumn(vector);
+            } else if (ROUTING_COLUMN.equals(name)) {
+                routings = metadataColumn(vector);
+            } else {
+                names.add(name);
+                vectors.add(vector);
+                writers.add(columnWriter(vector));
+            }
+        }
+
+        final BulkRequest bulkRequest = new BulkRequest(index);
+        for (int row = 0; row < rowCount; row++) {
+            try (XContentBuilder builder = XContentFactory.jsonBuilder()) {
+                builder.startObject();
+                for (int column = 0; column < vectors.size(); column++) {
+                    if (vectors.get(column).isNull(row) == false) {
+                        builder.field(names.get(column));
+                        writers.get(column).write(builder, row);
+                    }
+                }
+                builder.endObject();
+                final IndexRequest indexRequest = new IndexRequest(index).id(stringValue(ids, row))
+                    .routing(stringValue(routings, row))
+                    .setPipeline(pipeline)
+                    .source(builder);
+                bulkRequest.add(indexRequest);
+            }
+        }
+        return bulkRequest;
+    }
+
+    private static VarCharVector metadataColumn(FieldVector vector) {
+        if (vector instanceof VarCharVector varCharVector) {
+            return varCharVector;
+        }
+        throw new IllegalArgumentException(
+            "column [" + vector.getName() + "] must be of type [Utf8] but was [" + vector.getField().getType() + "]"
+        );
+    }
+
+    @Nullable
+    private static String stringValue(@Nullable VarCharVector vector, int row) {
+        if (vector == null || vector.isNull(row)) {
+            return null;
+        }
+        return new String(vector.get(row), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the value of a row of a column, which is known not to be null, to a builder.
+     */
+    @FunctionalInterface
+    interface ColumnWriter {
+        void write(XContentBuilder builder, int row) throws IOException;
+    }
+
+    static ColumnWriter columnWriter(FieldVector vector) {
+        if (vector instanceof BigIntVector v) {
+            return (builder, row) -> builder.value(v.get(row));
+        } else if (vector instanceof IntVector v) {
+            return (builder, row) -> builder.value(v.get(row));
+        } else if (vector instanceof SmallIntVector v) {
+            return (builder, row) -> builder.value(v.get(row));
+        } else if (vector instanceof TinyIntVector v) {
+            return (builder, row) -> builder.value(v.get(row));
+        } else if (vector instanceof Float8Vector v) {
+            return (builder, row) -> builder.value(v.get(row));
+        } else if (vector instanceof Float4Vector v) {
+            return (builder, row) -> builder.value(v.get(row));
+        } else if (vector instanceof BitVector v) {
+            return (builder, row) -> builder.value(v.get(row) != 0);
+        } else if (vector instanceof VarCharVector v) {
+            return new Utf8Writer(v);
+        } else if (vector instanceof DateDayVector v) {
+            return (builder, row) -> builder.value(v.get(row) * MILLIS_PER_DAY);
+        } else if (vector instanceof DateMilliVector v) {
+            return (builder, row) -> builder.value(v.get(row));
+        } else if (vector instanceof TimeStampVector v) {
+            return timestampWriter(v);
+        }
+        return (builder, row) -> builder.value(toXContentValue(vector.getObject(row)));
+    }
+
+    private static ColumnWriter timestampWriter(TimeStampVector vector) {
+        final TimeUnit unit = ((ArrowType.Timestamp) vector.getField().getType()).getUnit();
+        switch (unit) {
+            case SECOND:
+                return (builder, row) -> builder.value(vector.get(row) * 1000L);
+            case MILLISECOND:
+                return (builder, row) -> builder.value(vector.get(row));
+            case MICROSECOND:
+                // written as strings so that date_nanos fields keep the sub-millisecond precision
+                return (builder, row) -> builder.value(Instant.EPOCH.plus(vector.get(row), ChronoUnit.MICROS).toString());
+            case NANOSECOND:
+                return (builder, row) -> builder.value(Instant.EPOCH.plusNanos(vector.get(row)).toString());
+            default:
+                throw new IllegalArgumentException("unsupported time unit [" + unit + "] of column [" + vector.getName() + "]");
+        }
+    }
+
+    /**
+     * Copies the UTF-8 bytes of each value straight from the data buffer of the vector, reusing a scratch array across rows.
+     */
+    private static final class Utf8Writer implements ColumnWriter {
+        private final VarCharVector vector;
+        private byte[] scratch = new byte[64];
+
+        Utf8Writer(VarCharVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        public void write(XContentBuilder builder, int row) throws IOException {
+            final ArrowBuf offsets = vector.getOffsetBuffer();
+            final int start = offsets.getInt((long) row * BaseVariableWidthVector.OFFSET_WIDTH);
+            final int length = offsets.getInt((long) (row + 1) * BaseVariableWidthVector.OFFSET_WIDTH) - start;
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            vector.getDataBuffer().getBytes(start, scratch, 0, length);
+            builder.utf8Value(scratch, 0, length);
+        }
+    }
+
+    /**
+     * Converts the object of a value of a vector to one that {@link XContentBuilder#value(Object)} can write.
+     */
+    static Object toXContentValue(Object value) {
+        if (value instanceof Text text) {
+            return text.toString();
+        } else if (value instanceof LocalDateTime localDateTime) {
+            return localDateTime.toInstant(ZoneOffset.UTC).toString();
+        } else if (value instanceof List<?> list) {
+            final List<Object> values = new ArrayList<>(list.size());
+            for (Object element : list) {
+                values.add(toXContentValue(element));
+            }
+            return values;
+        } else if (value instanceof Map<?, ?> map) {
+            final Map<String, Object> values = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                values.put(String.valueOf(entry.getKey()), toXContentValue(entry.getValue()));
+            }
+            return values;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.arrow.flight.bulk;
+
+import org.apache.arrow.flight.CallHeaders;
+import org.apache.arrow.flight.CallInfo;
+import org.apache.arrow.flight.CallStatus;
+import org.apache.arrow.flight.FlightServerMiddleware;
+import org.apache.arrow.flight.RequestContext;
+import org.opensearch.tasks.Task;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Captures the {@value Task#X_OPAQUE_ID} header of a Flight call, so that the bulk requests of a put can be traced back to the
+ * caller in tasks and slow logs. This does not authenticate the caller: no other header is kept, as any other header could spoof
+ * the transient state that the action filters of the node rely on, and credentials would not be checked anyway since the security
+ * plugin does not authenticate requests from the headers of the thread context.
+ *
+ * @opensearch.internal
+ */
+public class CallerHeadersMiddleware implements FlightServerMiddleware {
+
+    /**
+     * The key the middleware is registered with on the Flight server.
+     */
+    public static final Key<CallerHeadersMiddleware> KEY = Key.of("flight-caller-headers-middleware");
+
+    static final Set<String> HEADERS_TO_COPY = Set.of(Task.X_OPAQUE_ID);
+
+    private final Map<String, String> headers;
+
+    CallerHeadersMiddleware(Map<String, String> headers) {
+        this.headers = headers;
+    }
+
+    /**
+     * The headers of the caller, by the name they are put into the thread context with.
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public void onBeforeSendingHeaders(CallHeaders outgoingHeaders) {}
+
+    @Override
+    public void onCallCompleted(CallStatus status) {}
+
+    @Override
+    public void onCallErrored(Throwable err) {}
+
+    /**
+     * Creates the middleware of each call.
+     */
+    public static class Factory implements FlightServerMiddleware.Factory<CallerHeadersMiddleware> {
+        @Override
+        public CallerHeadersMiddleware onCallStarted(CallInfo callInfo, CallHeaders incomingHeaders, RequestContext context) {
+            final Map<String, String> headers = new HashMap<>();
+            for (String name : HEADERS_TO_COPY) {
+                // gRPC metadata keys are lower case
+                final String value = incomingHeaders.get(name.toLowerCase(Locale.ROOT));
+                if (value != null) {
+                    headers.put(name, value);
+                }
+            }
+            return new CallerHeadersMiddleware(Map.copyOf(headers));
+        }
+    }
+}
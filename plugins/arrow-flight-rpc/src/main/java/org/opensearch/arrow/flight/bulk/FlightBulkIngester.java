@@ -0,0 +1,177 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.arrow.flight.bulk;
+
+import org.apache.arrow.flight.CallStatus;
+import org.apache.arrow.flight.FlightDescriptor;
+import org.apache.arrow.flight.FlightProducer.StreamListener;
+import org.apache.arrow.flight.FlightRuntimeException;
+import org.apache.arrow.flight.FlightStream;
+import org.apache.arrow.flight.PutResult;
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.cluster.metadata.IndexAbstraction;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.transport.client.Client;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Indexes the record batches of the streams that are put to the Flight server. The path of the descriptor of a stream is the
+ * index the rows are indexed into, optionally followed by the ingest pipeline they go through. Each batch is indexed with a single
+ * bulk request, built by {@link ArrowBulkRequestBuilder}, before the next one is read, which leaves it to the Flight flow control to
+ * hold the client back while the node is busy indexing.
+ * <p>
+ * Puts are not authenticated: the Flight server does not authenticate its calls and the security plugin does not either, so the
+ * bulk requests are executed without any user, in a fresh thread context that only holds the opaque id of the caller captured by
+ * {@link CallerHeadersMiddleware}. Bulk ingestion must thus only be enabled on nodes whose Flight server is secured, e.g. with TLS
+ * client authentication, or is otherwise only reachable by trusted clients. To limit what such clients can do, system and hidden
+ * indices, including the ones whose name starts with a dot, are rejected, as are date math index names, which could resolve to any
+ * of them.
+ * <p>
+ * Rows are indexed like the documents of any other bulk request, see {@link ArrowBulkRequestBuilder}.
+ * <p>
+ * Every batch is acknowledged with a {@link PutResult} whose metadata is a JSON summary of its bulk response: the number of items,
+ * whether any of them failed, and the row, status and reason of each failed item.
+ *
+ * @opensearch.internal
+ */
+public class FlightBulkIngester {
+    private static final Logger logger = LogManager.getLogger(FlightBulkIngester.class);
+
+    private final Client client;
+    private final ClusterService clusterService;
+    private final ThreadContext threadContext;
+    private final BufferAllocator allocator;
+
+    /**
+     * Creates an ingester that indexes the batches with the given client.
+     *
+     * @param client the client the bulk requests are executed with
+     * @param clusterService the cluster service that the target indices are checked against
+     * @param threadContext the thread context the bulk requests are executed in
+     * @param allocator the allocator of the buffers of the acknowledgements
+     */
+    public FlightBulkIngester(Client client, ClusterService clusterService, ThreadContext threadContext, BufferAllocator allocator) {
+        this.client = client;
+        this.clusterService = clusterService;
+        this.threadContext = threadContext;
+        this.allocator = allocator;
+    }
+
+    /**
+     * Indexes all the batches of the given stream, acknowledging each of them on the given listener. This blocks until the stream
+     * is fully consumed, so it must not run on a network thread.
+     *
+     * @param flightStream the stream of record batches
+     * @param callerHeaders the headers of the caller that the bulk requests are executed with, which don't authenticate it
+     * @param ackStream the listener that each batch is acknowledged on
+     */
+    public void ingest(FlightStream flightStream, Map<String, String> callerHeaders, StreamListener<PutResult> ackStream) {
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putHeader(callerHeaders);
+            final ArrowBulkRequestBuilder requestBuilder = requestBuilder(flightStream.getDescriptor());
+            while (flightStream.next()) {
+                if (flightStream.getRoot().getRowCount() == 0) {
+                    continue;
+                }
+                // checked for every batch, as the index may have been created or changed since the previous one
+                ensureWritable(requestBuilder.getIndex());
+                final BulkRequest bulkRequest = requestBuilder.build(flightStream.getRoot());
+                final BulkResponse bulkResponse = client.bulk(bulkRequest).actionGet();
+                acknowledge(bulkResponse, ackStream);
+            }
+            ackStream.onCompleted();
+        } catch (FlightRuntimeException e) {
+            ackStream.onError(e);
+        } catch (IllegalArgumentException e) {
+            logger.debug("rejected put of arrow batches", e);
+            ackStream.onError(CallStatus.INVALID_ARGUMENT.withCause(e).withDescription(e.getMessage()).toRuntimeException());
+        } catch (Exception e) {
+            logger.warn("failed to index arrow batches", e);
+            ackStream.onError(
+                CallStatus.INTERNAL.withCause(e).withDescription("Failed to index batch: " + e.getMessage()).toRuntimeException()
+            );
+        }
+    }
+
+    private static ArrowBulkRequestBuilder requestBuilder(FlightDescriptor descriptor) {
+        final List<String> path = descriptor.isCommand() ? List.of() : descriptor.getPath();
+        if (path.isEmpty() || path.size() > 2) {
+            throw CallStatus.INVALID_ARGUMENT.withDescription("descriptor path must be [index] or [index, pipeline] but was " + path)
+                .toRuntimeException();
+        }
+        return new ArrowBulkRequestBuilder(path.get(0), path.size() == 2 ? path.get(1) : null);
+    }
+
+    /**
+     * Rejects puts to system and hidden indices, and to the aliases and data streams whose write index is one.
+     */
+    void ensureWritable(String index) {
+        if (index.startsWith(".") || index.startsWith("<")) {
+            throw permissionDenied(index);
+        }
+        final IndexAbstraction indexAbstraction = clusterService.state().metadata().getIndicesLookup().get(index);
+        if (indexAbstraction == null) {
+            return;
+        }
+        final IndexMetadata writeIndex = indexAbstraction.getWriteIndex();
+        if (indexAbstraction.isSystem()
+            || indexAbstraction.isHidden()
+            || (writeIndex != null && (writeIndex.isSystem() || IndexMetadata.INDEX_HIDDEN_SETTING.get(writeIndex.getSettings())))) {
+            throw permissionDenied(index);
+        }
+    }
+
+    private static FlightRuntimeException permissionDenied(String index) {
+        final String description = "putting arrow batches to system, hidden or date math index [" + index + "] is not allowed";
+        return CallStatus.UNAUTHORIZED.withDescription(description).toRuntimeException();
+    }
+
+    private void acknowledge(BulkResponse bulkResponse, StreamListener<PutResult> ackStream) throws IOException {
+        final byte[] metadata = BytesReference.toBytes(BytesReference.bytes(summary(bulkResponse)));
+        try (ArrowBuf buffer = allocator.buffer(metadata.length)) {
+            buffer.writeBytes(metadata);
+            ackStream.onNext(PutResult.metadata(buffer));
+        }
+    }
+
+    static XContentBuilder summary(BulkResponse bulkResponse) throws IOException {
+        final XContentBuilder builder = XContentFactory.jsonBuilder();
+        builder.startObject();
+        builder.field("took", bulkResponse.getTook().millis());
+        builder.field("items", bulkResponse.getItems().length);
+        builder.field("errors", bulkResponse.hasFailures());
+        builder.startArray("failures");
+        for (BulkItemResponse item : bulkResponse.getItems()) {
+            if (item.isFailed()) {
+                builder.startObject();
+                builder.field("row", item.getItemId());
+                builder.field("status", item.status().getStatus());
+                builder.field("reason", item.getFailureMessage());
+                builder.endObject();
+            }
+        }
+        builder.endArray();
+        builder.endObject();
+        return builder;
+    }
+}
@@ -18,17 +18,21 @@ import org.apache.arrow.flight.FlightRuntimeException;
 import org.apache.arrow.flight.FlightStream;
 import org.apache.arrow.flight.Location;
 import org.apache.arrow.flight.NoOpFlightProducer;
+import org.apache.arrow.flight.PutResult;
 import org.apache.arrow.flight.Ticket;
 import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.vector.VectorSchemaRoot;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.arrow.flight.bootstrap.FlightClientManager;
+import org.opensearch.arrow.flight.bulk.CallerHeadersMiddleware;
+import org.opensearch.arrow.flight.bulk.FlightBulkIngester;
 import org.opensearch.arrow.spi.StreamProducer;
 import org.opensearch.arrow.spi.StreamTicket;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -47,18 +51,37 @@ public class BaseFlightProducer extends NoOpFlightProducer {
     private final FlightClientManager flightClientManager;
     private final FlightStreamManager streamManager;
     private final BufferAllocator allocator;
+    private final FlightBulkIngester bulkIngester;
 
     /**
-     * Constructs a new BaseFlightProducer.
+     * Constructs a new BaseFlightProducer that doesn't accept puts.
      *
      * @param flightClientManager The manager for handling client connections
      * @param streamManager The manager for stream operations
      * @param allocator The buffer allocator for Arrow memory management
      */
     public BaseFlightProducer(FlightClientManager flightClientManager, FlightStreamManager streamManager, BufferAllocator allocator) {
+        this(flightClientManager, streamManager, allocator, null);
+    }
+
+    /**
+     * Constructs a new BaseFlightProducer.
+     *
+     * @param flightClientManager The manager for handling client connections
+     * @param streamManager The manager for stream operations
+     * @param allocator The buffer allocator for Arrow memory management
+     * @param bulkIngester The ingester that indexes the batches that are put, or null to reject puts
+     */
+    public BaseFlightProducer(
+        FlightClientManager flightClientManager,
+        FlightStreamManager streamManager,
+        BufferAllocator allocator,
+        FlightBulkIngester bulkIngester
+    ) {
         this.flightClientManager = flightClientManager;
         this.streamManager = streamManager;
         this.allocator = allocator;
+        this.bulkIngester = bulkIngester;
     }
 
     /**
@@ -106,6 +129,26 @@ public class BaseFlightProducer extends NoOpFlightProducer {
             : getRemoteFlightInfo(streamTicket, descriptor);
     }
 
+    /**
+     * Indexes the record batches that are put, each of them with an unauthenticated bulk request. The returned
+     * runnable is run by the executor of the Flight server, which is why the ingestion may block until each bulk request completes.
+     * Puts are rejected unless bulk ingestion is enabled on the node.
+     *
+     * @param context The call context
+     * @param flightStream The stream of record batches, whose descriptor path is the index and optionally the ingest pipeline
+     * @param ackStream The listener that each batch is acknowledged on
+     * @return the runnable that consumes the stream
+     */
+    @Override
+    public Runnable acceptPut(CallContext context, FlightStream flightStream, StreamListener<PutResult> ackStream) {
+        if (bulkIngester == null) {
+            return super.acceptPut(context, flightStream, ackStream);
+        }
+        final CallerHeadersMiddleware callerHeaders = context.getMiddleware(CallerHeadersMiddleware.KEY);
+        final Map<String, String> headers = callerHeaders == null ? Collections.emptyMap() : callerHeaders.getHeaders();
+        return () -> bulkIngester.ingest(flightStream, headers, ackStream);
+    }
+
     private StreamTicket parseTicket(Ticket ticket) {
         try {
             return streamManager.getStreamTicketFactory().fromBytes(ticket.getBytes());
@@ -27,6 +27,7 @@ public class ServerConfigTests extends OpenSearchTestCase {
             .put("arrow.enable_unsafe_memory_access", true)
             .put("arrow.memory.debug.allocator", false)
             .put("flight.ssl.enable", true)
+            .put("flight.bulk.enable", true)
             .put("thread_pool.flight-server.min", 1)
             .put("thread_pool.flight-server.max", 4)
             .put("thread_pool.flight-server.keep_alive", TimeValue.timeValueMinutes(5))
@@ -44,6 +45,7 @@ public class ServerConfigTests extends OpenSearchTestCase {
 
         // Verify SSL settings
         assertTrue(ServerConfig.isSslEnabled());
+        assertTrue(ServerConfig.isBulkEnabled());
 
         ScalingExecutorBuilder serverExecutorBuilder = ServerConfig.getServerExecutorBuilder();
         ScalingExecutorBuilder flightGrpcExecutorBuilder = ServerConfig.getGrpcExecutorBuilder();
@@ -67,6 +69,7 @@ public class ServerConfigTests extends OpenSearchTestCase {
         assertTrue(settings.contains(ServerConfig.ARROW_ENABLE_UNSAFE_MEMORY_ACCESS));
         assertTrue(settings.contains(ServerConfig.ARROW_ENABLE_DEBUG_ALLOCATOR));
         assertTrue(settings.contains(ServerConfig.ARROW_SSL_ENABLE));
+        assertTrue(settings.contains(ServerConfig.FLIGHT_BULK_ENABLE));
     }
 
     public void testDefaultSettings() {
@@ -80,5 +83,7 @@ public class ServerConfigTests extends OpenSearchTestCase {
         assertTrue(ServerConfig.ARROW_ENABLE_UNSAFE_MEMORY_ACCESS.get(defaultSettings));
         assertFalse(ServerConfig.ARROW_ENABLE_DEBUG_ALLOCATOR.get(defaultSettings));
         assertFalse(ServerConfig.ARROW_SSL_ENABLE.get(defaultSettings));
+        assertFalse(ServerConfig.FLIGHT_BULK_ENABLE.get(defaultSettings));
+        assertFalse(ServerConfig.isBulkEnabled());
     }
 }
@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.arrow.flight.bulk;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.TimeStampMilliVector;
+import org.apache.arrow.vector.TimeStampNanoVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.impl.UnionListWriter;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+public class ArrowBulkRequestBuilderTests extends OpenSearchTestCase {
+
+    private BufferAllocator allocator;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        allocator = new RootAllocator();
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        allocator.close();
+        super.tearDown();
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public void testBuild() throws Exception {
+        try (
+            VarCharVector ids = new VarCharVector(ArrowBulkRequestBuilder.ID_COLUMN, allocator);
+            VarCharVector routings = new VarCharVector(ArrowBulkRequestBuilder.ROUTING_COLUMN, allocator);
+            BigIntVector count = new BigIntVector("count", allocator);
+            Float8Vector price = new Float8Vector("price", allocator);
+            BitVector active = new BitVector("active", allocator);
+            VarCharVector name = new VarCharVector("name", allocator);
+            TimeStampMilliVector timestamp = new TimeStampMilliVector("timestamp", allocator);
+            TimeStampNanoVector precise = new TimeStampNanoVector("precise", allocator);
+            ListVector tags = ListVector.empty("tags", allocator)
+        ) {
+            ids.setSafe(0, utf8("1"));
+            ids.setSafe(1, utf8("2"));
+            routings.setSafe(0, utf8("r"));
+            routings.setNull(1);
+            count.setSafe(0, 42L);
+            count.setNull(1);
+            price.setSafe(0, 1.5);
+            price.setSafe(1, -2.25);
+            active.setSafe(0, 1);
+            active.setSafe(1, 0);
+            name.setSafe(0, utf8("café"));
+            name.setSafe(1, utf8("a much longer value that does not fit into the initial scratch array of the utf8 column writer"));
+            timestamp.setSafe(0, 1_700_000_000_123L);
+            timestamp.setSafe(1, 0L);
+            precise.setSafe(0, 1_700_000_000_123_456_789L);
+            precise.setNull(1);
+            UnionListWriter writer = tags.getWriter();
+            writer.setPosition(0);
+            writer.startList();
+            writer.bigInt().writeBigInt(1L);
+            writer.bigInt().writeBigInt(2L);
+            writer.endList();
+            writer.setPosition(1);
+            writer.startList();
+            writer.endList();
+            writer.setValueCount(2);
+            for (var vector : List.of(ids, routings, count, price, active, name, timestamp, precise)) {
+                vector.setValueCount(2);
+            }
+
+            VectorSchemaRoot root = VectorSchemaRoot.of(ids, routings, count, price, active, name, timestamp, precise, tags);
+            BulkRequest bulkRequest = new ArrowBulkRequestBuilder("index", "pipeline").build(root);
+            assertEquals(2, bulkRequest.numberOfActions());
+
+            IndexRequest first = (IndexRequest) bulkRequest.requests().get(0);
+            assertEquals("index", first.index());
+            assertEquals("1", first.id());
+            assertEquals("r", first.routing());
+            assertEquals("pipeline", first.getPipeline());
+            Map<String, Object> source = first.sourceAsMap();
+            assertEquals(42, ((Number) source.get("count")).longValue());
+            assertEquals(1.5, source.get("price"));
+            assertEquals(true, source.get("active"));
+            assertEquals("café", source.get("name"));
+            assertEquals(1_700_000_000_123L, ((Number) source.get("timestamp")).longValue());
+            assertEquals("2023-11-14T22:13:20.123456789Z", source.get("precise"));
+            assertEquals(List.of(1, 2), source.get("tags"));
+
+            IndexRequest second = (IndexRequest) bulkRequest.requests().get(1);
+            assertEquals("2", second.id());
+            assertNull(second.routing());
+            source = second.sourceAsMap();
+            assertFalse(source.containsKey("count"));
+            assertFalse(source.containsKey("precise"));
+            assertEquals(-2.25, source.get("price"));
+            assertEquals(false, source.get("active"));
+            assertEquals(
+                "a much longer value that does not fit into the initial scratch array of the utf8 column writer",
+                source.get("name")
+            );
+            assertEquals(List.of(), source.get("tags"));
+        }
+    }
+
+    public void testMetadataColumnMustBeUtf8() {
+        try (BigIntVector ids = new BigIntVector(ArrowBulkRequestBuilder.ID_COLUMN, allocator)) {
+            ids.setSafe(0, 1L);
+            ids.setValueCount(1);
+            VectorSchemaRoot root = VectorSchemaRoot.of(ids);
+            IllegalArgumentException e = expectThrows(
+                IllegalArgumentException.class,
+                () -> new ArrowBulkRequestBuilder("index", null).build(root)
+            );
+            assertTrue(e.getMessage(), e.getMessage().contains("[_id] must be of type [Utf8]"));
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.arrow.flight.bulk;
+
+import org.apache.arrow.flight.CallHeaders;
+import org.apache.arrow.flight.FlightCallHeaders;
+import org.opensearch.tasks.Task;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Map;
+
+public class CallerHeadersMiddlewareTests extends OpenSearchTestCase {
+
+    public void testOnlyOpaqueIdIsCopied() {
+        CallHeaders incomingHeaders = new FlightCallHeaders();
+        incomingHeaders.insert("x-opaque-id", "caller");
+        incomingHeaders.insert("authorization", "Basic dXNlcjpwYXNz");
+        incomingHeaders.insert("_system_index_access_allowed", "true");
+
+        CallerHeadersMiddleware middleware = new CallerHeadersMiddleware.Factory().onCallStarted(null, incomingHeaders, null);
+        assertEquals(Map.of(Task.X_OPAQUE_ID, "caller"), middleware.getHeaders());
+    }
+}
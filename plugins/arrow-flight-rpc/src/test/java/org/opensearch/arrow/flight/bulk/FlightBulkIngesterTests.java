@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.arrow.flight.bulk;
+
+import org.apache.arrow.flight.FlightDescriptor;
+import org.apache.arrow.flight.FlightProducer.StreamListener;
+import org.apache.arrow.flight.FlightRuntimeException;
+import org.apache.arrow.flight.FlightStatusCode;
+import org.apache.arrow.flight.FlightStream;
+import org.apache.arrow.flight.PutResult;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.opensearch.Version;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.tasks.Task;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.client.Client;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FlightBulkIngesterTests extends OpenSearchTestCase {
+
+    private BufferAllocator allocator;
+    private ThreadContext threadContext;
+    private Client client;
+    private FlightBulkIngester ingester;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        allocator = new RootAllocator();
+        threadContext = new ThreadContext(Settings.EMPTY);
+        client = mock(Client.class);
+        Metadata metadata = Metadata.builder()
+            .put(index("logs"), false)
+            .put(index("hidden").settings(settings(Version.CURRENT).put(IndexMetadata.SETTING_INDEX_HIDDEN, true)), false)
+            .put(index("system").system(true), false)
+            .put(
+                index("hidden-write-index").settings(settings(Version.CURRENT).put(IndexMetadata.SETTING_INDEX_HIDDEN, true))
+                    .putAlias(AliasMetadata.builder("alias").writeIndex(true)),
+                false
+            )
+            .build();
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.state()).thenReturn(ClusterState.builder(ClusterName.DEFAULT).metadata(metadata).build());
+        ingester = new FlightBulkIngester(client, clusterService, threadContext, allocator);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        allocator.close();
+        super.tearDown();
+    }
+
+    private static IndexMetadata.Builder index(String name) {
+        return IndexMetadata.builder(name).settings(settings(Version.CURRENT)).numberOfShards(1).numberOfReplicas(0);
+    }
+
+    public void testEnsureWritable() {
+        ingester.ensureWritable("logs");
+        ingester.ensureWritable("missing");
+        for (String index : new String[] { "hidden", "system", "alias", ".missing", "<logs-{now/d}>" }) {
+            FlightRuntimeException e = expectThrows(FlightRuntimeException.class, () -> ingester.ensureWritable(index));
+            assertEquals(FlightStatusCode.UNAUTHORIZED, e.status().code());
+        }
+    }
+
+    public void testIngestRunsWithOpaqueIdOfCaller() throws Exception {
+        threadContext.putHeader("node-header", "node");
+        AtomicReference<Map<String, String>> bulkHeaders = new AtomicReference<>();
+        when(client.bulk(any(BulkRequest.class))).thenAnswer(invocation -> {
+            bulkHeaders.set(threadContext.getHeaders());
+            PlainActionFuture<BulkResponse> future = new PlainActionFuture<>();
+            future.onResponse(new BulkResponse(new BulkItemResponse[0], 1));
+            return future;
+        });
+
+        try (BigIntVector count = new BigIntVector("count", allocator)) {
+            count.setSafe(0, 1L);
+            count.setValueCount(1);
+            RecordingListener ackStream = new RecordingListener();
+            ingester.ingest(flightStream("logs", VectorSchemaRoot.of(count)), Map.of(Task.X_OPAQUE_ID, "caller"), ackStream);
+
+            assertNull(ackStream.error.get());
+            assertEquals(1, ackStream.acks.get());
+            assertTrue(ackStream.completed);
+            assertEquals(Map.of(Task.X_OPAQUE_ID, "caller"), bulkHeaders.get());
+            // the context of the calling thread is restored once the stream is consumed
+            assertEquals("node", threadContext.getHeader("node-header"));
+            assertNull(threadContext.getHeader(Task.X_OPAQUE_ID));
+        }
+    }
+
+    public void testIngestRejectsHiddenIndex() throws Exception {
+        try (BigIntVector count = new BigIntVector("count", allocator)) {
+            count.setSafe(0, 1L);
+            count.setValueCount(1);
+            RecordingListener ackStream = new RecordingListener();
+            ingester.ingest(flightStream("hidden", VectorSchemaRoot.of(count)), Map.of(), ackStream);
+
+            assertTrue(ackStream.error.get() instanceof FlightRuntimeException);
+            assertEquals(FlightStatusCode.UNAUTHORIZED, ((FlightRuntimeException) ackStream.error.get()).status().code());
+            assertFalse(ackStream.completed);
+            verify(client, never()).bulk(any(BulkRequest.class));
+        }
+    }
+
+    private static FlightStream flightStream(String index, VectorSchemaRoot root) {
+        FlightStream flightStream = mock(FlightStream.class);
+        when(flightStream.getDescriptor()).thenReturn(FlightDescriptor.path(index));
+        when(flightStream.next()).thenReturn(true, false);
+        when(flightStream.getRoot()).thenReturn(root);
+        return flightStream;
+    }
+
+    private static class RecordingListener implements StreamListener<PutResult> {
+        final AtomicInteger acks = new AtomicInteger();
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        volatile boolean completed;
+
+        @Override
+        public void onNext(PutResult val) {
+            acks.incrementAndGet();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error.set(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            completed = true;
+        }
+    }
+}
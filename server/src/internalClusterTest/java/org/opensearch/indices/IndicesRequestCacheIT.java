@@ -483,6 +483,79 @@ public class IndicesRequestCacheIT extends ParameterizedStaticSettingsOpenSearch
         assertCacheState(client, "index-3", 0, 0);
     }
 
+    public void testSegmentLevelCacheWithNow() throws Exception {
+        Client client = client();
+        Settings settings = Settings.builder()
+            .put(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING.getKey(), true)
+            .put(IndicesRequestCache.INDEX_CACHE_REQUEST_SEGMENT_LEVEL_SETTING.getKey(), true)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            // Disable index refreshing so that each batch below ends up in its own segment
+            .put(IndexSettings.INDEX_REFRESH_INTERVAL_SETTING.getKey(), TimeValue.timeValueMillis(-1))
+            .build();
+        String index = "index";
+        assertAcked(client.admin().indices().prepareCreate(index).setMapping("d", "type=date").setSettings(settings).get());
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        DateFormatter formatter = DateFormatter.forPattern("strict_date_optional_time");
+        // A segment that is disjoint from the range, one that is within it and one that straddles its lower bound
+        int[][] batches = new int[][] { { 10, 11 }, { 1, 2, 3 }, { 9, 1 } };
+        int id = 0;
+        for (int[] daysAgo : batches) {
+            for (int days : daysAgo) {
+                client.prepareIndex(index).setId(Integer.toString(id++)).setSource("d", formatter.format(now.minusDays(days))).get();
+            }
+            refreshAndWaitForReplication(index);
+        }
+        ensureSearchable(index);
+        assertCacheState(client, index, 0, 0);
+
+        final SearchResponse r1 = client.prepareSearch(index)
+            .setSearchType(SearchType.QUERY_THEN_FETCH)
+            .setSize(0)
+            .setQuery(QueryBuilders.rangeQuery("d").gte("now-7d/d").lte("now"))
+            .addAggregation(dateHistogram("histo").field("d").fixedInterval(DateHistogramInterval.DAY))
+            .get();
+        OpenSearchAssertions.assertAllSuccessful(r1);
+        assertThat(r1.getHits().getTotalHits().value(), equalTo(4L));
+        // Only the segment that lies entirely within the range is cached, the straddling one is computed on every request
+        assertCacheState(client, index, 0, 1);
+
+        final SearchResponse r2 = client.prepareSearch(index)
+            .setSearchType(SearchType.QUERY_THEN_FETCH)
+            .setSize(0)
+            .setQuery(QueryBuilders.rangeQuery("d").gte("now-7d/d").lte("now"))
+            .addAggregation(dateHistogram("histo").field("d").fixedInterval(DateHistogramInterval.DAY))
+            .get();
+        OpenSearchAssertions.assertAllSuccessful(r2);
+        assertThat(r2.getHits().getTotalHits().value(), equalTo(4L));
+        assertEquals(r1.getAggregations().get("histo"), r2.getAggregations().get("histo"));
+        assertCacheState(client, index, 1, 1);
+
+        // A refresh only adds a new segment, the cached partial of the existing one is still reused
+        client.prepareIndex(index).setId(Integer.toString(id++)).setSource("d", formatter.format(now)).get();
+        refreshAndWaitForReplication(index);
+        final SearchResponse r3 = client.prepareSearch(index)
+            .setSearchType(SearchType.QUERY_THEN_FETCH)
+            .setSize(0)
+            .setQuery(QueryBuilders.rangeQuery("d").gte("now-7d/d").lte("now"))
+            .addAggregation(dateHistogram("histo").field("d").fixedInterval(DateHistogramInterval.DAY))
+            .get();
+        OpenSearchAssertions.assertAllSuccessful(r3);
+        assertThat(r3.getHits().getTotalHits().value(), equalTo(5L));
+        assertCacheState(client, index, 2, 2);
+
+        // The segments within the range are keyed regardless of its bounds, so that a wider range is served from the cache as well
+        final SearchResponse r4 = client.prepareSearch(index)
+            .setSearchType(SearchType.QUERY_THEN_FETCH)
+            .setSize(0)
+            .setQuery(QueryBuilders.rangeQuery("d").gte("now-8d/d").lte("now"))
+            .addAggregation(dateHistogram("histo").field("d").fixedInterval(DateHistogramInterval.DAY))
+            .get();
+        OpenSearchAssertions.assertAllSuccessful(r4);
+        assertThat(r4.getHits().getTotalHits().value(), equalTo(5L));
+        assertCacheState(client, index, 4, 2);
+    }
+
     public void testCanCache() throws Exception {
         Client client = client();
         Settings settings = Settings.builder()
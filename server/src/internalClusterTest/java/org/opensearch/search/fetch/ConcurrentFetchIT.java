@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.opensearch.action.index.IndexRequestBuilder;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.MergePolicyProvider;
+import org.opensearch.plugins.Plugin;
+import org.opensearch.plugins.SearchPlugin;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.test.OpenSearchIntegTestCase;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.opensearch.index.query.QueryBuilders.matchQuery;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertHitCount;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertSearchResponse;
+import static org.hamcrest.Matchers.greaterThan;
+
+@OpenSearchIntegTestCase.ClusterScope(scope = OpenSearchIntegTestCase.Scope.TEST, numDataNodes = 1, numClientNodes = 0, supportsDedicatedMasters = false)
+public class ConcurrentFetchIT extends OpenSearchIntegTestCase {
+
+    private static final int SEGMENT_SLICE_COUNT = 4;
+    private static final AtomicInteger PROCESSORS = new AtomicInteger();
+
+    @Override
+    protected Collection<Class<? extends Plugin>> nodePlugins() {
+        return Collections.singletonList(CountProcessorsPlugin.class);
+    }
+
+    @Override
+    protected Settings nodeSettings(int nodeOrdinal) {
+        return Settings.builder()
+            .put(super.nodeSettings(nodeOrdinal))
+            .put(SearchService.CONCURRENT_SEGMENT_SEARCH_MAX_SLICE_COUNT_KEY, SEGMENT_SLICE_COUNT)
+            .put(SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING.getKey(), true)
+            .build();
+    }
+
+    public void testConcurrentFetchMatchesSequentialFetch() throws Exception {
+        assertAcked(
+            prepareCreate("test").setSettings(
+                Settings.builder()
+                    .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                    .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                    .put(MergePolicyProvider.INDEX_MERGE_ENABLED, false)
+            ).setMapping("text", "type=text", "keyword", "type=keyword", "number", "type=long", "seq", "type=long")
+        );
+        ensureGreen();
+
+        // one segment per batch, so that the searcher has several slices
+        int numSegments = randomIntBetween(SEGMENT_SLICE_COUNT, 2 * SEGMENT_SLICE_COUNT);
+        int numDocs = 0;
+        for (int segment = 0; segment < numSegments; segment++) {
+            List<IndexRequestBuilder> docs = new ArrayList<>();
+            int segmentDocs = randomIntBetween(10, 50);
+            for (int i = 0; i < segmentDocs; i++) {
+                docs.add(
+                    client().prepareIndex("test")
+                        .setId(Integer.toString(numDocs))
+                        .setSource(
+                            "text",
+                            "the quick brown fox " + randomAlphaOfLength(5) + " jumps over the lazy dog",
+                            "keyword",
+                            randomAlphaOfLength(8),
+                            "number",
+                            randomLongBetween(0, 1000),
+                            "seq",
+                            numDocs
+                        )
+                );
+                numDocs++;
+            }
+            indexRandom(true, false, docs);
+        }
+        int numHits = numDocs;
+
+        SearchResponse sequential = search(0, numHits);
+        assertEquals("the sequential fetch builds the hits with one set of processors", 1, PROCESSORS.get());
+        SearchResponse concurrent = search(randomIntBetween(1, numHits), numHits);
+        assertThat("the concurrent fetch builds the hits of each slice with its own processors", PROCESSORS.get(), greaterThan(1));
+
+        SearchHit[] sequentialHits = sequential.getHits().getHits();
+        SearchHit[] concurrentHits = concurrent.getHits().getHits();
+        assertEquals(numHits, sequentialHits.length);
+        assertEquals(sequentialHits.length, concurrentHits.length);
+        for (int i = 0; i < sequentialHits.length; i++) {
+            SearchHit expected = sequentialHits[i];
+            SearchHit actual = concurrentHits[i];
+            assertEquals(expected.getId(), actual.getId());
+            assertArrayEquals(expected.getSortValues(), actual.getSortValues());
+            assertEquals(expected.getSourceAsMap(), actual.getSourceAsMap());
+            assertEquals(expected.field("number").getValues(), actual.field("number").getValues());
+            assertEquals(expected.field("keyword").getValues(), actual.field("keyword").getValues());
+            assertEquals(expected.getHighlightFields(), actual.getHighlightFields());
+        }
+
+        assertAcked(
+            client().admin()
+                .cluster()
+                .prepareUpdateSettings()
+                .setTransientSettings(Settings.builder().putNull(SearchService.CONCURRENT_SEGMENT_SEARCH_FETCH_MIN_HITS_SETTING.getKey()))
+        );
+    }
+
+    private SearchResponse search(int concurrentFetchMinHits, int size) {
+        assertAcked(
+            client().admin()
+                .cluster()
+                .prepareUpdateSettings()
+                .setTransientSettings(
+                    Settings.builder().put(SearchService.CONCURRENT_SEGMENT_SEARCH_FETCH_MIN_HITS_SETTING.getKey(), concurrentFetchMinHits)
+                )
+        );
+        PROCESSORS.set(0);
+        SearchResponse response = client().prepareSearch("test")
+            .setQuery(matchQuery("text", "fox"))
+            .setSize(size)
+            .addSort("number", SortOrder.DESC)
+            .addSort("seq", SortOrder.ASC)
+            .setFetchSource(new String[] { "text", "number" }, null)
+            .addDocValueField("number")
+            .addDocValueField("keyword")
+            .highlighter(new HighlightBuilder().field("text"))
+            .get();
+        assertSearchResponse(response);
+        assertHitCount(response, size);
+        return response;
+    }
+
+    /**
+     * Counts the processors that the fetch phase builds, one per slice of hits.
+     */
+    public static class CountProcessorsPlugin extends Plugin implements SearchPlugin {
+        @Override
+        public List<FetchSubPhase> getFetchSubPhases(FetchPhaseConstructionContext context) {
+            return Collections.singletonList(fetchContext -> {
+                PROCESSORS.incrementAndGet();
+                return new FetchSubPhaseProcessor() {
+                    @Override
+                    public void setNextReader(LeafReaderContext readerContext) {
+
+                    }
+
+                    @Override
+                    public void process(HitContext hitContext) {
+
+                    }
+                };
+            });
+        }
+    }
+}
@@ -51,6 +51,8 @@ import org.opensearch.index.SegmentReplicationRejectionStats;
 import org.opensearch.index.stats.IndexingPressureStats;
 import org.opensearch.index.stats.ShardIndexingPressureStats;
 import org.opensearch.index.store.remote.filecache.AggregateFileCacheStats;
+import org.opensearch.index.translog.TranslogGroupCommitStats;
+import org.opensearch.indices.IndexingBufferStats;
 import org.opensearch.indices.NodeIndicesStats;
 import org.opensearch.ingest.IngestStats;
 import org.opensearch.monitor.fs.FsInfo;
@@ -166,6 +168,12 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
     @Nullable
     private RemoteStoreNodeStats remoteStoreNodeStats;
 
+    @Nullable
+    private IndexingBufferStats indexingBufferStats;
+
+    @Nullable
+    private TranslogGroupCommitStats translogGroupCommitStats;
+
     public NodeStats(StreamInput in) throws IOException {
         super(in);
         timestamp = in.readVLong();
@@ -252,6 +260,13 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         } else {
             remoteStoreNodeStats = null;
         }
+        if (in.getVersion().onOrAfter(Version.V_3_4_0)) {
+            indexingBufferStats = in.readOptionalWriteable(IndexingBufferStats::new);
+            translogGroupCommitStats = in.readOptionalWriteable(TranslogGroupCommitStats::new);
+        } else {
+            indexingBufferStats = null;
+            translogGroupCommitStats = null;
+        }
     }
 
     public NodeStats(
@@ -284,7 +299,9 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         @Nullable RepositoriesStats repositoriesStats,
         @Nullable AdmissionControlStats admissionControlStats,
         @Nullable NodeCacheStats nodeCacheStats,
-        @Nullable RemoteStoreNodeStats remoteStoreNodeStats
+        @Nullable RemoteStoreNodeStats remoteStoreNodeStats,
+        @Nullable IndexingBufferStats indexingBufferStats,
+        @Nullable TranslogGroupCommitStats translogGroupCommitStats
     ) {
         super(node);
         this.timestamp = timestamp;
@@ -316,6 +333,8 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         this.admissionControlStats = admissionControlStats;
         this.nodeCacheStats = nodeCacheStats;
         this.remoteStoreNodeStats = remoteStoreNodeStats;
+        this.indexingBufferStats = indexingBufferStats;
+        this.translogGroupCommitStats = translogGroupCommitStats;
     }
 
     public long getTimestamp() {
@@ -483,6 +502,16 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         return remoteStoreNodeStats;
     }
 
+    @Nullable
+    public IndexingBufferStats getIndexingBufferStats() {
+        return indexingBufferStats;
+    }
+
+    @Nullable
+    public TranslogGroupCommitStats getTranslogGroupCommitStats() {
+        return translogGroupCommitStats;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         super.writeTo(out);
@@ -544,6 +573,10 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         if (out.getVersion().onOrAfter(Version.V_2_18_0)) {
             out.writeOptionalWriteable(remoteStoreNodeStats);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
+            out.writeOptionalWriteable(indexingBufferStats);
+            out.writeOptionalWriteable(translogGroupCommitStats);
+        }
     }
 
     @Override
@@ -653,6 +686,12 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         if (getRemoteStoreNodeStats() != null) {
             getRemoteStoreNodeStats().toXContent(builder, params);
         }
+        if (getIndexingBufferStats() != null) {
+            getIndexingBufferStats().toXContent(builder, params);
+        }
+        if (getTranslogGroupCommitStats() != null) {
+            getTranslogGroupCommitStats().toXContent(builder, params);
+        }
         return builder;
     }
 }
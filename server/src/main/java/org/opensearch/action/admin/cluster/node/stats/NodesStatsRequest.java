@@ -210,7 +210,9 @@ public class NodesStatsRequest extends BaseNodesRequest<NodesStatsRequest> {
         REPOSITORIES("repositories"),
         ADMISSION_CONTROL("admission_control"),
         CACHE_STATS("caches"),
-        REMOTE_STORE("remote_store");
+        REMOTE_STORE("remote_store"),
+        INDEXING_BUFFER("indexing_buffer"),
+        TRANSLOG_GROUP_COMMIT("translog_group_commit");
 
         private String metricName;
 
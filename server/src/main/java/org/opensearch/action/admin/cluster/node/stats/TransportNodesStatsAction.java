@@ -130,7 +130,9 @@ public class TransportNodesStatsAction extends TransportNodesAction<
             NodesStatsRequest.Metric.REPOSITORIES.containedIn(metrics),
             NodesStatsRequest.Metric.ADMISSION_CONTROL.containedIn(metrics),
             NodesStatsRequest.Metric.CACHE_STATS.containedIn(metrics),
-            NodesStatsRequest.Metric.REMOTE_STORE.containedIn(metrics)
+            NodesStatsRequest.Metric.REMOTE_STORE.containedIn(metrics),
+            NodesStatsRequest.Metric.INDEXING_BUFFER.containedIn(metrics),
+            NodesStatsRequest.Metric.TRANSLOG_GROUP_COMMIT.containedIn(metrics)
         );
     }
 
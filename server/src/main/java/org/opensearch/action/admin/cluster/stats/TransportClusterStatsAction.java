@@ -199,6 +199,8 @@ public class TransportClusterStatsAction extends TransportNodesAction<
             false,
             false,
             false,
+            false,
+            false,
             false
         );
         List<ShardStats> shardsStats = new ArrayList<>();
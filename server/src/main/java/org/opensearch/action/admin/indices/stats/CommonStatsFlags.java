@@ -124,9 +124,17 @@ public class CommonStatsFlags implements Writeable, Cloneable {
         out.writeBoolean(includeUnloadedSegments);
         out.writeBoolean(includeAllShardIndexingPressureTrackers);
         out.writeBoolean(includeOnlyTopIndexingPressureMetrics);
-        if (out.getVersion().onOrAfter(Version.V_2_14_0)) {
+        if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
             out.writeEnumSet(includeCaches);
             out.writeStringArrayNullable(levels);
+        } else if (out.getVersion().onOrAfter(Version.V_2_14_0)) {
+            // older nodes only know about the request cache
+            EnumSet<CacheType> knownCaches = EnumSet.noneOf(CacheType.class);
+            if (includeCaches.contains(CacheType.INDICES_REQUEST_CACHE)) {
+                knownCaches.add(CacheType.INDICES_REQUEST_CACHE);
+            }
+            out.writeEnumSet(knownCaches);
+            out.writeStringArrayNullable(levels);
         }
         if (out.getVersion().onOrAfter(Version.V_2_17_0)) {
             out.writeBoolean(includeIndicesStatsByLevel);
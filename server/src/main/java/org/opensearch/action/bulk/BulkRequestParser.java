@@ -32,6 +32,7 @@
 
 package org.opensearch.action.bulk;
 
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.index.IndexRequest;
@@ -39,6 +40,7 @@ import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.ParseField;
 import org.opensearch.core.common.bytes.BytesArray;
@@ -387,7 +389,7 @@ public final class BulkRequestParser {
         if (data instanceof BytesArray) {
             return parseBytesArray(xContent, (BytesArray) data, 0, data.length());
         } else {
-            return xContent.createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, data.streamInput());
+            return parseContiguousOrStream(xContent, data);
         }
     }
 
@@ -402,12 +404,27 @@ public final class BulkRequestParser {
             if (slice instanceof BytesArray) {
                 return parseBytesArray(xContent, (BytesArray) slice, 0, length);
             } else {
-                // EMPTY is safe here because we never call namedObject
-                return xContent.createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, slice.streamInput());
+                return parseContiguousOrStream(xContent, slice);
             }
         }
     }
 
+    // Parses slices of pooled network buffers or pages directly from their backing array when they don't span several of them
+    private static XContentParser parseContiguousOrStream(XContent xContent, BytesReference bytes) throws IOException {
+        final BytesRef contiguous = XContentHelper.contiguousBytes(bytes);
+        // EMPTY is safe here because we never call namedObject
+        if (contiguous != null) {
+            return xContent.createParser(
+                NamedXContentRegistry.EMPTY,
+                LoggingDeprecationHandler.INSTANCE,
+                contiguous.bytes,
+                contiguous.offset,
+                contiguous.length
+            );
+        }
+        return xContent.createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, bytes.streamInput());
+    }
+
     private static XContentParser parseBytesArray(XContent xContent, BytesArray array, int from, int nextMarker) throws IOException {
         final int offset = array.offset();
         // EMPTY is safe here because we never call namedObject
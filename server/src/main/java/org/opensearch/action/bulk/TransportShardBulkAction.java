@@ -133,13 +133,16 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
     public static final String ACTION_NAME = BulkAction.NAME + "[s]";
 
     private static final Logger logger = LogManager.getLogger(TransportShardBulkAction.class);
-    private static final Function<IndexShard, String> EXECUTOR_NAME_FUNCTION = shard -> {
-        if (shard.indexSettings().getIndexMetadata().isSystem()) {
-            return Names.SYSTEM_WRITE;
-        } else {
-            return Names.WRITE;
-        }
-    };
+
+    private static Function<IndexShard, String> executorNameFunction(ThreadPool threadPool) {
+        return shard -> {
+            if (shard.indexSettings().getIndexMetadata().isSystem()) {
+                return Names.SYSTEM_WRITE;
+            } else {
+                return threadPool.writeExecutorName(shard.shardId());
+            }
+        };
+    }
 
     private final UpdateHelper updateHelper;
     private final MappingUpdatedAction mappingUpdatedAction;
@@ -183,7 +186,7 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
             actionFilters,
             BulkShardRequest::new,
             BulkShardRequest::new,
-            EXECUTOR_NAME_FUNCTION,
+            executorNameFunction(threadPool),
             false,
             indexingPressureService,
             systemIndices,
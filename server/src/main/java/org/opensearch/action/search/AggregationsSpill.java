@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.Version;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.io.Channels;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.DelayableWriteable;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.query.QuerySearchResult;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Holds the aggregations of shard results that are waiting to be reduced in a temporary file rather than on heap, so that
+ * the coordinating node doesn't need to keep the results of all the shards it has not reduced yet in memory. The aggregations
+ * are written in their serialized form and are read back one shard result at a time when they are reduced. The file is
+ * only created once the first result is spilled and is deleted when the spill is closed.
+ *
+ * @opensearch.internal
+ */
+final class AggregationsSpill implements Releasable {
+    private static final Logger logger = LogManager.getLogger(AggregationsSpill.class);
+
+    private final Path directory;
+    private final NamedWriteableRegistry namedWriteableRegistry;
+    private final Map<QuerySearchResult, Entry> entries = new IdentityHashMap<>();
+
+    private Path file;
+    private FileChannel channel;
+    private long position;
+    private boolean closed;
+
+    AggregationsSpill(Path directory, NamedWriteableRegistry namedWriteableRegistry) {
+        this.directory = directory;
+        this.namedWriteableRegistry = namedWriteableRegistry;
+    }
+
+    /**
+     * Consumes the aggregations of the given result and writes them to the spill file. Each result is written to its own
+     * range of the file, so that the results of several shards may be spilled concurrently.
+     *
+     * @return the number of bytes written
+     */
+    long spill(QuerySearchResult result) throws IOException {
+        final DelayableWriteable<InternalAggregations> aggs = result.consumeAggs();
+        final byte[] bytes;
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(Version.CURRENT);
+            aggs.writeTo(out);
+            bytes = BytesReference.toBytes(out.bytes());
+        }
+        final FileChannel channel;
+        final long position;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("aggregations spill is already closed");
+            }
+            if (this.channel == null) {
+                file = directory.resolve("search-reduce-" + UUIDs.randomBase64UUID() + ".spill");
+                this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+            channel = this.channel;
+            position = this.position;
+            this.position += bytes.length;
+        }
+        Channels.writeToChannel(bytes, channel, position);
+        synchronized (this) {
+            entries.put(result, new Entry(position, bytes.length));
+        }
+        return bytes.length;
+    }
+
+    /**
+     * Reads back the aggregations of the given result if they were spilled, or returns {@code null} otherwise.
+     */
+    InternalAggregations read(QuerySearchResult result) throws IOException {
+        final Entry entry;
+        final FileChannel channel;
+        synchronized (this) {
+            entry = entries.remove(result);
+            channel = this.channel;
+        }
+        if (entry == null) {
+            return null;
+        }
+        final byte[] bytes = Channels.readFromFileChannel(channel, entry.position, entry.length);
+        try (StreamInput in = new NamedWriteableAwareStreamInput(new BytesArray(bytes).streamInput(), namedWriteableRegistry)) {
+            in.setVersion(Version.CURRENT);
+            return DelayableWriteable.delayed(InternalAggregations::readFrom, in).expand();
+        }
+    }
+
+    /**
+     * Returns the number of bytes written to the spill file so far.
+     */
+    synchronized long spilledBytes() {
+        return position;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        entries.clear();
+        if (channel != null) {
+            IOUtils.closeWhileHandlingException(channel);
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                // the file lives in the node's temporary directory, which is cleaned up on restart
+                logger.debug(() -> new ParameterizedMessage("failed to delete aggregations spill file [{}]", file), e);
+            }
+        }
+    }
+
+    private record Entry(long position, int length) {
+    }
+}
@@ -50,6 +50,8 @@ import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.query.QuerySearchResult;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -68,6 +70,9 @@ import java.util.function.Consumer;
  * in the {@link CircuitBreaker#REQUEST} circuit breaker. Before any partial or final reduce, the memory
  * needed to reduce the aggregations is estimated and a {@link CircuitBreakingException} is handled if it
  * exceeds the maximum memory allowed in this breaker.
+ * When a memory budget is set, a partial reduce is started as soon as the buffered aggregations reach half of the
+ * budget, and the aggregations of shard results that would push the unreduced aggregations over the budget are
+ * spilled to disk until they are reduced, instead of being held on heap.
  *
  * @opensearch.internal
  */
@@ -85,6 +90,9 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
     private final boolean hasTopDocs;
     private final boolean hasAggs;
     private final boolean performFinalReduce;
+    // the maximum size of the aggregations waiting to be reduced to keep on heap, or 0 if unbounded
+    private final long memoryBudget;
+    private final AggregationsSpill spill;
 
     final PendingReduces pendingReduces;
     private final Consumer<Exception> cancelTaskOnFailure;
@@ -127,6 +135,39 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         int expectedResultSize,
         Consumer<Exception> cancelTaskOnFailure,
         BooleanSupplier isTaskCancelled
+    ) {
+        this(
+            request,
+            executor,
+            circuitBreaker,
+            controller,
+            progressListener,
+            namedWriteableRegistry,
+            expectedResultSize,
+            cancelTaskOnFailure,
+            isTaskCancelled,
+            0L,
+            null
+        );
+    }
+
+    /**
+     * Creates a {@link QueryPhaseResultConsumer} that incrementally reduces aggregation results as shard results are
+     * consumed, keeping at most {@code memoryBudget} bytes of aggregations waiting to be reduced on heap and spilling
+     * the rest to {@code spillDirectory}.
+     */
+    public QueryPhaseResultConsumer(
+        SearchRequest request,
+        Executor executor,
+        CircuitBreaker circuitBreaker,
+        SearchPhaseController controller,
+        SearchProgressListener progressListener,
+        NamedWriteableRegistry namedWriteableRegistry,
+        int expectedResultSize,
+        Consumer<Exception> cancelTaskOnFailure,
+        BooleanSupplier isTaskCancelled,
+        long memoryBudget,
+        Path spillDirectory
     ) {
         super(expectedResultSize);
         this.executor = executor;
@@ -145,6 +186,13 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         int batchReduceSize = getBatchReduceSize(request.getBatchedReduceSize(), expectedResultSize);
         this.pendingReduces = new PendingReduces(batchReduceSize, request.resolveTrackTotalHitsUpTo());
         this.isTaskCancelled = isTaskCancelled;
+        if (hasAggs && memoryBudget > 0 && spillDirectory != null) {
+            this.memoryBudget = memoryBudget;
+            this.spill = new AggregationsSpill(spillDirectory, namedWriteableRegistry);
+        } else {
+            this.memoryBudget = 0L;
+            this.spill = null;
+        }
     }
 
     int getBatchReduceSize(int requestBatchedReduceSize, int minBatchReduceSize) {
@@ -153,7 +201,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
 
     @Override
     public void close() {
-        Releasables.close(pendingReduces);
+        Releasables.close(pendingReduces, spill);
     }
 
     @Override
@@ -178,6 +226,10 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         pendingReduces.sortBuffer();
         final SearchPhaseController.TopDocsStats topDocsStats = pendingReduces.consumeTopDocsStats();
         final List<TopDocs> topDocsList = pendingReduces.consumeTopDocs();
+        if (hasAggs) {
+            // Account for the aggregations that are read back from disk for the final reduce
+            pendingReduces.addEstimateAndMaybeBreak(pendingReduces.spilledBufferSize);
+        }
         final List<InternalAggregations> aggsList = pendingReduces.consumeAggs();
         long breakerSize = pendingReduces.circuitBreakerBytes;
         if (hasAggs) {
@@ -219,7 +271,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         SearchPhaseController.TopDocsStats topDocsStats,
         ReduceResult lastReduceResult,
         int numReducePhases
-    ) {
+    ) throws IOException {
         checkCancellation();
         if (pendingReduces.hasFailure()) {
             return lastReduceResult;
@@ -259,7 +311,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 aggsList.add(lastReduceResult.reducedAggs);
             }
             for (QuerySearchResult result : toConsume) {
-                aggsList.add(result.consumeAggs().expand());
+                aggsList.add(consumeAggs(result));
             }
             newAggs = InternalAggregations.topLevelReduce(aggsList, aggReduceContextBuilder.forPartialReduction());
         } else {
@@ -280,6 +332,16 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         return new ReduceResult(processedShards, newTopDocs, newAggs, hasAggs ? serializedSize : 0);
     }
 
+    private InternalAggregations consumeAggs(QuerySearchResult result) throws IOException {
+        if (spill != null) {
+            InternalAggregations spilled = spill.read(result);
+            if (spilled != null) {
+                return spilled;
+            }
+        }
+        return result.consumeAggs().expand();
+    }
+
     private void checkCancellation() {
         if (isTaskCancelled.getAsBoolean()) {
             pendingReduces.onFailure(new TaskCancelledException("request has been terminated"));
@@ -310,6 +372,10 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         // the memory that is currently used in the buffer
         private volatile long aggsCurrentBufferSize;
         private volatile long maxAggsCurrentBufferSize = 0;
+        // the size of the aggregations in the buffer that were spilled to disk rather than kept in memory
+        private volatile long spilledBufferSize;
+        // the size of the aggregations of queued or running reduce tasks that are held in memory
+        private long unreducedAggsSize;
 
         private final ArrayDeque<ReduceTask> queue = new ArrayDeque<>();
         private final AtomicReference<ReduceTask> runningTask = new AtomicReference<>(); // ensure only one task is running
@@ -404,51 +470,102 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         void consume(QuerySearchResult result, Runnable callback) {
             checkCancellation();
 
-            if (consumeResult(result, callback)) {
+            final Admission admission = admitResult(result);
+            if (admission == Admission.DONE) {
+                callback.run();
+                return;
+            }
+            long spilledSize = 0;
+            if (admission == Admission.SPILL) {
+                // The aggregations are written outside of the lock, so that the other shard results are consumed meanwhile
+                try {
+                    spilledSize = spill.spill(result);
+                } catch (Exception e) {
+                    // the spill is closed once the consumer is, which may happen concurrently with a failure of the search
+                    onFailure(e);
+                    result.consumeAll(); // release memory
+                    callback.run();
+                    return;
+                }
+            }
+            if (consumeResult(result, spilledSize, callback)) {
                 callback.run();
             }
         }
 
-        private synchronized boolean consumeResult(QuerySearchResult result, Runnable callback) {
+        /**
+         * Accounts for the aggregations of the given result, and decides whether they are kept on heap or spilled to disk.
+         */
+        private synchronized Admission admitResult(QuerySearchResult result) {
             if (hasFailure()) {
                 result.consumeAll(); // release memory
-                return true;
+                return Admission.DONE;
             }
             if (result.isNull()) {
                 SearchShardTarget target = result.getSearchShardTarget();
                 emptyResults.add(new SearchShard(target.getClusterAlias(), target.getShardId()));
-                return true;
+                return Admission.DONE;
             }
             // Check circuit breaker before consuming
             if (hasAggs) {
                 long aggsSize = ramBytesUsedQueryResult(result);
+                if (spill != null && unreducedAggsSize + aggsCurrentBufferSize + aggsSize > memoryBudget) {
+                    // Keep the aggregations on disk until they are reduced rather than going over the memory budget
+                    return Admission.SPILL;
+                }
                 try {
                     addEstimateAndMaybeBreak(aggsSize);
                     aggsCurrentBufferSize += aggsSize;
                 } catch (CircuitBreakingException e) {
                     onFailure(e);
-                    return true;
+                    return Admission.DONE;
                 }
             }
+            return Admission.BUFFER;
+        }
+
+        private synchronized boolean consumeResult(QuerySearchResult result, long spilledSize, Runnable callback) {
+            if (hasFailure()) {
+                result.consumeAll(); // release memory
+                return true;
+            }
             // Process non-empty results
             int size = buffer.size() + (hasPartialReduce ? 1 : 0);
-            if (size >= batchReduceSize) {
+            if (size >= batchReduceSize || exceedsMemoryBudget()) {
                 hasPartialReduce = true;
                 // the callback must wait for the new reduce task to complete to maintain proper result processing order
                 QuerySearchResult[] clone = buffer.toArray(QuerySearchResult[]::new);
-                ReduceTask task = new ReduceTask(clone, aggsCurrentBufferSize, new ArrayList<>(emptyResults), callback);
+                ReduceTask task = new ReduceTask(
+                    clone,
+                    aggsCurrentBufferSize,
+                    spilledBufferSize,
+                    new ArrayList<>(emptyResults),
+                    callback
+                );
+                unreducedAggsSize += aggsCurrentBufferSize;
                 aggsCurrentBufferSize = 0;
+                spilledBufferSize = 0;
                 buffer.clear();
                 emptyResults.clear();
                 queue.add(task);
                 tryExecuteNext();
+                spilledBufferSize += spilledSize;
                 buffer.add(result);
                 return false; // callback will be run by reduce task
             }
+            spilledBufferSize += spilledSize;
             buffer.add(result);
             return true;
         }
 
+        /**
+         * Whether the buffered aggregations are large enough to be reduced before the batch is full, so that the
+         * aggregations expanded by a single partial reduce stay within half of the memory budget.
+         */
+        private boolean exceedsMemoryBudget() {
+            return spill != null && buffer.isEmpty() == false && aggsCurrentBufferSize + spilledBufferSize >= memoryBudget / 2;
+        }
+
         private void tryExecuteNext() {
             final ReduceTask task;
             synchronized (this) {
@@ -474,6 +591,11 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                             onAfterReduce(task, null, 0);
                             return;
                         }
+                        if (task.spilledBufferSize > 0) {
+                            // Account for the aggregations that are read back from disk for this reduce
+                            addEstimateAndMaybeBreak(task.spilledBufferSize);
+                            estimatedTotalSize += task.spilledBufferSize;
+                        }
                         long estimateRamBytesUsedForReduce = estimateRamBytesUsedForReduce(estimatedTotalSize);
                         addEstimateAndMaybeBreak(estimateRamBytesUsedForReduce);
                         estimatedTotalSize += estimateRamBytesUsedForReduce;
@@ -494,6 +616,9 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         }
 
         private void onAfterReduce(ReduceTask task, ReduceResult newResult, long estimatedSize) {
+            synchronized (this) {
+                unreducedAggsSize = Math.max(0L, unreducedAggsSize - task.aggsBufferSize);
+            }
             if (newResult != null) {
                 synchronized (this) {
                     if (hasFailure()) {
@@ -542,6 +667,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             toCancels.addAll(queue);
             queue.clear();
             reduceResult = null;
+            unreducedAggsSize = 0;
             for (ReduceTask toCancel : toCancels) {
                 toCancel.cancel();
             }
@@ -570,7 +696,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             return topDocsList;
         }
 
-        private synchronized List<InternalAggregations> consumeAggs() {
+        private synchronized List<InternalAggregations> consumeAggs() throws IOException {
             if (hasAggs == false) {
                 return Collections.emptyList();
             }
@@ -579,12 +705,24 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 aggsList.add(reduceResult.reducedAggs);
             }
             for (QuerySearchResult result : buffer) {
-                aggsList.add(result.consumeAggs().expand());
+                aggsList.add(QueryPhaseResultConsumer.this.consumeAggs(result));
             }
             return aggsList;
         }
     }
 
+    /**
+     * What becomes of a shard result once it is consumed
+     */
+    private enum Admission {
+        /** the result holds nothing to reduce, or the request failed */
+        DONE,
+        /** the result is buffered on heap */
+        BUFFER,
+        /** the aggregations of the result are spilled to disk before it is buffered */
+        SPILL
+    }
+
     /**
      * Immutable container holding the outcome of a partial reduce operation
      *
@@ -603,11 +741,19 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         private final List<SearchShard> emptyResults;
         private QuerySearchResult[] buffer;
         private final long aggsBufferSize;
+        private final long spilledBufferSize;
         private Runnable next;
 
-        private ReduceTask(QuerySearchResult[] buffer, long aggsBufferSize, List<SearchShard> emptyResults, Runnable next) {
+        private ReduceTask(
+            QuerySearchResult[] buffer,
+            long aggsBufferSize,
+            long spilledBufferSize,
+            List<SearchShard> emptyResults,
+            Runnable next
+        ) {
             this.buffer = buffer;
             this.aggsBufferSize = aggsBufferSize;
+            this.spilledBufferSize = spilledBufferSize;
             this.emptyResults = emptyResults;
             this.next = next;
         }
@@ -46,6 +46,9 @@ import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.TotalHits.Relation;
 import org.apache.lucene.search.grouping.CollapseTopFieldDocs;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.index.fielddata.IndexFieldData;
@@ -71,6 +74,7 @@ import org.opensearch.search.suggest.Suggest;
 import org.opensearch.search.suggest.Suggest.Suggestion;
 import org.opensearch.search.suggest.completion.CompletionSuggestion;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -92,8 +96,22 @@ import java.util.stream.Collectors;
 public final class SearchPhaseController {
     private static final ScoreDoc[] EMPTY_DOCS = new ScoreDoc[0];
 
+    /**
+     * The maximum size of the shard aggregations waiting to be reduced that a search request keeps in memory on the
+     * coordinating node. Aggregations over this budget are spilled to disk until they are reduced, and partial reduces
+     * are started early to keep their inputs within half of the budget. A value of 0 disables the budget.
+     */
+    public static final Setting<ByteSizeValue> REDUCE_MEMORY_BUDGET_SETTING = Setting.memorySizeSetting(
+        "search.aggregations.reduce.memory_budget",
+        "0b",
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     private final NamedWriteableRegistry namedWriteableRegistry;
     private final Function<SearchSourceBuilder, InternalAggregation.ReduceContextBuilder> requestToAggReduceContextBuilder;
+    private final Path spillDirectory;
+    private volatile long reduceMemoryBudget;
 
     public SearchPhaseController(
         NamedWriteableRegistry namedWriteableRegistry,
@@ -101,6 +119,25 @@ public final class SearchPhaseController {
     ) {
         this.namedWriteableRegistry = namedWriteableRegistry;
         this.requestToAggReduceContextBuilder = requestToAggReduceContextBuilder;
+        this.spillDirectory = null;
+        this.reduceMemoryBudget = 0L;
+    }
+
+    public SearchPhaseController(
+        NamedWriteableRegistry namedWriteableRegistry,
+        Function<SearchSourceBuilder, InternalAggregation.ReduceContextBuilder> requestToAggReduceContextBuilder,
+        ClusterSettings clusterSettings,
+        Path spillDirectory
+    ) {
+        this.namedWriteableRegistry = namedWriteableRegistry;
+        this.requestToAggReduceContextBuilder = requestToAggReduceContextBuilder;
+        this.spillDirectory = spillDirectory;
+        clusterSettings.addSettingsUpdateConsumer(REDUCE_MEMORY_BUDGET_SETTING, this::setReduceMemoryBudget);
+        setReduceMemoryBudget(clusterSettings.get(REDUCE_MEMORY_BUDGET_SETTING));
+    }
+
+    private void setReduceMemoryBudget(ByteSizeValue reduceMemoryBudget) {
+        this.reduceMemoryBudget = reduceMemoryBudget.getBytes();
     }
 
     public AggregatedDfs aggregateDfs(Collection<DfsSearchResult> results) {
@@ -804,7 +841,9 @@ public final class SearchPhaseController {
             namedWriteableRegistry,
             numShards,
             onPartialMergeFailure,
-            isTaskCancelled
+            isTaskCancelled,
+            reduceMemoryBudget,
+            spillDirectory
         );
     }
 
@@ -53,6 +53,8 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.common.io.stream.BufferedChecksumStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -894,6 +896,47 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         Setting.Property.Final
     );
 
+    /**
+     * Defines the number of stream partitions that are consumed by each shard. Shard {@code s} of an index with {@code n} shards
+     * consumes the partitions {@code s}, {@code s + n}, {@code s + 2n} and so on, each with its own poller and processor threads,
+     * and the pointer of each partition is committed independently.
+     */
+    public static final String SETTING_INGESTION_SOURCE_PARTITIONS_PER_SHARD = "index.ingestion_source.partitions_per_shard";
+    public static final Setting<Integer> INGESTION_SOURCE_PARTITIONS_PER_SHARD_SETTING = Setting.intSetting(
+        SETTING_INGESTION_SOURCE_PARTITIONS_PER_SHARD,
+        1,
+        1,
+        Setting.Property.IndexScope,
+        Setting.Property.Final
+    );
+
+    /**
+     * Defines the maximum number of messages a processor thread writes to the lucene index as a single batch. The messages of
+     * a batch are all parsed before any of them is written. Defaults to 1, which writes each message on its own.
+     */
+    public static final String SETTING_INGESTION_SOURCE_MAX_BATCH_SIZE = "index.ingestion_source.max_batch_size";
+    public static final Setting<Integer> INGESTION_SOURCE_MAX_BATCH_SIZE_SETTING = Setting.intSetting(
+        SETTING_INGESTION_SOURCE_MAX_BATCH_SIZE,
+        1,
+        1,
+        10000,
+        Property.IndexScope,
+        Property.Final
+    );
+
+    /**
+     * Defines the maximum total payload size of the messages of a batch, see {@link #INGESTION_SOURCE_MAX_BATCH_SIZE_SETTING}.
+     */
+    public static final String SETTING_INGESTION_SOURCE_MAX_BATCH_SIZE_IN_BYTES = "index.ingestion_source.max_batch_size_in_bytes";
+    public static final Setting<ByteSizeValue> INGESTION_SOURCE_MAX_BATCH_SIZE_IN_BYTES_SETTING = Setting.byteSizeSetting(
+        SETTING_INGESTION_SOURCE_MAX_BATCH_SIZE_IN_BYTES,
+        new ByteSizeValue(5, ByteSizeUnit.MB),
+        new ByteSizeValue(1, ByteSizeUnit.BYTES),
+        new ByteSizeValue(Integer.MAX_VALUE, ByteSizeUnit.BYTES),
+        Property.IndexScope,
+        Property.Final
+    );
+
     /**
      * Defines the internal blocking queue size that is used to decouple poller and processor in pull-based ingestion.
      */
@@ -1239,6 +1282,9 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
             final boolean allActiveIngestionEnabled = INGESTION_SOURCE_ALL_ACTIVE_INGESTION_SETTING.get(settings);
             final TimeValue pointerBasedLagUpdateInterval = INGESTION_SOURCE_POINTER_BASED_LAG_UPDATE_INTERVAL_SETTING.get(settings);
             final IngestionMessageMapper.MapperType mapperType = INGESTION_SOURCE_MAPPER_TYPE_SETTING.get(settings);
+            final int partitionsPerShard = INGESTION_SOURCE_PARTITIONS_PER_SHARD_SETTING.get(settings);
+            final int maxBatchSize = INGESTION_SOURCE_MAX_BATCH_SIZE_SETTING.get(settings);
+            final ByteSizeValue maxBatchSizeInBytes = INGESTION_SOURCE_MAX_BATCH_SIZE_IN_BYTES_SETTING.get(settings);
 
             return new IngestionSource.Builder(ingestionSourceType).setParams(ingestionSourceParams)
                 .setPointerInitReset(pointerInitReset)
@@ -1250,6 +1296,9 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
                 .setAllActiveIngestion(allActiveIngestionEnabled)
                 .setPointerBasedLagUpdateInterval(pointerBasedLagUpdateInterval)
                 .setMapperType(mapperType)
+                .setPartitionsPerShard(partitionsPerShard)
+                .setMaxBatchSize(maxBatchSize)
+                .setMaxBatchSizeInBytes(maxBatchSizeInBytes)
                 .build();
         }
         return null;
@@ -11,6 +11,7 @@ package org.opensearch.cluster.metadata;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.indices.pollingingest.IngestionErrorStrategy;
 import org.opensearch.indices.pollingingest.StreamPoller;
 import org.opensearch.indices.pollingingest.mappers.IngestionMessageMapper;
@@ -22,8 +23,11 @@ import java.util.Objects;
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_ALL_ACTIVE_INGESTION_SETTING;
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_INTERNAL_QUEUE_SIZE_SETTING;
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_MAPPER_TYPE_SETTING;
+import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_MAX_BATCH_SIZE_IN_BYTES_SETTING;
+import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_MAX_BATCH_SIZE_SETTING;
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_MAX_POLL_SIZE;
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_NUM_PROCESSOR_THREADS_SETTING;
+import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_PARTITIONS_PER_SHARD_SETTING;
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_POINTER_BASED_LAG_UPDATE_INTERVAL_SETTING;
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_POLL_TIMEOUT;
 
@@ -43,6 +47,9 @@ public class IngestionSource {
     private final boolean allActiveIngestion;
     private final TimeValue pointerBasedLagUpdateInterval;
     private final IngestionMessageMapper.MapperType mapperType;
+    private final int partitionsPerShard;
+    private final int maxBatchSize;
+    private final ByteSizeValue maxBatchSizeInBytes;
 
     private IngestionSource(
         String type,
@@ -55,7 +62,10 @@ public class IngestionSource {
         int blockingQueueSize,
         boolean allActiveIngestion,
         TimeValue pointerBasedLagUpdateInterval,
-        IngestionMessageMapper.MapperType mapperType
+        IngestionMessageMapper.MapperType mapperType,
+        int partitionsPerShard,
+        int maxBatchSize,
+        ByteSizeValue maxBatchSizeInBytes
     ) {
         this.type = type;
         this.pointerInitReset = pointerInitReset;
@@ -68,6 +78,9 @@ public class IngestionSource {
         this.allActiveIngestion = allActiveIngestion;
         this.pointerBasedLagUpdateInterval = pointerBasedLagUpdateInterval;
         this.mapperType = mapperType;
+        this.partitionsPerShard = partitionsPerShard;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchSizeInBytes = maxBatchSizeInBytes;
     }
 
     public String getType() {
@@ -114,6 +127,18 @@ public class IngestionSource {
         return mapperType;
     }
 
+    public int getPartitionsPerShard() {
+        return partitionsPerShard;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public ByteSizeValue getMaxBatchSizeInBytes() {
+        return maxBatchSizeInBytes;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -129,7 +154,10 @@ public class IngestionSource {
             && Objects.equals(blockingQueueSize, ingestionSource.blockingQueueSize)
             && Objects.equals(allActiveIngestion, ingestionSource.allActiveIngestion)
             && Objects.equals(pointerBasedLagUpdateInterval, ingestionSource.pointerBasedLagUpdateInterval)
-            && Objects.equals(mapperType, ingestionSource.mapperType);
+            && Objects.equals(mapperType, ingestionSource.mapperType)
+            && Objects.equals(partitionsPerShard, ingestionSource.partitionsPerShard)
+            && Objects.equals(maxBatchSize, ingestionSource.maxBatchSize)
+            && Objects.equals(maxBatchSizeInBytes, ingestionSource.maxBatchSizeInBytes);
     }
 
     @Override
@@ -145,7 +173,10 @@ public class IngestionSource {
             blockingQueueSize,
             allActiveIngestion,
             pointerBasedLagUpdateInterval,
-            mapperType
+            mapperType,
+            partitionsPerShard,
+            maxBatchSize,
+            maxBatchSizeInBytes
         );
     }
 
@@ -178,6 +209,12 @@ public class IngestionSource {
             + ", mapperType='"
             + mapperType
             + '\''
+            + ", partitionsPerShard="
+            + partitionsPerShard
+            + ", maxBatchSize="
+            + maxBatchSize
+            + ", maxBatchSizeInBytes="
+            + maxBatchSizeInBytes
             + '}';
     }
 
@@ -240,6 +277,9 @@ public class IngestionSource {
             Settings.EMPTY
         );
         private IngestionMessageMapper.MapperType mapperType = INGESTION_SOURCE_MAPPER_TYPE_SETTING.getDefault(Settings.EMPTY);
+        private int partitionsPerShard = INGESTION_SOURCE_PARTITIONS_PER_SHARD_SETTING.getDefault(Settings.EMPTY);
+        private int maxBatchSize = INGESTION_SOURCE_MAX_BATCH_SIZE_SETTING.getDefault(Settings.EMPTY);
+        private ByteSizeValue maxBatchSizeInBytes = INGESTION_SOURCE_MAX_BATCH_SIZE_IN_BYTES_SETTING.getDefault(Settings.EMPTY);
 
         public Builder(String type) {
             this.type = type;
@@ -255,6 +295,9 @@ public class IngestionSource {
             this.allActiveIngestion = ingestionSource.allActiveIngestion;
             this.pointerBasedLagUpdateInterval = ingestionSource.pointerBasedLagUpdateInterval;
             this.mapperType = ingestionSource.mapperType;
+            this.partitionsPerShard = ingestionSource.partitionsPerShard;
+            this.maxBatchSize = ingestionSource.maxBatchSize;
+            this.maxBatchSizeInBytes = ingestionSource.maxBatchSizeInBytes;
         }
 
         public Builder setPointerInitReset(PointerInitReset pointerInitReset) {
@@ -312,6 +355,21 @@ public class IngestionSource {
             return this;
         }
 
+        public Builder setPartitionsPerShard(int partitionsPerShard) {
+            this.partitionsPerShard = partitionsPerShard;
+            return this;
+        }
+
+        public Builder setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        public Builder setMaxBatchSizeInBytes(ByteSizeValue maxBatchSizeInBytes) {
+            this.maxBatchSizeInBytes = maxBatchSizeInBytes;
+            return this;
+        }
+
         public IngestionSource build() {
             return new IngestionSource(
                 type,
@@ -324,7 +382,10 @@ public class IngestionSource {
                 blockingQueueSize,
                 allActiveIngestion,
                 pointerBasedLagUpdateInterval,
-                mapperType
+                mapperType,
+                partitionsPerShard,
+                maxBatchSize,
+                maxBatchSizeInBytes
             );
         }
 
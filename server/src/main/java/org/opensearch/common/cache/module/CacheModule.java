@@ -11,6 +11,7 @@ package org.opensearch.common.cache.module;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.common.cache.ICache;
 import org.opensearch.common.cache.service.CacheService;
+import org.opensearch.common.cache.store.OpenSearchOffHeapCache;
 import org.opensearch.common.cache.store.OpenSearchOnHeapCache;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.plugins.CachePlugin;
@@ -39,11 +40,15 @@ public class CacheModule {
 
     private static Map<String, ICache.Factory> getCacheStoreTypeFactories(List<CachePlugin> cachePlugins) {
         Map<String, ICache.Factory> cacheStoreTypeFactories = new HashMap<>();
-        // Add the core OpenSearchOnHeapCache as well.
+        // Add the core OpenSearchOnHeapCache and OpenSearchOffHeapCache as well.
         cacheStoreTypeFactories.put(
             OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory.NAME,
             new OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory()
         );
+        cacheStoreTypeFactories.put(
+            OpenSearchOffHeapCache.OpenSearchOffHeapCacheFactory.NAME,
+            new OpenSearchOffHeapCache.OpenSearchOffHeapCacheFactory()
+        );
         for (CachePlugin cachePlugin : cachePlugins) {
             Map<String, ICache.Factory> factoryMap = cachePlugin.getCacheFactoryMap();
             for (Map.Entry<String, ICache.Factory> entry : factoryMap.entrySet()) {
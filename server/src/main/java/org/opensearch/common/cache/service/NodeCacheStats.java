@@ -8,6 +8,7 @@
 
 package org.opensearch.common.cache.service;
 
+import org.opensearch.Version;
 import org.opensearch.action.admin.cluster.node.stats.NodesStatsRequest;
 import org.opensearch.action.admin.indices.stats.CommonStatsFlags;
 import org.opensearch.common.annotation.ExperimentalApi;
@@ -21,7 +22,9 @@ import org.opensearch.core.xcontent.XContentBuilder;
 
 import java.io.IOException;
 import java.util.Objects;
+import java.util.Set;
 import java.util.SortedMap;
+import java.util.TreeMap;
 
 /**
  * A class creating XContent responses to cache stats API requests.
@@ -47,7 +50,13 @@ public class NodeCacheStats implements ToXContentFragment, Writeable {
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         flags.writeTo(out);
-        out.writeMap(statsByCache, StreamOutput::writeEnum, (o, immutableCacheStatsHolder) -> immutableCacheStatsHolder.writeTo(o));
+        SortedMap<CacheType, ImmutableCacheStatsHolder> stats = statsByCache;
+        if (out.getVersion().before(Version.V_3_4_0)) {
+            // older nodes only know about the request cache
+            stats = new TreeMap<>(statsByCache);
+            stats.keySet().retainAll(Set.of(CacheType.INDICES_REQUEST_CACHE));
+        }
+        out.writeMap(stats, StreamOutput::writeEnum, (o, immutableCacheStatsHolder) -> immutableCacheStatsHolder.writeTo(o));
     }
 
     @Override
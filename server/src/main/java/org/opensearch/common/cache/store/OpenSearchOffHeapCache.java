@@ -0,0 +1,680 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache.store;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.LoadAwareCacheLoader;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.serializer.Serializer;
+import org.opensearch.common.cache.stats.CacheStatsHolder;
+import org.opensearch.common.cache.stats.DefaultCacheStatsHolder;
+import org.opensearch.common.cache.stats.ImmutableCacheStatsHolder;
+import org.opensearch.common.cache.stats.NoopCacheStatsHolder;
+import org.opensearch.common.cache.store.builders.ICacheBuilder;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.cache.store.settings.OpenSearchOffHeapCacheSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ReleasableLock;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.monitor.jvm.JvmInfo;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToLongBiFunction;
+
+import static org.opensearch.common.cache.store.settings.OpenSearchOffHeapCacheSettings.MAXIMUM_SIZE_IN_BYTES_KEY;
+import static org.opensearch.common.cache.store.settings.OpenSearchOffHeapCacheSettings.SEGMENT_COUNT_KEY;
+
+/**
+ * A cache which keeps its keys on heap, but its values serialized in off-heap memory, so that large caches don't add
+ * to the old generation of the heap.
+ * <p>
+ * The cache is split into segments, each with its own lock and its own share of the maximum size. Each segment carves
+ * small fixed size blocks out of page aligned direct memory slabs, which are allocated lazily and only dropped when the
+ * cache is closed; the blocks of removed values, including the ones of {@link #invalidateAll()}, are recycled for new
+ * values instead. A value is stored in as many blocks as its serialized form needs, which don't have to be contiguous.
+ * <p>
+ * Direct memory is limited by {@code -XX:MaxDirectMemorySize} and shared with the network layer, so a cache whose slabs
+ * could take more than {@link #MAX_DIRECT_MEMORY_RATIO} of it can't be created.
+ * <p>
+ * Eviction follows the clock algorithm: reads mark entries as referenced, and the clock hand gives referenced entries a
+ * second chance while evicting the others, until both the weight of the new entry, as computed by the weigher, and its
+ * blocks fit in the segment. Values bigger than a segment are not cached.
+ *
+ * @param <K> Type of key.
+ * @param <V> Type of value.
+ *
+ * @opensearch.experimental
+ */
+public class OpenSearchOffHeapCache<K, V> implements ICache<K, V> {
+
+    /**
+     * Size of the blocks values are stored in. Blocks are smaller than memory pages as most cached values are small.
+     */
+    static final int BLOCK_SIZE_IN_BYTES = 512;
+
+    /**
+     * Number of blocks of the direct memory slabs which are allocated at once, so that slabs are 1mb.
+     */
+    static final int BLOCKS_PER_SLAB = 2048;
+
+    /**
+     * Alignment of the slabs, which is the usual size of a memory page.
+     */
+    static final int SLAB_ALIGNMENT_IN_BYTES = 4096;
+
+    /**
+     * Share of the direct memory of the JVM that the slabs of a cache may take, leaving the rest to the network layer.
+     */
+    static final double MAX_DIRECT_MEMORY_RATIO = 0.5;
+
+    private final Segment[] segments;
+    private final Serializer<V, byte[]> valueSerializer;
+    private final CacheStatsHolder cacheStatsHolder;
+    private final RemovalListener<ICacheKey<K>, V> removalListener;
+    private final ToLongBiFunction<ICacheKey<K>, V> weigher;
+    private final long maximumWeight;
+
+    /**
+     * Used in computeIfAbsent to make sure that concurrent requests for the same key only load its value once.
+     */
+    private final Map<ICacheKey<K>, CompletableFuture<V>> loadingFutures = new ConcurrentHashMap<>();
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public OpenSearchOffHeapCache(Builder<K, V> builder) {
+        this.maximumWeight = builder.getMaxWeightInBytes();
+        int numberOfSegments = builder.getNumberOfSegments() > 0 ? builder.getNumberOfSegments() : 1;
+        long segmentWeight = maximumWeight / numberOfSegments;
+        if (segmentWeight <= 0) {
+            throw new IllegalArgumentException("Per segment size for off-heap cache should be greater than 0");
+        }
+        this.segments = new OpenSearchOffHeapCache.Segment[numberOfSegments];
+        long directMemoryInBytes = 0;
+        for (int i = 0; i < numberOfSegments; i++) {
+            segments[i] = new Segment(segmentWeight);
+            directMemoryInBytes += segments[i].blocks.maxDirectMemoryInBytes();
+        }
+        ensureFitsInDirectMemory(directMemoryInBytes, JvmInfo.jvmInfo().getMem().getDirectMemoryMax().getBytes());
+        this.valueSerializer = Objects.requireNonNull(builder.valueSerializer, "Value serializer can't be null");
+        List<String> dimensionNames = Objects.requireNonNull(builder.dimensionNames, "Dimension names can't be null");
+        if (builder.getStatsTrackingEnabled()) {
+            this.cacheStatsHolder = new DefaultCacheStatsHolder(dimensionNames, OpenSearchOffHeapCacheFactory.NAME);
+        } else {
+            this.cacheStatsHolder = NoopCacheStatsHolder.getInstance();
+        }
+        this.removalListener = Objects.requireNonNull(builder.getRemovalListener(), "Removal listener can't be null");
+        this.weigher = Objects.requireNonNull(builder.getWeigher(), "Weigher can't be null");
+    }
+
+    // pkg-private for testing
+    long getMaximumWeight() {
+        return this.maximumWeight;
+    }
+
+    // pkg-private for testing
+    int getNumberOfSegments() {
+        return segments.length;
+    }
+
+    // pkg-private for testing
+    long getAllocatedBytes() {
+        long allocatedBytes = 0;
+        for (Segment segment : segments) {
+            try (ReleasableLock ignored = segment.readLock.acquire()) {
+                allocatedBytes += (long) segment.blocks.allocatedBlocks * BLOCK_SIZE_IN_BYTES;
+            }
+        }
+        return allocatedBytes;
+    }
+
+    @Override
+    public V get(ICacheKey<K> key) {
+        V value = getWithoutStats(key);
+        if (value != null) {
+            cacheStatsHolder.incrementHits(key.dimensions);
+        } else {
+            cacheStatsHolder.incrementMisses(key.dimensions);
+        }
+        return value;
+    }
+
+    private V getWithoutStats(ICacheKey<K> key) {
+        byte[] bytes = segmentFor(key).get(key);
+        return bytes == null ? null : valueSerializer.deserialize(bytes);
+    }
+
+    @Override
+    public void put(ICacheKey<K> key, V value) {
+        byte[] bytes = valueSerializer.serialize(value);
+        long weight = weigher.applyAsLong(key, value);
+        List<RemovedEntry<K>> removed = new ArrayList<>();
+        boolean stored = segmentFor(key).put(key, bytes, weight, removed);
+        if (stored) {
+            cacheStatsHolder.incrementItems(key.dimensions);
+            cacheStatsHolder.incrementSizeInBytes(key.dimensions, weight);
+        }
+        notifyRemovals(removed);
+    }
+
+    @Override
+    public V computeIfAbsent(ICacheKey<K> key, LoadAwareCacheLoader<ICacheKey<K>, V> loader) throws Exception {
+        V value = getWithoutStats(key);
+        if (value == null) {
+            value = compute(key, loader);
+        }
+        if (!loader.isLoaded()) {
+            cacheStatsHolder.incrementHits(key.dimensions);
+        } else {
+            cacheStatsHolder.incrementMisses(key.dimensions);
+        }
+        return value;
+    }
+
+    private V compute(ICacheKey<K> key, LoadAwareCacheLoader<ICacheKey<K>, V> loader) throws Exception {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        // Only one of the threads will succeed putting a future into map for the same key, the others wait on it.
+        CompletableFuture<V> existingFuture = loadingFutures.putIfAbsent(key, future);
+        if (existingFuture != null) {
+            try {
+                return existingFuture.get();
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+        V value;
+        try {
+            value = loader.load(key);
+            if (value == null) {
+                throw new NullPointerException("loader returned a null value");
+            }
+            put(key, value);
+        } catch (Exception ex) {
+            loadingFutures.remove(key);
+            future.completeExceptionally(ex);
+            throw new ExecutionException(ex);
+        }
+        loadingFutures.remove(key);
+        future.complete(value);
+        return value;
+    }
+
+    @Override
+    public void invalidate(ICacheKey<K> key) {
+        if (key.getDropStatsForDimensions()) {
+            cacheStatsHolder.removeDimensions(key.dimensions);
+        }
+        if (key.key != null) {
+            RemovedEntry<K> removed = segmentFor(key).remove(key);
+            if (removed != null) {
+                notifyRemovals(List.of(removed));
+            }
+        }
+    }
+
+    /**
+     * Removes all entries. Their blocks are kept for new entries rather than returned to the JVM, which only happens on
+     * {@link #close()}, so the direct memory taken by the cache never shrinks while it is open.
+     */
+    @Override
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            notifyRemovals(segment.removeAll());
+        }
+        cacheStatsHolder.reset();
+    }
+
+    /**
+     * Provides an iteration over the keys present when this method is called. Removing a key through the iterator
+     * invalidates it.
+     */
+    @Override
+    public Iterable<ICacheKey<K>> keys() {
+        List<ICacheKey<K>> keys = new ArrayList<>();
+        for (Segment segment : segments) {
+            try (ReleasableLock ignored = segment.readLock.acquire()) {
+                keys.addAll(segment.entries.keySet());
+            }
+        }
+        return () -> new Iterator<>() {
+            private final Iterator<ICacheKey<K>> iterator = keys.iterator();
+            private ICacheKey<K> current;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public ICacheKey<K> next() {
+                current = iterator.next();
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                if (current == null) {
+                    throw new IllegalStateException("next() has not been called");
+                }
+                invalidate(current);
+                current = null;
+            }
+        };
+    }
+
+    @Override
+    public long count() {
+        long count = 0;
+        for (Segment segment : segments) {
+            try (ReleasableLock ignored = segment.readLock.acquire()) {
+                count += segment.entries.size();
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void refresh() {
+        // Entries don't expire, so there is nothing to refresh.
+    }
+
+    /**
+     * Drops all entries and the references to the direct memory slabs, so that they can be freed. No removal
+     * notifications are sent, as the cache is going away.
+     */
+    @Override
+    public void close() {
+        for (Segment segment : segments) {
+            segment.close();
+        }
+    }
+
+    @Override
+    public ImmutableCacheStatsHolder stats(String[] levels) {
+        return cacheStatsHolder.getImmutableCacheStatsHolder(levels);
+    }
+
+    private Segment segmentFor(ICacheKey<K> key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return segments[Math.floorMod(hash, segments.length)];
+    }
+
+    private void notifyRemovals(List<RemovedEntry<K>> removed) {
+        for (RemovedEntry<K> entry : removed) {
+            V value = valueSerializer.deserialize(entry.bytes);
+            removalListener.onRemoval(new RemovalNotification<>(entry.key, value, entry.reason));
+            cacheStatsHolder.decrementItems(entry.key.dimensions);
+            cacheStatsHolder.decrementSizeInBytes(entry.key.dimensions, entry.weight);
+            if (RemovalReason.EVICTED.equals(entry.reason)) {
+                cacheStatsHolder.incrementEvictions(entry.key.dimensions);
+            }
+        }
+    }
+
+    /**
+     * Fails if the slabs of a cache could take more than {@link #MAX_DIRECT_MEMORY_RATIO} of the direct memory of the
+     * JVM, rather than letting the cache and the network layer run out of direct memory once the cache fills up. The
+     * check is skipped if the direct memory limit of the JVM is unknown.
+     */
+    static void ensureFitsInDirectMemory(long directMemoryInBytes, long maxDirectMemoryInBytes) {
+        if (maxDirectMemoryInBytes > 0 && directMemoryInBytes > maxDirectMemoryInBytes * MAX_DIRECT_MEMORY_RATIO) {
+            throw new IllegalArgumentException(
+                "Off-heap cache needs up to ["
+                    + new ByteSizeValue(directMemoryInBytes)
+                    + "] of direct memory, which is more than "
+                    + (int) (MAX_DIRECT_MEMORY_RATIO * 100)
+                    + "% of the ["
+                    + new ByteSizeValue(maxDirectMemoryInBytes)
+                    + "] the JVM may allocate, see -XX:MaxDirectMemorySize"
+            );
+        }
+    }
+
+    /**
+     * Number of blocks needed to hold the given number of bytes.
+     */
+    static int blocksFor(int length) {
+        return (length + BLOCK_SIZE_IN_BYTES - 1) / BLOCK_SIZE_IN_BYTES;
+    }
+
+    /**
+     * An entry of the cache, whose value lives in the blocks of its segment.
+     */
+    private static final class Entry<K> {
+        final ICacheKey<K> key;
+        final int[] blocks;
+        final int length;
+        final long weight;
+        // Set on reads, cleared when the clock hand passes by
+        volatile boolean referenced;
+        // Set once the entry left the cache, so that the clock hand skips it
+        boolean removed;
+
+        Entry(ICacheKey<K> key, int[] blocks, int length, long weight) {
+            this.key = key;
+            this.blocks = blocks;
+            this.length = length;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * A serialized value which left the cache, and still has to be sent to the removal listener.
+     */
+    private static final class RemovedEntry<K> {
+        final ICacheKey<K> key;
+        final byte[] bytes;
+        final long weight;
+        final RemovalReason reason;
+
+        RemovedEntry(ICacheKey<K> key, byte[] bytes, long weight, RemovalReason reason) {
+            this.key = key;
+            this.bytes = bytes;
+            this.weight = weight;
+            this.reason = reason;
+        }
+    }
+
+    /**
+     * A segment of the cache. Lookups take the read lock, as they only flip the referenced bit of entries and read blocks,
+     * while all changes to the entries and blocks take the write lock.
+     */
+    private final class Segment {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final ReleasableLock readLock = new ReleasableLock(lock.readLock());
+        private final ReleasableLock writeLock = new ReleasableLock(lock.writeLock());
+        private final Map<ICacheKey<K>, Entry<K>> entries = new HashMap<>();
+        // The clock, with the hand at its head. Removed entries are skipped lazily.
+        private final ArrayDeque<Entry<K>> clock = new ArrayDeque<>();
+        private final BlockPool blocks;
+        private final long maximumWeight;
+        private long weight;
+
+        Segment(long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+            this.blocks = new BlockPool((int) Math.min(maximumWeight / BLOCK_SIZE_IN_BYTES, Integer.MAX_VALUE));
+        }
+
+        byte[] get(ICacheKey<K> key) {
+            try (ReleasableLock ignored = readLock.acquire()) {
+                Entry<K> entry = entries.get(key);
+                if (entry == null) {
+                    return null;
+                }
+                entry.referenced = true;
+                return read(entry);
+            }
+        }
+
+        boolean put(ICacheKey<K> key, byte[] bytes, long entryWeight, List<RemovedEntry<K>> removed) {
+            int neededBlocks = blocksFor(bytes.length);
+            try (ReleasableLock ignored = writeLock.acquire()) {
+                Entry<K> previous = entries.remove(key);
+                if (previous != null) {
+                    removed.add(release(previous, RemovalReason.REPLACED));
+                }
+                if (entryWeight > maximumWeight || neededBlocks > blocks.maxBlocks) {
+                    // The value can never fit in this segment
+                    return false;
+                }
+                while (weight + entryWeight > maximumWeight || blocks.availableBlocks() < neededBlocks) {
+                    Entry<K> victim = nextVictim();
+                    assert victim != null : "segment is full but holds no entries";
+                    entries.remove(victim.key);
+                    removed.add(release(victim, RemovalReason.EVICTED));
+                }
+                int[] entryBlocks = new int[neededBlocks];
+                for (int i = 0; i < neededBlocks; i++) {
+                    int block = blocks.allocate();
+                    int offset = i * BLOCK_SIZE_IN_BYTES;
+                    blocks.write(block, bytes, offset, Math.min(BLOCK_SIZE_IN_BYTES, bytes.length - offset));
+                    entryBlocks[i] = block;
+                }
+                Entry<K> entry = new Entry<>(key, entryBlocks, bytes.length, entryWeight);
+                entries.put(key, entry);
+                clock.addLast(entry);
+                weight += entryWeight;
+                compactClock();
+                return true;
+            }
+        }
+
+        RemovedEntry<K> remove(ICacheKey<K> key) {
+            try (ReleasableLock ignored = writeLock.acquire()) {
+                Entry<K> entry = entries.remove(key);
+                if (entry == null) {
+                    return null;
+                }
+                RemovedEntry<K> removed = release(entry, RemovalReason.INVALIDATED);
+                compactClock();
+                return removed;
+            }
+        }
+
+        List<RemovedEntry<K>> removeAll() {
+            try (ReleasableLock ignored = writeLock.acquire()) {
+                List<RemovedEntry<K>> removed = new ArrayList<>(entries.size());
+                for (Entry<K> entry : entries.values()) {
+                    removed.add(release(entry, RemovalReason.INVALIDATED));
+                }
+                entries.clear();
+                clock.clear();
+                return removed;
+            }
+        }
+
+        void close() {
+            try (ReleasableLock ignored = writeLock.acquire()) {
+                entries.clear();
+                clock.clear();
+                weight = 0;
+                blocks.close();
+            }
+        }
+
+        /**
+         * Moves the clock hand until it finds an entry which was not referenced since the hand last passed by.
+         */
+        private Entry<K> nextVictim() {
+            Entry<K> candidate;
+            while ((candidate = clock.pollFirst()) != null) {
+                if (candidate.removed) {
+                    continue;
+                }
+                if (candidate.referenced) {
+                    candidate.referenced = false;
+                    clock.addLast(candidate);
+                    continue;
+                }
+                return candidate;
+            }
+            return null;
+        }
+
+        /**
+         * Drops removed entries from the clock once they make up most of it.
+         */
+        private void compactClock() {
+            if (clock.size() > 2 * entries.size() + 16) {
+                clock.removeIf(entry -> entry.removed);
+            }
+        }
+
+        /**
+         * Copies the value of the entry out of its blocks and returns the blocks to the pool.
+         */
+        private RemovedEntry<K> release(Entry<K> entry, RemovalReason reason) {
+            byte[] bytes = read(entry);
+            for (int block : entry.blocks) {
+                blocks.release(block);
+            }
+            entry.removed = true;
+            weight -= entry.weight;
+            return new RemovedEntry<>(entry.key, bytes, entry.weight, reason);
+        }
+
+        private byte[] read(Entry<K> entry) {
+            byte[] bytes = new byte[entry.length];
+            for (int i = 0; i < entry.blocks.length; i++) {
+                int offset = i * BLOCK_SIZE_IN_BYTES;
+                blocks.read(entry.blocks[i], bytes, offset, Math.min(BLOCK_SIZE_IN_BYTES, entry.length - offset));
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * Fixed size blocks carved out of page aligned direct memory slabs. Slabs are allocated when no free block is left, up
+     * to the maximum number of blocks, and released blocks are kept on a free list for reuse.
+     * Not thread-safe: writes and allocations must be guarded by the write lock of the segment, reads by its read lock.
+     */
+    static final class BlockPool {
+        private final int maxBlocks;
+        private final List<ByteBuffer> slabs = new ArrayList<>();
+        private int[] freeBlocks = new int[0];
+        private int freeBlockCount;
+        private int allocatedBlocks;
+
+        BlockPool(int maxBlocks) {
+            this.maxBlocks = maxBlocks;
+        }
+
+        int availableBlocks() {
+            return freeBlockCount + (maxBlocks - allocatedBlocks);
+        }
+
+        /**
+         * The direct memory taken by the slabs once all blocks are allocated, including their alignment padding.
+         */
+        long maxDirectMemoryInBytes() {
+            long slabCount = (maxBlocks + BLOCKS_PER_SLAB - 1) / BLOCKS_PER_SLAB;
+            return (long) maxBlocks * BLOCK_SIZE_IN_BYTES + slabCount * SLAB_ALIGNMENT_IN_BYTES;
+        }
+
+        int allocate() {
+            if (freeBlockCount > 0) {
+                return freeBlocks[--freeBlockCount];
+            }
+            if (allocatedBlocks == maxBlocks) {
+                throw new IllegalStateException("no block left in the pool");
+            }
+            if (allocatedBlocks % BLOCKS_PER_SLAB == 0) {
+                int slabBlocks = Math.min(BLOCKS_PER_SLAB, maxBlocks - allocatedBlocks);
+                ByteBuffer slab = ByteBuffer.allocateDirect(slabBlocks * BLOCK_SIZE_IN_BYTES + SLAB_ALIGNMENT_IN_BYTES)
+                    .alignedSlice(SLAB_ALIGNMENT_IN_BYTES);
+                slabs.add(slab);
+            }
+            return allocatedBlocks++;
+        }
+
+        void release(int block) {
+            if (freeBlockCount == freeBlocks.length) {
+                freeBlocks = ArrayUtil.grow(freeBlocks, freeBlockCount + 1);
+            }
+            freeBlocks[freeBlockCount++] = block;
+        }
+
+        void write(int block, byte[] source, int offset, int length) {
+            slabs.get(block / BLOCKS_PER_SLAB).put((block % BLOCKS_PER_SLAB) * BLOCK_SIZE_IN_BYTES, source, offset, length);
+        }
+
+        void read(int block, byte[] destination, int offset, int length) {
+            slabs.get(block / BLOCKS_PER_SLAB).get((block % BLOCKS_PER_SLAB) * BLOCK_SIZE_IN_BYTES, destination, offset, length);
+        }
+
+        void close() {
+            slabs.clear();
+            freeBlocks = new int[0];
+            freeBlockCount = 0;
+            allocatedBlocks = 0;
+        }
+    }
+
+    /**
+     * Factory to create OpenSearchOffHeap cache.
+     */
+    public static class OpenSearchOffHeapCacheFactory implements Factory {
+
+        public static final String NAME = "opensearch_offheap";
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> ICache<K, V> create(CacheConfig<K, V> config, CacheType cacheType, Map<String, Factory> cacheFactories) {
+            Map<String, Setting<?>> settingList = OpenSearchOffHeapCacheSettings.getSettingListForCacheType(cacheType);
+            Settings settings = config.getSettings();
+            Serializer<V, byte[]> valueSerializer = (Serializer<V, byte[]>) Objects.requireNonNull(
+                config.getValueSerializer(),
+                "Value serializer can't be null for the " + NAME + " cache"
+            );
+            Builder<K, V> builder = new Builder<K, V>().setDimensionNames(config.getDimensionNames()).setValueSerializer(valueSerializer);
+            builder.setStatsTrackingEnabled(config.getStatsTrackingEnabled())
+                .setWeigher(config.getWeigher())
+                .setRemovalListener(config.getRemovalListener());
+            if (config.getMaxSizeInBytes() > 0) {
+                // Use the cache config value if present, as passed down from the TieredSpilloverCache when creating its tiers
+                builder.setMaximumWeightInBytes(config.getMaxSizeInBytes());
+            } else {
+                builder.setMaximumWeightInBytes(((ByteSizeValue) settingList.get(MAXIMUM_SIZE_IN_BYTES_KEY).get(settings)).getBytes());
+            }
+            if (config.getSegmentCount() > 0) {
+                builder.setNumberOfSegments(config.getSegmentCount());
+            } else {
+                builder.setNumberOfSegments((Integer) settingList.get(SEGMENT_COUNT_KEY).get(settings));
+            }
+            return builder.build();
+        }
+
+        @Override
+        public String getCacheName() {
+            return NAME;
+        }
+    }
+
+    /**
+     * Builder object
+     * @param <K> Type of key
+     * @param <V> Type of value
+     */
+    public static class Builder<K, V> extends ICacheBuilder<K, V> {
+        private List<String> dimensionNames;
+        private Serializer<V, byte[]> valueSerializer;
+
+        public Builder<K, V> setDimensionNames(List<String> dimensionNames) {
+            this.dimensionNames = dimensionNames;
+            return this;
+        }
+
+        public Builder<K, V> setValueSerializer(Serializer<V, byte[]> valueSerializer) {
+            this.valueSerializer = valueSerializer;
+            return this;
+        }
+
+        @Override
+        public ICache<K, V> build() {
+            return new OpenSearchOffHeapCache<K, V>(this);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache.store.settings;
+
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.store.OpenSearchOffHeapCache;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.opensearch.common.settings.Setting.Property.NodeScope;
+
+/**
+ * Settings for OpenSearchOffHeap
+ */
+public class OpenSearchOffHeapCacheSettings {
+
+    /**
+     * Setting to define the maximum size of the cache, both in weight and in off-heap memory. Percentages are relative to
+     * the heap, like the default direct memory limit of the JVM.
+     * If this cache is used as a tier in a TieredSpilloverCache, this setting is ignored.
+     *
+     * Setting pattern: {cache_type}.opensearch_offheap.size
+     */
+    public static final Setting.AffixSetting<ByteSizeValue> MAXIMUM_SIZE_IN_BYTES = Setting.suffixKeySetting(
+        OpenSearchOffHeapCache.OpenSearchOffHeapCacheFactory.NAME + ".size",
+        (key) -> Setting.memorySizeSetting(key, "1%", NodeScope)
+    );
+
+    /**
+     * Setting to define the number of segments of the cache, each with its own lock and memory.
+     * If the cache config already specifies a segment count, this setting is ignored.
+     *
+     * Setting pattern: {cache_type}.opensearch_offheap.segments
+     */
+    public static final Setting.AffixSetting<Integer> SEGMENT_COUNT_SETTING = Setting.suffixKeySetting(
+        OpenSearchOffHeapCache.OpenSearchOffHeapCacheFactory.NAME + ".segments",
+        (key) -> Setting.intSetting(key, 16, 1, 256, NodeScope)
+    );
+
+    public static final String MAXIMUM_SIZE_IN_BYTES_KEY = "maximum_size_in_bytes";
+    public static final String SEGMENT_COUNT_KEY = "segment_count";
+
+    private static final Map<String, Setting.AffixSetting<?>> KEY_SETTING_MAP = Map.of(
+        MAXIMUM_SIZE_IN_BYTES_KEY,
+        MAXIMUM_SIZE_IN_BYTES,
+        SEGMENT_COUNT_KEY,
+        SEGMENT_COUNT_SETTING
+    );
+
+    public static final Map<CacheType, Map<String, Setting<?>>> CACHE_TYPE_MAP = getCacheTypeMap();
+
+    private static Map<CacheType, Map<String, Setting<?>>> getCacheTypeMap() {
+        Map<CacheType, Map<String, Setting<?>>> cacheTypeMap = new HashMap<>();
+        for (CacheType cacheType : CacheType.values()) {
+            Map<String, Setting<?>> settingMap = new HashMap<>();
+            for (Map.Entry<String, Setting.AffixSetting<?>> entry : KEY_SETTING_MAP.entrySet()) {
+                settingMap.put(entry.getKey(), entry.getValue().getConcreteSettingForNamespace(cacheType.getSettingPrefix()));
+            }
+            cacheTypeMap.put(cacheType, settingMap);
+        }
+        return cacheTypeMap;
+    }
+
+    public static Map<String, Setting<?>> getSettingListForCacheType(CacheType cacheType) {
+        Map<String, Setting<?>> cacheTypeSettings = CACHE_TYPE_MAP.get(cacheType);
+        if (cacheTypeSettings == null) {
+            throw new IllegalArgumentException(
+                "No settings exist for cache store name: "
+                    + OpenSearchOffHeapCache.OpenSearchOffHeapCacheFactory.NAME
+                    + " associated with cache type: "
+                    + cacheType
+            );
+        }
+        return cacheTypeSettings;
+    }
+}
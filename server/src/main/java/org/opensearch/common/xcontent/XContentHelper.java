@@ -32,7 +32,9 @@
 
 package org.opensearch.common.xcontent;
 
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.OpenSearchParseException;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
@@ -92,7 +94,12 @@ public class XContentHelper {
                 throw e;
             }
         } else {
-            return MediaTypeRegistry.xContentType(bytes).xContent().createParser(xContentRegistry, deprecationHandler, bytes.streamInput());
+            final XContent xContent = MediaTypeRegistry.xContentType(bytes).xContent();
+            final BytesRef contiguous = contiguousBytes(bytes);
+            if (contiguous != null) {
+                return xContent.createParser(xContentRegistry, deprecationHandler, contiguous.bytes, contiguous.offset, contiguous.length);
+            }
+            return xContent.createParser(xContentRegistry, deprecationHandler, bytes.streamInput());
         }
     }
 
@@ -120,14 +127,34 @@ public class XContentHelper {
                 throw e;
             }
         } else {
-            if (bytes instanceof BytesArray array) {
+            final BytesRef contiguous = contiguousBytes(bytes);
+            if (contiguous != null) {
                 return mediaType.xContent()
-                    .createParser(xContentRegistry, deprecationHandler, array.array(), array.offset(), array.length());
+                    .createParser(xContentRegistry, deprecationHandler, contiguous.bytes, contiguous.offset, contiguous.length);
             }
             return mediaType.xContent().createParser(xContentRegistry, deprecationHandler, bytes.streamInput());
         }
     }
 
+    /**
+     * Returns the given bytes as a single {@link BytesRef} if they are held by a single contiguous array, such as a slice of a network
+     * buffer or of a single page, or {@code null} if they span several arrays. Parsing bytes held by a single array directly avoids
+     * copying them into the buffers of the parser through a stream.
+     */
+    @Nullable
+    public static BytesRef contiguousBytes(BytesReference bytes) throws IOException {
+        if (bytes instanceof BytesArray array) {
+            return new BytesRef(array.array(), array.offset(), array.length());
+        }
+        if (bytes.length() == 0) {
+            return null;
+        }
+        // the first chunk holds all the bytes iff they are contiguous. References that don't expose their chunks return all their
+        // bytes at once, which is fine since parsing them from an array is still cheaper than reading them through a stream
+        final BytesRef first = bytes.iterator().next();
+        return first != null && first.length == bytes.length() ? first : null;
+    }
+
     /**
      * Converts the given bytes into a map that is optionally ordered.
      * @deprecated this method relies on auto-detection of content type. Use {@link #convertToMap(BytesReference, boolean, MediaType)}
@@ -57,6 +57,7 @@ import org.opensearch.indices.replication.common.ReplicationType;
 import org.opensearch.ingest.IngestService;
 import org.opensearch.node.Node;
 import org.opensearch.node.remotestore.RemoteStoreNodeAttribute;
+import org.opensearch.search.SearchService;
 import org.opensearch.search.pipeline.SearchPipelineService;
 
 import java.util.Arrays;
@@ -83,6 +84,7 @@ import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_MIN_
 import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_MODE_ALL;
 import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_MODE_AUTO;
 import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_MODE_NONE;
+import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_SLICE_STRATEGY_SEGMENT;
 
 /**
  * This class encapsulates all index level settings and handles settings updates.
@@ -795,6 +797,14 @@ public final class IndexSettings {
         Property.IndexScope
     );
 
+    public static final Setting<String> INDEX_CONCURRENT_SEGMENT_SEARCH_SLICE_STRATEGY = Setting.simpleString(
+        "index.search.concurrent.slice_strategy",
+        CONCURRENT_SEGMENT_SEARCH_SLICE_STRATEGY_SEGMENT,
+        SearchService::validateSliceStrategy,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
     public static final Setting<Boolean> INDEX_DOC_ID_FUZZY_SET_ENABLED_SETTING = Setting.boolSetting(
         "index.optimize_doc_id_lookup.fuzzy_set.enabled",
         false,
@@ -866,6 +876,17 @@ public final class IndexSettings {
         Property.Dynamic
     );
 
+    /**
+     * Whether search hits that only include fields with doc values build their filtered {@code _source} from those doc values
+     * rather than by decompressing and parsing the stored {@code _source}. Indices with derived source always do so.
+     */
+    public static final Setting<Boolean> INDEX_SEARCH_SOURCE_FROM_DOC_VALUES_SETTING = Setting.boolSetting(
+        "index.search.source_from_doc_values.enabled",
+        false,
+        Property.IndexScope,
+        Property.Dynamic
+    );
+
     private final Index index;
     private final Version version;
     private final Logger logger;
@@ -922,6 +943,7 @@ public final class IndexSettings {
     private volatile boolean allowDerivedField;
     private final boolean derivedSourceEnabled;
     private volatile boolean derivedSourceEnabledForTranslog;
+    private volatile boolean sourceFromDocValuesEnabled;
 
     /**
      * The maximum age of a retention lease before it is considered expired.
@@ -1165,6 +1187,11 @@ public final class IndexSettings {
         derivedSourceEnabled = scopedSettings.get(INDEX_DERIVED_SOURCE_SETTING);
         derivedSourceEnabledForTranslog = scopedSettings.get(INDEX_DERIVED_SOURCE_TRANSLOG_ENABLED_SETTING);
         scopedSettings.addSettingsUpdateConsumer(INDEX_DERIVED_SOURCE_TRANSLOG_ENABLED_SETTING, this::setDerivedSourceEnabledForTranslog);
+        sourceFromDocValuesEnabled = scopedSettings.get(INDEX_SEARCH_SOURCE_FROM_DOC_VALUES_SETTING);
+        scopedSettings.addSettingsUpdateConsumer(
+            INDEX_SEARCH_SOURCE_FROM_DOC_VALUES_SETTING,
+            this::setSourceFromDocValuesEnabled
+        );
         /* There was unintentional breaking change got introduced with [OpenSearch-6424](https://github.com/opensearch-project/OpenSearch/pull/6424) (version 2.7).
          * For indices created prior version (prior to 2.7) which has IndexSort type, they used to type cast the SortField.Type
          * to higher bytes size like integer to long. This behavior was changed from OpenSearch 2.7 version not to
@@ -2280,4 +2307,12 @@ public final class IndexSettings {
     public boolean isDerivedSourceEnabled() {
         return derivedSourceEnabled;
     }
+
+    private void setSourceFromDocValuesEnabled(boolean sourceFromDocValuesEnabled) {
+        this.sourceFromDocValuesEnabled = sourceFromDocValuesEnabled;
+    }
+
+    public boolean isSourceFromDocValuesEnabled() {
+        return sourceFromDocValuesEnabled;
+    }
 }
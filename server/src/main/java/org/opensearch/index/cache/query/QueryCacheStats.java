@@ -33,7 +33,9 @@
 package org.opensearch.index.cache.query;
 
 import org.apache.lucene.search.DocIdSet;
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -43,6 +45,7 @@ import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Stats for the query cache
@@ -57,6 +60,7 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
     private long missCount;
     private long cacheCount;
     private long cacheSize;
+    private long timeSavedInNanos;
 
     public QueryCacheStats() {}
 
@@ -71,6 +75,7 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         this.missCount = builder.missCount;
         this.cacheCount = builder.cacheCount;
         this.cacheSize = builder.cacheSize;
+        this.timeSavedInNanos = builder.timeSavedInNanos;
     }
 
     public QueryCacheStats(StreamInput in) throws IOException {
@@ -79,6 +84,9 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         missCount = in.readLong();
         cacheCount = in.readLong();
         cacheSize = in.readLong();
+        if (in.getVersion().onOrAfter(Version.V_3_4_0)) {
+            timeSavedInNanos = in.readVLong();
+        }
     }
 
     /**
@@ -103,6 +111,7 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         missCount += stats.missCount;
         cacheCount += stats.cacheCount;
         cacheSize += stats.cacheSize;
+        timeSavedInNanos += stats.timeSavedInNanos;
     }
 
     public long getMemorySizeInBytes() {
@@ -155,6 +164,14 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         return cacheCount - cacheSize;
     }
 
+    /**
+     * The time that building the {@link DocIdSet}s served from the cache is estimated to have taken, only tracked if the cache
+     * admits queries by their cost. It is left out of the stats rendered as XContent while it is zero.
+     */
+    public TimeValue getTimeSaved() {
+        return new TimeValue(timeSavedInNanos, TimeUnit.NANOSECONDS);
+    }
+
     /**
      * Builder for the {@link QueryCacheStats} class.
      * Provides a fluent API for constructing a QueryCacheStats object.
@@ -165,6 +182,7 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         private long missCount = 0;
         private long cacheCount = 0;
         private long cacheSize = 0;
+        private long timeSavedInNanos = 0;
 
         public Builder() {}
 
@@ -193,6 +211,11 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        public Builder timeSavedInNanos(long nanos) {
+            this.timeSavedInNanos = nanos;
+            return this;
+        }
+
         /**
          * Creates a {@link QueryCacheStats} object from the builder's current state.
          * @return A new QueryCacheStats instance.
@@ -209,6 +232,9 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         out.writeLong(missCount);
         out.writeLong(cacheCount);
         out.writeLong(cacheSize);
+        if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
+            out.writeVLong(timeSavedInNanos);
+        }
     }
 
     @Override
@@ -221,6 +247,10 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.CACHE_SIZE, getCacheSize());
         builder.field(Fields.CACHE_COUNT, getCacheCount());
         builder.field(Fields.EVICTIONS, getEvictions());
+        // only tracked by the cost based admission of the cache, so left out when it is disabled
+        if (timeSavedInNanos > 0) {
+            builder.humanReadableField(Fields.TIME_SAVED_IN_MILLIS, Fields.TIME_SAVED, getTimeSaved());
+        }
         builder.endObject();
         return builder;
     }
@@ -240,6 +270,8 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         static final String CACHE_SIZE = "cache_size";
         static final String CACHE_COUNT = "cache_count";
         static final String EVICTIONS = "evictions";
+        static final String TIME_SAVED = "estimated_time_saved";
+        static final String TIME_SAVED_IN_MILLIS = "estimated_time_saved_in_millis";
     }
 
 }
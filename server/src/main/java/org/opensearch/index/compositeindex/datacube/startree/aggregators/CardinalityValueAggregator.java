@@ -0,0 +1,328 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.util.BitMixer;
+import org.opensearch.index.compositeindex.datacube.startree.utils.SketchType;
+import org.opensearch.index.fielddata.IndexNumericFieldData;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.AbstractHyperLogLog;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlus;
+
+import java.util.Arrays;
+
+/**
+ * Cardinality value aggregator for star tree
+ *
+ * <p>The aggregated value is a HyperLogLog sketch whose registers hold one run length each. Values are hashed the
+ * same way as the cardinality aggregation does, so that the registers can be merged into the
+ * {@link HyperLogLogPlusPlus} sketch of the aggregation at query time.
+ *
+ * <p>Like the linear counting of {@link HyperLogLogPlusPlus}, sketches of few distinct values are kept sparse: they
+ * hold the sorted list of their non empty registers, three bytes each, and only switch to a dense array of one byte
+ * per register once they have more than {@link #MAX_SPARSE_REGISTERS} non empty registers. Both the stored sketches
+ * and the sketches held while building the star-tree are thus proportional to the number of distinct values of their
+ * documents, up to the size of the dense registers. The first byte of a sketch tells how it is encoded.
+ *
+ * @opensearch.experimental
+ */
+public class CardinalityValueAggregator implements SketchValueAggregator<byte[]> {
+
+    /**
+     * Precision of the sketches stored in the star-tree. Queries with a lower precision fold the registers down,
+     * queries with a higher precision cannot be answered from the star-tree.
+     */
+    public static final int SKETCH_PRECISION = HyperLogLogPlusPlus.DEFAULT_PRECISION;
+
+    private static final int NUM_REGISTERS = 1 << SKETCH_PRECISION;
+
+    /**
+     * The most non empty registers a sparse sketch holds, at which it is still four times smaller than a dense one
+     */
+    static final int MAX_SPARSE_REGISTERS = NUM_REGISTERS / 16;
+
+    private static final byte SPARSE = 0;
+    private static final byte DENSE = 1;
+    // the index of the register on two bytes, followed by its run length
+    private static final int SPARSE_ENTRY_BYTES = 3;
+    private static final int DENSE_SIZE_IN_BYTES = 1 + NUM_REGISTERS;
+
+    private final FieldValueConverter fieldValueConverter;
+    private final boolean hashAsDouble;
+    private final SketchType sketchType;
+
+    public CardinalityValueAggregator(FieldValueConverter fieldValueConverter) {
+        this.fieldValueConverter = fieldValueConverter;
+        this.hashAsDouble = hashAsDouble(fieldValueConverter);
+        this.sketchType = new SketchType();
+    }
+
+    /**
+     * Floating point and unsigned long values are hashed by their double representation in the cardinality aggregation
+     */
+    private static boolean hashAsDouble(FieldValueConverter fieldValueConverter) {
+        IndexNumericFieldData.NumericType numericType;
+        if (fieldValueConverter instanceof NumberFieldMapper.NumberType) {
+            numericType = ((NumberFieldMapper.NumberType) fieldValueConverter).numericType();
+        } else if (fieldValueConverter instanceof NumberFieldMapper.NumberFieldType) {
+            numericType = ((NumberFieldMapper.NumberFieldType) fieldValueConverter).numericType();
+        } else {
+            return true;
+        }
+        return numericType.isFloatingPoint() || numericType == IndexNumericFieldData.NumericType.UNSIGNED_LONG;
+    }
+
+    @Override
+    public FieldValueConverter getAggregatedValueType() {
+        return sketchType;
+    }
+
+    @Override
+    public byte[] getInitialAggregatedValueForSegmentDocValue(Long segmentDocValue) {
+        byte[] sketch = getIdentityMetricValue();
+        if (segmentDocValue != null) {
+            sketch = collect(sketch, segmentDocValue);
+        }
+        return sketch;
+    }
+
+    // we have overridden this method to collect the segment value into the existing sketch
+    // instead of allocating a new sketch for every segment document
+    @Override
+    public byte[] mergeAggregatedValueAndSegmentValue(byte[] value, Long segmentDocValue) {
+        byte[] sketch = value == null ? getIdentityMetricValue() : value;
+        if (segmentDocValue != null) {
+            sketch = collect(sketch, segmentDocValue);
+        }
+        return sketch;
+    }
+
+    @Override
+    public byte[] mergeAggregatedValues(byte[] value, byte[] aggregatedValue) {
+        if (aggregatedValue == null) {
+            return getInitialAggregatedValue(value);
+        }
+        if (value == null) {
+            return aggregatedValue;
+        }
+        if (value[0] == SPARSE && aggregatedValue[0] == SPARSE) {
+            return mergeSparse(value, aggregatedValue);
+        }
+        byte[] dense = aggregatedValue[0] == DENSE ? aggregatedValue : toDense(aggregatedValue);
+        if (value[0] == DENSE) {
+            for (int i = 1; i < DENSE_SIZE_IN_BYTES; i++) {
+                if (value[i] > dense[i]) {
+                    dense[i] = value[i];
+                }
+            }
+        } else {
+            for (int i = 0; i < numSparseRegisters(value); i++) {
+                addRegister(dense, sparseRegister(value, i), sparseRunLen(value, i));
+            }
+        }
+        return dense;
+    }
+
+    @Override
+    public byte[] getInitialAggregatedValue(byte[] value) {
+        if (value == null) {
+            return getIdentityMetricValue();
+        }
+        return Arrays.copyOf(value, value.length);
+    }
+
+    @Override
+    public byte[] toAggregatedValueType(Long value) {
+        if (value == null) {
+            return getIdentityMetricValue();
+        }
+        throw new IllegalStateException("Cannot convert " + value + " to a cardinality sketch");
+    }
+
+    @Override
+    public byte[] getIdentityMetricValue() {
+        return new byte[] { SPARSE };
+    }
+
+    @Override
+    public int getSerializedSizeInBytes() {
+        return DENSE_SIZE_IN_BYTES;
+    }
+
+    @Override
+    public BytesRef serialize(byte[] value) {
+        if (value == null) {
+            return new BytesRef(getIdentityMetricValue());
+        }
+        return new BytesRef(value);
+    }
+
+    @Override
+    public byte[] deserialize(BytesRef bytes) {
+        validate(bytes);
+        return Arrays.copyOfRange(bytes.bytes, bytes.offset, bytes.offset + bytes.length);
+    }
+
+    /**
+     * Merges the registers of a serialized sketch into the given bucket of a {@link HyperLogLogPlusPlus}, without
+     * materializing the serialized sketch
+     */
+    public static void mergeSketch(HyperLogLogPlusPlus counts, long bucket, BytesRef bytes) {
+        validate(bytes);
+        if (bytes.bytes[bytes.offset] == DENSE) {
+            counts.mergeRegisters(bucket, new BytesRef(bytes.bytes, bytes.offset + 1, NUM_REGISTERS));
+            return;
+        }
+        for (int i = 1; i < bytes.length; i += SPARSE_ENTRY_BYTES) {
+            int register = ((bytes.bytes[bytes.offset + i] & 0xFF) << 8) | (bytes.bytes[bytes.offset + i + 1] & 0xFF);
+            counts.mergeRegister(bucket, SKETCH_PRECISION, register, bytes.bytes[bytes.offset + i + 2]);
+        }
+    }
+
+    /**
+     * Returns the dense registers of a sketch, one run length per byte
+     */
+    static byte[] registers(byte[] sketch) {
+        return Arrays.copyOfRange(sketch[0] == DENSE ? sketch : toDense(sketch), 1, DENSE_SIZE_IN_BYTES);
+    }
+
+    private static void validate(BytesRef bytes) {
+        boolean valid = bytes.length > 0
+            && (bytes.bytes[bytes.offset] == DENSE
+                ? bytes.length == DENSE_SIZE_IN_BYTES
+                : bytes.bytes[bytes.offset] == SPARSE
+                    && (bytes.length - 1) % SPARSE_ENTRY_BYTES == 0
+                    && (bytes.length - 1) / SPARSE_ENTRY_BYTES <= MAX_SPARSE_REGISTERS);
+        if (valid == false) {
+            throw new IllegalStateException("Invalid cardinality sketch of " + bytes.length + " bytes");
+        }
+    }
+
+    private byte[] collect(byte[] sketch, long segmentDocValue) {
+        final long hash = hashAsDouble
+            ? BitMixer.mix64(Double.doubleToLongBits(fieldValueConverter.toDoubleValue(segmentDocValue)))
+            : BitMixer.mix64(segmentDocValue);
+        final int register = (int) AbstractHyperLogLog.index(hash, SKETCH_PRECISION);
+        final byte runLen = (byte) AbstractHyperLogLog.runLen(hash, SKETCH_PRECISION);
+        return addRegister(sketch, register, runLen);
+    }
+
+    /**
+     * Raises the run length of the register to the given one, returning the sketch, which is a new one if the register
+     * had to be added to a sparse sketch
+     */
+    private static byte[] addRegister(byte[] sketch, int register, byte runLen) {
+        if (sketch[0] == DENSE) {
+            if (runLen > sketch[1 + register]) {
+                sketch[1 + register] = runLen;
+            }
+            return sketch;
+        }
+        final int numRegisters = numSparseRegisters(sketch);
+        final int index = sparseIndexOf(sketch, numRegisters, register);
+        if (index >= 0) {
+            final int offset = 1 + index * SPARSE_ENTRY_BYTES + 2;
+            if (runLen > sketch[offset]) {
+                sketch[offset] = runLen;
+            }
+            return sketch;
+        }
+        if (numRegisters == MAX_SPARSE_REGISTERS) {
+            byte[] dense = toDense(sketch);
+            dense[1 + register] = runLen;
+            return dense;
+        }
+        final int offset = 1 + (-index - 1) * SPARSE_ENTRY_BYTES;
+        byte[] grown = new byte[sketch.length + SPARSE_ENTRY_BYTES];
+        System.arraycopy(sketch, 0, grown, 0, offset);
+        writeSparseEntry(grown, offset, register, runLen);
+        System.arraycopy(sketch, offset, grown, offset + SPARSE_ENTRY_BYTES, sketch.length - offset);
+        return grown;
+    }
+
+    /**
+     * Merges two sparse sketches, which stays sparse unless they have too many distinct non empty registers
+     */
+    private static byte[] mergeSparse(byte[] first, byte[] second) {
+        final int firstRegisters = numSparseRegisters(first);
+        final int secondRegisters = numSparseRegisters(second);
+        byte[] merged = new byte[1 + (firstRegisters + secondRegisters) * SPARSE_ENTRY_BYTES];
+        merged[0] = SPARSE;
+        int i = 0;
+        int j = 0;
+        int numRegisters = 0;
+        while (i < firstRegisters || j < secondRegisters) {
+            final int firstRegister = i < firstRegisters ? sparseRegister(first, i) : Integer.MAX_VALUE;
+            final int secondRegister = j < secondRegisters ? sparseRegister(second, j) : Integer.MAX_VALUE;
+            final byte runLen;
+            if (firstRegister == secondRegister) {
+                runLen = (byte) Math.max(sparseRunLen(first, i++), sparseRunLen(second, j++));
+            } else if (firstRegister < secondRegister) {
+                runLen = sparseRunLen(first, i++);
+            } else {
+                runLen = sparseRunLen(second, j++);
+            }
+            writeSparseEntry(merged, 1 + numRegisters * SPARSE_ENTRY_BYTES, Math.min(firstRegister, secondRegister), runLen);
+            numRegisters++;
+        }
+        if (numRegisters > MAX_SPARSE_REGISTERS) {
+            return toDense(Arrays.copyOf(merged, 1 + numRegisters * SPARSE_ENTRY_BYTES));
+        }
+        return Arrays.copyOf(merged, 1 + numRegisters * SPARSE_ENTRY_BYTES);
+    }
+
+    private static byte[] toDense(byte[] sparse) {
+        byte[] dense = new byte[DENSE_SIZE_IN_BYTES];
+        dense[0] = DENSE;
+        for (int i = 0; i < numSparseRegisters(sparse); i++) {
+            dense[1 + sparseRegister(sparse, i)] = sparseRunLen(sparse, i);
+        }
+        return dense;
+    }
+
+    /**
+     * Returns the index of the entry of the register in the sparse sketch if present, (-(insertion point) - 1) otherwise
+     */
+    private static int sparseIndexOf(byte[] sparse, int numRegisters, int register) {
+        int low = 0;
+        int high = numRegisters - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int midRegister = sparseRegister(sparse, mid);
+            if (midRegister < register) {
+                low = mid + 1;
+            } else if (midRegister > register) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int numSparseRegisters(byte[] sparse) {
+        return (sparse.length - 1) / SPARSE_ENTRY_BYTES;
+    }
+
+    private static int sparseRegister(byte[] sparse, int index) {
+        final int offset = 1 + index * SPARSE_ENTRY_BYTES;
+        return ((sparse[offset] & 0xFF) << 8) | (sparse[offset + 1] & 0xFF);
+    }
+
+    private static byte sparseRunLen(byte[] sparse, int index) {
+        return sparse[1 + index * SPARSE_ENTRY_BYTES + 2];
+    }
+
+    private static void writeSparseEntry(byte[] sparse, int offset, int register, byte runLen) {
+        sparse[offset] = (byte) (register >>> 8);
+        sparse[offset + 1] = (byte) register;
+        sparse[offset + 2] = runLen;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.compositeindex.datacube.startree.utils.SketchType;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import com.tdunning.math.stats.Centroid;
+
+/**
+ * Percentiles value aggregator for star tree
+ *
+ * <p>The aggregated value is a {@link TDigestState}, the same sketch used by the tdigest percentiles and
+ * percentile ranks aggregations. Digests are serialized as a fixed size list of centroids, which is sized for
+ * the most centroids a digest of {@link #SKETCH_COMPRESSION} can hold, so that every stored digest has the
+ * compression that the aggregations check requests against.
+ *
+ * @opensearch.experimental
+ */
+public class PercentilesValueAggregator implements SketchValueAggregator<TDigestState> {
+
+    /**
+     * Compression of the digests stored in the star-tree, which is the default compression of the percentiles
+     * aggregations. Queries with a higher compression cannot be answered from the star-tree.
+     */
+    public static final double SKETCH_COMPRESSION = 100.0;
+
+    // a merging digest holds at most twice its compression plus some slack centroids, see MergingDigest
+    static final int MAX_CENTROIDS = (int) (2 * SKETCH_COMPRESSION) + 10;
+
+    // number of centroids followed by the mean and count of each centroid
+    private static final int SERIALIZED_SIZE_IN_BYTES = Integer.BYTES + MAX_CENTROIDS * (Double.BYTES + Integer.BYTES);
+
+    private final FieldValueConverter fieldValueConverter;
+    private final SketchType sketchType;
+
+    public PercentilesValueAggregator(FieldValueConverter fieldValueConverter) {
+        this.fieldValueConverter = fieldValueConverter;
+        this.sketchType = new SketchType();
+    }
+
+    @Override
+    public FieldValueConverter getAggregatedValueType() {
+        return sketchType;
+    }
+
+    @Override
+    public TDigestState getInitialAggregatedValueForSegmentDocValue(Long segmentDocValue) {
+        TDigestState digest = getIdentityMetricValue();
+        if (segmentDocValue != null) {
+            digest.add(fieldValueConverter.toDoubleValue(segmentDocValue));
+        }
+        return digest;
+    }
+
+    // we have overridden this method to add the segment value to the existing digest
+    // instead of allocating a new digest for every segment document
+    @Override
+    public TDigestState mergeAggregatedValueAndSegmentValue(TDigestState value, Long segmentDocValue) {
+        TDigestState digest = value == null ? getIdentityMetricValue() : value;
+        if (segmentDocValue != null) {
+            digest.add(fieldValueConverter.toDoubleValue(segmentDocValue));
+        }
+        return digest;
+    }
+
+    @Override
+    public TDigestState mergeAggregatedValues(TDigestState value, TDigestState aggregatedValue) {
+        if (aggregatedValue == null) {
+            return getInitialAggregatedValue(value);
+        }
+        if (value != null) {
+            aggregatedValue.add(value);
+        }
+        return aggregatedValue;
+    }
+
+    @Override
+    public TDigestState getInitialAggregatedValue(TDigestState value) {
+        TDigestState digest = getIdentityMetricValue();
+        if (value != null) {
+            digest.add(value);
+        }
+        return digest;
+    }
+
+    @Override
+    public TDigestState toAggregatedValueType(Long value) {
+        if (value == null) {
+            return getIdentityMetricValue();
+        }
+        throw new IllegalStateException("Cannot convert " + value + " to a percentiles sketch");
+    }
+
+    @Override
+    public TDigestState getIdentityMetricValue() {
+        return new TDigestState(SKETCH_COMPRESSION);
+    }
+
+    @Override
+    public int getSerializedSizeInBytes() {
+        return SERIALIZED_SIZE_IN_BYTES;
+    }
+
+    @Override
+    public BytesRef serialize(TDigestState value) {
+        ByteBuffer buffer = ByteBuffer.allocate(SERIALIZED_SIZE_IN_BYTES);
+        if (value == null) {
+            buffer.putInt(0);
+            return new BytesRef(buffer.array());
+        }
+        TDigestState digest = value;
+        if (digest.centroidCount() > MAX_CENTROIDS) {
+            // merging all the centroids at once packs them at least as tightly, at the same compression
+            digest = new TDigestState(SKETCH_COMPRESSION);
+            digest.add(List.of(value));
+            if (digest.centroidCount() > MAX_CENTROIDS) {
+                throw new IllegalStateException(
+                    "Digest with compression [" + SKETCH_COMPRESSION + "] has [" + digest.centroidCount() + "] centroids, more than ["
+                        + MAX_CENTROIDS
+                        + "]"
+                );
+            }
+        }
+        buffer.putInt(digest.centroidCount());
+        for (Centroid centroid : digest.centroids()) {
+            buffer.putDouble(centroid.mean());
+            buffer.putInt(centroid.count());
+        }
+        return new BytesRef(buffer.array());
+    }
+
+    @Override
+    public TDigestState deserialize(BytesRef bytes) {
+        TDigestState digest = getIdentityMetricValue();
+        mergeSketch(digest, bytes);
+        return digest;
+    }
+
+    /**
+     * Adds the centroids of a serialized digest to the given digest, without materializing the serialized digest
+     */
+    public static void mergeSketch(TDigestState digest, BytesRef bytes) {
+        if (bytes.length != SERIALIZED_SIZE_IN_BYTES) {
+            throw new IllegalStateException("Expected " + SERIALIZED_SIZE_IN_BYTES + " bytes but got " + bytes.length);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.bytes, bytes.offset, bytes.length);
+        int numCentroids = buffer.getInt();
+        for (int i = 0; i < numCentroids; i++) {
+            double mean = buffer.getDouble();
+            int count = buffer.getInt();
+            digest.add(mean, count);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * A value aggregator whose aggregated value is a mergeable sketch rather than a single number.
+ * <p>
+ * Sketches are stored as binary doc values in the star-tree. Their serialized size is bounded, so that star-tree
+ * documents keep a fixed size in the temporary files used while building the tree, where each sketch is padded to
+ * the largest size.
+ *
+ * @opensearch.experimental
+ */
+public interface SketchValueAggregator<A> extends ValueAggregator<A> {
+
+    /**
+     * Returns the largest number of bytes of a serialized sketch of this aggregator.
+     */
+    int getSerializedSizeInBytes();
+
+    /**
+     * Serializes the sketch. A null value is serialized as the identity sketch.
+     */
+    BytesRef serialize(A value);
+
+    /**
+     * Deserializes a sketch. Implementations must not retain a reference to the given bytes.
+     */
+    A deserialize(BytesRef bytes);
+}
@@ -14,6 +14,7 @@ import org.apache.lucene.index.SegmentWriteState;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.store.RandomAccessInput;
 import org.apache.lucene.store.TrackingDirectoryWrapper;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.NumericUtils;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.index.compositeindex.datacube.Metric;
@@ -21,7 +22,9 @@ import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.aggregators.MetricAggregatorInfo;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.SketchValueAggregator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.CompensatedSumType;
+import org.opensearch.index.compositeindex.datacube.startree.utils.SketchType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeDocumentBitSetUtil;
 import org.opensearch.index.mapper.FieldValueConverter;
 import org.opensearch.search.aggregations.metrics.CompensatedSum;
@@ -113,6 +116,7 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
     /**
      * Write star tree document metrics to the byte buffer
      */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     protected void writeMetrics(StarTreeDocument starTreeDocument, ByteBuffer buffer, boolean isAggregatedDoc) throws IOException {
         for (int i = 0; i < starTreeDocument.metrics.length; i++) {
             FieldValueConverter aggregatedValueType = metricAggregatorInfos.get(i).getValueAggregators().getAggregatedValueType();
@@ -136,6 +140,13 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
                 } else {
                     buffer.putLong(starTreeDocument.metrics[i] == null ? 0L : (Long) starTreeDocument.metrics[i]);
                 }
+            } else if (aggregatedValueType instanceof SketchType) {
+                SketchValueAggregator sketchValueAggregator = (SketchValueAggregator) metricAggregatorInfos.get(i).getValueAggregators();
+                BytesRef sketch = sketchValueAggregator.serialize(starTreeDocument.metrics[i]);
+                // sketches are prefixed with their length and padded to the largest sketch, to keep documents at a fixed size
+                buffer.putInt(sketch.length);
+                buffer.put(sketch.bytes, sketch.offset, sketch.length);
+                buffer.position(buffer.position() + sketchValueAggregator.getSerializedSizeInBytes() - sketch.length);
             } else {
                 throw new IllegalStateException("Unsupported metric type");
             }
@@ -151,7 +162,12 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
         size += getLength(starTreeDocument.dimensions);
 
         for (int i = 0; i < starTreeDocument.metrics.length; i++) {
-            size += Long.BYTES;
+            // sketches are only present in aggregated documents, segment documents hold the raw field values
+            if (isAggregatedDoc && metricAggregatorInfos.get(i).getValueAggregators() instanceof SketchValueAggregator<?> sketch) {
+                size += Integer.BYTES + sketch.getSerializedSizeInBytes();
+            } else {
+                size += Long.BYTES;
+            }
         }
         size += getLength(starTreeDocument.metrics);
 
@@ -251,6 +267,13 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
                     metrics[i] = val;
                 }
                 offset += Long.BYTES;
+            } else if (aggregatedValueType instanceof SketchType) {
+                SketchValueAggregator<?> sketchValueAggregator = (SketchValueAggregator<?>) metricAggregatorInfos.get(i)
+                    .getValueAggregators();
+                byte[] bytes = new byte[input.readInt(offset)];
+                input.readBytes(offset + Integer.BYTES, bytes, 0, bytes.length);
+                metrics[i] = sketchValueAggregator.deserialize(new BytesRef(bytes));
+                offset += Integer.BYTES + sketchValueAggregator.getSerializedSizeInBytes();
             } else {
                 throw new IllegalStateException("Unsupported metric type");
             }
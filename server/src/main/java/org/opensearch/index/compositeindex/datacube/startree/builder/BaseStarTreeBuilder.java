@@ -11,6 +11,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.codecs.DocValuesConsumer;
 import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.BinaryDocValuesWriterWrapper;
 import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.index.DocValuesWriterWrapper;
@@ -26,6 +28,7 @@ import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.util.ByteBlockPool;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.Counter;
 import org.apache.lucene.util.LongValues;
 import org.apache.lucene.util.NumericUtils;
@@ -37,6 +40,7 @@ import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeFieldConfiguration;
 import org.opensearch.index.compositeindex.datacube.startree.aggregators.MetricAggregatorInfo;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.SketchValueAggregator;
 import org.opensearch.index.compositeindex.datacube.startree.aggregators.ValueAggregator;
 import org.opensearch.index.compositeindex.datacube.startree.fileformats.StarTreeWriter;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
@@ -44,6 +48,7 @@ import org.opensearch.index.compositeindex.datacube.startree.node.InMemoryTreeNo
 import org.opensearch.index.compositeindex.datacube.startree.node.StarTreeNodeType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.CompensatedSumType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.SequentialDocValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.SketchType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedSetStarTreeValuesIterator;
 import org.opensearch.index.mapper.DocCountFieldMapper;
@@ -421,6 +426,7 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
     /**
      * Creates the star-tree docValues indices in disk
      */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     private void createSortedDocValuesIndices(DocValuesConsumer docValuesConsumer, AtomicInteger fieldNumberAcrossStarTrees)
         throws IOException {
         List<DocValuesWriterWrapper<?>> dimensionWriters = new ArrayList<>();
@@ -447,17 +453,23 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
             }
         }
         for (int i = 0; i < metricAggregatorInfos.size(); i++) {
+            // sketch metrics are stored as serialized binary values
+            boolean isSketchMetric = metricAggregatorInfos.get(i).getMetricStat().isSketchMetric();
             final FieldInfo fi = getFieldInfo(
                 fullyQualifiedFieldNameForStarTreeMetricsDocValues(
                     starTreeField.getName(),
                     metricAggregatorInfos.get(i).getField(),
                     metricAggregatorInfos.get(i).getMetricStat().getTypeName()
                 ),
-                DocValuesType.SORTED_NUMERIC,
+                isSketchMetric ? DocValuesType.BINARY : DocValuesType.SORTED_NUMERIC,
                 fieldNumberAcrossStarTrees.getAndIncrement()
             );
             metricFieldInfoList[i] = fi;
-            metricWriters.add(new SortedNumericDocValuesWriterWrapper(fi, bytesUsed));
+            if (isSketchMetric) {
+                metricWriters.add(new BinaryDocValuesWriterWrapper(fi, bytesUsed));
+            } else {
+                metricWriters.add(new SortedNumericDocValuesWriterWrapper(fi, bytesUsed));
+            }
         }
         for (int docId = 0; docId < numStarTreeDocs; docId++) {
             StarTreeDocument starTreeDocument = getStarTreeDocument(docId);
@@ -495,6 +507,15 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
                                 NumericUtils.doubleToSortableLong(((CompensatedSum) starTreeDocument.metrics[i]).value())
                             );
                         }
+                    } else if (aggregatedValueType instanceof SketchType) {
+                        if (starTreeDocument.metrics[i] != null) {
+                            SketchValueAggregator sketchValueAggregator = (SketchValueAggregator) metricAggregatorInfos.get(i)
+                                .getValueAggregators();
+                            ((BinaryDocValuesWriterWrapper) (metricWriters.get(i))).addValue(
+                                docId,
+                                sketchValueAggregator.serialize(starTreeDocument.metrics[i])
+                            );
+                        }
                     } else {
                         throw new IllegalStateException("Unknown metric doc value type");
                     }
@@ -559,6 +580,17 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
                     };
                     docValuesConsumer.addSortedSetField(fieldInfoList[i], docValuesProducer);
                     break;
+                case BINARY:
+                    docValuesProducer = new EmptyDocValuesProducer() {
+                        @Override
+                        public BinaryDocValues getBinary(FieldInfo field) {
+                            DocValuesWriterWrapper<BinaryDocValues> wrapper = (DocValuesWriterWrapper<
+                                BinaryDocValues>) docValuesWriters.get(writerIndex);
+                            return wrapper.getDocValues();
+                        }
+                    };
+                    docValuesConsumer.addBinaryField(fieldInfoList[i], docValuesProducer);
+                    break;
                 default:
                     throw new IllegalStateException("Unsupported doc values type");
             }
@@ -589,7 +621,13 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
             // As part of merge, we traverse the star tree doc values
             // The type of data stored in metric fields is different from the
             // actual indexing field they're based on
-            metrics[i] = metricAggregatorInfos.get(i).getValueAggregators().toAggregatedValueType(metricValuesIterator.value(currentDocId));
+            ValueAggregator<?> valueAggregator = metricAggregatorInfos.get(i).getValueAggregators();
+            if (valueAggregator instanceof SketchValueAggregator<?> sketchValueAggregator) {
+                BytesRef sketch = metricValuesIterator.binaryValue(currentDocId);
+                metrics[i] = sketch == null ? sketchValueAggregator.getIdentityMetricValue() : sketchValueAggregator.deserialize(sketch);
+            } else {
+                metrics[i] = valueAggregator.toAggregatedValueType(metricValuesIterator.value(currentDocId));
+            }
             i++;
         }
         return new StarTreeDocument(dims, metrics);
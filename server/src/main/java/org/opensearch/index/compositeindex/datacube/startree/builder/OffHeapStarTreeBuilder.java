@@ -175,17 +175,23 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
      * Sorts and aggregates the star-tree documents from multiple segments and builds star tree based on the newly
      * aggregated star-tree documents
      *
+     * <p>The star-tree documents of every segment are already sorted on the dimensions, so when that holds for all
+     * the segments, the segment runs are k-way merged instead of sorting all the documents again.
+     *
      * @param starTreeValuesSubs StarTreeValues from multiple segments
      * @return iterator of star tree documents
      */
     Iterator<StarTreeDocument> mergeStarTrees(List<StarTreeValues> starTreeValuesSubs) throws IOException {
         int numDocs = 0;
-        int[] docIds;
+        int[] segmentStartDocIds = new int[starTreeValuesSubs.size()];
+        boolean segmentsSorted = true;
         this.isMerge = true;
         Map<String, OrdinalMap> ordinalMaps = getOrdinalMaps(starTreeValuesSubs);
         try {
             int seg = 0;
             for (StarTreeValues starTreeValues : starTreeValuesSubs) {
+                segmentStartDocIds[seg] = numDocs;
+                Long[] previousDimensions = null;
                 SequentialDocValuesIterator[] dimensionReaders = new SequentialDocValuesIterator[numDimensions];
                 List<SequentialDocValuesIterator> metricReaders = new ArrayList<>();
                 AtomicInteger numSegmentDocs = new AtomicInteger();
@@ -198,15 +204,22 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
                 while (currentDocId < numSegmentDocs.get()) {
                     StarTreeDocument starTreeDocument = getStarTreeDocument(currentDocId, dimensionReaders, metricReaders, longValuesMap);
                     segmentDocumentFileManager.writeStarTreeDocument(starTreeDocument, true);
+                    if (segmentsSorted
+                        && previousDimensions != null
+                        && StarTreeDocumentsSorter.compareDimensions(
+                            previousDimensions,
+                            starTreeDocument.dimensions,
+                            -1,
+                            dimensionComparators
+                        ) > 0) {
+                        segmentsSorted = false;
+                    }
+                    previousDimensions = starTreeDocument.dimensions;
                     numDocs++;
                     currentDocId++;
                 }
                 seg++;
             }
-            docIds = new int[numDocs];
-            for (int i = 0; i < numDocs; i++) {
-                docIds[i] = i;
-            }
         } catch (IOException ex) {
             segmentDocumentFileManager.close();
             throw ex;
@@ -216,9 +229,40 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
             return Collections.emptyIterator();
         }
 
+        if (segmentsSorted) {
+            return mergeAndReduceDocuments(segmentStartDocIds, numDocs);
+        }
+        int[] docIds = new int[numDocs];
+        for (int i = 0; i < numDocs; i++) {
+            docIds[i] = i;
+        }
         return sortAndReduceDocuments(docIds, numDocs, true);
     }
 
+    /**
+     * Merges the already sorted star-tree documents of the segments and reduces the documents with the same dimensions
+     */
+    private Iterator<StarTreeDocument> mergeAndReduceDocuments(int[] segmentStartDocIds, int numDocs) throws IOException {
+        int[] sortedDocIds;
+        try {
+            sortedDocIds = StarTreeDocumentsSorter.mergeSortedRuns(segmentStartDocIds, numDocs, docId -> {
+                try {
+                    return segmentDocumentFileManager.readDimensions(docId);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, dimensionComparators);
+        } catch (UncheckedIOException ex) {
+            IOUtils.closeWhileHandlingException(segmentDocumentFileManager);
+            // Unwrap UncheckedIOException and throw as IOException
+            if (ex.getCause() != null) {
+                throw ex.getCause();
+            }
+            throw ex;
+        }
+        return reduceDocuments(sortedDocIds, numDocs, true);
+    }
+
     /**
      * Sorts and reduces the star tree documents based on the dimensions
      */
@@ -243,6 +287,18 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
                 }
                 throw ex;
             }
+        } catch (IOException ex) {
+            IOUtils.closeWhileHandlingException(segmentDocumentFileManager);
+            throw ex;
+        }
+        return reduceDocuments(sortedDocIds, numDocs, isMerge);
+    }
+
+    /**
+     * Reduces the star tree documents with the same dimensions, reading the documents in the given sorted order
+     */
+    private Iterator<StarTreeDocument> reduceDocuments(int[] sortedDocIds, int numDocs, boolean isMerge) throws IOException {
+        try {
             final StarTreeDocument currentDocument = segmentDocumentFileManager.readStarTreeDocument(sortedDocIds[0], isMerge);
             // Create an iterator for aggregated documents
             return new Iterator<StarTreeDocument>() {
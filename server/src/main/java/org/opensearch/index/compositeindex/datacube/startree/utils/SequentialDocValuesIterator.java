@@ -9,8 +9,10 @@
 
 package org.opensearch.index.compositeindex.datacube.startree.utils;
 
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.LongValues;
 import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.BinaryStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedSetStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.StarTreeValuesIterator;
@@ -99,6 +101,26 @@ public class SequentialDocValuesIterator {
         }
     }
 
+    /**
+     * Returns the binary value of the given entry, or null if the entry has no value
+     */
+    public BytesRef binaryValue(int currentEntryId) throws IOException {
+        if (starTreeValuesIterator instanceof BinaryStarTreeValuesIterator binaryIterator) {
+            if (currentEntryId < 0) {
+                throw new IllegalStateException("invalid entry id to fetch the next value");
+            }
+            if (currentEntryId == StarTreeValuesIterator.NO_MORE_ENTRIES) {
+                throw new IllegalStateException("StarTreeValuesIterator is already exhausted");
+            }
+            if (entryId == StarTreeValuesIterator.NO_MORE_ENTRIES || entryId != currentEntryId) {
+                return null;
+            }
+            return binaryIterator.binaryValue();
+        } else {
+            throw new IllegalStateException("Unsupported Iterator requested for SequentialDocValuesIterator");
+        }
+    }
+
     public Long value(int currentEntryId, LongValues globalOrdinalLongValues) throws IOException {
         if (starTreeValuesIterator instanceof SortedNumericStarTreeValuesIterator) {
             return value(currentEntryId);
@@ -13,6 +13,7 @@ import org.apache.lucene.util.IntroSorter;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.function.IntFunction;
 
 /**
@@ -46,14 +47,81 @@ public class StarTreeDocumentsSorter {
 
             @Override
             protected int comparePivot(int j) {
-                Long[] currentDimensions = dimensionsReader.apply(j);
-                for (int i = dimensionId + 1; i < dimensions.length; i++) {
-                    if (!Objects.equals(dimensions[i], currentDimensions[i])) {
-                        return dimensionComparators.get(i).compare(dimensions[i], currentDimensions[i]);
-                    }
-                }
-                return 0;
+                return compareDimensions(dimensions, dimensionsReader.apply(j), dimensionId, dimensionComparators);
             }
         }.sort(0, numDocs);
     }
+
+    /**
+     * Merges consecutive runs of documents which are each already sorted based on the dimension values, such as
+     * the star-tree documents of the segments being merged. Every document is read once and compared against the
+     * head of the other runs only, instead of sorting all the documents again.
+     *
+     * @param runStarts start doc id of each run, a run ends where the next one starts and the last run ends at numDocs
+     * @param numDocs total number of documents
+     * @param dimensionsReader reads the dimension values of the given doc id
+     * @param dimensionComparators comparators of the dimensions
+     * @return doc ids in sorted order
+     */
+    public static int[] mergeSortedRuns(
+        final int[] runStarts,
+        final int numDocs,
+        final IntFunction<Long[]> dimensionsReader,
+        final List<Comparator<Long>> dimensionComparators
+    ) {
+        int[] sortedDocIds = new int[numDocs];
+        int[] runEnds = new int[runStarts.length];
+        PriorityQueue<RunHead> queue = new PriorityQueue<>(Math.max(1, runStarts.length), (head1, head2) -> {
+            int compare = compareDimensions(head1.dimensions, head2.dimensions, -1, dimensionComparators);
+            return compare != 0 ? compare : Integer.compare(head1.run, head2.run);
+        });
+        for (int run = 0; run < runStarts.length; run++) {
+            runEnds[run] = run + 1 < runStarts.length ? runStarts[run + 1] : numDocs;
+            if (runStarts[run] < runEnds[run]) {
+                queue.add(new RunHead(run, runStarts[run], dimensionsReader.apply(runStarts[run])));
+            }
+        }
+        int index = 0;
+        while (queue.isEmpty() == false) {
+            RunHead head = queue.poll();
+            sortedDocIds[index++] = head.docId;
+            int nextDocId = head.docId + 1;
+            if (nextDocId < runEnds[head.run]) {
+                queue.add(new RunHead(head.run, nextDocId, dimensionsReader.apply(nextDocId)));
+            }
+        }
+        return sortedDocIds;
+    }
+
+    /**
+     * Compares the dimension values after the given dimension id
+     */
+    public static int compareDimensions(
+        final Long[] dimensions,
+        final Long[] otherDimensions,
+        final int dimensionId,
+        final List<Comparator<Long>> dimensionComparators
+    ) {
+        for (int i = dimensionId + 1; i < dimensions.length; i++) {
+            if (!Objects.equals(dimensions[i], otherDimensions[i])) {
+                return dimensionComparators.get(i).compare(dimensions[i], otherDimensions[i]);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Current document of a sorted run
+     */
+    private static final class RunHead {
+        private final int run;
+        private final int docId;
+        private final Long[] dimensions;
+
+        private RunHead(int run, int docId, Long[] dimensions) {
+            this.run = run;
+            this.docId = docId;
+            this.dimensions = dimensions;
+        }
+    }
 }
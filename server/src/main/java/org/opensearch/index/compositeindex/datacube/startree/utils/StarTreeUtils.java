@@ -76,7 +76,7 @@ public class StarTreeUtils {
         for (String fieldName : fields) {
             fieldInfoList[fieldNumber] = getFieldInfo(
                 fieldName,
-                // default is sortedNumeric since all metrics right now are sorted numeric
+                // default is sortedNumeric since all metrics other than sketches are sorted numeric
                 dimDocValuesTypeMap.getOrDefault(fieldName, DocValuesType.SORTED_NUMERIC),
                 fieldNumber
             );
@@ -85,6 +85,13 @@ public class StarTreeUtils {
         return fieldInfoList;
     }
 
+    /**
+     * Skip index is only supported for numeric and sorted doc values, binary fields such as sketches have none
+     */
+    private static DocValuesSkipIndexType getDocValuesSkipIndexType(DocValuesType docValuesType) {
+        return docValuesType == DocValuesType.BINARY ? DocValuesSkipIndexType.NONE : DocValuesSkipIndexType.RANGE;
+    }
+
     /**
      * Get new field info instance for a given field name and field number
      * @param fieldName name of the field
@@ -101,7 +108,7 @@ public class StarTreeUtils {
             true,
             IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS,
             docValuesType,
-            DocValuesSkipIndexType.RANGE,
+            getDocValuesSkipIndexType(docValuesType),
             -1,
             Collections.emptyMap(),
             0,
@@ -135,7 +142,7 @@ public class StarTreeUtils {
             true,
             IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS,
             docValuesType,
-            DocValuesSkipIndexType.RANGE,
+            getDocValuesSkipIndexType(docValuesType),
             -1,
             Collections.emptyMap(),
             0,
@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.utils.iterator;
+
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.annotation.ExperimentalApi;
+
+import java.io.IOException;
+
+/**
+ * Wrapper iterator class for StarTree index to traverse through BinaryDocValues.
+ * Used for metrics which are stored as serialized sketches.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class BinaryStarTreeValuesIterator extends StarTreeValuesIterator {
+
+    public BinaryStarTreeValuesIterator(DocIdSetIterator docIdSetIterator) {
+        super(docIdSetIterator);
+    }
+
+    @Override
+    public long value() {
+        throw new UnsupportedOperationException("binary star-tree values cannot be read as a long");
+    }
+
+    /**
+     * Returns the binary value of the current entry. The returned bytes may be reused by the next call.
+     */
+    public BytesRef binaryValue() throws IOException {
+        return ((BinaryDocValues) docIdSetIterator).binaryValue();
+    }
+
+    public int entryValueCount() {
+        return 1;
+    }
+
+    public boolean advanceExact(int target) throws IOException {
+        return ((BinaryDocValues) docIdSetIterator).advanceExact(target);
+    }
+}
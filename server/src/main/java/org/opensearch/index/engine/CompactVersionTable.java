@@ -0,0 +1,167 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.BytesRefHash;
+import org.opensearch.common.util.ObjectArray;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link LiveVersionMap.VersionTable} that stores the uids in open-addressed hash tables over paged byte arrays rather than as
+ * {@link BytesRef} keys of a concurrent hash map, so that indexing a document only allocates its {@link VersionValue}. The uids are
+ * spread over a fixed number of segments, each of which is guarded by its own monitor.
+ * <p>
+ * Removing a uid only clears its version, the uid itself stays in the table until the table is dropped. This is fine since a table
+ * only lives until the second refresh after it was created, and the bytes of removed uids remain accounted for until then.
+ * <p>
+ * Pages are not recycled since a table that was dropped may still be read by a concurrent lookup.
+ *
+ * @opensearch.internal
+ */
+final class CompactVersionTable implements LiveVersionMap.VersionTable {
+
+    private static final int SEGMENTS = 16;
+
+    private static final long DEFAULT_SEGMENT_CAPACITY = 32;
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    /**
+     * Bytes used for each uid besides its own bytes: a slot of the hash table (accounting for its load factor), the offset and the
+     * hash of the uid, and the reference to its version.
+     */
+    static final long BASE_BYTES_PER_UID = (long) Math.ceil(Long.BYTES / LOAD_FACTOR) + 2 * Long.BYTES
+        + RamUsageEstimator.NUM_BYTES_OBJECT_REF;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    CompactVersionTable(int expectedSize) {
+        final long segmentCapacity = Math.max(DEFAULT_SEGMENT_CAPACITY, expectedSize / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    private Segment segment(BytesRef uid) {
+        // the hash tables of the segments hash uids with another function, so this doesn't skew their distribution within a segment
+        final int hash = uid.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    @Override
+    public VersionValue get(BytesRef uid) {
+        return segment(uid).get(uid);
+    }
+
+    @Override
+    public long put(BytesRef uid, VersionValue value) {
+        return segment(uid).put(uid, value);
+    }
+
+    @Override
+    public long remove(BytesRef uid) {
+        return segment(uid).remove(uid);
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    @Override
+    public Map<BytesRef, VersionValue> asMap() {
+        final Map<BytesRef, VersionValue> map = new HashMap<>();
+        for (Segment segment : segments) {
+            segment.copyTo(map);
+        }
+        return map;
+    }
+
+    private static final class Segment {
+        private final long initialCapacity;
+        // created on the first put, since most segments of the tables of idle shards are never written to
+        private BytesRefHash uids;
+        private ObjectArray<VersionValue> values;
+        private int size;
+
+        Segment(long initialCapacity) {
+            this.initialCapacity = initialCapacity;
+        }
+
+        synchronized VersionValue get(BytesRef uid) {
+            if (uids == null) {
+                return null;
+            }
+            final long ordinal = uids.find(uid);
+            return ordinal < 0 ? null : values.get(ordinal);
+        }
+
+        synchronized long put(BytesRef uid, VersionValue value) {
+            if (uids == null) {
+                uids = new BytesRefHash(initialCapacity, LOAD_FACTOR, BigArrays.NON_RECYCLING_INSTANCE);
+                values = BigArrays.NON_RECYCLING_INSTANCE.newObjectArray(initialCapacity);
+            }
+            long ordinal = uids.add(uid);
+            if (ordinal >= 0) {
+                values = BigArrays.NON_RECYCLING_INSTANCE.grow(values, ordinal + 1);
+                values.set(ordinal, value);
+                size++;
+                return BASE_BYTES_PER_UID + uid.length + value.ramBytesUsed();
+            }
+            ordinal = -1 - ordinal;
+            final VersionValue previousValue = values.set(ordinal, value);
+            if (previousValue == null) {
+                size++;
+                return value.ramBytesUsed();
+            }
+            return value.ramBytesUsed() - previousValue.ramBytesUsed();
+        }
+
+        synchronized long remove(BytesRef uid) {
+            if (uids == null) {
+                return 0;
+            }
+            final long ordinal = uids.find(uid);
+            if (ordinal < 0) {
+                return 0;
+            }
+            final VersionValue previousValue = values.set(ordinal, null);
+            if (previousValue == null) {
+                return 0;
+            }
+            size--;
+            return -previousValue.ramBytesUsed();
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized void copyTo(Map<BytesRef, VersionValue> map) {
+            if (uids == null) {
+                return;
+            }
+            for (long ordinal = 0; ordinal < uids.size(); ordinal++) {
+                final VersionValue value = values.get(ordinal);
+                if (value != null) {
+                    map.put(BytesRef.deepCopyOf(uids.get(ordinal, new BytesRef())), value);
+                }
+            }
+        }
+    }
+}
@@ -69,6 +69,7 @@ import org.opensearch.threadpool.ThreadPool;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.BooleanSupplier;
@@ -247,6 +248,19 @@ public final class EngineConfig {
         Property.IndexScope
     );
 
+    /**
+     * Configures how the live version map keeps the versions of the documents that were indexed or deleted since the last refresh.
+     * {@code default} keys a concurrent hash map by the document ids and locks every id on its own, while {@code compact} stores the
+     * ids in open-addressed hash tables over paged byte arrays and locks them through a fixed set of striped locks, which allocates
+     * far fewer objects per operation on indices that receive a lot of updates. The default is <code>default</code>
+     */
+    public static final Setting<VersionMapType> INDEX_VERSION_MAP_TYPE_SETTING = new Setting<>(
+        "index.version_map.type",
+        VersionMapType.DEFAULT.toString(),
+        VersionMapType::fromString,
+        Property.IndexScope
+    );
+
     private final TranslogConfig translogConfig;
 
     private final TranslogFactory translogFactory;
@@ -555,6 +569,13 @@ public final class EngineConfig {
         return indexSettings.getValue(INDEX_USE_COMPOUND_FILE);
     }
 
+    /**
+     * Returns how the live version map of the engine stores the versions of the documents.
+     */
+    public VersionMapType getVersionMapType() {
+        return indexSettings.getValue(INDEX_VERSION_MAP_TYPE_SETTING);
+    }
+
     /**
      * Returns the underlying startedPrimarySupplier.
      * @return the primary mode supplier.
@@ -579,6 +600,38 @@ public final class EngineConfig {
         return indexReaderWarmer;
     }
 
+    /**
+     * How the live version map stores the versions of the documents that were indexed or deleted since the last refresh.
+     *
+     * @opensearch.api
+     */
+    @PublicApi(since = "3.4.0")
+    public enum VersionMapType {
+        /**
+         * A concurrent hash map keyed by the document ids, along with a lock per id.
+         */
+        DEFAULT,
+        /**
+         * Open-addressed hash tables over paged byte arrays, along with striped locks.
+         */
+        COMPACT;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public static VersionMapType fromString(String type) {
+            try {
+                return valueOf(type.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(
+                    "unknown value for [" + INDEX_VERSION_MAP_TYPE_SETTING.getKey() + "] must be one of [default, compact] but was: " + type
+                );
+            }
+        }
+    }
+
     /**
      * A supplier supplies tombstone documents which will be used in soft-update methods.
      * The returned document consists only _uid, _seqno, _term and _version fields; other metadata fields are excluded.
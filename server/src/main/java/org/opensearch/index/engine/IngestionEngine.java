@@ -38,15 +38,20 @@ import org.opensearch.index.translog.listener.CompositeTranslogEventListener;
 import org.opensearch.indices.pollingingest.DefaultStreamPoller;
 import org.opensearch.indices.pollingingest.IngestionErrorStrategy;
 import org.opensearch.indices.pollingingest.IngestionSettings;
+import org.opensearch.indices.pollingingest.MultiPartitionStreamPoller;
 import org.opensearch.indices.pollingingest.PollingIngestStats;
 import org.opensearch.indices.pollingingest.StreamPoller;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiFunction;
+import java.util.function.IntConsumer;
 
 import static org.opensearch.action.index.IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP;
 import static org.opensearch.index.translog.Translog.EMPTY_TRANSLOG_LOCATION;
@@ -61,6 +66,7 @@ public class IngestionEngine extends InternalEngine {
     private final IngestionConsumerFactory ingestionConsumerFactory;
     private final DocumentMapperForType documentMapperForType;
     private volatile IngestionShardPointer lastCommittedBatchStartPointer;
+    private volatile Map<String, IngestionShardPointer> lastCommittedPartitionBatchStartPointers = Collections.emptyMap();
 
     public IngestionEngine(EngineConfig engineConfig, IngestionConsumerFactory ingestionConsumerFactory) {
         super(engineConfig);
@@ -87,37 +93,97 @@ public class IngestionEngine extends InternalEngine {
 
         // initialize the ingestion consumer factory
         this.ingestionConsumerFactory.initialize(ingestionSource);
+        final int shardId = engineConfig.getShardId().getId();
         String clientId = engineConfig.getIndexSettings().getNodeName()
             + "-"
             + engineConfig.getIndexSettings().getIndex().getName()
             + "-"
-            + engineConfig.getShardId().getId();
+            + shardId;
 
         Map<String, String> commitData = commitDataAsMap(documentIndexWriter);
-        StreamPoller.ResetState resetState = ingestionSource.getPointerInitReset().getType();
-        String resetValue = ingestionSource.getPointerInitReset().getValue();
-        IngestionShardPointer startPointer = null;
         boolean forceResetPoller = resetStateOverride != null
             && Strings.isNullOrEmpty(resetValueOverride) == false
             && startPointerOverride != null;
 
-        // initialize ingestion start pointer
-        if (commitData.containsKey(StreamPoller.BATCH_START) || forceResetPoller) {
-            if (forceResetPoller) {
-                startPointer = startPointerOverride;
-            } else {
-                // try recovering from commit data
-                String batchStartStr = commitData.get(StreamPoller.BATCH_START);
-                startPointer = this.ingestionConsumerFactory.parsePointerFromString(batchStartStr);
+        StreamPoller.State initialPollerState = indexMetadata.getIngestionStatus().isPaused()
+            ? StreamPoller.State.PAUSED
+            : StreamPoller.State.NONE;
 
-                // reset to none so the poller will poll from the startPointer
-                resetState = StreamPoller.ResetState.NONE;
+        final int partitionsPerShard = ingestionSource.getPartitionsPerShard();
+        if (partitionsPerShard == 1) {
+            IngestionShardPointer startPointer = forceResetPoller ? startPointerOverride : null;
+            streamPoller = buildPartitionPoller(
+                ingestionSource,
+                clientId,
+                shardId,
+                StreamPoller.BATCH_START,
+                commitData,
+                forceResetPoller ? resetStateOverride : null,
+                resetValueOverride,
+                startPointer,
+                initialPollerState
+            );
+        } else {
+            // shard s of an index with n shards consumes the partitions s, s + n, s + 2n and so on, each with its own poller
+            // whose batch start pointer is committed under its own key
+            final int numberOfShards = engineConfig.getIndexSettings().getNumberOfShards();
+            List<DefaultStreamPoller> pollers = new ArrayList<>(partitionsPerShard);
+            for (int i = 0; i < partitionsPerShard; i++) {
+                final int partition = shardId + i * numberOfShards;
+                pollers.add(
+                    buildPartitionPoller(
+                        ingestionSource,
+                        clientId + "-" + partition,
+                        partition,
+                        StreamPoller.partitionBatchStartKey(partition),
+                        commitData,
+                        // the reset pointer of each partition is resolved by its own poller
+                        forceResetPoller ? resetStateOverride : null,
+                        resetValueOverride,
+                        null,
+                        initialPollerState
+                    )
+                );
             }
+            streamPoller = new MultiPartitionStreamPoller(pollers);
         }
+        registerStreamPollerListener();
+
+        // start the polling loop
+        streamPoller.start();
+    }
+
+    /**
+     * Builds the poller of a partition of the stream, which starts from the pointer committed under the given key unless it
+     * is reset.
+     */
+    private DefaultStreamPoller buildPartitionPoller(
+        IngestionSource ingestionSource,
+        String clientId,
+        int partition,
+        String batchStartKey,
+        Map<String, String> commitData,
+        @Nullable StreamPoller.ResetState resetStateOverride,
+        @Nullable String resetValueOverride,
+        @Nullable IngestionShardPointer startPointerOverride,
+        StreamPoller.State initialPollerState
+    ) {
+        StreamPoller.ResetState resetState = ingestionSource.getPointerInitReset().getType();
+        String resetValue = ingestionSource.getPointerInitReset().getValue();
+        IngestionShardPointer startPointer = null;
 
-        if (forceResetPoller) {
+        // initialize ingestion start pointer
+        if (resetStateOverride != null) {
+            startPointer = startPointerOverride;
             resetState = resetStateOverride;
             resetValue = resetValueOverride;
+        } else if (commitData.containsKey(batchStartKey)) {
+            // try recovering from commit data
+            String batchStartStr = commitData.get(batchStartKey);
+            startPointer = this.ingestionConsumerFactory.parsePointerFromString(batchStartStr);
+
+            // reset to none so the poller will poll from the startPointer
+            resetState = StreamPoller.ResetState.NONE;
         }
 
         IngestionErrorStrategy ingestionErrorStrategy = IngestionErrorStrategy.create(
@@ -125,10 +191,6 @@ public class IngestionEngine extends InternalEngine {
             ingestionSource.getType()
         );
 
-        StreamPoller.State initialPollerState = indexMetadata.getIngestionStatus().isPaused()
-            ? StreamPoller.State.PAUSED
-            : StreamPoller.State.NONE;
-
         // initialize the stream poller
         DefaultStreamPoller.Builder streamPollerBuilder = new DefaultStreamPoller.Builder(
             startPointer,
@@ -137,7 +199,8 @@ public class IngestionEngine extends InternalEngine {
             engineConfig.getShardId().getId(),
             this
         );
-        streamPoller = streamPollerBuilder.resetState(resetState)
+        return streamPollerBuilder.partition(partition)
+            .resetState(resetState)
             .resetValue(resetValue)
             .errorStrategy(ingestionErrorStrategy)
             .initialState(initialPollerState)
@@ -145,13 +208,11 @@ public class IngestionEngine extends InternalEngine {
             .pollTimeout(ingestionSource.getPollTimeout())
             .numProcessorThreads(ingestionSource.getNumProcessorThreads())
             .blockingQueueSize(ingestionSource.getBlockingQueueSize())
+            .maxBatchSize(ingestionSource.getMaxBatchSize())
+            .maxBatchSizeInBytes(ingestionSource.getMaxBatchSizeInBytes().getBytes())
             .pointerBasedLagUpdateInterval(ingestionSource.getPointerBasedLagUpdateInterval().millis())
             .mapperType(ingestionSource.getMapperType())
             .build();
-        registerStreamPollerListener();
-
-        // start the polling loop
-        streamPoller.start();
     }
 
     private void registerStreamPollerListener() {
@@ -227,6 +288,51 @@ public class IngestionEngine extends InternalEngine {
         }
     }
 
+    /**
+     * Applies a batch of operations in order. This is used internally by the stream poller only. The engine read lock is
+     * held across the whole batch, and the deletes are pruned once after the batch rather than after each delete.
+     * Operations with version conflicts are skipped and reported to the given consumer. The batch stops at the first
+     * operation that fails for any other reason, which is left for the caller to retry.
+     *
+     * @param operations the index, delete and no-op operations to apply
+     * @param createModes the positions of the index operations that must not update an existing document
+     * @param onVersionConflict consumes the positions of the operations that were skipped due to a version conflict
+     * @return the number of operations that were applied or skipped, which is less than the size of the batch if one failed
+     */
+    public int applyBatchInternal(List<Operation> operations, BitSet createModes, IntConsumer onVersionConflict) {
+        int applied = 0;
+        boolean hasDeletes = false;
+        try (ReleasableLock releasableLock = readLock.acquire()) {
+            for (; applied < operations.size(); applied++) {
+                final Operation operation = operations.get(applied);
+                try {
+                    switch (operation.operationType()) {
+                        case INDEX:
+                            indexInternal((Index) operation, createModes.get(applied));
+                            break;
+                        case DELETE:
+                            deleteWithoutPruning((Delete) operation);
+                            hasDeletes = true;
+                            break;
+                        case NO_OP:
+                            break;
+                        default:
+                            throw new IllegalArgumentException("Invalid operation: " + operation);
+                    }
+                } catch (VersionConflictEngineException e) {
+                    onVersionConflict.accept(applied);
+                } catch (Exception e) {
+                    logger.debug("Failed to apply operation at position {} of batch, leaving it to be retried", applied);
+                    break;
+                }
+            }
+        }
+        if (hasDeletes) {
+            maybePruneDeletes();
+        }
+        return applied;
+    }
+
     private IndexResult indexIntoLucene(Index index, boolean isCreateMode) throws IOException {
         if (isCreateMode || index.getAutoGeneratedIdTimestamp() != UNSET_AUTO_GENERATED_TIMESTAMP) {
             addDocs(index.docs(), documentIndexWriter, index.uid());
@@ -268,6 +374,11 @@ public class IngestionEngine extends InternalEngine {
      * Processes delete operations. This is used internally by the stream poller only.
      */
     public void deleteInternal(Delete delete) throws IOException {
+        deleteWithoutPruning(delete);
+        maybePruneDeletes();
+    }
+
+    private void deleteWithoutPruning(Delete delete) throws IOException {
         versionMap.enforceSafeAccess();
         assert Objects.equals(delete.uid().field(), IdFieldMapper.NAME) : delete.uid().field();
         lastWriteNanos = delete.startTime();
@@ -321,8 +432,6 @@ public class IngestionEngine extends InternalEngine {
             }
             throw e;
         }
-
-        maybePruneDeletes();
     }
 
     @Override
@@ -366,6 +475,7 @@ public class IngestionEngine extends InternalEngine {
         try {
             final long localCheckpoint = localCheckpointTracker.getProcessedCheckpoint();
             final IngestionShardPointer batchStartPointer = streamPoller.getBatchStartPointer();
+            final Map<String, IngestionShardPointer> partitionBatchStartPointers = streamPoller.getPartitionBatchStartPointers();
             writer.setLiveCommitData(() -> {
                 /*
                  * The user data captured above (e.g. local checkpoint) contains data that must be evaluated *before* Lucene flushes
@@ -389,7 +499,12 @@ public class IngestionEngine extends InternalEngine {
                  * Batch start pointer can be null at index creation time, if flush is called before the stream
                  * poller has been completely initialized.
                  */
-                if (batchStartPointer != null) {
+                if (partitionBatchStartPointers.isEmpty() == false) {
+                    // shards that consume multiple partitions record the batch start pointer of each partition
+                    for (Map.Entry<String, IngestionShardPointer> entry : partitionBatchStartPointers.entrySet()) {
+                        commitData.put(entry.getKey(), entry.getValue().asString());
+                    }
+                } else if (batchStartPointer != null) {
                     commitData.put(StreamPoller.BATCH_START, batchStartPointer.asString());
                 } else {
                     logger.warn("ignore null batch start pointer");
@@ -404,6 +519,7 @@ public class IngestionEngine extends InternalEngine {
             shouldPeriodicallyFlushAfterBigMerge.set(false);
             writer.commit();
             lastCommittedBatchStartPointer = batchStartPointer;
+            lastCommittedPartitionBatchStartPointers = partitionBatchStartPointers;
         } catch (final Exception ex) {
             try {
                 failEngine("lucene commit failed", ex);
@@ -442,6 +558,12 @@ public class IngestionEngine extends InternalEngine {
             return true;
         }
 
+        // Check if the batchStartPointer of any partition has changed since last commit, for shards consuming multiple partitions
+        Map<String, IngestionShardPointer> currentPartitionBatchStartPointers = streamPoller.getPartitionBatchStartPointers();
+        if (currentPartitionBatchStartPointers.isEmpty() == false) {
+            return currentPartitionBatchStartPointers.equals(lastCommittedPartitionBatchStartPointers) == false;
+        }
+
         // Check if batchStartPointer has changed since last commit
         IngestionShardPointer currentBatchStartPointer = streamPoller.getBatchStartPointer();
 
@@ -643,6 +765,7 @@ public class IngestionEngine extends InternalEngine {
      */
     public ShardIngestionState getIngestionState() {
         IngestionShardPointer shardPointer = streamPoller.getBatchStartPointer();
+        Map<String, IngestionShardPointer> partitionPointers = streamPoller.getPartitionBatchStartPointers();
 
         return new ShardIngestionState(
             engineConfig.getIndexSettings().getIndex().getName(),
@@ -651,7 +774,7 @@ public class IngestionEngine extends InternalEngine {
             streamPoller.getErrorStrategy().getName(),
             streamPoller.isPaused(),
             streamPoller.isWriteBlockEnabled(),
-            shardPointer != null ? shardPointer.toString() : ""
+            partitionPointers.isEmpty() == false ? partitionPointers.toString() : shardPointer != null ? shardPointer.toString() : ""
         );
     }
 }
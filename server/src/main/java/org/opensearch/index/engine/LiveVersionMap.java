@@ -45,6 +45,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Maps _uid value to its version information.
@@ -53,7 +54,86 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 final class LiveVersionMap implements ReferenceManager.RefreshListener, Accountable {
 
-    private final KeyedLock<BytesRef> keyedLock = new KeyedLock<>();
+    private final EngineConfig.VersionMapType type;
+
+    // depending on the type of the map, uids are either locked one by one or through a fixed set of striped locks
+    private final KeyedLock<BytesRef> keyedLock;
+    private final StripedLock stripedLock;
+
+    /**
+     * Storage of the versions of the uids that were indexed or deleted while a {@link VersionLookup} was current. The table of
+     * the current lookup is written to under the lock of the uid, while it may be read concurrently for other uids.
+     *
+     * @opensearch.internal
+     */
+    interface VersionTable {
+
+        VersionValue get(BytesRef uid);
+
+        /**
+         * Maps the uid to the given version and returns by how much this changed the RAM used by the table.
+         */
+        long put(BytesRef uid, VersionValue value);
+
+        /**
+         * Removes the version of the uid and returns by how much this changed the RAM used by the table.
+         */
+        long remove(BytesRef uid);
+
+        int size();
+
+        /**
+         * Returns the versions held by the table. The returned map may or may not reflect later changes to the table.
+         */
+        Map<BytesRef, VersionValue> asMap();
+    }
+
+    /**
+     * A {@link VersionTable} backed by a concurrent hash map keyed by the uids.
+     *
+     * @opensearch.internal
+     */
+    private static final class HashMapVersionTable implements VersionTable {
+        private final Map<BytesRef, VersionValue> map;
+
+        HashMapVersionTable(Map<BytesRef, VersionValue> map) {
+            this.map = map;
+        }
+
+        @Override
+        public VersionValue get(BytesRef uid) {
+            return map.get(uid);
+        }
+
+        @Override
+        public long put(BytesRef uid, VersionValue value) {
+            long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
+            long ramAccounting = BASE_BYTES_PER_CHM_ENTRY + value.ramBytesUsed() + uidRAMBytesUsed;
+            VersionValue previousValue = map.put(uid, value);
+            ramAccounting += previousValue == null ? 0 : -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
+            return ramAccounting;
+        }
+
+        @Override
+        public long remove(BytesRef uid) {
+            VersionValue previousValue = map.remove(uid);
+            if (previousValue == null) {
+                return 0;
+            }
+            long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
+            return -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public Map<BytesRef, VersionValue> asMap() {
+            return map;
+        }
+    }
 
     /**
      * Looks up document version
@@ -67,8 +147,8 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
          *  clear this RAM. */
         final AtomicLong ramBytesUsed = new AtomicLong();
 
-        private static final VersionLookup EMPTY = new VersionLookup(Collections.emptyMap());
-        private final Map<BytesRef, VersionValue> map;
+        private static final VersionLookup EMPTY = new VersionLookup(new HashMapVersionTable(Collections.emptyMap()));
+        private final VersionTable table;
 
         // each version map has a notion of safe / unsafe which allows us to apply certain optimization in the auto-generated ID usecase
         // where we know that documents can't have any duplicates so we can skip the version map entirely. This reduces
@@ -86,24 +166,24 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         // the tombstone
         private final AtomicLong minDeleteTimestamp = new AtomicLong(Long.MAX_VALUE);
 
-        private VersionLookup(Map<BytesRef, VersionValue> map) {
-            this.map = map;
+        private VersionLookup(VersionTable table) {
+            this.table = table;
         }
 
         VersionValue get(BytesRef key) {
-            return map.get(key);
+            return table.get(key);
         }
 
-        VersionValue put(BytesRef key, VersionValue value) {
-            return map.put(key, value);
+        long put(BytesRef key, VersionValue value) {
+            return table.put(key, value);
         }
 
         boolean isEmpty() {
-            return map.isEmpty();
+            return table.size() == 0;
         }
 
         int size() {
-            return map.size();
+            return table.size();
         }
 
         boolean isUnsafe() {
@@ -114,8 +194,8 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             unsafe = true;
         }
 
-        public VersionValue remove(BytesRef uid) {
-            return map.remove(uid);
+        public long remove(BytesRef uid) {
+            return table.remove(uid);
         }
 
         public void updateMinDeletedTimestamp(DeleteVersionValue delete) {
@@ -132,6 +212,8 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      */
     private static final class Maps {
 
+        final EngineConfig.VersionMapType type;
+
         // All writes (adds and deletes) go into here:
         final VersionLookup current;
 
@@ -143,14 +225,15 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         boolean needsSafeAccess;
         final boolean previousMapsNeededSafeAccess;
 
-        Maps(VersionLookup current, VersionLookup old, boolean previousMapsNeededSafeAccess) {
+        Maps(EngineConfig.VersionMapType type, VersionLookup current, VersionLookup old, boolean previousMapsNeededSafeAccess) {
+            this.type = type;
             this.current = current;
             this.old = old;
             this.previousMapsNeededSafeAccess = previousMapsNeededSafeAccess;
         }
 
-        Maps() {
-            this(new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency()), VersionLookup.EMPTY, false);
+        Maps(EngineConfig.VersionMapType type) {
+            this(type, new VersionLookup(newVersionTable(type, 0)), VersionLookup.EMPTY, false);
         }
 
         boolean isSafeAccessMode() {
@@ -168,26 +251,18 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
          * Builds a new map for the refresh transition this should be called in beforeRefresh()
          */
         Maps buildTransitionMap() {
-            return new Maps(
-                new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(current.size())),
-                current,
-                shouldInheritSafeAccess()
-            );
+            return new Maps(type, new VersionLookup(newVersionTable(type, current.size())), current, shouldInheritSafeAccess());
         }
 
         /**
          * builds a new map that invalidates the old map but maintains the current. This should be called in afterRefresh()
          */
         Maps invalidateOldMap() {
-            return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess);
+            return new Maps(type, current, VersionLookup.EMPTY, previousMapsNeededSafeAccess);
         }
 
         void put(BytesRef uid, VersionValue version) {
-            long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-            long ramAccounting = BASE_BYTES_PER_CHM_ENTRY + version.ramBytesUsed() + uidRAMBytesUsed;
-            VersionValue previousValue = current.put(uid, version);
-            ramAccounting += previousValue == null ? 0 : -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
-            adjustRam(ramAccounting);
+            adjustRam(current.put(uid, version));
         }
 
         void adjustRam(long value) {
@@ -198,12 +273,8 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         }
 
         void remove(BytesRef uid, DeleteVersionValue deleted) {
-            VersionValue previousValue = current.remove(uid);
+            adjustRam(current.remove(uid));
             current.updateMinDeletedTimestamp(deleted);
-            if (previousValue != null) {
-                long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-                adjustRam(-(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed));
-            }
             if (old != VersionLookup.EMPTY) {
                 // we also need to remove it from the old map here to make sure we don't read this stale value while
                 // we are in the middle of a refresh. Most of the time the old map is an empty map so we can skip it there.
@@ -219,10 +290,33 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
     // All deletes also go here, and delete "tombstones" are retained after refresh:
     private final Map<BytesRef, DeleteVersionValue> tombstones = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
 
-    private volatile Maps maps = new Maps();
+    private volatile Maps maps;
     // we maintain a second map that only receives the updates that we skip on the actual map (unsafe ops)
     // this map is only maintained if assertions are enabled
-    private volatile Maps unsafeKeysMap = new Maps();
+    private volatile Maps unsafeKeysMap;
+
+    LiveVersionMap() {
+        this(EngineConfig.VersionMapType.DEFAULT);
+    }
+
+    LiveVersionMap(EngineConfig.VersionMapType type) {
+        this.type = type;
+        this.keyedLock = type == EngineConfig.VersionMapType.DEFAULT ? new KeyedLock<>() : null;
+        this.stripedLock = type == EngineConfig.VersionMapType.DEFAULT ? null : new StripedLock();
+        this.maps = new Maps(type);
+        this.unsafeKeysMap = new Maps(type);
+    }
+
+    private static VersionTable newVersionTable(EngineConfig.VersionMapType type, int expectedSize) {
+        switch (type) {
+            case DEFAULT:
+                return new HashMapVersionTable(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(expectedSize));
+            case COMPACT:
+                return new CompactVersionTable(expectedSize);
+            default:
+                throw new IllegalArgumentException("unknown version map type [" + type + "]");
+        }
+    }
 
     /**
      * Bytes consumed for each BytesRef UID:
@@ -421,7 +515,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             // we won't collect the tombstone below since it must be newer than this one.
             if (canRemoveTombstone(maxTimestampToPrune, maxSeqNoToPrune, entry.getValue())) {
                 final BytesRef uid = entry.getKey();
-                try (Releasable lock = keyedLock.tryAcquire(uid)) {
+                try (Releasable lock = tryAcquireLock(uid)) {
                     // we use tryAcquire here since this is a best effort and we try to be least disruptive
                     // this method is also called under lock in the engine under certain situations such that this can lead to deadlocks
                     // if we do use a blocking acquire. see #28714
@@ -443,7 +537,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Called when this index is closed.
      */
     synchronized void clear() {
-        maps = new Maps();
+        maps = new Maps(type);
         tombstones.clear();
         // NOTE: we can't zero this here, because a refresh thread could be calling InternalEngine.pruneDeletedTombstones at the same time,
         // and this will lead to an assert trip. Presumably it's fine if our ramBytesUsedTombstones is non-zero after clear since the
@@ -482,7 +576,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Returns the current internal versions as a point in time snapshot
      */
     Map<BytesRef, VersionValue> getAllCurrent() {
-        return maps.current.map;
+        return maps.current.table.asMap();
     }
 
     /** Iterates over all deleted versions, including new ones (not yet exposed via reader) and old ones
@@ -498,11 +592,58 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * @see KeyedLock
      */
     Releasable acquireLock(BytesRef uid) {
-        return keyedLock.acquire(uid);
+        return keyedLock != null ? keyedLock.acquire(uid) : stripedLock.acquire(uid);
+    }
+
+    private Releasable tryAcquireLock(BytesRef uid) {
+        return keyedLock != null ? keyedLock.tryAcquire(uid) : stripedLock.tryAcquire(uid);
     }
 
     boolean assertKeyedLockHeldByCurrentThread(BytesRef uid) {
-        assert keyedLock.isHeldByCurrentThread(uid) : "Thread [" + Thread.currentThread().getName() + "], uid [" + uid.utf8ToString() + "]";
+        final boolean held = keyedLock != null ? keyedLock.isHeldByCurrentThread(uid) : stripedLock.isHeldByCurrentThread(uid);
+        assert held : "Thread [" + Thread.currentThread().getName() + "], uid [" + uid.utf8ToString() + "]";
         return true;
     }
+
+    /**
+     * Locks uids through a fixed set of reentrant locks, so that locking a uid doesn't allocate anything. Two uids that hash to the
+     * same stripe can't be locked concurrently by different threads, which is fine since uids are only locked for the duration of a
+     * single operation and the engine never waits for the lock of another uid while holding one.
+     *
+     * @opensearch.internal
+     */
+    private static final class StripedLock {
+        private static final int STRIPES = 128;
+
+        private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+        private final Releasable[] releasables = new Releasable[STRIPES];
+
+        StripedLock() {
+            for (int i = 0; i < STRIPES; i++) {
+                final ReentrantLock lock = new ReentrantLock();
+                locks[i] = lock;
+                releasables[i] = lock::unlock;
+            }
+        }
+
+        private static int stripe(BytesRef uid) {
+            final int hash = uid.hashCode();
+            return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+        }
+
+        Releasable acquire(BytesRef uid) {
+            final int stripe = stripe(uid);
+            locks[stripe].lock();
+            return releasables[stripe];
+        }
+
+        Releasable tryAcquire(BytesRef uid) {
+            final int stripe = stripe(uid);
+            return locks[stripe].tryLock() ? releasables[stripe] : null;
+        }
+
+        boolean isHeldByCurrentThread(BytesRef uid) {
+            return locks[stripe(uid)].isHeldByCurrentThread();
+        }
+    }
 }
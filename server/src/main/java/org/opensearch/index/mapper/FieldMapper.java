@@ -659,6 +659,19 @@ public abstract class FieldMapper extends Mapper implements Cloneable {
         }
     }
 
+    /**
+     * Method to determine, if the source of this field can be derived from its doc values alone, without reading
+     * any stored field
+     */
+    public boolean canDeriveSourceFromDocValues() {
+        try {
+            canDeriveSource();
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+        return getDerivedFieldGenerator().getDerivedFieldPreference() == FieldValueType.DOC_VALUES;
+    }
+
     /**
      * Must be overridden for each mapper for which derived source feature is supported
      */
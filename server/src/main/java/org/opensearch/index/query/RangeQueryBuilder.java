@@ -32,6 +32,7 @@
 
 package org.opensearch.index.query;
 
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.util.BytesRef;
@@ -445,6 +446,18 @@ public class RangeQueryBuilder extends AbstractQueryBuilder<RangeQueryBuilder>
         return NAME;
     }
 
+    /**
+     * Returns the relation of the values of the field to this range, as found in the given reader. Unlike the relation used to
+     * rewrite this query, the reader may be a single segment of the shard of the given context.
+     */
+    public MappedFieldType.Relation getRelation(QueryShardContext shardContext, IndexReader reader) throws IOException {
+        final MappedFieldType fieldType = shardContext.fieldMapper(fieldName);
+        if (fieldType == null) {
+            return MappedFieldType.Relation.DISJOINT;
+        }
+        return fieldType.isFieldWithinQuery(reader, from, to, includeLower, includeUpper, timeZone, getForceDateParser(), shardContext);
+    }
+
     // Overridable for testing only
     protected MappedFieldType.Relation getRelation(QueryRewriteContext queryRewriteContext) throws IOException {
         QueryShardContext shardContext = queryRewriteContext.convertToShardContext();
@@ -105,6 +105,12 @@ public class FileCachedIndexInput extends IndexInput implements RandomAccessInpu
         luceneIndexInput.readBytes(b, offset, len);
     }
 
+    @Override
+    public void prefetch(long offset, long length) throws IOException {
+        // lets the file of the cache read ahead, e.g. for the stored fields blocks of the hits of the fetch phase
+        luceneIndexInput.prefetch(offset, length);
+    }
+
     @Override
     public byte readByte(long pos) throws IOException {
         return ((RandomAccessInput) luceneIndexInput).readByte(pos);
@@ -8,6 +8,8 @@
 
 package org.opensearch.index.translog;
 
+import org.opensearch.common.Nullable;
+
 import java.io.IOException;
 import java.util.function.BooleanSupplier;
 import java.util.function.LongConsumer;
@@ -20,6 +22,17 @@ import java.util.function.LongSupplier;
  */
 public class InternalTranslogFactory implements TranslogFactory {
 
+    @Nullable
+    private final TranslogGroupCommitScheduler groupCommitScheduler;
+
+    public InternalTranslogFactory() {
+        this(null);
+    }
+
+    public InternalTranslogFactory(@Nullable TranslogGroupCommitScheduler groupCommitScheduler) {
+        this.groupCommitScheduler = groupCommitScheduler;
+    }
+
     @Override
     public Translog newTranslog(
         TranslogConfig translogConfig,
@@ -34,6 +47,7 @@ public class InternalTranslogFactory implements TranslogFactory {
         assert translogConfig.getIndexSettings().isDerivedSourceEnabled() == false; // For derived source supported index, primary method
                                                                                     // must be used
 
+        translogConfig.setGroupCommitScheduler(groupCommitScheduler);
         return new LocalTranslog(
             translogConfig,
             translogUUID,
@@ -58,6 +72,7 @@ public class InternalTranslogFactory implements TranslogFactory {
         TranslogOperationHelper translogOperationHelper
     ) throws IOException {
 
+        translogConfig.setGroupCommitScheduler(groupCommitScheduler);
         return new LocalTranslog(
             translogConfig,
             translogUUID,
@@ -8,7 +8,9 @@
 
 package org.opensearch.index.translog;
 
+import org.opensearch.common.Nullable;
 import org.opensearch.index.remote.RemoteTranslogTransferTracker;
+import org.opensearch.index.translog.transfer.TranslogBundleUploader;
 import org.opensearch.indices.RemoteStoreSettings;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.repositories.Repository;
@@ -39,6 +41,9 @@ public class RemoteBlobStoreInternalTranslogFactory implements TranslogFactory {
 
     private final boolean isServerSideEncryptionEnabled;
 
+    @Nullable
+    private final TranslogBundleUploader translogBundleUploader;
+
     public RemoteBlobStoreInternalTranslogFactory(
         Supplier<RepositoriesService> repositoriesServiceSupplier,
         ThreadPool threadPool,
@@ -46,6 +51,26 @@ public class RemoteBlobStoreInternalTranslogFactory implements TranslogFactory {
         RemoteTranslogTransferTracker remoteTranslogTransferTracker,
         RemoteStoreSettings remoteStoreSettings,
         boolean isServerSideEncryptionEnabled
+    ) {
+        this(
+            repositoriesServiceSupplier,
+            threadPool,
+            repositoryName,
+            remoteTranslogTransferTracker,
+            remoteStoreSettings,
+            isServerSideEncryptionEnabled,
+            null
+        );
+    }
+
+    public RemoteBlobStoreInternalTranslogFactory(
+        Supplier<RepositoriesService> repositoriesServiceSupplier,
+        ThreadPool threadPool,
+        String repositoryName,
+        RemoteTranslogTransferTracker remoteTranslogTransferTracker,
+        RemoteStoreSettings remoteStoreSettings,
+        boolean isServerSideEncryptionEnabled,
+        @Nullable TranslogBundleUploader translogBundleUploader
     ) {
         Repository repository;
         try {
@@ -58,6 +83,7 @@ public class RemoteBlobStoreInternalTranslogFactory implements TranslogFactory {
         this.remoteTranslogTransferTracker = remoteTranslogTransferTracker;
         this.remoteStoreSettings = remoteStoreSettings;
         this.isServerSideEncryptionEnabled = isServerSideEncryptionEnabled;
+        this.translogBundleUploader = translogBundleUploader;
     }
 
     @Override
@@ -129,7 +155,8 @@ public class RemoteBlobStoreInternalTranslogFactory implements TranslogFactory {
                 remoteStoreSettings,
                 translogOperationHelper,
                 null,
-                isServerSideEncryptionEnabled
+                isServerSideEncryptionEnabled,
+                translogBundleUploader
             );
         }
     }
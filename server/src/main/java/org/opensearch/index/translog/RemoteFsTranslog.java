@@ -10,6 +10,7 @@ package org.opensearch.index.translog;
 
 import org.apache.logging.log4j.Logger;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.blobstore.BlobPath;
 import org.opensearch.common.lease.Releasable;
@@ -25,6 +26,7 @@ import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.index.translog.transfer.BlobStoreTransferService;
 import org.opensearch.index.translog.transfer.FileTransferTracker;
 import org.opensearch.index.translog.transfer.TransferSnapshot;
+import org.opensearch.index.translog.transfer.TranslogBundleUploader;
 import org.opensearch.index.translog.transfer.TranslogCheckpointTransferSnapshot;
 import org.opensearch.index.translog.transfer.TranslogTransferManager;
 import org.opensearch.index.translog.transfer.TranslogTransferMetadata;
@@ -112,6 +114,42 @@ public class RemoteFsTranslog extends Translog {
         TranslogOperationHelper translogOperationHelper,
         ChannelFactory channelFactory,
         boolean isServerSideEncryptionEnabled
+    ) throws IOException {
+        this(
+            config,
+            translogUUID,
+            deletionPolicy,
+            globalCheckpointSupplier,
+            primaryTermSupplier,
+            persistedSequenceNumberConsumer,
+            blobStoreRepository,
+            threadPool,
+            startedPrimarySupplier,
+            remoteTranslogTransferTracker,
+            remoteStoreSettings,
+            translogOperationHelper,
+            channelFactory,
+            isServerSideEncryptionEnabled,
+            null
+        );
+    }
+
+    public RemoteFsTranslog(
+        TranslogConfig config,
+        String translogUUID,
+        TranslogDeletionPolicy deletionPolicy,
+        LongSupplier globalCheckpointSupplier,
+        LongSupplier primaryTermSupplier,
+        LongConsumer persistedSequenceNumberConsumer,
+        BlobStoreRepository blobStoreRepository,
+        ThreadPool threadPool,
+        BooleanSupplier startedPrimarySupplier,
+        RemoteTranslogTransferTracker remoteTranslogTransferTracker,
+        RemoteStoreSettings remoteStoreSettings,
+        TranslogOperationHelper translogOperationHelper,
+        ChannelFactory channelFactory,
+        boolean isServerSideEncryptionEnabled,
+        @Nullable TranslogBundleUploader translogBundleUploader
     ) throws IOException {
         super(
             config,
@@ -140,6 +178,13 @@ public class RemoteFsTranslog extends Translog {
             isTranslogMetadataEnabled,
             isServerSideEncryptionEnabled
         );
+        if (translogBundleUploader != null) {
+            translogTransferManager.setBundleUploader(
+                translogBundleUploader,
+                blobStoreRepository.getMetadata().name() + (isServerSideEncryptionEnabled ? "/sse" : ""),
+                blobStoreRepository.basePath()
+            );
+        }
         try {
             if (config.downloadRemoteTranslogOnInit()) {
                 download(translogTransferManager, location, logger, config.shouldSeedRemote(), 0);
@@ -277,9 +322,14 @@ public class RemoteFsTranslog extends Translog {
             }
 
             Map<String, String> generationToPrimaryTermMapper = translogMetadata.getGenerationToPrimaryTermMapper();
+            Map<String, String> generationToBundleLocation = translogMetadata.getGenerationToBundleLocation();
             for (long i = translogMetadata.getGeneration(); i >= translogMetadata.getMinTranslogGeneration(); i--) {
                 String generation = Long.toString(i);
-                translogTransferManager.downloadTranslog(generationToPrimaryTermMapper.get(generation), generation, location);
+                if (generationToBundleLocation != null && generationToBundleLocation.containsKey(generation)) {
+                    translogTransferManager.downloadTranslogFromBundle(generation, generationToBundleLocation.get(generation), location);
+                } else {
+                    translogTransferManager.downloadTranslog(generationToPrimaryTermMapper.get(generation), generation, location);
+                }
             }
             logger.info(
                 "Downloaded translog and checkpoint files from={} to={}",
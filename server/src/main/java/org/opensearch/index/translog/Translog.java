@@ -588,7 +588,8 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
                 persistedSequenceNumberConsumer,
                 bigArrays,
                 indexSettings.isAssignedOnRemoteNode(),
-                translogOperationHelper
+                translogOperationHelper,
+                config.getGroupCommitScheduler()
             );
         } catch (final IOException e) {
             throw new TranslogException(shardId, "failed to create new translog file", e);
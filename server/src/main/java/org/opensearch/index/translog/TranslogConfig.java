@@ -32,6 +32,7 @@
 
 package org.opensearch.index.translog;
 
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.core.common.unit.ByteSizeUnit;
@@ -61,6 +62,8 @@ public final class TranslogConfig {
     private final String nodeId;
     private final boolean seedRemote;
     private boolean downloadRemoteTranslogOnInit = true;
+    @Nullable
+    private TranslogGroupCommitScheduler groupCommitScheduler;
 
     /**
      * Creates a new TranslogConfig instance
@@ -149,4 +152,17 @@ public final class TranslogConfig {
     public void setDownloadRemoteTranslogOnInit(boolean downloadRemoteTranslogOnInit) {
         this.downloadRemoteTranslogOnInit = downloadRemoteTranslogOnInit;
     }
+
+    /**
+     * Returns the scheduler that groups the fsyncs of this translog with those of other translogs on the same data path, or
+     * {@code null} if the translog syncs its files on its own.
+     */
+    @Nullable
+    public TranslogGroupCommitScheduler getGroupCommitScheduler() {
+        return groupCommitScheduler;
+    }
+
+    public void setGroupCommitScheduler(@Nullable TranslogGroupCommitScheduler groupCommitScheduler) {
+        this.groupCommitScheduler = groupCommitScheduler;
+    }
 }
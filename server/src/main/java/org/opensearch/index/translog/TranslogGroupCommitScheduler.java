@@ -0,0 +1,299 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.common.CheckedRunnable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces the fsyncs of the local translogs of all the shards that live on the same data path. Rather than each
+ * {@link TranslogWriter} forcing its files to disk as soon as it is asked to, which causes a steady stream of fsyncs to the
+ * same device when many shards with {@code request} durability are written to, the writers wait for the group commit of
+ * their data path. A single committer thread per data path collects the sync requests that arrive within
+ * {@link #GROUP_COMMIT_WINDOW_SETTING} of the first one, and then releases all their writers together, which issue their
+ * fsyncs concurrently so that the device can serve them in one go. The committer waits for all of them to complete before
+ * starting the next group commit, which bounds the number of fsyncs in flight on a device by the number of writers.
+ * <p>
+ * Each translog has files of its own, and there is no way to sync several files with a single system call, so the fsyncs
+ * of a group commit are still issued one per file.
+ * <p>
+ * Translogs that don't live on one of the data paths of the node, such as those of indices with a custom data path, are
+ * synced on the calling thread as usual.
+ *
+ * @opensearch.internal
+ */
+public class TranslogGroupCommitScheduler implements Closeable {
+
+    private static final Logger logger = LogManager.getLogger(TranslogGroupCommitScheduler.class);
+
+    /**
+     * Whether the fsyncs of local translogs are grouped per data path.
+     */
+    public static final Setting<Boolean> GROUP_COMMIT_ENABLED_SETTING = Setting.boolSetting(
+        "indices.translog.group_commit.enabled",
+        false,
+        Property.NodeScope
+    );
+
+    /**
+     * How long the committer of a data path waits for more sync requests after the first one before issuing the syncs.
+     */
+    public static final Setting<TimeValue> GROUP_COMMIT_WINDOW_SETTING = Setting.timeSetting(
+        "indices.translog.group_commit.window",
+        TimeValue.timeValueMillis(1),
+        TimeValue.ZERO,
+        TimeValue.timeValueMillis(100),
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
+    private static final SyncRequest WAKE_UP = new SyncRequest();
+
+    private final Committer[] committers;
+    private volatile TimeValue window;
+    private volatile boolean closed;
+
+    public TranslogGroupCommitScheduler(Settings settings, ClusterSettings clusterSettings, Path[] dataPaths) {
+        this.window = GROUP_COMMIT_WINDOW_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(GROUP_COMMIT_WINDOW_SETTING, window -> this.window = window);
+        final ThreadFactory threadFactory = OpenSearchExecutors.daemonThreadFactory(settings, "translog_group_commit");
+        this.committers = new Committer[dataPaths.length];
+        for (int i = 0; i < dataPaths.length; i++) {
+            committers[i] = new Committer(dataPaths[i].toAbsolutePath().normalize());
+            final Thread thread = threadFactory.newThread(committers[i]);
+            committers[i].thread = thread;
+            thread.start();
+        }
+    }
+
+    /**
+     * Waits for the next group commit of the data path that the translog at the given path lives on, and then runs the given
+     * sync on the calling thread, concurrently with the other syncs of the group commit.
+     *
+     * @throws IOException if the sync failed
+     */
+    void sync(Path translogPath, CheckedRunnable<IOException> sync) throws IOException {
+        final Committer committer = committer(translogPath);
+        if (committer == null || closed) {
+            sync.run();
+            return;
+        }
+        final SyncRequest request = new SyncRequest();
+        committer.queue.add(request);
+        if (closed) {
+            // the committer may have stopped before the request was added, so make sure it doesn't wait forever
+            committer.failPending();
+        }
+        final CountDownLatch groupCommit = request.awaitRelease();
+        final long startTime = System.nanoTime();
+        try {
+            sync.run();
+        } finally {
+            committer.syncTimeInNanos.add(System.nanoTime() - startTime);
+            groupCommit.countDown();
+        }
+    }
+
+    private Committer committer(Path translogPath) {
+        final Path path = translogPath.toAbsolutePath().normalize();
+        for (Committer committer : committers) {
+            if (path.startsWith(committer.dataPath)) {
+                return committer;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the stats of the group commits of all the data paths.
+     */
+    public TranslogGroupCommitStats stats() {
+        long groupCommits = 0;
+        long syncs = 0;
+        long maxSyncsPerGroupCommit = 0;
+        long groupCommitTimeInNanos = 0;
+        long syncTimeInNanos = 0;
+        for (Committer committer : committers) {
+            groupCommits += committer.groupCommits.sum();
+            syncs += committer.syncs.sum();
+            maxSyncsPerGroupCommit = Math.max(maxSyncsPerGroupCommit, committer.maxSyncsPerGroupCommit.get());
+            groupCommitTimeInNanos += committer.groupCommitTimeInNanos.sum();
+            syncTimeInNanos += committer.syncTimeInNanos.sum();
+        }
+        return new TranslogGroupCommitStats(groupCommits, syncs, maxSyncsPerGroupCommit, groupCommitTimeInNanos, syncTimeInNanos);
+    }
+
+    // Visible for testing
+    int pendingSyncs() {
+        int pending = 0;
+        for (Committer committer : committers) {
+            pending += committer.queue.size();
+        }
+        return pending;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        // committers are woken up rather than interrupted, as they wait for the writers of their last group commit either way
+        for (Committer committer : committers) {
+            committer.queue.add(WAKE_UP);
+        }
+        for (Committer committer : committers) {
+            try {
+                committer.thread.join(TimeValue.timeValueSeconds(10).millis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            committer.failPending();
+        }
+    }
+
+    /**
+     * A writer waiting for a group commit. Once released, it runs its sync and counts down the latch of the group commit.
+     */
+    private static final class SyncRequest {
+        private final CountDownLatch released = new CountDownLatch(1);
+        private volatile CountDownLatch groupCommit;
+        private volatile RuntimeException failure;
+
+        void release(CountDownLatch groupCommit) {
+            this.groupCommit = groupCommit;
+            released.countDown();
+        }
+
+        void fail(RuntimeException e) {
+            if (released.getCount() > 0) {
+                failure = e;
+                released.countDown();
+            }
+        }
+
+        /**
+         * Waits for the group commit that this request is part of, and returns the latch to count down once synced.
+         */
+        CountDownLatch awaitRelease() {
+            // the group commit waits for every writer it released, so wait for it regardless of the caller being interrupted
+            awaitUninterruptibly(released);
+            final RuntimeException e = failure;
+            if (e != null) {
+                throw e;
+            }
+            return groupCommit;
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private final class Committer implements Runnable {
+        private final Path dataPath;
+        private final BlockingQueue<SyncRequest> queue = new LinkedBlockingQueue<>();
+        private final LongAdder groupCommits = new LongAdder();
+        private final LongAdder syncs = new LongAdder();
+        private final AtomicLong maxSyncsPerGroupCommit = new AtomicLong();
+        private final LongAdder groupCommitTimeInNanos = new LongAdder();
+        // added to by the writers, as they time their own syncs
+        private final LongAdder syncTimeInNanos = new LongAdder();
+        private Thread thread;
+
+        Committer(Path dataPath) {
+            this.dataPath = dataPath;
+        }
+
+        @Override
+        public void run() {
+            final List<SyncRequest> batch = new ArrayList<>();
+            while (closed == false) {
+                try {
+                    batch.add(queue.take());
+                    final long windowInNanos = window.nanos();
+                    if (windowInNanos > 0) {
+                        final long deadline = System.nanoTime() + windowInNanos;
+                        long remaining;
+                        while ((remaining = deadline - System.nanoTime()) > 0) {
+                            final SyncRequest request = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                            if (request == null) {
+                                break;
+                            }
+                            batch.add(request);
+                        }
+                    }
+                    queue.drainTo(batch);
+                } catch (InterruptedException e) {
+                    if (closed == false) {
+                        logger.warn("translog group commit thread for [{}] was interrupted", dataPath);
+                    }
+                }
+                batch.removeIf(request -> request == WAKE_UP);
+                commit(batch);
+                batch.clear();
+            }
+            failPending();
+        }
+
+        private void commit(List<SyncRequest> batch) {
+            if (batch.isEmpty()) {
+                return;
+            }
+            // counted before the writers are released, so that a sync is part of the stats by the time it returns
+            groupCommits.increment();
+            syncs.add(batch.size());
+            maxSyncsPerGroupCommit.accumulateAndGet(batch.size(), Math::max);
+            final CountDownLatch groupCommit = new CountDownLatch(batch.size());
+            final long startTime = System.nanoTime();
+            for (SyncRequest request : batch) {
+                request.release(groupCommit);
+            }
+            awaitUninterruptibly(groupCommit);
+            groupCommitTimeInNanos.add(System.nanoTime() - startTime);
+            logger.trace("synced [{}] translogs on [{}] in a single group commit", batch.size(), dataPath);
+        }
+
+        void failPending() {
+            final List<SyncRequest> pending = new ArrayList<>();
+            queue.drainTo(pending);
+            final AlreadyClosedException e = new AlreadyClosedException("translog group commit is closed");
+            pending.stream().filter(request -> request != WAKE_UP).forEach(request -> request.fail(e));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.action.admin.cluster.node.stats.NodesStatsRequest;
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Stats of the group commits of the local translogs of a node, see {@link TranslogGroupCommitScheduler}. The average number of
+ * translogs synced per group commit is {@code syncs / group_commits}, and the average latency of their fsyncs is
+ * {@code sync_time_in_millis / syncs}.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class TranslogGroupCommitStats implements Writeable, ToXContentFragment {
+
+    private final long groupCommits;
+    private final long syncs;
+    private final long maxSyncsPerGroupCommit;
+    private final long groupCommitTimeInNanos;
+    private final long syncTimeInNanos;
+
+    public TranslogGroupCommitStats(
+        long groupCommits,
+        long syncs,
+        long maxSyncsPerGroupCommit,
+        long groupCommitTimeInNanos,
+        long syncTimeInNanos
+    ) {
+        this.groupCommits = groupCommits;
+        this.syncs = syncs;
+        this.maxSyncsPerGroupCommit = maxSyncsPerGroupCommit;
+        this.groupCommitTimeInNanos = groupCommitTimeInNanos;
+        this.syncTimeInNanos = syncTimeInNanos;
+    }
+
+    public TranslogGroupCommitStats(StreamInput in) throws IOException {
+        this.groupCommits = in.readVLong();
+        this.syncs = in.readVLong();
+        this.maxSyncsPerGroupCommit = in.readVLong();
+        this.groupCommitTimeInNanos = in.readVLong();
+        this.syncTimeInNanos = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(groupCommits);
+        out.writeVLong(syncs);
+        out.writeVLong(maxSyncsPerGroupCommit);
+        out.writeVLong(groupCommitTimeInNanos);
+        out.writeVLong(syncTimeInNanos);
+    }
+
+    /**
+     * The number of group commits, each of which synced one or more translogs.
+     */
+    public long getGroupCommits() {
+        return groupCommits;
+    }
+
+    /**
+     * The number of translog syncs issued by group commits.
+     */
+    public long getSyncs() {
+        return syncs;
+    }
+
+    /**
+     * The largest number of translog syncs issued by a single group commit.
+     */
+    public long getMaxSyncsPerGroupCommit() {
+        return maxSyncsPerGroupCommit;
+    }
+
+    /**
+     * The total time from the release of the syncs of a group commit to the completion of all of them.
+     */
+    public long getGroupCommitTimeInNanos() {
+        return groupCommitTimeInNanos;
+    }
+
+    /**
+     * The total time spent in the translog syncs issued by group commits.
+     */
+    public long getSyncTimeInNanos() {
+        return syncTimeInNanos;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(NodesStatsRequest.Metric.TRANSLOG_GROUP_COMMIT.metricName());
+        builder.field(Fields.GROUP_COMMITS, groupCommits);
+        builder.field(Fields.SYNCS, syncs);
+        builder.field(Fields.MAX_SYNCS_PER_GROUP_COMMIT, maxSyncsPerGroupCommit);
+        builder.humanReadableField(
+            Fields.GROUP_COMMIT_TIME_IN_MILLIS,
+            Fields.GROUP_COMMIT_TIME,
+            TimeValue.timeValueNanos(groupCommitTimeInNanos)
+        );
+        builder.humanReadableField(Fields.SYNC_TIME_IN_MILLIS, Fields.SYNC_TIME, TimeValue.timeValueNanos(syncTimeInNanos));
+        return builder.endObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TranslogGroupCommitStats that = (TranslogGroupCommitStats) o;
+        return groupCommits == that.groupCommits
+            && syncs == that.syncs
+            && maxSyncsPerGroupCommit == that.maxSyncsPerGroupCommit
+            && groupCommitTimeInNanos == that.groupCommitTimeInNanos
+            && syncTimeInNanos == that.syncTimeInNanos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(groupCommits, syncs, maxSyncsPerGroupCommit, groupCommitTimeInNanos, syncTimeInNanos);
+    }
+
+    static final class Fields {
+        static final String GROUP_COMMITS = "group_commits";
+        static final String SYNCS = "syncs";
+        static final String MAX_SYNCS_PER_GROUP_COMMIT = "max_syncs_per_group_commit";
+        static final String GROUP_COMMIT_TIME = "group_commit_time";
+        static final String GROUP_COMMIT_TIME_IN_MILLIS = "group_commit_time_in_millis";
+        static final String SYNC_TIME = "sync_time";
+        static final String SYNC_TIME_IN_MILLIS = "sync_time_in_millis";
+    }
+}
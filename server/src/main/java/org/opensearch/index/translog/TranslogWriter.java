@@ -122,6 +122,9 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
 
     private final TranslogOperationHelper translogOperationHelper;
 
+    @Nullable
+    private final TranslogGroupCommitScheduler groupCommitScheduler;
+
     private TranslogWriter(
         final ShardId shardId,
         final Checkpoint initialCheckpoint,
@@ -138,7 +141,8 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         final BigArrays bigArrays,
         TranslogCheckedContainer translogCheckedContainer,
         Boolean remoteTranslogEnabled,
-        TranslogOperationHelper translogOperationHelper
+        TranslogOperationHelper translogOperationHelper,
+        @Nullable TranslogGroupCommitScheduler groupCommitScheduler
     ) throws IOException {
         super(initialCheckpoint.generation, channel, path, header);
         assert initialCheckpoint.offset == channel.position() : "initial checkpoint offset ["
@@ -166,6 +170,7 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         this.translogCheckedContainer = translogCheckedContainer;
         this.remoteTranslogEnabled = remoteTranslogEnabled;
         this.translogOperationHelper = translogOperationHelper;
+        this.groupCommitScheduler = groupCommitScheduler;
     }
 
     public static TranslogWriter create(
@@ -222,6 +227,46 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         final BigArrays bigArrays,
         Boolean remoteTranslogEnabled,
         TranslogOperationHelper translogOperationHelper
+    ) throws IOException {
+        return create(
+            shardId,
+            translogUUID,
+            fileGeneration,
+            file,
+            channelFactory,
+            bufferSize,
+            initialMinTranslogGen,
+            initialGlobalCheckpoint,
+            globalCheckpointSupplier,
+            minTranslogGenerationSupplier,
+            primaryTerm,
+            tragedy,
+            persistedSequenceNumberConsumer,
+            bigArrays,
+            remoteTranslogEnabled,
+            translogOperationHelper,
+            null
+        );
+    }
+
+    public static TranslogWriter create(
+        ShardId shardId,
+        String translogUUID,
+        long fileGeneration,
+        Path file,
+        ChannelFactory channelFactory,
+        ByteSizeValue bufferSize,
+        final long initialMinTranslogGen,
+        long initialGlobalCheckpoint,
+        final LongSupplier globalCheckpointSupplier,
+        final LongSupplier minTranslogGenerationSupplier,
+        final long primaryTerm,
+        TragicExceptionHolder tragedy,
+        final LongConsumer persistedSequenceNumberConsumer,
+        final BigArrays bigArrays,
+        Boolean remoteTranslogEnabled,
+        TranslogOperationHelper translogOperationHelper,
+        @Nullable TranslogGroupCommitScheduler groupCommitScheduler
     ) throws IOException {
         final Path checkpointFile = file.getParent().resolve(Translog.CHECKPOINT_FILE_NAME);
 
@@ -274,7 +319,8 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
                 bigArrays,
                 translogCheckedContainer,
                 remoteTranslogEnabled,
-                translogOperationHelper
+                translogOperationHelper,
+                groupCommitScheduler
             );
         } catch (Exception exception) {
             // if we fail to bake the file-generation into the checkpoint we stick with the file and once we recover and that
@@ -574,10 +620,18 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
                     // now do the actual fsync outside of the synchronized block such that
                     // we can continue writing to the buffer etc.
                     try {
-                        if (!Boolean.TRUE.equals(remoteTranslogEnabled)) {
-                            channel.force(false);
+                        if (groupCommitScheduler != null && !Boolean.TRUE.equals(remoteTranslogEnabled)) {
+                            // fsync as part of the next group commit of the data path this translog lives on
+                            groupCommitScheduler.sync(path, () -> {
+                                channel.force(false);
+                                writeCheckpoint(checkpointChannel, checkpointPath, checkpointToSync, remoteTranslogEnabled);
+                            });
+                        } else {
+                            if (!Boolean.TRUE.equals(remoteTranslogEnabled)) {
+                                channel.force(false);
+                            }
+                            writeCheckpoint(checkpointChannel, checkpointPath, checkpointToSync, remoteTranslogEnabled);
                         }
-                        writeCheckpoint(checkpointChannel, checkpointPath, checkpointToSync, remoteTranslogEnabled);
                     } catch (final Exception ex) {
                         closeWithTragicEvent(ex);
                         throw ex;
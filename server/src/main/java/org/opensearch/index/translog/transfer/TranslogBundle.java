@@ -0,0 +1,238 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog.transfer;
+
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.blobstore.BlobPath;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.index.remote.RemoteStoreUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.opensearch.index.translog.transfer.TranslogTransferMetadata.METADATA_SEPARATOR;
+
+/**
+ * Layout of the blobs that hold the translog and checkpoint files of several shards, uploaded together by the
+ * {@link TranslogBundleUploader}. A bundle starts with the length of its index, followed by the index, which lists the
+ * metadata path of the shard, the primary term, the generation and the name of every file in the bundle along with its
+ * position in the blob, followed by the content of the files.
+ *
+ * @opensearch.internal
+ */
+final class TranslogBundle {
+
+    static final String BUNDLES_PATH = "translog-bundles";
+
+    static final String BLOB_PREFIX = "bundle";
+
+    private static final int VERSION = 1;
+
+    private static final String LOCATION_SEPARATOR = "|";
+
+    private TranslogBundle() {}
+
+    /**
+     * Returns a unique name for a bundle created at the given time. Like translog metadata files, the names sort from the
+     * most recent to the oldest bundle.
+     */
+    static String blobName(long timestamp) {
+        return String.join(METADATA_SEPARATOR, BLOB_PREFIX, RemoteStoreUtils.invertLong(timestamp), UUIDs.base64UUID());
+    }
+
+    static long timestamp(String blobName) {
+        return RemoteStoreUtils.invertLong(blobName.split(METADATA_SEPARATOR)[1]);
+    }
+
+    /**
+     * Lays out the given files into the content of a bundle and returns it, along with the entries of its index.
+     */
+    static Bundle write(List<PendingFile> files) throws IOException {
+        // offsets are written with a fixed width so that the length of the index doesn't depend on them
+        final int indexLength = index(files, 0).length();
+        final long payloadOffset = Integer.BYTES + indexLength;
+        final BytesReference index = index(files, payloadOffset);
+        assert index.length() == indexLength;
+
+        final List<Entry> entries = new ArrayList<>(files.size());
+        long offset = payloadOffset;
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.writeInt(indexLength);
+            index.writeTo(out);
+            for (PendingFile file : files) {
+                entries.add(new Entry(file.metadataPath, file.primaryTerm, file.generation, file.fileName, offset, file.content.length));
+                out.writeBytes(file.content);
+                offset += file.content.length;
+            }
+            return new Bundle(BytesReference.toBytes(out.bytes()), Collections.unmodifiableList(entries));
+        }
+    }
+
+    private static BytesReference index(List<PendingFile> files, long payloadOffset) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.writeVInt(VERSION);
+            out.writeVInt(files.size());
+            long offset = payloadOffset;
+            for (PendingFile file : files) {
+                out.writeString(file.metadataPath);
+                out.writeLong(file.primaryTerm);
+                out.writeLong(file.generation);
+                out.writeString(file.fileName);
+                out.writeLong(offset);
+                out.writeLong(file.content.length);
+                offset += file.content.length;
+            }
+            return out.bytes();
+        }
+    }
+
+    /**
+     * Reads the entries of a bundle from the given bytes, which hold its index without the leading length.
+     */
+    static List<Entry> readIndex(byte[] index) throws IOException {
+        try (StreamInput in = new BytesArray(index).streamInput()) {
+            final int version = in.readVInt();
+            if (version != VERSION) {
+                throw new IllegalStateException("Unsupported translog bundle version: " + version);
+            }
+            final int count = in.readVInt();
+            final List<Entry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                entries.add(new Entry(in.readString(), in.readLong(), in.readLong(), in.readString(), in.readLong(), in.readLong()));
+            }
+            return entries;
+        }
+    }
+
+    /**
+     * Rebuilds a blob path from its string representation.
+     */
+    static BlobPath toBlobPath(String path) {
+        BlobPath blobPath = BlobPath.cleanPath();
+        for (String part : path.split("/")) {
+            if (part.isEmpty() == false) {
+                blobPath = blobPath.add(part);
+            }
+        }
+        return blobPath;
+    }
+
+    /**
+     * A translog or checkpoint file waiting to be bundled.
+     */
+    static final class PendingFile {
+        final String metadataPath;
+        final long primaryTerm;
+        final long generation;
+        final String fileName;
+        final byte[] content;
+
+        PendingFile(String metadataPath, long primaryTerm, long generation, String fileName, byte[] content) {
+            this.metadataPath = metadataPath;
+            this.primaryTerm = primaryTerm;
+            this.generation = generation;
+            this.fileName = fileName;
+            this.content = content;
+        }
+    }
+
+    /**
+     * The content of a bundle along with the entries of its index.
+     */
+    static final class Bundle {
+        final byte[] content;
+        final List<Entry> entries;
+
+        Bundle(byte[] content, List<Entry> entries) {
+            this.content = content;
+            this.entries = entries;
+        }
+    }
+
+    /**
+     * An entry of the index of a bundle, which locates one of its files.
+     */
+    static final class Entry {
+        final String metadataPath;
+        final long primaryTerm;
+        final long generation;
+        final String fileName;
+        final long offset;
+        final long length;
+
+        Entry(String metadataPath, long primaryTerm, long generation, String fileName, long offset, long length) {
+            this.metadataPath = metadataPath;
+            this.primaryTerm = primaryTerm;
+            this.generation = generation;
+            this.fileName = fileName;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Location of the translog and checkpoint files of a generation within a bundle, as recorded in the translog metadata.
+     */
+    static final class GenerationLocation {
+        final String path;
+        final String blobName;
+        final long translogOffset;
+        final long translogLength;
+        final long checkpointOffset;
+        final long checkpointLength;
+
+        GenerationLocation(
+            String path,
+            String blobName,
+            long translogOffset,
+            long translogLength,
+            long checkpointOffset,
+            long checkpointLength
+        ) {
+            this.path = path;
+            this.blobName = blobName;
+            this.translogOffset = translogOffset;
+            this.translogLength = translogLength;
+            this.checkpointOffset = checkpointOffset;
+            this.checkpointLength = checkpointLength;
+        }
+
+        String encode() {
+            return String.join(
+                LOCATION_SEPARATOR,
+                path,
+                blobName,
+                Long.toString(translogOffset),
+                Long.toString(translogLength),
+                Long.toString(checkpointOffset),
+                Long.toString(checkpointLength)
+            );
+        }
+
+        static GenerationLocation decode(String location) {
+            final String[] tokens = location.split("\\" + LOCATION_SEPARATOR);
+            if (tokens.length != 6) {
+                throw new IllegalArgumentException("Invalid translog bundle location: " + location);
+            }
+            return new GenerationLocation(
+                tokens[0],
+                tokens[1],
+                Long.parseLong(tokens[2]),
+                Long.parseLong(tokens[3]),
+                Long.parseLong(tokens[4]),
+                Long.parseLong(tokens[5])
+            );
+        }
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog.transfer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.common.blobstore.BlobMetadata;
+import org.opensearch.common.blobstore.BlobPath;
+import org.opensearch.common.blobstore.stream.write.WritePriority;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.indices.RemoteStoreSettings;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.opensearch.index.translog.transfer.FileSnapshot.TransferFileSnapshot;
+
+/**
+ * Uploads the translog and checkpoint files of all the shards of a node that use the same remote translog repository
+ * together, in a single {@link TranslogBundle} blob per interval, rather than as one blob per file. This trades a bounded
+ * delay for far fewer requests to the remote store on nodes that hold many shards that are being written to. The files
+ * submitted by a shard are acknowledged once the bundle that holds them is uploaded, after which the shard uploads its
+ * translog metadata, which records where its generations are located in the bundles and remains the point at which the
+ * uploaded operations become durable.
+ * <p>
+ * A bundle may hold files of shards that have since trimmed their translog, moved to another node or been deleted. Bundles
+ * are therefore periodically checked against the latest translog metadata of the shards they hold files of, and deleted
+ * once none of their files is referenced anymore.
+ *
+ * @opensearch.internal
+ */
+public class TranslogBundleUploader implements Closeable {
+
+    private static final Logger logger = LogManager.getLogger(TranslogBundleUploader.class);
+
+    static final TimeValue CLEANUP_INTERVAL = TimeValue.timeValueMinutes(5);
+
+    // Bundles younger than this may hold files of translog metadata that is still being uploaded
+    static final TimeValue CLEANUP_MIN_AGE = TimeValue.timeValueMinutes(10);
+
+    private final ThreadPool threadPool;
+    private final RemoteStoreSettings remoteStoreSettings;
+    private final Supplier<String> nodeIdSupplier;
+    private final Map<String, Target> targets = ConcurrentCollections.newConcurrentMap();
+    // guarded by this
+    private final Map<String, Batch> batches = new HashMap<>();
+    private Scheduler.Cancellable cleanup;
+    private boolean closed;
+
+    public TranslogBundleUploader(ThreadPool threadPool, RemoteStoreSettings remoteStoreSettings, Supplier<String> nodeIdSupplier) {
+        this.threadPool = threadPool;
+        this.remoteStoreSettings = remoteStoreSettings;
+        this.nodeIdSupplier = nodeIdSupplier;
+    }
+
+    /**
+     * Returns whether translog files should be bundled, as configured by
+     * {@link RemoteStoreSettings#CLUSTER_REMOTE_TRANSLOG_BUNDLE_INTERVAL_SETTING}.
+     */
+    public boolean isEnabled() {
+        return remoteStoreSettings.getClusterRemoteTranslogBundleInterval().millis() > 0;
+    }
+
+    /**
+     * Returns whether files of the given total size can be added to a bundle.
+     */
+    boolean canBundle(long sizeInBytes) {
+        return sizeInBytes <= remoteStoreSettings.getClusterRemoteTranslogBundleMaxSize().getBytes();
+    }
+
+    /**
+     * Returns the target that the files of shards using the given remote translog repository are bundled into.
+     *
+     * @param repositoryKey  identifies the repository, along with any option that changes how blobs are written to it
+     * @param transferService the transfer service to upload bundles with
+     * @param basePath       the base path of the repository
+     */
+    public synchronized Target target(String repositoryKey, TransferService transferService, BlobPath basePath) {
+        if (closed) {
+            throw new IllegalStateException("translog bundle uploader is closed");
+        }
+        if (cleanup == null) {
+            cleanup = threadPool.scheduleWithFixedDelay(this::cleanup, CLEANUP_INTERVAL, ThreadPool.Names.REMOTE_PURGE);
+        }
+        return targets.computeIfAbsent(
+            repositoryKey,
+            key -> new Target(key, transferService, basePath.add(TranslogBundle.BUNDLES_PATH).add(nodeIdSupplier.get()))
+        );
+    }
+
+    /**
+     * Adds the given files to the next bundle of the given target. The listener is completed with the name of the bundle
+     * and the entries of the files once the bundle is uploaded, or with the exception that prevented its upload.
+     */
+    void upload(
+        Target target,
+        List<TranslogBundle.PendingFile> files,
+        ActionListener<Tuple<String, List<TranslogBundle.Entry>>> listener
+    ) {
+        final Submission submission = new Submission(files, listener);
+        final Batch batch;
+        final boolean full;
+        synchronized (this) {
+            if (closed) {
+                listener.onFailure(new IllegalStateException("translog bundle uploader is closed"));
+                return;
+            }
+            Batch pending = batches.get(target.key);
+            if (pending == null) {
+                pending = new Batch(target);
+                batches.put(target.key, pending);
+                final Batch scheduled = pending;
+                threadPool.schedule(
+                    () -> flush(scheduled),
+                    remoteStoreSettings.getClusterRemoteTranslogBundleInterval(),
+                    ThreadPool.Names.TRANSLOG_TRANSFER
+                );
+            }
+            pending.add(submission);
+            full = pending.sizeInBytes >= remoteStoreSettings.getClusterRemoteTranslogBundleMaxSize().getBytes();
+            if (full) {
+                batches.remove(target.key);
+            }
+            batch = pending;
+        }
+        if (full) {
+            threadPool.executor(ThreadPool.Names.TRANSLOG_TRANSFER).execute(() -> upload(batch));
+        }
+    }
+
+    private void flush(Batch batch) {
+        synchronized (this) {
+            // the batch may already have been uploaded because it was full
+            if (batches.get(batch.target.key) != batch) {
+                return;
+            }
+            batches.remove(batch.target.key);
+        }
+        upload(batch);
+    }
+
+    private void upload(Batch batch) {
+        final List<TranslogBundle.PendingFile> files = new ArrayList<>();
+        for (Submission submission : batch.submissions) {
+            files.addAll(submission.files);
+        }
+        final TranslogBundle.Bundle bundle;
+        final String blobName = TranslogBundle.blobName(threadPool.absoluteTimeInMillis());
+        try {
+            bundle = TranslogBundle.write(files);
+            batch.target.transferService.uploadBlob(
+                new TransferFileSnapshot(blobName, bundle.content, 0L),
+                batch.target.path,
+                WritePriority.HIGH
+            );
+        } catch (Exception e) {
+            logger.error(() -> new ParameterizedMessage("Failed to upload translog bundle {}", blobName), e);
+            batch.submissions.forEach(submission -> submission.listener.onFailure(e));
+            return;
+        }
+        logger.trace("Uploaded translog bundle {} with {} files of {} uploads", blobName, files.size(), batch.submissions.size());
+        int from = 0;
+        for (Submission submission : batch.submissions) {
+            final int to = from + submission.files.size();
+            submission.listener.onResponse(new Tuple<>(blobName, bundle.entries.subList(from, to)));
+            from = to;
+        }
+    }
+
+    // Visible for testing
+    void cleanup() {
+        for (Target target : targets.values()) {
+            try {
+                cleanup(target);
+            } catch (Exception e) {
+                logger.warn(() -> new ParameterizedMessage("Failed to clean up translog bundles at {}", target.path), e);
+            }
+        }
+    }
+
+    private void cleanup(Target target) throws IOException {
+        final long maxTimestamp = threadPool.absoluteTimeInMillis() - Math.max(
+            CLEANUP_MIN_AGE.millis(),
+            2 * remoteStoreSettings.getClusterRemoteTranslogTransferTimeout().millis()
+        );
+        final Map<String, Long> minReferencedGenerations = new HashMap<>();
+        final List<String> unreferencedBundles = new ArrayList<>();
+        for (BlobMetadata blob : target.transferService.listAllInSortedOrder(target.path, TranslogBundle.BLOB_PREFIX, Integer.MAX_VALUE)) {
+            if (TranslogBundle.timestamp(blob.name()) > maxTimestamp) {
+                continue;
+            }
+            boolean referenced = false;
+            for (TranslogBundle.Entry entry : readIndex(target, blob.name())) {
+                Long minReferencedGeneration = minReferencedGenerations.get(entry.metadataPath);
+                if (minReferencedGeneration == null) {
+                    minReferencedGeneration = minReferencedGeneration(target, entry.metadataPath);
+                    minReferencedGenerations.put(entry.metadataPath, minReferencedGeneration);
+                }
+                if (entry.generation >= minReferencedGeneration) {
+                    referenced = true;
+                    break;
+                }
+            }
+            if (referenced == false) {
+                unreferencedBundles.add(blob.name());
+            }
+        }
+        if (unreferencedBundles.isEmpty() == false) {
+            logger.debug("Deleting unreferenced translog bundles {}", unreferencedBundles);
+            target.transferService.deleteBlobs(target.path, unreferencedBundles);
+        }
+    }
+
+    private static List<TranslogBundle.Entry> readIndex(Target target, String blobName) throws IOException {
+        final int indexLength;
+        try (DataInputStream in = new DataInputStream(target.transferService.downloadBlob(target.path, blobName, 0, Integer.BYTES))) {
+            indexLength = in.readInt();
+        }
+        try (InputStream in = target.transferService.downloadBlob(target.path, blobName, Integer.BYTES, indexLength)) {
+            return TranslogBundle.readIndex(in.readNBytes(indexLength));
+        }
+    }
+
+    /**
+     * Returns the minimum generation referenced by the latest translog metadata at the given path, or {@link Long#MAX_VALUE}
+     * if there is no translog metadata anymore.
+     */
+    private static long minReferencedGeneration(Target target, String metadataPath) throws IOException {
+        final List<BlobMetadata> metadataFiles = target.transferService.listAllInSortedOrder(
+            TranslogBundle.toBlobPath(metadataPath),
+            TranslogTransferMetadata.METADATA_PREFIX,
+            1
+        );
+        if (metadataFiles.isEmpty()) {
+            return Long.MAX_VALUE;
+        }
+        final Tuple<Long, Long> minMaxGeneration = TranslogTransferMetadata.getMinMaxTranslogGenerationFromFilename(
+            metadataFiles.get(0).name()
+        );
+        // keep every generation if the metadata file name doesn't tell which ones are referenced
+        return minMaxGeneration == null ? 0 : minMaxGeneration.v1();
+    }
+
+    @Override
+    public void close() {
+        final List<Batch> pending;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (cleanup != null) {
+                cleanup.cancel();
+            }
+            pending = new ArrayList<>(batches.values());
+            batches.clear();
+        }
+        final IllegalStateException e = new IllegalStateException("translog bundle uploader is closed");
+        pending.forEach(batch -> batch.submissions.forEach(submission -> submission.listener.onFailure(e)));
+    }
+
+    /**
+     * The remote translog repository that bundles are uploaded to, along with the path of the bundles of this node.
+     *
+     * @opensearch.internal
+     */
+    public static final class Target {
+        private final String key;
+        private final TransferService transferService;
+        private final BlobPath path;
+
+        private Target(String key, TransferService transferService, BlobPath path) {
+            this.key = key;
+            this.transferService = transferService;
+            this.path = path;
+        }
+
+        BlobPath getPath() {
+            return path;
+        }
+    }
+
+    private static final class Submission {
+        final List<TranslogBundle.PendingFile> files;
+        final ActionListener<Tuple<String, List<TranslogBundle.Entry>>> listener;
+
+        Submission(List<TranslogBundle.PendingFile> files, ActionListener<Tuple<String, List<TranslogBundle.Entry>>> listener) {
+            this.files = files;
+            this.listener = listener;
+        }
+    }
+
+    private static final class Batch {
+        final Target target;
+        final List<Submission> submissions = new ArrayList<>();
+        long sizeInBytes;
+
+        Batch(Target target) {
+            this.target = target;
+        }
+
+        void add(Submission submission) {
+            submissions.add(submission);
+            for (TranslogBundle.PendingFile file : submission.files) {
+                sizeInBytes += file.content.length;
+            }
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.opensearch.common.io.VersionedCodecStreamWrapper;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.index.shard.ShardId;
@@ -52,6 +53,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static org.opensearch.index.translog.transfer.FileSnapshot.CheckpointFileSnapshot;
 import static org.opensearch.index.translog.transfer.FileSnapshot.TransferFileSnapshot;
 import static org.opensearch.index.translog.transfer.FileSnapshot.TranslogFileSnapshot;
 import static org.opensearch.index.translog.transfer.TranslogTransferMetadata.METADATA_SEPARATOR;
@@ -77,6 +79,11 @@ public class TranslogTransferManager {
 
     private final Logger logger;
 
+    private volatile TranslogBundleUploader bundleUploader;
+    private volatile TranslogBundleUploader.Target bundleTarget;
+    // Location of the generations that were uploaded as part of a translog bundle, which the metadata keeps referencing
+    private final Map<Long, String> bundledGenerations = ConcurrentCollections.newConcurrentMap();
+
     private static final VersionedCodecStreamWrapper<TranslogTransferMetadata> metadataStreamWrapper = new VersionedCodecStreamWrapper<>(
         new TranslogTransferMetadataHandlerFactory(),
         TranslogTransferMetadata.CURRENT_VERSION,
@@ -84,6 +91,16 @@ public class TranslogTransferManager {
         TranslogTransferMetadata.METADATA_CODEC
     );
 
+    // Metadata that references bundled generations is written with the bundled version only, so that nodes that don't
+    // know about bundles can keep reading the metadata of shards that don't use them
+    private static final VersionedCodecStreamWrapper<TranslogTransferMetadata> bundledMetadataStreamWrapper =
+        new VersionedCodecStreamWrapper<>(
+            new TranslogTransferMetadataHandlerFactory(),
+            TranslogTransferMetadata.CURRENT_VERSION,
+            TranslogTransferMetadata.BUNDLED_VERSION,
+            TranslogTransferMetadata.METADATA_CODEC
+        );
+
     public TranslogTransferManager(
         ShardId shardId,
         TransferService transferService,
@@ -113,6 +130,19 @@ public class TranslogTransferManager {
         return this.shardId;
     }
 
+    /**
+     * Uploads the translog and checkpoint files of this shard together with those of the other shards of the node through
+     * the given uploader, whenever translog bundles are enabled.
+     *
+     * @param bundleUploader the node level uploader of translog bundles
+     * @param repositoryKey  identifies the remote translog repository, see {@link TranslogBundleUploader#target}
+     * @param basePath       the base path of the remote translog repository
+     */
+    public void setBundleUploader(TranslogBundleUploader bundleUploader, String repositoryKey, BlobPath basePath) {
+        this.bundleTarget = bundleUploader.target(repositoryKey, transferService, basePath);
+        this.bundleUploader = bundleUploader;
+    }
+
     /**
      * Reads the latest N translog metadata files from remote store using filename parsing.
      *
@@ -165,7 +195,9 @@ public class TranslogTransferManager {
 
             fileTransferTracker.recordBytesForFiles(toUpload);
             captureStatsBeforeUpload();
-            final CountDownLatch latch = new CountDownLatch(toUpload.size());
+            final List<TranslogBundle.PendingFile> filesToBundle = filesToBundle(transferSnapshot, toUpload);
+            final Set<Long> generationsBundled = ConcurrentCollections.newConcurrentSet();
+            final CountDownLatch latch = new CountDownLatch(filesToBundle != null ? 1 : toUpload.size());
             LatchedActionListener<TransferFileSnapshot> latchedActionListener = new LatchedActionListener<>(
                 ActionListener.wrap(fileTransferTracker::onSuccess, ex -> {
                     assert ex instanceof FileTransferException;
@@ -195,7 +227,11 @@ public class TranslogTransferManager {
             // TODO: Ideally each file's upload start time should be when it is actually picked for upload
             // https://github.com/opensearch-project/OpenSearch/issues/9729
             fileTransferTracker.recordFileTransferStartTime(uploadStartTime);
-            transferService.uploadBlobs(toUpload, blobPathMap, latchedActionListener, WritePriority.HIGH);
+            if (filesToBundle != null) {
+                uploadBundle(filesToBundle, toUpload, generationsBundled, exceptionList, latch);
+            } else {
+                transferService.uploadBlobs(toUpload, blobPathMap, latchedActionListener, WritePriority.HIGH);
+            }
 
             try {
                 if (latch.await(remoteStoreSettings.getClusterRemoteTranslogTransferTimeout().millis(), TimeUnit.MILLISECONDS) == false) {
@@ -221,12 +257,18 @@ public class TranslogTransferManager {
                 } catch (Exception exception) {
                     remoteTranslogTransferTracker.addUploadTimeInMillis((System.nanoTime() - metadataUploadStartTime) / 1_000_000L);
                     remoteTranslogTransferTracker.addUploadBytesFailed(metadataBytesToUpload);
+                    if (generationsBundled.isEmpty() == false) {
+                        // the bundle may be cleaned up before any metadata references it, so bundle the files again next time
+                        generationsBundled.forEach(bundledGenerations::remove);
+                        fileTransferTracker.delete(toUpload.stream().map(TransferFileSnapshot::getName).collect(Collectors.toList()));
+                    }
                     // outer catch handles capturing stats on upload failure
                     throw new TranslogUploadFailedException("Failed to upload " + tlogMetadata.getName(), exception);
                 }
 
                 remoteTranslogTransferTracker.addUploadTimeInMillis((System.nanoTime() - metadataUploadStartTime) / 1_000_000L);
                 remoteTranslogTransferTracker.addUploadBytesSucceeded(metadataBytesToUpload);
+                pruneBundledGenerations(transferSnapshot.getTranslogTransferMetadata().getMinTranslogGeneration());
                 captureStatsOnUploadSuccess(prevUploadBytesSucceeded, prevUploadTimeInMillis);
                 translogTransferListener.onUploadComplete(transferSnapshot);
                 return true;
@@ -244,6 +286,121 @@ public class TranslogTransferManager {
         }
     }
 
+    /**
+     * Forgets the bundle locations of the generations below the given one, which the metadata that was just uploaded doesn't
+     * reference, and which no later metadata references either. Generations are usually forgotten as they are deleted, but
+     * not all the generations that the translog trims go through {@link #deleteGenerationAsync}.
+     */
+    private void pruneBundledGenerations(long minReferencedGeneration) {
+        bundledGenerations.keySet().removeIf(generation -> generation < minReferencedGeneration);
+    }
+
+    // Visible for testing
+    Set<Long> getBundledGenerations() {
+        return Set.copyOf(bundledGenerations.keySet());
+    }
+
+    /**
+     * Returns the files to upload as part of a translog bundle, or {@code null} if the files should be uploaded as blobs of
+     * their own, which is the case if bundles are disabled, if the files are too large to be bundled, or if some of the files
+     * of a generation were already uploaded as blobs of their own.
+     */
+    private List<TranslogBundle.PendingFile> filesToBundle(TransferSnapshot transferSnapshot, Set<TransferFileSnapshot> toUpload)
+        throws IOException {
+        final TranslogBundleUploader bundleUploader = this.bundleUploader;
+        if (bundleUploader == null || bundleUploader.isEnabled() == false) {
+            return null;
+        }
+        final Map<Long, TransferFileSnapshot> translogs = new HashMap<>();
+        for (TransferFileSnapshot fileSnapshot : toUpload) {
+            if (fileSnapshot instanceof TranslogFileSnapshot translogFileSnapshot) {
+                translogs.put(translogFileSnapshot.getGeneration(), translogFileSnapshot);
+            }
+        }
+        for (TransferFileSnapshot fileSnapshot : toUpload) {
+            if (fileSnapshot instanceof CheckpointFileSnapshot checkpointFileSnapshot
+                && translogs.containsKey(checkpointFileSnapshot.getGeneration()) == false) {
+                return null;
+            }
+        }
+        long sizeInBytes = 0;
+        final Map<Long, TransferFileSnapshot> checkpoints = new HashMap<>();
+        for (TransferFileSnapshot fileSnapshot : transferSnapshot.getCheckpointFileSnapshots()) {
+            final CheckpointFileSnapshot checkpointFileSnapshot = (CheckpointFileSnapshot) fileSnapshot;
+            if (translogs.containsKey(checkpointFileSnapshot.getGeneration())) {
+                checkpoints.put(checkpointFileSnapshot.getGeneration(), checkpointFileSnapshot);
+                sizeInBytes += checkpointFileSnapshot.getContentLength();
+            }
+        }
+        for (TransferFileSnapshot translog : translogs.values()) {
+            sizeInBytes += translog.getContentLength();
+        }
+        if (bundleUploader.canBundle(sizeInBytes) == false) {
+            return null;
+        }
+
+        final String metadataPath = remoteMetadataTransferPath.buildAsString();
+        final List<TranslogBundle.PendingFile> files = new ArrayList<>(translogs.size() * 2);
+        for (Map.Entry<Long, TransferFileSnapshot> translog : translogs.entrySet()) {
+            final TransferFileSnapshot checkpoint = checkpoints.get(translog.getKey());
+            assert checkpoint != null : "no checkpoint for generation " + translog.getKey();
+            for (TransferFileSnapshot fileSnapshot : List.of(translog.getValue(), checkpoint)) {
+                // read by path rather than from the snapshot, whose stream shares the position of its file channel
+                files.add(
+                    new TranslogBundle.PendingFile(
+                        metadataPath,
+                        fileSnapshot.getPrimaryTerm(),
+                        translog.getKey(),
+                        fileSnapshot.getName(),
+                        Files.readAllBytes(fileSnapshot.getPath())
+                    )
+                );
+            }
+        }
+        return files;
+    }
+
+    private void uploadBundle(
+        List<TranslogBundle.PendingFile> filesToBundle,
+        Set<TransferFileSnapshot> toUpload,
+        Set<Long> generationsBundled,
+        List<Exception> exceptionList,
+        CountDownLatch latch
+    ) {
+        final TranslogBundleUploader.Target target = bundleTarget;
+        final String bundlePath = target.getPath().buildAsString();
+        bundleUploader.upload(target, filesToBundle, new LatchedActionListener<>(ActionListener.wrap(bundle -> {
+            final Map<Long, TranslogBundle.Entry> translogEntries = new HashMap<>();
+            final Map<Long, TranslogBundle.Entry> checkpointEntries = new HashMap<>();
+            for (TranslogBundle.Entry entry : bundle.v2()) {
+                if (entry.fileName.endsWith(Translog.TRANSLOG_FILE_SUFFIX)) {
+                    translogEntries.put(entry.generation, entry);
+                } else {
+                    checkpointEntries.put(entry.generation, entry);
+                }
+            }
+            for (Map.Entry<Long, TranslogBundle.Entry> translogEntry : translogEntries.entrySet()) {
+                final TranslogBundle.Entry translog = translogEntry.getValue();
+                final TranslogBundle.Entry checkpoint = checkpointEntries.get(translogEntry.getKey());
+                final TranslogBundle.GenerationLocation location = new TranslogBundle.GenerationLocation(
+                    bundlePath,
+                    bundle.v1(),
+                    translog.offset,
+                    translog.length,
+                    checkpoint.offset,
+                    checkpoint.length
+                );
+                bundledGenerations.put(translogEntry.getKey(), location.encode());
+                generationsBundled.add(translogEntry.getKey());
+            }
+            toUpload.forEach(fileTransferTracker::onSuccess);
+        }, ex -> {
+            logger.error(() -> new ParameterizedMessage("Exception during transfer of translog bundle for files {}", toUpload), ex);
+            toUpload.forEach(fileSnapshot -> fileTransferTracker.onFailure(fileSnapshot, ex));
+            exceptionList.add(ex);
+        }), latch));
+    }
+
     /**
      * Adds relevant stats to the tracker when an upload is started
      */
@@ -276,6 +433,56 @@ public class TranslogTransferManager {
         remoteTranslogTransferTracker.incrementTotalUploadsFailed();
     }
 
+    /**
+     * Downloads the translog and checkpoint files of the given generation from the translog bundle that holds them.
+     *
+     * @param generation     the generation to download
+     * @param bundleLocation the location of the generation in the bundle, as recorded in the translog metadata
+     * @param location       the local directory to download the files to
+     */
+    public boolean downloadTranslogFromBundle(String generation, String bundleLocation, Path location) throws IOException {
+        logger.trace("Downloading translog files with: Generation = {}, Location = {}, Bundle = {}", generation, location, bundleLocation);
+        final TranslogBundle.GenerationLocation bundle = TranslogBundle.GenerationLocation.decode(bundleLocation);
+        final BlobPath bundlePath = TranslogBundle.toBlobPath(bundle.path);
+        final long gen = Long.parseLong(generation);
+        downloadFromBundle(bundlePath, bundle.blobName, bundle.checkpointOffset, bundle.checkpointLength, location, gen, false);
+        downloadFromBundle(bundlePath, bundle.blobName, bundle.translogOffset, bundle.translogLength, location, gen, true);
+        // keep referencing the bundle from the metadata that this shard uploads next
+        bundledGenerations.put(gen, bundleLocation);
+        return true;
+    }
+
+    private void downloadFromBundle(
+        BlobPath bundlePath,
+        String blobName,
+        long offset,
+        long length,
+        Path location,
+        long generation,
+        boolean translog
+    ) throws IOException {
+        final String fileName = translog ? Translog.getFilename(generation) : Translog.getCommitCheckpointFileName(generation);
+        final Path filePath = location.resolve(fileName);
+        deleteFileIfExists(filePath);
+
+        boolean downloadStatus = false;
+        final long downloadStartTime = System.nanoTime();
+        try (InputStream inputStream = transferService.downloadBlob(bundlePath, blobName, offset, length)) {
+            Files.copy(inputStream, filePath);
+            downloadStatus = true;
+        } finally {
+            remoteTranslogTransferTracker.addDownloadTimeInMillis((System.nanoTime() - downloadStartTime) / 1_000_000L);
+            if (downloadStatus) {
+                remoteTranslogTransferTracker.addDownloadBytesSucceeded(length);
+            }
+        }
+
+        // Mark in FileTransferTracker so that the same files are not uploaded at the time of translog sync
+        if (translog || isTranslogMetadataEnabled == false) {
+            fileTransferTracker.add(fileName, true);
+        }
+    }
+
     public boolean downloadTranslog(String primaryTerm, String generation, Path location) throws IOException {
         logger.trace(
             "Downloading translog files with: Primary Term = {}, Generation = {}, Location = {}",
@@ -461,7 +668,7 @@ public class TranslogTransferManager {
             // Capture number of bytes for stats before reading
             bytesToRead = inputStream.available();
             IndexInput indexInput = new ByteArrayIndexInput("metadata file", inputStream.readAllBytes());
-            translogTransferMetadata = metadataStreamWrapper.readStream(indexInput);
+            translogTransferMetadata = bundledMetadataStreamWrapper.readStream(indexInput);
             downloadStatus = true;
         } finally {
             remoteTranslogTransferTracker.addDownloadTimeInMillis((System.nanoTime() - downloadStartTime) / 1_000_000L);
@@ -486,6 +693,16 @@ public class TranslogTransferManager {
             );
         TranslogTransferMetadata translogTransferMetadata = transferSnapshot.getTranslogTransferMetadata();
         translogTransferMetadata.setGenerationToPrimaryTermMapper(new HashMap<>(generationPrimaryTermMap));
+        final Map<String, String> generationToBundleLocation = new HashMap<>();
+        for (String generation : generationPrimaryTermMap.keySet()) {
+            final String bundleLocation = bundledGenerations.get(Long.parseLong(generation));
+            if (bundleLocation != null) {
+                generationToBundleLocation.put(generation, bundleLocation);
+            }
+        }
+        if (generationToBundleLocation.isEmpty() == false) {
+            translogTransferMetadata.setGenerationToBundleLocation(generationToBundleLocation);
+        }
 
         return new TransferFileSnapshot(
             translogTransferMetadata.getFileName(),
@@ -512,7 +729,11 @@ public class TranslogTransferManager {
                     TranslogTransferMetadata.BUFFER_SIZE
                 )
             ) {
-                metadataStreamWrapper.writeStream(indexOutput, metadata);
+                if (metadata.getGenerationToBundleLocation() != null) {
+                    bundledMetadataStreamWrapper.writeStream(indexOutput, metadata);
+                } else {
+                    metadataStreamWrapper.writeStream(indexOutput, metadata);
+                }
             }
             metadataBytes = BytesReference.toBytes(output.bytes());
         }
@@ -535,12 +756,19 @@ public class TranslogTransferManager {
                 // Add .ckp and .tlog file to translog file list which is located in basePath/<primaryTerm>
                 String ckpFileName = Translog.getCommitCheckpointFileName(generation);
                 String translogFileName = Translog.getFilename(generation);
-                if (isTranslogMetadataEnabled == false) {
+                if (bundledGenerations.remove(generation) != null) {
+                    // the files live in a translog bundle, which is deleted once none of its generations is referenced anymore
+                    fileTransferTracker.delete(List.of(ckpFileName, translogFileName));
+                } else if (isTranslogMetadataEnabled == false) {
                     translogFiles.addAll(List.of(ckpFileName, translogFileName));
                 } else {
                     translogFiles.add(translogFileName);
                 }
             });
+            if (translogFiles.isEmpty()) {
+                onCompletion.run();
+                return;
+            }
             // Delete the translog and checkpoint files asynchronously
             deleteTranslogFilesAsync(primaryTerm, translogFiles, onCompletion);
         } catch (Exception e) {
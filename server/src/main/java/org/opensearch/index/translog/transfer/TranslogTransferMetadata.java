@@ -42,6 +42,8 @@ public class TranslogTransferMetadata {
 
     private final SetOnce<Map<String, String>> generationToPrimaryTermMapper = new SetOnce<>();
 
+    private final SetOnce<Map<String, String>> generationToBundleLocation = new SetOnce<>();
+
     public static final String METADATA_SEPARATOR = "__";
 
     public static final String METADATA_PREFIX = "metadata";
@@ -50,6 +52,12 @@ public class TranslogTransferMetadata {
 
     static final int CURRENT_VERSION = 1;
 
+    /**
+     * Version of the metadata that also records where the generations uploaded as part of a translog bundle are located.
+     * It is only written when the metadata references bundled generations.
+     */
+    static final int BUNDLED_VERSION = 2;
+
     static final String METADATA_CODEC = "md";
 
     private final long createdAt;
@@ -96,6 +104,18 @@ public class TranslogTransferMetadata {
         return generationToPrimaryTermMapper.get();
     }
 
+    public void setGenerationToBundleLocation(Map<String, String> generationToBundleLocation) {
+        this.generationToBundleLocation.set(generationToBundleLocation);
+    }
+
+    /**
+     * Returns the location of the generations that were uploaded as part of a translog bundle, keyed by generation, or
+     * {@code null} if all the generations were uploaded as blobs of their own.
+     */
+    public Map<String, String> getGenerationToBundleLocation() {
+        return generationToBundleLocation.get();
+    }
+
     /*
     This should be used only at the time of creation.
      */
@@ -23,6 +23,16 @@ import java.util.Map;
  */
 public class TranslogTransferMetadataHandler implements IndexIOStreamHandler<TranslogTransferMetadata> {
 
+    private final int version;
+
+    public TranslogTransferMetadataHandler() {
+        this(TranslogTransferMetadata.CURRENT_VERSION);
+    }
+
+    public TranslogTransferMetadataHandler(int version) {
+        this.version = version;
+    }
+
     /**
      * Implements logic to read content from file input stream {@code indexInput} and parse into {@link TranslogTransferMetadata}
      *
@@ -39,6 +49,9 @@ public class TranslogTransferMetadataHandler implements IndexIOStreamHandler<Tra
         int count = generationToPrimaryTermMapper.size();
         TranslogTransferMetadata metadata = new TranslogTransferMetadata(primaryTerm, generation, minTranslogGeneration, count);
         metadata.setGenerationToPrimaryTermMapper(generationToPrimaryTermMapper);
+        if (version >= TranslogTransferMetadata.BUNDLED_VERSION) {
+            metadata.setGenerationToBundleLocation(indexInput.readMapOfStrings());
+        }
 
         return metadata;
     }
@@ -59,5 +72,12 @@ public class TranslogTransferMetadataHandler implements IndexIOStreamHandler<Tra
         } else {
             indexOutput.writeMapOfStrings(new HashMap<>());
         }
+        if (version >= TranslogTransferMetadata.BUNDLED_VERSION) {
+            if (content.getGenerationToBundleLocation() != null) {
+                indexOutput.writeMapOfStrings(content.getGenerationToBundleLocation());
+            } else {
+                indexOutput.writeMapOfStrings(new HashMap<>());
+            }
+        }
     }
 }
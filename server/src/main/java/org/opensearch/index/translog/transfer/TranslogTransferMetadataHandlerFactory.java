@@ -31,6 +31,7 @@ public class TranslogTransferMetadataHandlerFactory implements IndexIOStreamHand
     private IndexIOStreamHandler<TranslogTransferMetadata> createHandler(int version) {
         return switch (version) {
             case TranslogTransferMetadata.CURRENT_VERSION -> new TranslogTransferMetadataHandler();
+            case TranslogTransferMetadata.BUNDLED_VERSION -> new TranslogTransferMetadataHandler(TranslogTransferMetadata.BUNDLED_VERSION);
             default -> throw new IllegalArgumentException("Unsupported TranslogTransferMetadata version: " + version);
         };
     }
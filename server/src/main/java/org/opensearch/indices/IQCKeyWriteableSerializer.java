@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.OpenSearchException;
+import org.opensearch.common.cache.serializer.Serializer;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.BytesStreamInput;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * This class serializes the PluggableQueryCache.Key using its writeTo method.
+ */
+class IQCKeyWriteableSerializer implements Serializer<PluggableQueryCache.Key, byte[]> {
+
+    IQCKeyWriteableSerializer() {}
+
+    @Override
+    public byte[] serialize(PluggableQueryCache.Key object) {
+        if (object == null) {
+            return null;
+        }
+        try {
+            BytesStreamOutput os = new BytesStreamOutput();
+            object.writeTo(os);
+            return BytesReference.toBytes(os.bytes());
+        } catch (IOException e) {
+            throw new OpenSearchException("Unable to serialize PluggableQueryCache.Key", e);
+        }
+    }
+
+    @Override
+    public PluggableQueryCache.Key deserialize(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            BytesStreamInput is = new BytesStreamInput(bytes, 0, bytes.length);
+            return new PluggableQueryCache.Key(is);
+        } catch (IOException e) {
+            throw new OpenSearchException("Unable to deserialize byte[] to PluggableQueryCache.Key", e);
+        }
+    }
+
+    @Override
+    public boolean equals(PluggableQueryCache.Key object, byte[] bytes) {
+        // keys are small, so comparing the serialized form is cheaper than deserializing
+        return Arrays.equals(serialize(object), bytes);
+    }
+}
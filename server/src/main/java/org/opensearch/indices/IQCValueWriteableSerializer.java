@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.OpenSearchException;
+import org.opensearch.common.cache.serializer.Serializer;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.BytesStreamInput;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * This class serializes the doc id sets of the PluggableQueryCache using their writeTo method.
+ */
+class IQCValueWriteableSerializer implements Serializer<PluggableQueryCache.CachedDocIdSet, byte[]> {
+
+    IQCValueWriteableSerializer() {}
+
+    @Override
+    public byte[] serialize(PluggableQueryCache.CachedDocIdSet object) {
+        if (object == null) {
+            return null;
+        }
+        try {
+            BytesStreamOutput os = new BytesStreamOutput();
+            object.writeTo(os);
+            return BytesReference.toBytes(os.bytes());
+        } catch (IOException e) {
+            throw new OpenSearchException("Unable to serialize PluggableQueryCache.CachedDocIdSet", e);
+        }
+    }
+
+    @Override
+    public PluggableQueryCache.CachedDocIdSet deserialize(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            BytesStreamInput is = new BytesStreamInput(bytes, 0, bytes.length);
+            return new PluggableQueryCache.CachedDocIdSet(is);
+        } catch (IOException e) {
+            throw new OpenSearchException("Unable to deserialize byte[] to PluggableQueryCache.CachedDocIdSet", e);
+        }
+    }
+
+    @Override
+    public boolean equals(PluggableQueryCache.CachedDocIdSet object, byte[] bytes) {
+        return Arrays.equals(serialize(object), bytes);
+    }
+}
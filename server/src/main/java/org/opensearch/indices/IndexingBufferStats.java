@@ -0,0 +1,289 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.action.admin.cluster.node.stats.NodesStatsRequest;
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Stats of the indexing buffers of the shards of a node, as seen by the {@link IndexingMemoryController}, along with the budget
+ * it assigned to each shard and how often it decided to write the buffer of a shard to disk or to throttle its indexing.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class IndexingBufferStats implements Writeable, ToXContentFragment {
+
+    private final boolean adaptive;
+    private final long budgetInBytes;
+    private final long usedInBytes;
+    private final long writeCount;
+    private final long throttleCount;
+    private final List<ShardIndexingBufferStats> shards;
+
+    public IndexingBufferStats(
+        boolean adaptive,
+        long budgetInBytes,
+        long usedInBytes,
+        long writeCount,
+        long throttleCount,
+        List<ShardIndexingBufferStats> shards
+    ) {
+        this.adaptive = adaptive;
+        this.budgetInBytes = budgetInBytes;
+        this.usedInBytes = usedInBytes;
+        this.writeCount = writeCount;
+        this.throttleCount = throttleCount;
+        this.shards = shards;
+    }
+
+    public IndexingBufferStats(StreamInput in) throws IOException {
+        this.adaptive = in.readBoolean();
+        this.budgetInBytes = in.readVLong();
+        this.usedInBytes = in.readVLong();
+        this.writeCount = in.readVLong();
+        this.throttleCount = in.readVLong();
+        this.shards = in.readList(ShardIndexingBufferStats::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeBoolean(adaptive);
+        out.writeVLong(budgetInBytes);
+        out.writeVLong(usedInBytes);
+        out.writeVLong(writeCount);
+        out.writeVLong(throttleCount);
+        out.writeList(shards);
+    }
+
+    /**
+     * Whether the budget is shared between the shards in proportion to their ingest rates.
+     */
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * The budget for the indexing buffers of all the shards of the node.
+     */
+    public long getBudgetInBytes() {
+        return budgetInBytes;
+    }
+
+    /**
+     * The heap used by the indexing buffers of all the shards of the node, as of the last check.
+     */
+    public long getUsedInBytes() {
+        return usedInBytes;
+    }
+
+    /**
+     * The number of times the buffer of a shard was written to disk to free up heap.
+     */
+    public long getWriteCount() {
+        return writeCount;
+    }
+
+    /**
+     * The number of times the indexing of a shard was throttled because segment writing could not keep up.
+     */
+    public long getThrottleCount() {
+        return throttleCount;
+    }
+
+    public List<ShardIndexingBufferStats> getShards() {
+        return shards;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(NodesStatsRequest.Metric.INDEXING_BUFFER.metricName());
+        builder.field(Fields.ADAPTIVE, adaptive);
+        builder.humanReadableField(Fields.BUDGET_IN_BYTES, Fields.BUDGET, new ByteSizeValue(budgetInBytes));
+        builder.humanReadableField(Fields.USED_IN_BYTES, Fields.USED, new ByteSizeValue(usedInBytes));
+        builder.field(Fields.WRITE_COUNT, writeCount);
+        builder.field(Fields.THROTTLE_COUNT, throttleCount);
+        builder.startArray(Fields.SHARDS);
+        for (ShardIndexingBufferStats shard : shards) {
+            shard.toXContent(builder, params);
+        }
+        builder.endArray();
+        return builder.endObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IndexingBufferStats that = (IndexingBufferStats) o;
+        return adaptive == that.adaptive
+            && budgetInBytes == that.budgetInBytes
+            && usedInBytes == that.usedInBytes
+            && writeCount == that.writeCount
+            && throttleCount == that.throttleCount
+            && shards.equals(that.shards);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(adaptive, budgetInBytes, usedInBytes, writeCount, throttleCount, shards);
+    }
+
+    /**
+     * Stats of the indexing buffer of a single shard.
+     *
+     * @opensearch.experimental
+     */
+    @ExperimentalApi
+    public static class ShardIndexingBufferStats implements Writeable, ToXContentObject {
+        private final ShardId shardId;
+        private final long ingestRateInBytesPerSecond;
+        private final long budgetInBytes;
+        private final long usedInBytes;
+        private final long writeCount;
+        private final boolean throttled;
+
+        public ShardIndexingBufferStats(
+            ShardId shardId,
+            long ingestRateInBytesPerSecond,
+            long budgetInBytes,
+            long usedInBytes,
+            long writeCount,
+            boolean throttled
+        ) {
+            this.shardId = shardId;
+            this.ingestRateInBytesPerSecond = ingestRateInBytesPerSecond;
+            this.budgetInBytes = budgetInBytes;
+            this.usedInBytes = usedInBytes;
+            this.writeCount = writeCount;
+            this.throttled = throttled;
+        }
+
+        public ShardIndexingBufferStats(StreamInput in) throws IOException {
+            this.shardId = new ShardId(in);
+            this.ingestRateInBytesPerSecond = in.readVLong();
+            this.budgetInBytes = in.readVLong();
+            this.usedInBytes = in.readVLong();
+            this.writeCount = in.readVLong();
+            this.throttled = in.readBoolean();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            shardId.writeTo(out);
+            out.writeVLong(ingestRateInBytesPerSecond);
+            out.writeVLong(budgetInBytes);
+            out.writeVLong(usedInBytes);
+            out.writeVLong(writeCount);
+            out.writeBoolean(throttled);
+        }
+
+        public ShardId getShardId() {
+            return shardId;
+        }
+
+        /**
+         * The moving average of the bytes indexed into the shard per second, only tracked in adaptive mode.
+         */
+        public long getIngestRateInBytesPerSecond() {
+            return ingestRateInBytesPerSecond;
+        }
+
+        /**
+         * The share of the node budget assigned to the shard.
+         */
+        public long getBudgetInBytes() {
+            return budgetInBytes;
+        }
+
+        /**
+         * The heap used by the indexing buffer of the shard, as of the last check.
+         */
+        public long getUsedInBytes() {
+            return usedInBytes;
+        }
+
+        /**
+         * The number of times the buffer of the shard was written to disk to free up heap.
+         */
+        public long getWriteCount() {
+            return writeCount;
+        }
+
+        /**
+         * Whether the indexing of the shard is currently throttled.
+         */
+        public boolean isThrottled() {
+            return throttled;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field(Fields.INDEX, shardId.getIndexName());
+            builder.field(Fields.SHARD, shardId.id());
+            builder.humanReadableField(
+                Fields.INGEST_RATE_IN_BYTES_PER_SECOND,
+                Fields.INGEST_RATE_PER_SECOND,
+                new ByteSizeValue(ingestRateInBytesPerSecond)
+            );
+            builder.humanReadableField(Fields.BUDGET_IN_BYTES, Fields.BUDGET, new ByteSizeValue(budgetInBytes));
+            builder.humanReadableField(Fields.USED_IN_BYTES, Fields.USED, new ByteSizeValue(usedInBytes));
+            builder.field(Fields.WRITE_COUNT, writeCount);
+            builder.field(Fields.THROTTLED, throttled);
+            return builder.endObject();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ShardIndexingBufferStats that = (ShardIndexingBufferStats) o;
+            return shardId.equals(that.shardId)
+                && ingestRateInBytesPerSecond == that.ingestRateInBytesPerSecond
+                && budgetInBytes == that.budgetInBytes
+                && usedInBytes == that.usedInBytes
+                && writeCount == that.writeCount
+                && throttled == that.throttled;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(shardId, ingestRateInBytesPerSecond, budgetInBytes, usedInBytes, writeCount, throttled);
+        }
+    }
+
+    static final class Fields {
+        static final String ADAPTIVE = "adaptive";
+        static final String BUDGET = "budget";
+        static final String BUDGET_IN_BYTES = "budget_in_bytes";
+        static final String USED = "used";
+        static final String USED_IN_BYTES = "used_in_bytes";
+        static final String WRITE_COUNT = "write_count";
+        static final String THROTTLE_COUNT = "throttle_count";
+        static final String SHARDS = "shards";
+        static final String INDEX = "index";
+        static final String SHARD = "shard";
+        static final String INGEST_RATE_PER_SECOND = "ingest_rate_per_second";
+        static final String INGEST_RATE_IN_BYTES_PER_SECOND = "ingest_rate_in_bytes_per_second";
+        static final String THROTTLED = "throttled";
+    }
+}
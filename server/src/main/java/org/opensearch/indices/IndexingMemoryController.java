@@ -36,6 +36,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.common.ExponentiallyWeightedMovingAverage;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
@@ -57,8 +58,11 @@ import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -113,6 +117,22 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         Property.NodeScope
     );
 
+    /** Whether the indexing buffer budget is shared between the shards in proportion to their recent ingest rates, so that cold
+     * shards are the first to write their buffers when over budget and write-hot shards get to flush fewer, larger segments
+     * (default: false). */
+    public static final Setting<Boolean> ADAPTIVE_INDEX_BUFFER_SETTING = Setting.boolSetting(
+        "indices.memory.adaptive.enabled",
+        false,
+        Property.NodeScope
+    );
+
+    /** The weight of the rate of the last check in the moving average of the ingest rate of a shard. */
+    static final double INGEST_RATE_ALPHA = 0.3;
+
+    /** Ingest rates are sampled over at least this long, so that checks that heavy indexing triggers back to back don't make them
+     * noisy. */
+    static final long MIN_INGEST_RATE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
     private final ThreadPool threadPool;
 
     private final Iterable<IndexShard> indexShards;
@@ -135,6 +155,15 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
 
     private final ShardsIndicesStatusChecker statusChecker;
 
+    private final boolean adaptive;
+
+    /** The buffers of the shards seen by the last check, which are the only ones whose ingest rate is tracked */
+    private final Map<ShardId, ShardBuffer> shardBuffers = new ConcurrentHashMap<>();
+
+    private final AtomicLong writeCount = new AtomicLong();
+    private final AtomicLong throttleCount = new AtomicLong();
+    private volatile long lastTotalBytesUsed;
+
     IndexingMemoryController(Settings settings, ThreadPool threadPool, Iterable<IndexShard> indexServices) {
         this.indexShards = indexServices;
 
@@ -159,15 +188,18 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         // we need to have this relatively small to free up heap quickly enough
         this.interval = SHARD_MEMORY_INTERVAL_TIME_SETTING.get(settings);
 
+        this.adaptive = ADAPTIVE_INDEX_BUFFER_SETTING.get(settings);
         this.statusChecker = new ShardsIndicesStatusChecker();
 
         logger.debug(
-            "using indexing buffer size [{}] with {} [{}], {} [{}]",
+            "using indexing buffer size [{}] with {} [{}], {} [{}], {} [{}]",
             this.indexingBuffer,
             SHARD_INACTIVE_TIME_SETTING.getKey(),
             this.inactiveTime,
             SHARD_MEMORY_INTERVAL_TIME_SETTING.getKey(),
-            this.interval
+            this.interval,
+            ADAPTIVE_INDEX_BUFFER_SETTING.getKey(),
+            this.adaptive
         );
         this.scheduler = scheduleTask(threadPool);
 
@@ -193,6 +225,39 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         return indexingBuffer;
     }
 
+    /**
+     * returns the stats of the indexing buffers of the shards seen by the last check
+     */
+    public IndexingBufferStats stats() {
+        final List<IndexingBufferStats.ShardIndexingBufferStats> shards = new ArrayList<>(shardBuffers.size());
+        for (ShardBuffer buffer : shardBuffers.values()) {
+            shards.add(
+                new IndexingBufferStats.ShardIndexingBufferStats(
+                    buffer.shardId,
+                    (long) buffer.ingestRate.getAverage(),
+                    buffer.budget,
+                    buffer.bytesUsed,
+                    buffer.writeCount.get(),
+                    buffer.throttled
+                )
+            );
+        }
+        shards.sort((a, b) -> a.getShardId().compareTo(b.getShardId()));
+        return new IndexingBufferStats(
+            adaptive,
+            indexingBuffer.getBytes(),
+            lastTotalBytesUsed,
+            writeCount.get(),
+            throttleCount.get(),
+            shards
+        );
+    }
+
+    /** returns the current time in nanoseconds, to measure the ingest rates of shards */
+    protected long relativeTimeInNanos() {
+        return System.nanoTime();
+    }
+
     protected List<IndexShard> availableShards() {
         List<IndexShard> availableShards = new ArrayList<>();
         for (IndexShard shard : indexShards) {
@@ -245,18 +310,48 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
 
     @Override
     public void postIndex(ShardId shardId, Engine.Index index, Engine.IndexResult result) {
-        recordOperationBytes(index, result);
+        recordOperationBytes(shardId, index, result);
     }
 
     @Override
     public void postDelete(ShardId shardId, Engine.Delete delete, Engine.DeleteResult result) {
-        recordOperationBytes(delete, result);
+        recordOperationBytes(shardId, delete, result);
     }
 
     /** called by IndexShard to record estimated bytes written to translog for the operation */
-    private void recordOperationBytes(Engine.Operation operation, Engine.Result result) {
+    private void recordOperationBytes(ShardId shardId, Engine.Operation operation, Engine.Result result) {
         if (result.getResultType() == Engine.Result.Type.SUCCESS) {
-            statusChecker.bytesWritten(operation.estimatedSizeInBytes());
+            bytesWritten(shardId, operation.estimatedSizeInBytes());
+        }
+    }
+
+    void bytesWritten(ShardId shardId, int bytes) {
+        if (adaptive) {
+            final ShardBuffer buffer = shardBuffers.get(shardId);
+            if (buffer != null) {
+                buffer.bytesSinceCheck.addAndGet(bytes);
+            }
+        }
+        statusChecker.bytesWritten(bytes);
+    }
+
+    /**
+     * What the controller knows about the indexing buffer of a shard: how fast it is written to, the share of the budget it was
+     * assigned and how often it had to be written to disk.
+     *
+     * @opensearch.internal
+     */
+    private static final class ShardBuffer {
+        final ShardId shardId;
+        final AtomicLong bytesSinceCheck = new AtomicLong();
+        final ExponentiallyWeightedMovingAverage ingestRate = new ExponentiallyWeightedMovingAverage(INGEST_RATE_ALPHA, 0);
+        final AtomicLong writeCount = new AtomicLong();
+        volatile long budget;
+        volatile long bytesUsed;
+        volatile boolean throttled;
+
+        ShardBuffer(ShardId shardId) {
+            this.shardId = shardId;
         }
     }
 
@@ -267,17 +362,21 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
      */
     private static final class ShardAndBytesUsed implements Comparable<ShardAndBytesUsed> {
         final long bytesUsed;
+        final long bytesOverBudget;
         final IndexShard shard;
+        final ShardBuffer buffer;
 
-        ShardAndBytesUsed(long bytesUsed, IndexShard shard) {
+        ShardAndBytesUsed(long bytesUsed, long bytesOverBudget, IndexShard shard, ShardBuffer buffer) {
             this.bytesUsed = bytesUsed;
+            this.bytesOverBudget = bytesOverBudget;
             this.shard = shard;
+            this.buffer = buffer;
         }
 
         @Override
         public int compareTo(ShardAndBytesUsed other) {
-            // Sort larger shards first:
-            return Long.compare(other.bytesUsed, bytesUsed);
+            // Sort shards that are the most over their budget first, which are the larger ones unless the budget is adaptive:
+            return Long.compare(other.bytesOverBudget, bytesOverBudget);
         }
     }
 
@@ -286,6 +385,8 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
 
         final AtomicLong bytesWrittenSinceCheck = new AtomicLong();
         final ReentrantLock runLock = new ReentrantLock();
+        /** When the ingest rates were last sampled */
+        long lastRateSampleNanos = relativeTimeInNanos();
 
         /** Shard calls this on each indexing/delete op */
         public void bytesWritten(int bytes) {
@@ -337,11 +438,24 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
             // to disk:
             long totalBytesUsed = 0;
             long totalBytesWriting = 0;
+            double totalIngestRate = 0;
+            final long now = relativeTimeInNanos();
+            final long elapsedNanos = now - lastRateSampleNanos;
+            final boolean sampleRates = adaptive && elapsedNanos >= MIN_INGEST_RATE_INTERVAL_NANOS;
+            final Set<ShardId> shardIds = new HashSet<>();
             for (IndexShard shard : availableShards()) {
 
                 // Give shard a chance to transition to inactive so we can flush:
                 checkIdle(shard, inactiveTime.nanos());
 
+                final ShardBuffer buffer = shardBuffers.computeIfAbsent(shard.shardId(), ShardBuffer::new);
+                shardIds.add(shard.shardId());
+                if (sampleRates) {
+                    final long bytesSinceCheck = buffer.bytesSinceCheck.getAndSet(0);
+                    buffer.ingestRate.addValue((double) bytesSinceCheck * TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+                }
+                totalIngestRate += buffer.ingestRate.getAverage();
+
                 // How many bytes this shard is currently (async'd) moving from heap to disk:
                 long shardWritingBytes = getShardWritingBytes(shard);
 
@@ -354,11 +468,19 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
                 // If the refresh completed just after we pulled shardWritingBytes and before we pulled shardBytesUsed, then we could
                 // have a negative value here. So we just skip this shard since that means it's now using very little heap:
                 if (shardBytesUsed < 0) {
+                    buffer.bytesUsed = 0;
                     continue;
                 }
 
+                buffer.bytesUsed = shardBytesUsed;
                 totalBytesUsed += shardBytesUsed;
             }
+            if (sampleRates) {
+                lastRateSampleNanos = now;
+            }
+            shardBuffers.keySet().retainAll(shardIds);
+            assignBudgets(totalIngestRate);
+            lastTotalBytesUsed = totalBytesUsed;
 
             if (logger.isTraceEnabled()) {
                 logger.trace(
@@ -395,6 +517,9 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
                     }
 
                     if (shardBytesUsed > 0) {
+                        final ShardBuffer buffer = shardBuffers.get(shard.shardId());
+                        // a shard that showed up since the first pass has no budget yet
+                        final long budget = buffer == null ? 0 : buffer.budget;
                         if (logger.isTraceEnabled()) {
                             if (shardWritingBytes != 0) {
                                 logger.trace(
@@ -407,7 +532,8 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
                                 logger.trace("shard [{}] is using [{}] heap, not writing any bytes", shard.shardId(), shardBytesUsed);
                             }
                         }
-                        queue.add(new ShardAndBytesUsed(shardBytesUsed, shard));
+                        final long bytesOverBudget = adaptive ? shardBytesUsed - budget : shardBytesUsed;
+                        queue.add(new ShardAndBytesUsed(shardBytesUsed, bytesOverBudget, shard, buffer));
                     }
                 }
 
@@ -424,16 +550,25 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
                 while (totalBytesUsed > indexingBuffer.getBytes() && queue.isEmpty() == false) {
                     ShardAndBytesUsed largest = queue.poll();
                     logger.debug(
-                        "write indexing buffer to disk for shard [{}] to free up its [{}] indexing buffer",
+                        "write indexing buffer to disk for shard [{}] to free up its [{}] indexing buffer, [{}] over its budget",
                         largest.shard.shardId(),
-                        new ByteSizeValue(largest.bytesUsed)
+                        new ByteSizeValue(largest.bytesUsed),
+                        largest.bytesOverBudget
                     );
                     writeIndexingBufferAsync(largest.shard);
+                    writeCount.incrementAndGet();
+                    if (largest.buffer != null) {
+                        largest.buffer.writeCount.incrementAndGet();
+                    }
                     totalBytesUsed -= largest.bytesUsed;
                     if (doThrottle && throttled.contains(largest.shard) == false) {
                         logger.info("now throttling indexing for shard [{}]: segment writing can't keep up", largest.shard.shardId());
                         throttled.add(largest.shard);
                         activateThrottling(largest.shard);
+                        throttleCount.incrementAndGet();
+                        if (largest.buffer != null) {
+                            largest.buffer.throttled = true;
+                        }
                     }
                 }
             }
@@ -442,12 +577,34 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
                 for (IndexShard shard : throttled) {
                     logger.info("stop throttling indexing for shard [{}]", shard.shardId());
                     deactivateThrottling(shard);
+                    final ShardBuffer buffer = shardBuffers.get(shard.shardId());
+                    if (buffer != null) {
+                        buffer.throttled = false;
+                    }
                 }
                 throttled.clear();
             }
         }
     }
 
+    /**
+     * Shares the budget between the shards seen by the last check. In adaptive mode each shard gets a share in proportion to its
+     * ingest rate, or an equal share while nothing was indexed; otherwise every shard may use the whole budget.
+     */
+    private void assignBudgets(double totalIngestRate) {
+        final long budget = indexingBuffer.getBytes();
+        final int numShards = shardBuffers.size();
+        for (ShardBuffer buffer : shardBuffers.values()) {
+            if (adaptive == false) {
+                buffer.budget = budget;
+            } else if (totalIngestRate > 0) {
+                buffer.budget = (long) (budget * (buffer.ingestRate.getAverage() / totalIngestRate));
+            } else {
+                buffer.budget = budget / numShards;
+            }
+        }
+    }
+
     /**
      * ask this shard to check now whether it is inactive, and reduces its indexing buffer if so.
      */
@@ -36,17 +36,24 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BulkScorer;
 import org.apache.lucene.search.DisjunctionMaxQuery;
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.LRUQueryCache;
 import org.apache.lucene.search.MultiTermQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryCache;
 import org.apache.lucene.search.QueryCachingPolicy;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.ScorerSupplier;
 import org.apache.lucene.search.UsageTrackingQueryCachingPolicy;
 import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.Bits;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.service.CacheService;
 import org.opensearch.common.lucene.ShardCoreKeyMap;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
@@ -54,6 +61,7 @@ import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.env.NodeEnvironment;
 import org.opensearch.index.cache.query.QueryCacheStats;
 
 import java.io.Closeable;
@@ -66,6 +74,8 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
+import org.roaringbitmap.RoaringBitmap;
+
 /**
  * The query cache for indices
  *
@@ -123,7 +133,34 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         Property.Dynamic
     );
 
+    /**
+     * Whether the node level LRU query cache admits and evicts the queries whose cost is known by the time they save per byte of
+     * heap, see {@link QueryCostTracker}. Has no effect if a store is configured for the query cache, as the store decides.
+     */
+    public static final Setting<Boolean> INDICES_QUERIES_CACHE_COST_BASED_SETTING = Setting.boolSetting(
+        "indices.queries.cache.cost_based.enabled",
+        false,
+        Property.NodeScope
+    );
+
+    /**
+     * Whether the node level LRU query cache keeps doc id sets as roaring bitmaps, see {@link RoaringBitmapDocIdSet}, instead of
+     * Lucene's choice of a bit set over the whole segment or a sparse set. Has no effect if a store is configured for the query
+     * cache.
+     */
+    public static final Setting<Boolean> INDICES_QUERIES_CACHE_ROARING_DOC_ID_SETS_SETTING = Setting.boolSetting(
+        "indices.queries.cache.roaring_doc_id_sets.enabled",
+        false,
+        Property.NodeScope
+    );
+
     private final LRUQueryCache cache;
+    // set if the LRU cache admits and evicts queries by their cost
+    private final QueryCostTracker costTracker;
+    // whether the LRU cache keeps doc id sets as roaring bitmaps
+    private final boolean roaringDocIdSets;
+    // set instead of the LRU cache when a store is configured for the query cache
+    private final PluggableQueryCache pluggableCache;
     private final ShardCoreKeyMap shardKeyMap = new ShardCoreKeyMap();
     private final Map<ShardId, Stats> shardStats = new ConcurrentHashMap<>();
     private volatile long sharedRamBytesUsed;
@@ -139,9 +176,44 @@ public class IndicesQueryCache implements QueryCache, Closeable {
     }
 
     public IndicesQueryCache(Settings settings, ClusterSettings clusterSettings) {
+        this(settings, clusterSettings, null, null);
+    }
+
+    /**
+     * Creates the query cache. If a store name is configured for {@link CacheType#INDICES_QUERY_CACHE}, doc id sets are
+     * kept in a cache created by the given cache service instead of Lucene's LRU query cache.
+     */
+    public IndicesQueryCache(
+        Settings settings,
+        ClusterSettings clusterSettings,
+        CacheService cacheService,
+        NodeEnvironment nodeEnvironment
+    ) {
         final ByteSizeValue size = INDICES_CACHE_QUERY_SIZE_SETTING.get(settings);
         final int count = INDICES_CACHE_QUERY_COUNT_SETTING.get(settings);
         float skipCacheFactor = INDICES_QUERIES_CACHE_SKIP_CACHE_FACTOR.get(settings);
+        roaringDocIdSets = INDICES_QUERIES_CACHE_ROARING_DOC_ID_SETS_SETTING.get(settings);
+        if (cacheService != null && CacheService.storeNamePresent(CacheType.INDICES_QUERY_CACHE, settings)) {
+            logger.debug("using [pluggable] query cache with max filter count [{}] skipCacheFactor [{}]", count, skipCacheFactor);
+            cache = null;
+            costTracker = null;
+            pluggableCache = new PluggableQueryCache(
+                settings,
+                clusterSettings,
+                cacheService,
+                nodeEnvironment,
+                shardKeyMap,
+                count,
+                INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING.get(settings),
+                skipCacheFactor
+            );
+            if (clusterSettings != null) {
+                clusterSettings.addSettingsUpdateConsumer(INDICES_QUERIES_CACHE_SKIP_CACHE_FACTOR, this::setSkipCacheFactor);
+            }
+            sharedRamBytesUsed = 0;
+            return;
+        }
+        pluggableCache = null;
         logger.debug("using [node] query cache with size [{}] max filter count [{}] skipCacheFactor [{}]", size, count, skipCacheFactor);
         if (INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING.get(settings)) {
             cache = new OpenSearchLRUQueryCache(count, size.getBytes(), context -> true, 1f);
@@ -154,10 +226,25 @@ public class IndicesQueryCache implements QueryCache, Closeable {
                 logger.warn("clusterSettings is null, so {} is not dynamic", INDICES_QUERIES_CACHE_SKIP_CACHE_FACTOR.getKey());
             }
         }
+        if (INDICES_QUERIES_CACHE_COST_BASED_SETTING.get(settings)) {
+            costTracker = new QueryCostTracker(count, size.getBytes(), cache::ramBytesUsed, cache::clearQuery);
+        } else {
+            costTracker = null;
+        }
         sharedRamBytesUsed = 0;
     }
 
     public void setSkipCacheFactor(float skipCacheFactor) {
+        if (pluggableCache != null) {
+            logger.debug(
+                "set cluster settings {} {} -> {}",
+                INDICES_QUERIES_CACHE_SKIP_CACHE_FACTOR.getKey(),
+                pluggableCache.getSkipCacheFactor(),
+                skipCacheFactor
+            );
+            pluggableCache.setSkipCacheFactor(skipCacheFactor);
+            return;
+        }
         logger.debug(
             "set cluster settings {} {} -> {}",
             INDICES_QUERIES_CACHE_SKIP_CACHE_FACTOR.getKey(),
@@ -169,6 +256,9 @@ public class IndicesQueryCache implements QueryCache, Closeable {
 
     /** Get usage statistics for the given shard. */
     public QueryCacheStats getStats(ShardId shard) {
+        if (pluggableCache != null) {
+            return pluggableCache.getStats(shard);
+        }
         final Map<ShardId, QueryCacheStats> stats = new HashMap<>();
         for (Map.Entry<ShardId, Stats> entry : shardStats.entrySet()) {
             stats.put(entry.getKey(), entry.getValue().toQueryCacheStats());
@@ -210,7 +300,14 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         while (weight instanceof CachingWeightWrapper cachingWeightWrapper) {
             weight = cachingWeightWrapper.in;
         }
-        final Weight in = cache.doCache(weight, policy);
+        final Weight in;
+        if (pluggableCache != null) {
+            in = pluggableCache.doCache(weight, policy);
+        } else if (costTracker != null) {
+            in = cache.doCache(new CostTrackingWeight(weight), costTracker.wrap(policy));
+        } else {
+            in = cache.doCache(weight, policy);
+        }
         // We wrap the weight to track the readers it sees and map them with
         // the shards they belong to
         return new CachingWeightWrapper(in);
@@ -249,9 +346,95 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         }
     }
 
+    /**
+     * Weight whose bulk scorers, which the LRU cache consumes to build doc id sets, carry the query and the time they started
+     * to be created, so that the cost of building the doc id set of a query can be attributed to it.
+     */
+    private static class CostTrackingWeight extends Weight {
+
+        private final Weight in;
+
+        CostTrackingWeight(Weight in) {
+            super(in.getQuery());
+            this.in = in;
+        }
+
+        @Override
+        public Explanation explain(LeafReaderContext context, int doc) throws IOException {
+            return in.explain(context, doc);
+        }
+
+        @Override
+        public int count(LeafReaderContext context) throws IOException {
+            return in.count(context);
+        }
+
+        @Override
+        public boolean isCacheable(LeafReaderContext ctx) {
+            return in.isCacheable(ctx);
+        }
+
+        @Override
+        public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
+            final ScorerSupplier supplier = in.scorerSupplier(context);
+            if (supplier == null) {
+                return null;
+            }
+            return new ScorerSupplier() {
+                @Override
+                public Scorer get(long leadCost) throws IOException {
+                    return supplier.get(leadCost);
+                }
+
+                @Override
+                public BulkScorer bulkScorer() throws IOException {
+                    final long startTimeNanos = System.nanoTime();
+                    final BulkScorer bulkScorer = supplier.bulkScorer();
+                    return bulkScorer == null ? null : new CostTrackingBulkScorer(bulkScorer, getQuery(), startTimeNanos);
+                }
+
+                @Override
+                public long cost() {
+                    return supplier.cost();
+                }
+            };
+        }
+    }
+
+    /**
+     * Bulk scorer that carries the query it scores and the time it started to be created, which includes building the doc
+     * id sets of cached sub queries.
+     */
+    private static class CostTrackingBulkScorer extends BulkScorer {
+
+        private final BulkScorer in;
+        private final Query query;
+        private final long startTimeNanos;
+
+        CostTrackingBulkScorer(BulkScorer in, Query query, long startTimeNanos) {
+            this.in = in;
+            this.query = query;
+            this.startTimeNanos = startTimeNanos;
+        }
+
+        @Override
+        public int score(LeafCollector collector, Bits acceptDocs, int min, int max) throws IOException {
+            return in.score(collector, acceptDocs, min, max);
+        }
+
+        @Override
+        public long cost() {
+            return in.cost();
+        }
+    }
+
     /** Clear all entries that belong to the given index. */
     public void clearIndex(String index) {
         final Set<Object> coreCacheKeys = shardKeyMap.getCoreKeysForIndex(index);
+        if (pluggableCache != null) {
+            pluggableCache.clearCoreCacheKeys(coreCacheKeys);
+            return;
+        }
         for (Object coreKey : coreCacheKeys) {
             cache.clearCoreCacheKey(coreKey);
         }
@@ -265,9 +448,27 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         }
     }
 
+    /**
+     * Removes the entries of closed segments from the cache, only needed if a store is configured for the query cache
+     * as Lucene's LRU query cache removes them when segments are closed.
+     */
+    void cleanCache() {
+        if (pluggableCache != null) {
+            pluggableCache.cleanCache();
+        }
+    }
+
     @Override
     public void close() {
         assert shardKeyMap.size() == 0 : shardKeyMap.size();
+        if (pluggableCache != null) {
+            try {
+                pluggableCache.close();
+            } catch (IOException e) {
+                logger.warn("failed to close the query cache", e);
+            }
+            return;
+        }
         assert shardStats.isEmpty() : shardStats.keySet();
         assert stats2.isEmpty() : stats2;
 
@@ -290,6 +491,7 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         volatile long missCount;
         volatile long cacheCount;
         volatile long cacheSize;
+        volatile long timeSavedNanos;
 
         Stats(ShardId shardId) {
             this.shardId = shardId;
@@ -301,6 +503,7 @@ public class IndicesQueryCache implements QueryCache, Closeable {
                 .missCount(missCount)
                 .cacheCount(cacheCount)
                 .cacheSize(cacheSize)
+                .timeSavedInNanos(timeSavedNanos)
                 .build();
         }
 
@@ -318,6 +521,8 @@ public class IndicesQueryCache implements QueryCache, Closeable {
                 + cacheCount
                 + ", cacheSize="
                 + cacheSize
+                + ", timeSavedNanos="
+                + timeSavedNanos
                 + "}";
         }
     }
@@ -350,6 +555,10 @@ public class IndicesQueryCache implements QueryCache, Closeable {
     }
 
     public void onClose(ShardId shardId) {
+        if (pluggableCache != null) {
+            pluggableCache.onClose(shardId);
+            return;
+        }
         assert empty(shardStats.get(shardId));
         shardStats.remove(shardId);
     }
@@ -394,18 +603,51 @@ public class IndicesQueryCache implements QueryCache, Closeable {
             }
             stats2.clear();
             sharedRamBytesUsed = 0;
+            if (costTracker != null) {
+                costTracker.onClear();
+            }
         }
 
         @Override
         protected void onQueryCache(Query filter, long ramBytesUsed) {
             super.onQueryCache(filter, ramBytesUsed);
             sharedRamBytesUsed += ramBytesUsed;
+            if (costTracker != null) {
+                costTracker.onCached(filter);
+            }
         }
 
         @Override
         protected void onQueryEviction(Query filter, long ramBytesUsed) {
             super.onQueryEviction(filter, ramBytesUsed);
             sharedRamBytesUsed -= ramBytesUsed;
+            if (costTracker != null) {
+                costTracker.onEvicted(filter);
+            }
+        }
+
+        @Override
+        protected CacheAndCount cacheImpl(BulkScorer scorer, int maxDoc) throws IOException {
+            final CacheAndCount cached = roaringDocIdSets ? cacheIntoRoaringBitmap(scorer, maxDoc) : super.cacheImpl(scorer, maxDoc);
+            if (costTracker != null && scorer instanceof CostTrackingBulkScorer tracked) {
+                costTracker.onBuilt(tracked.query, System.nanoTime() - tracked.startTimeNanos, cached.ramBytesUsed());
+            }
+            return cached;
+        }
+
+        private CacheAndCount cacheIntoRoaringBitmap(BulkScorer scorer, int maxDoc) throws IOException {
+            final RoaringBitmap bitmap = new RoaringBitmap();
+            scorer.score(new LeafCollector() {
+                @Override
+                public void setScorer(Scorable scorable) {}
+
+                @Override
+                public void collect(int doc) {
+                    bitmap.add(doc);
+                }
+            }, null, 0, maxDoc);
+            final RoaringBitmapDocIdSet docIdSet = new RoaringBitmapDocIdSet(bitmap);
+            return new CacheAndCount(docIdSet, docIdSet.cardinality());
         }
 
         @Override
@@ -452,6 +694,9 @@ public class IndicesQueryCache implements QueryCache, Closeable {
             super.onHit(readerCoreKey, filter);
             final Stats shardStats = getStats(readerCoreKey);
             shardStats.hitCount += 1;
+            if (costTracker != null) {
+                shardStats.timeSavedNanos += costTracker.onHit(filter);
+            }
         }
 
         @Override
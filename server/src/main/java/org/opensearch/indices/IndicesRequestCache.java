@@ -36,11 +36,13 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.UUIDs;
 import org.opensearch.common.cache.CacheType;
 import org.opensearch.common.cache.ICache;
 import org.opensearch.common.cache.ICacheKey;
@@ -86,6 +88,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.ToLongBiFunction;
 
@@ -125,6 +128,18 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
         Property.IndexScope
     );
 
+    /**
+     * A setting to cache the results of eligible aggregation requests per segment rather than per shard. Segment level entries
+     * survive refreshes, so only new segments are searched again, and requests with ranges relative to "now" can be cached for
+     * the segments which lie entirely within or outside of the range.
+     */
+    public static final Setting<Boolean> INDEX_CACHE_REQUEST_SEGMENT_LEVEL_SETTING = Setting.boolSetting(
+        "index.requests.cache.segment_level.enable",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
     /**
      * If pluggable caching is off, or pluggable caching is on but a store name isn't specified, this setting determines the cache size.
      * Otherwise, the implementation-specific size setting like indices.requests.cache.opensearch_onheap.size is used instead.
@@ -174,6 +189,8 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
     private final static long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(Key.class);
 
     private final ConcurrentMap<CleanupKey, Boolean> registeredClosedListeners = ConcurrentCollections.newConcurrentMap();
+    // Ids standing in for the reader cache keys of segments, which unlike directory readers don't carry an id of their own
+    private final ConcurrentMap<IndexReader.CacheKey, String> segmentReaderCacheKeyIds = ConcurrentCollections.newConcurrentMap();
     private final TimeValue expire;
     private final ICache<Key, BytesReference> cache;
     private final ClusterService clusterService;
@@ -320,6 +337,42 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
             .getReaderCacheHelper();
         String readerCacheKeyId = delegatingCacheHelper.getDelegatingCacheKey().getId();
         assert readerCacheKeyId != null;
+        return getOrCompute(
+            cacheEntity,
+            loader,
+            readerCacheKeyId,
+            cleanupKey -> OpenSearchDirectoryReader.addReaderCloseListener(reader, cleanupKey),
+            cacheKey
+        );
+    }
+
+    /**
+     * Same as {@link #getOrCompute(IndicesService.IndexShardCacheEntity, CheckedSupplier, DirectoryReader, BytesReference)}, but
+     * for a result computed on a single segment. The entry is cleaned up once the given segment reader is closed, which happens when
+     * the segment is merged away or when its deleted documents change.
+     */
+    BytesReference getOrCompute(
+        IndicesService.IndexShardCacheEntity cacheEntity,
+        CheckedSupplier<BytesReference, IOException> loader,
+        LeafReader segmentReader,
+        BytesReference cacheKey
+    ) throws Exception {
+        IndexReader.CacheHelper cacheHelper = segmentReader.getReaderCacheHelper();
+        assert cacheHelper != null;
+        String readerCacheKeyId = segmentReaderCacheKeyIds.computeIfAbsent(cacheHelper.getKey(), k -> {
+            cacheHelper.addClosedListener(segmentReaderCacheKeyIds::remove);
+            return UUIDs.randomBase64UUID();
+        });
+        return getOrCompute(cacheEntity, loader, readerCacheKeyId, cacheHelper::addClosedListener, cacheKey);
+    }
+
+    private BytesReference getOrCompute(
+        IndicesService.IndexShardCacheEntity cacheEntity,
+        CheckedSupplier<BytesReference, IOException> loader,
+        String readerCacheKeyId,
+        Consumer<CleanupKey> closeListenerRegistration,
+        BytesReference cacheKey
+    ) throws Exception {
         IndexShard indexShard = ((IndexShard) cacheEntity.getCacheIdentity());
         final Key key = new Key(indexShard.shardId(), cacheKey, readerCacheKeyId, System.identityHashCode(indexShard));
         Loader cacheLoader = new Loader(cacheEntity, loader);
@@ -331,7 +384,7 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
             if (!registeredClosedListeners.containsKey(cleanupKey)) {
                 Boolean previous = registeredClosedListeners.putIfAbsent(cleanupKey, Boolean.TRUE);
                 if (previous == null) {
-                    OpenSearchDirectoryReader.addReaderCloseListener(reader, cleanupKey);
+                    closeListenerRegistration.accept(cleanupKey);
                 }
             }
             cacheCleanupManager.updateStaleCountOnCacheInsert(cleanupKey);
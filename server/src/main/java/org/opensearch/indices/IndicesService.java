@@ -72,6 +72,7 @@ import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lifecycle.AbstractLifecycleComponent;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader.DelegatingCacheHelper;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.IndexScopedSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
@@ -150,7 +151,10 @@ import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.translog.InternalTranslogFactory;
 import org.opensearch.index.translog.RemoteBlobStoreInternalTranslogFactory;
 import org.opensearch.index.translog.TranslogFactory;
+import org.opensearch.index.translog.TranslogGroupCommitScheduler;
+import org.opensearch.index.translog.TranslogGroupCommitStats;
 import org.opensearch.index.translog.TranslogStats;
+import org.opensearch.index.translog.transfer.TranslogBundleUploader;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
 import org.opensearch.indices.mapper.MapperRegistry;
@@ -184,6 +188,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -389,6 +394,7 @@ public class IndicesService extends AbstractLifecycleComponent
     private final IndexingMemoryController indexingMemoryController;
     private final TimeValue cleanInterval; // clean interval for the field data cache
     final IndicesRequestCache indicesRequestCache; // pkg-private for testing
+    private final SegmentRequestCacheLoader segmentRequestCacheLoader;
     private final IndicesQueryCache indicesQueryCache;
     private final MetaStateService metaStateService;
     private final Collection<Function<IndexSettings, Optional<EngineFactory>>> engineFactoryProviders;
@@ -404,6 +410,10 @@ public class IndicesService extends AbstractLifecycleComponent
     private final RecoverySettings recoverySettings;
     private final RemoteStoreSettings remoteStoreSettings;
     @Nullable
+    private final TranslogBundleUploader translogBundleUploader;
+    @Nullable
+    private final TranslogGroupCommitScheduler translogGroupCommitScheduler;
+    @Nullable
     private final OpenSearchThreadPoolExecutor danglingIndicesThreadPoolExecutor;
     private final Set<Index> danglingIndicesToWrite = Sets.newConcurrentHashSet();
     private final boolean nodeWriteDanglingIndicesInfo;
@@ -482,9 +492,10 @@ public class IndicesService extends AbstractLifecycleComponent
             }
             return Optional.of(new IndexShardCacheEntity(indexService.getShardOrNull(shardId.id())));
         }), cacheService, threadPool, clusterService, nodeEnv);
-        this.indicesQueryCache = new IndicesQueryCache(settings, clusterService.getClusterSettings());
+        this.indicesQueryCache = new IndicesQueryCache(settings, clusterService.getClusterSettings(), cacheService, nodeEnv);
         this.mapperRegistry = mapperRegistry;
         this.namedWriteableRegistry = namedWriteableRegistry;
+        this.segmentRequestCacheLoader = new SegmentRequestCacheLoader(indicesRequestCache, namedWriteableRegistry);
         indexingMemoryController = new IndexingMemoryController(
             settings,
             threadPool,
@@ -510,7 +521,7 @@ public class IndicesService extends AbstractLifecycleComponent
             }
         }, clusterService, threadPool);
         this.cleanInterval = INDICES_CACHE_CLEAN_INTERVAL_SETTING.get(settings);
-        this.cacheCleaner = new CacheCleaner(indicesFieldDataCache, logger, threadPool, this.cleanInterval);
+        this.cacheCleaner = new CacheCleaner(indicesFieldDataCache, indicesQueryCache, logger, threadPool, this.cleanInterval);
         this.metaStateService = metaStateService;
         this.engineFactoryProviders = engineFactoryProviders;
 
@@ -524,6 +535,10 @@ public class IndicesService extends AbstractLifecycleComponent
         // avoid closing these resources while ongoing requests are still being processed, we use a
         // ref count which will only close them when both this service and all index services are
         // actually closed
+        this.translogBundleUploader = remoteStoreSettings == null
+            ? null
+            : new TranslogBundleUploader(threadPool, remoteStoreSettings, () -> clusterService.localNode().getId());
+        this.translogGroupCommitScheduler = createTranslogGroupCommitScheduler(settings, clusterService.getClusterSettings(), nodeEnv);
         indicesRefCount = new AbstractRefCounted("indices") {
             @Override
             protected void closeInternal() {
@@ -534,7 +549,9 @@ public class IndicesService extends AbstractLifecycleComponent
                         indicesFieldDataCache,
                         cacheCleaner,
                         indicesRequestCache,
-                        indicesQueryCache
+                        indicesQueryCache,
+                        translogBundleUploader,
+                        translogGroupCommitScheduler
                     );
                 } catch (IOException e) {
                     throw new UncheckedIOException(e);
@@ -566,7 +583,9 @@ public class IndicesService extends AbstractLifecycleComponent
             threadPool,
             remoteStoreStatsTrackerFactory,
             settings,
-            remoteStoreSettings
+            remoteStoreSettings,
+            translogBundleUploader,
+            translogGroupCommitScheduler
         );
         this.searchRequestStats = searchRequestStats;
         this.clusterDefaultRefreshInterval = CLUSTER_DEFAULT_INDEX_REFRESH_INTERVAL_SETTING.get(clusterService.getSettings());
@@ -722,12 +741,31 @@ public class IndicesService extends AbstractLifecycleComponent
         }
     }
 
+    @Nullable
+    private static TranslogGroupCommitScheduler createTranslogGroupCommitScheduler(
+        Settings settings,
+        ClusterSettings clusterSettings,
+        NodeEnvironment nodeEnv
+    ) {
+        if (TranslogGroupCommitScheduler.GROUP_COMMIT_ENABLED_SETTING.get(settings) == false || nodeEnv == null || !nodeEnv.hasNodeFile()) {
+            return null;
+        }
+        final NodeEnvironment.NodePath[] nodePaths = nodeEnv.nodePaths();
+        final Path[] dataPaths = new Path[nodePaths.length];
+        for (int i = 0; i < nodePaths.length; i++) {
+            dataPaths[i] = nodePaths[i].path;
+        }
+        return new TranslogGroupCommitScheduler(settings, clusterSettings, dataPaths);
+    }
+
     private static BiFunction<IndexSettings, ShardRouting, TranslogFactory> getTranslogFactorySupplier(
         Supplier<RepositoriesService> repositoriesServiceSupplier,
         ThreadPool threadPool,
         RemoteStoreStatsTrackerFactory remoteStoreStatsTrackerFactory,
         Settings settings,
-        RemoteStoreSettings remoteStoreSettings
+        RemoteStoreSettings remoteStoreSettings,
+        TranslogBundleUploader translogBundleUploader,
+        TranslogGroupCommitScheduler translogGroupCommitScheduler
     ) {
         return (indexSettings, shardRouting) -> {
             if (indexSettings.isRemoteTranslogStoreEnabled() && shardRouting.primary()) {
@@ -737,7 +775,8 @@ public class IndicesService extends AbstractLifecycleComponent
                     indexSettings.getRemoteStoreTranslogRepository(),
                     remoteStoreStatsTrackerFactory.getRemoteTranslogTransferTracker(shardRouting.shardId()),
                     remoteStoreSettings,
-                    RemoteStoreUtils.isServerSideEncryptionEnabledIndex(indexSettings.getIndexMetadata())
+                    RemoteStoreUtils.isServerSideEncryptionEnabledIndex(indexSettings.getIndexMetadata()),
+                    translogBundleUploader
                 );
             } else if (RemoteStoreNodeAttribute.isTranslogRepoConfigured(settings) && shardRouting.primary()) {
                 return new RemoteBlobStoreInternalTranslogFactory(
@@ -746,10 +785,11 @@ public class IndicesService extends AbstractLifecycleComponent
                     RemoteStoreNodeAttribute.getRemoteStoreTranslogRepo(indexSettings.getNodeSettings()),
                     remoteStoreStatsTrackerFactory.getRemoteTranslogTransferTracker(shardRouting.shardId()),
                     remoteStoreSettings,
-                    RemoteStoreUtils.isServerSideEncryptionEnabledIndex(indexSettings.getIndexMetadata())
+                    RemoteStoreUtils.isServerSideEncryptionEnabledIndex(indexSettings.getIndexMetadata()),
+                    translogBundleUploader
                 );
             }
-            return new InternalTranslogFactory();
+            return new InternalTranslogFactory(translogGroupCommitScheduler);
         };
     }
 
@@ -1895,20 +1935,23 @@ public class IndicesService extends AbstractLifecycleComponent
      * FieldDataCacheCleaner is a scheduled Runnable used to clean a Guava cache
      * periodically. In this case it is the field data cache, because a cache that
      * has an entry invalidated may not clean up the entry if it is not read from
-     * or written to after invalidation.
+     * or written to after invalidation. It also removes the entries of closed segments
+     * from the query cache when a store is configured for it.
      *
      * @opensearch.internal
      */
     private static final class CacheCleaner implements Runnable, Releasable {
 
         private final IndicesFieldDataCache cache;
+        private final IndicesQueryCache queryCache;
         private final Logger logger;
         private final ThreadPool threadPool;
         private final TimeValue interval;
         private final AtomicBoolean closed = new AtomicBoolean(false);
 
-        CacheCleaner(IndicesFieldDataCache cache, Logger logger, ThreadPool threadPool, TimeValue interval) {
+        CacheCleaner(IndicesFieldDataCache cache, IndicesQueryCache queryCache, Logger logger, ThreadPool threadPool, TimeValue interval) {
             this.cache = cache;
+            this.queryCache = queryCache;
             this.logger = logger;
             this.threadPool = threadPool;
             this.interval = interval;
@@ -1925,6 +1968,11 @@ public class IndicesService extends AbstractLifecycleComponent
             } catch (Exception e) {
                 logger.warn("Exception during periodic field data cache cleanup:", e);
             }
+            try {
+                this.queryCache.cleanCache();
+            } catch (Exception e) {
+                logger.warn("Exception during periodic query cache cleanup:", e);
+            }
             if (logger.isTraceEnabled()) {
                 logger.trace(
                     "periodic field data cache cleanup finished in {} milliseconds",
@@ -1947,6 +1995,32 @@ public class IndicesService extends AbstractLifecycleComponent
      * Can the shard request be cached at all?
      */
     public boolean canCache(ShardSearchRequest request, SearchContext context) {
+        if (canCacheRequest(request, context) == false) {
+            return false;
+        }
+        // We use the cacheKey of the index reader as a part of a key of the IndicesRequestCache.
+        assert context.searcher().getIndexReader().getReaderCacheHelper() != null;
+
+        // if now in millis is used (or in the future, a more generic "isDeterministic" flag
+        // then we can't cache based on "now" key within the search request, as it is not deterministic
+        if (context.getQueryShardContext().isCacheable() == false) {
+            return false;
+        }
+        return context.searcher().getDirectoryReader().getReaderCacheHelper() instanceof DelegatingCacheHelper;
+    }
+
+    /**
+     * Can the shard request be cached segment by segment? This is preferred over caching the whole shard result when enabled on the
+     * index, and doesn't require the request to be deterministic, as only the segments whose result is deterministic are cached.
+     */
+    public boolean canCacheSegmentLevel(ShardSearchRequest request, SearchContext context) {
+        if (context.indexShard().indexSettings().getValue(IndicesRequestCache.INDEX_CACHE_REQUEST_SEGMENT_LEVEL_SETTING) == false) {
+            return false;
+        }
+        return canCacheRequest(request, context) && SegmentRequestCacheLoader.canCache(request, context);
+    }
+
+    private boolean canCacheRequest(ShardSearchRequest request, SearchContext context) {
         // Queries that create a scroll context cannot use the cache.
         // They modify the search context during their execution so using the cache
         // may invalidate the scroll for the next query.
@@ -1985,15 +2059,7 @@ public class IndicesService extends AbstractLifecycleComponent
         } else if (request.requestCache() == false) {
             return false;
         }
-        // We use the cacheKey of the index reader as a part of a key of the IndicesRequestCache.
-        assert context.searcher().getIndexReader().getReaderCacheHelper() != null;
-
-        // if now in millis is used (or in the future, a more generic "isDeterministic" flag
-        // then we can't cache based on "now" key within the search request, as it is not deterministic
-        if (context.getQueryShardContext().isCacheable() == false) {
-            return false;
-        }
-        return context.searcher().getDirectoryReader().getReaderCacheHelper() instanceof DelegatingCacheHelper;
+        return true;
     }
 
     /**
@@ -2042,10 +2108,35 @@ public class IndicesService extends AbstractLifecycleComponent
         }
     }
 
+    /**
+     * Executes the query phase segment by segment, loading the results of the segments from the cache when possible, and computing
+     * and caching them otherwise. The segments that can't be cached are searched by the query phase. The reduced result is set as
+     * the {@link SearchContext#queryResult() context's query result}.
+     */
+    public void loadSegmentLevelIntoContext(ShardSearchRequest request, SearchContext context, QueryPhase queryPhase) throws Exception {
+        assert canCacheSegmentLevel(request, context);
+        segmentRequestCacheLoader.loadIntoContext(request, context, queryPhase, new IndexShardCacheEntity(context.indexShard()));
+    }
+
     public ByteSizeValue getTotalIndexingBufferBytes() {
         return indexingMemoryController.indexingBufferSize();
     }
 
+    /**
+     * Returns the stats of the indexing buffers of the shards of this node.
+     */
+    public IndexingBufferStats indexingBufferStats() {
+        return indexingMemoryController.stats();
+    }
+
+    /**
+     * Returns the stats of the group commits of the local translogs of this node, or null if group commit is disabled.
+     */
+    @Nullable
+    public TranslogGroupCommitStats translogGroupCommitStats() {
+        return translogGroupCommitScheduler == null ? null : translogGroupCommitScheduler.stats();
+    }
+
     /**
      * Cache something calculated at the shard level.
      * @param shard the shard this item is part of
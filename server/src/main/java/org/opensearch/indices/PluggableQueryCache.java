@@ -0,0 +1,571 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexReaderContext;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.ConstantScoreWeight;
+import org.apache.lucene.search.DocIdSet;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.Matches;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryCache;
+import org.apache.lucene.search.QueryCachingPolicy;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.BitDocIdSet;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.apache.lucene.util.RoaringDocIdSet;
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.policy.CachedQueryResult;
+import org.opensearch.common.cache.service.CacheService;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.lucene.ShardCoreKeyMap;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.env.NodeEnvironment;
+import org.opensearch.index.cache.query.QueryCacheStats;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * A query cache which stores the doc id sets of cached queries in an {@link ICache} created by the {@link CacheService}
+ * for {@link CacheType#INDICES_QUERY_CACHE}, so that the store configured for the query cache, for instance the tiered
+ * spillover cache, decides where doc id sets live and what happens to them on eviction.
+ *
+ * <p>Lucene queries and segment core keys cannot be serialized, so both are mapped to node-wide unique ids which are
+ * never reused. A cache key is the shard, the id of the segment core and the id of the query. Entries of closed
+ * segments and of queries which are no longer tracked are unreachable and are removed by {@link #cleanCache()}.
+ *
+ * @opensearch.internal
+ */
+final class PluggableQueryCache implements QueryCache, Closeable {
+
+    private static final Logger logger = LogManager.getLogger(PluggableQueryCache.class);
+
+    // same defaults as Lucene's LRUQueryCache
+    private static final int MIN_SEGMENT_SIZE = 10000;
+    private static final float MIN_SEGMENT_SIZE_RATIO = 0.03f;
+
+    private final ICache<Key, CachedDocIdSet> cache;
+    private final ShardCoreKeyMap shardKeyMap;
+    private final boolean cacheAllSegments;
+    private volatile float skipCacheFactor;
+
+    private final AtomicLong idGenerator = new AtomicLong();
+    private final Map<IndexReader.CacheKey, Long> coreIds = new ConcurrentHashMap<>();
+    private final Map<Query, Long> queryIds;
+    private final Set<Long> staleCoreIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> staleQueryIds = ConcurrentHashMap.newKeySet();
+    private final Map<ShardId, Stats> shardStats = new ConcurrentHashMap<>();
+
+    PluggableQueryCache(
+        Settings settings,
+        ClusterSettings clusterSettings,
+        CacheService cacheService,
+        NodeEnvironment nodeEnvironment,
+        ShardCoreKeyMap shardKeyMap,
+        int maxQueries,
+        boolean cacheAllSegments,
+        float skipCacheFactor
+    ) {
+        this.shardKeyMap = shardKeyMap;
+        this.cacheAllSegments = cacheAllSegments;
+        this.skipCacheFactor = skipCacheFactor;
+        this.queryIds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Query, Long> eldest) {
+                if (size() > maxQueries) {
+                    staleQueryIds.add(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.cache = cacheService.createCache(getCacheConfig(settings, clusterSettings, nodeEnvironment), CacheType.INDICES_QUERY_CACHE);
+        logger.debug("using [{}] store for the query cache with max query count [{}]", cache.getClass().getSimpleName(), maxQueries);
+    }
+
+    private CacheConfig<Key, CachedDocIdSet> getCacheConfig(
+        Settings settings,
+        ClusterSettings clusterSettings,
+        NodeEnvironment nodeEnvironment
+    ) {
+        ToLongBiFunction<ICacheKey<Key>, CachedDocIdSet> weigher = (k, v) -> k.ramBytesUsed(k.key.ramBytesUsed()) + v.ramBytesUsed();
+        return new CacheConfig.Builder<Key, CachedDocIdSet>().setSettings(settings)
+            .setWeigher(weigher)
+            .setKeyType(Key.class)
+            .setValueType(CachedDocIdSet.class)
+            .setRemovalListener(new StatsRemovalListener())
+            .setDimensionNames(List.of(IndicesRequestCache.INDEX_DIMENSION_NAME, IndicesRequestCache.SHARD_ID_DIMENSION_NAME))
+            // the took time based policies of tiered caches look at the time it took to build the doc id set
+            .setCachedResultParser(value -> new CachedQueryResult.PolicyValues(value.tookTimeNanos))
+            .setKeySerializer(new IQCKeyWriteableSerializer())
+            .setValueSerializer(new IQCValueWriteableSerializer())
+            .setClusterSettings(clusterSettings)
+            .setStoragePath(nodeEnvironment.nodePaths()[0].path.toString() + "/query_cache")
+            .build();
+    }
+
+    void setSkipCacheFactor(float skipCacheFactor) {
+        this.skipCacheFactor = skipCacheFactor;
+    }
+
+    float getSkipCacheFactor() {
+        return skipCacheFactor;
+    }
+
+    @Override
+    public Weight doCache(Weight weight, QueryCachingPolicy policy) {
+        while (weight instanceof CachingWrapperWeight cachingWrapperWeight) {
+            weight = cachingWrapperWeight.in;
+        }
+        return new CachingWrapperWeight(weight, policy);
+    }
+
+    /** Get usage statistics for the given shard. */
+    QueryCacheStats getStats(ShardId shardId) {
+        Stats stats = shardStats.get(shardId);
+        return stats == null ? new QueryCacheStats() : stats.toQueryCacheStats();
+    }
+
+    /** Marks the entries of the given segment cores as stale and removes them from the cache. */
+    void clearCoreCacheKeys(Set<Object> coreCacheKeys) {
+        for (Object coreCacheKey : coreCacheKeys) {
+            Long coreId = coreIds.remove(coreCacheKey);
+            if (coreId != null) {
+                staleCoreIds.add(coreId);
+            }
+        }
+        cleanCache();
+    }
+
+    void onClose(ShardId shardId) {
+        // the entries of the shard are unreachable as its segment cores are closed, they are removed on the next cleanup
+        shardStats.remove(shardId);
+    }
+
+    /**
+     * Removes the entries of closed segment cores and of queries which are no longer tracked from the cache.
+     */
+    void cleanCache() {
+        if (staleCoreIds.isEmpty() && staleQueryIds.isEmpty()) {
+            return;
+        }
+        final Set<Long> cleanupCoreIds = new HashSet<>(staleCoreIds);
+        final Set<Long> cleanupQueryIds = new HashSet<>(staleQueryIds);
+        for (Iterator<ICacheKey<Key>> iterator = cache.keys().iterator(); iterator.hasNext();) {
+            Key key = iterator.next().key;
+            if (cleanupCoreIds.contains(key.readerCoreId) || cleanupQueryIds.contains(key.queryId)) {
+                iterator.remove();
+            }
+        }
+        staleCoreIds.removeAll(cleanupCoreIds);
+        staleQueryIds.removeAll(cleanupQueryIds);
+        cache.refresh();
+    }
+
+    @Override
+    public void close() throws IOException {
+        cache.invalidateAll();
+        cache.close();
+        synchronized (queryIds) {
+            queryIds.clear();
+        }
+        coreIds.clear();
+        staleCoreIds.clear();
+        staleQueryIds.clear();
+    }
+
+    private ICacheKey<Key> getICacheKey(IndexReader.CacheHelper cacheHelper, Query query) {
+        final ShardId shardId = shardKeyMap.getShardId(cacheHelper.getKey());
+        if (shardId == null) {
+            // the segment does not belong to a shard, such as in tests using a plain index searcher
+            return null;
+        }
+        final long readerCoreId = coreIds.computeIfAbsent(cacheHelper.getKey(), coreKey -> {
+            cacheHelper.addClosedListener(this::onCoreClosed);
+            return idGenerator.incrementAndGet();
+        });
+        final long queryId;
+        synchronized (queryIds) {
+            queryId = queryIds.computeIfAbsent(query, q -> idGenerator.incrementAndGet());
+        }
+        return new ICacheKey<>(new Key(shardId, readerCoreId, queryId), List.of(shardId.getIndexName(), shardId.toString()));
+    }
+
+    private void onCoreClosed(IndexReader.CacheKey coreKey) {
+        Long coreId = coreIds.remove(coreKey);
+        if (coreId != null) {
+            staleCoreIds.add(coreId);
+        }
+    }
+
+    private Stats getOrCreateStats(ShardId shardId) {
+        return shardStats.computeIfAbsent(shardId, id -> new Stats());
+    }
+
+    /**
+     * Same as Lucene's LRUQueryCache, only segments holding at least 3% of the documents of the index and at least
+     * 10k documents are cached, unless caching is enabled for all segments.
+     */
+    private boolean shouldCache(LeafReaderContext context) {
+        if (cacheAllSegments) {
+            return true;
+        }
+        final int maxDoc = context.reader().maxDoc();
+        if (maxDoc < MIN_SEGMENT_SIZE) {
+            return false;
+        }
+        final IndexReaderContext topLevelContext = ReaderUtil.getTopLevelContext(context);
+        final float sizeRatio = (float) maxDoc / topLevelContext.reader().maxDoc();
+        return sizeRatio >= MIN_SEGMENT_SIZE_RATIO;
+    }
+
+    private static CachedDocIdSet cacheImpl(Scorer scorer, int maxDoc, long startTimeNanos) throws IOException {
+        final DocIdSetIterator iterator = scorer.iterator();
+        final DocIdSet docIdSet;
+        int count = 0;
+        if (iterator.cost() * 100 >= maxDoc) {
+            // dense, same as Lucene's LRUQueryCache use a bit set
+            FixedBitSet bitSet = new FixedBitSet(maxDoc);
+            for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+                bitSet.set(doc);
+                count++;
+            }
+            docIdSet = new BitDocIdSet(bitSet, count);
+        } else {
+            RoaringDocIdSet.Builder builder = new RoaringDocIdSet.Builder(maxDoc);
+            for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+                builder.add(doc);
+                count++;
+            }
+            docIdSet = builder.build();
+        }
+        return new CachedDocIdSet(maxDoc, docIdSet, count, System.nanoTime() - startTimeNanos);
+    }
+
+    /**
+     * Weight which serves the scorers of cacheable segments from the cache
+     */
+    private class CachingWrapperWeight extends ConstantScoreWeight {
+
+        private final Weight in;
+        private final QueryCachingPolicy policy;
+        // we don't want to count usage of the same query several times per search
+        private final AtomicBoolean used = new AtomicBoolean(false);
+
+        CachingWrapperWeight(Weight in, QueryCachingPolicy policy) {
+            super(in.getQuery(), 1f);
+            this.in = in;
+            this.policy = policy;
+        }
+
+        @Override
+        public Matches matches(LeafReaderContext context, int doc) throws IOException {
+            return in.matches(context, doc);
+        }
+
+        @Override
+        public Explanation explain(LeafReaderContext context, int doc) throws IOException {
+            return in.explain(context, doc);
+        }
+
+        @Override
+        public boolean isCacheable(LeafReaderContext ctx) {
+            return in.isCacheable(ctx);
+        }
+
+        @Override
+        public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
+            if (used.compareAndSet(false, true)) {
+                policy.onUse(getQuery());
+            }
+            if (in.isCacheable(context) == false || shouldCache(context) == false) {
+                return in.scorerSupplier(context);
+            }
+            final IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+            if (cacheHelper == null) {
+                return in.scorerSupplier(context);
+            }
+            final ICacheKey<Key> key = getICacheKey(cacheHelper, in.getQuery());
+            if (key == null) {
+                return in.scorerSupplier(context);
+            }
+            final Stats stats = getOrCreateStats(key.key.shardId);
+            final CachedDocIdSet cached = cache.get(key);
+            if (cached != null) {
+                stats.hitCount.inc();
+                final DocIdSetIterator disi = cached.iterator();
+                if (disi == null) {
+                    return null;
+                }
+                return new DefaultScorerSupplier(new ConstantScoreScorer(score(), ScoreMode.COMPLETE_NO_SCORES, disi));
+            }
+            stats.missCount.inc();
+            if (policy.shouldCache(in.getQuery()) == false) {
+                return in.scorerSupplier(context);
+            }
+            final long startTimeNanos = System.nanoTime();
+            final ScorerSupplier supplier = in.scorerSupplier(context);
+            final int maxDoc = context.reader().maxDoc();
+            if (supplier == null) {
+                put(key, stats, new CachedDocIdSet(maxDoc, DocIdSet.EMPTY, 0, System.nanoTime() - startTimeNanos));
+                return null;
+            }
+            final long cost = supplier.cost();
+            return new ScorerSupplier() {
+                @Override
+                public Scorer get(long leadCost) throws IOException {
+                    // skip cache operation which would slow query down too much
+                    if (cost / skipCacheFactor > leadCost) {
+                        return supplier.get(leadCost);
+                    }
+                    final CachedDocIdSet cached = cacheImpl(supplier.get(Long.MAX_VALUE), maxDoc, startTimeNanos);
+                    put(key, stats, cached);
+                    DocIdSetIterator disi = cached.iterator();
+                    if (disi == null) {
+                        disi = DocIdSetIterator.empty();
+                    }
+                    return new ConstantScoreScorer(score(), ScoreMode.COMPLETE_NO_SCORES, disi);
+                }
+
+                @Override
+                public long cost() {
+                    return cost;
+                }
+            };
+        }
+
+        @Override
+        public int count(LeafReaderContext context) throws IOException {
+            // the cached doc id set is keyed by the core of the segment, so it still holds the deleted documents
+            if (context.reader().hasDeletions() == false && in.isCacheable(context) && shouldCache(context)) {
+                final IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+                final ICacheKey<Key> key = cacheHelper == null ? null : getICacheKey(cacheHelper, in.getQuery());
+                if (key != null) {
+                    final CachedDocIdSet cached = cache.get(key);
+                    if (cached != null) {
+                        getOrCreateStats(key.key.shardId).hitCount.inc();
+                        return cached.count;
+                    }
+                }
+            }
+            return in.count(context);
+        }
+
+        private void put(ICacheKey<Key> key, Stats stats, CachedDocIdSet value) {
+            cache.put(key, value);
+            stats.cacheCount.inc();
+            stats.cacheSize.inc();
+            stats.ramBytesUsed.inc(key.ramBytesUsed(key.key.ramBytesUsed()) + value.ramBytesUsed());
+        }
+    }
+
+    /**
+     * Keeps the per shard statistics in sync with the entries removed from the cache
+     */
+    private class StatsRemovalListener implements RemovalListener<ICacheKey<Key>, CachedDocIdSet> {
+        @Override
+        public void onRemoval(RemovalNotification<ICacheKey<Key>, CachedDocIdSet> notification) {
+            final ICacheKey<Key> key = notification.getKey();
+            if (key == null || key.key == null) {
+                return;
+            }
+            // the shard may have been closed in the meantime
+            final Stats stats = shardStats.get(key.key.shardId);
+            if (stats != null) {
+                stats.cacheSize.dec();
+                if (notification.getValue() != null) {
+                    stats.ramBytesUsed.dec(key.ramBytesUsed(key.key.ramBytesUsed()) + notification.getValue().ramBytesUsed());
+                }
+            }
+        }
+    }
+
+    /**
+     * Statistics of a shard
+     *
+     * @opensearch.internal
+     */
+    private static class Stats {
+        final CounterMetric ramBytesUsed = new CounterMetric();
+        final CounterMetric hitCount = new CounterMetric();
+        final CounterMetric missCount = new CounterMetric();
+        final CounterMetric cacheCount = new CounterMetric();
+        final CounterMetric cacheSize = new CounterMetric();
+
+        QueryCacheStats toQueryCacheStats() {
+            return new QueryCacheStats.Builder().ramBytesUsed(ramBytesUsed.count())
+                .hitCount(hitCount.count())
+                .missCount(missCount.count())
+                .cacheCount(cacheCount.count())
+                .cacheSize(cacheSize.count())
+                .build();
+        }
+    }
+
+    /**
+     * Key of a cached doc id set
+     *
+     * @opensearch.internal
+     */
+    static final class Key implements Accountable, Writeable {
+        private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(Key.class);
+
+        final ShardId shardId;
+        final long readerCoreId;
+        final long queryId;
+
+        Key(ShardId shardId, long readerCoreId, long queryId) {
+            this.shardId = shardId;
+            this.readerCoreId = readerCoreId;
+            this.queryId = queryId;
+        }
+
+        Key(StreamInput in) throws IOException {
+            this.shardId = new ShardId(in);
+            this.readerCoreId = in.readLong();
+            this.queryId = in.readLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            shardId.writeTo(out);
+            out.writeLong(readerCoreId);
+            out.writeLong(queryId);
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return BASE_RAM_BYTES_USED;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return readerCoreId == key.readerCoreId && queryId == key.queryId && shardId.equals(key.shardId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(shardId, readerCoreId, queryId);
+        }
+    }
+
+    /**
+     * A cached doc id set, along with the number of documents it holds and the time it took to build it
+     *
+     * @opensearch.internal
+     */
+    static final class CachedDocIdSet implements Accountable, Writeable {
+        private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(CachedDocIdSet.class);
+
+        final int maxDoc;
+        final DocIdSet docIdSet;
+        final int count;
+        final long tookTimeNanos;
+
+        CachedDocIdSet(int maxDoc, DocIdSet docIdSet, int count, long tookTimeNanos) {
+            this.maxDoc = maxDoc;
+            this.docIdSet = docIdSet;
+            this.count = count;
+            this.tookTimeNanos = tookTimeNanos;
+        }
+
+        CachedDocIdSet(StreamInput in) throws IOException {
+            this.maxDoc = in.readVInt();
+            this.count = in.readVInt();
+            this.tookTimeNanos = in.readVLong();
+            if (count == 0) {
+                this.docIdSet = DocIdSet.EMPTY;
+            } else if (in.readBoolean()) {
+                long[] bits = in.readLongArray();
+                this.docIdSet = new BitDocIdSet(new FixedBitSet(bits, maxDoc), count);
+            } else {
+                RoaringDocIdSet.Builder builder = new RoaringDocIdSet.Builder(maxDoc);
+                int doc = 0;
+                for (int i = 0; i < count; i++) {
+                    doc += in.readVInt();
+                    builder.add(doc);
+                }
+                this.docIdSet = builder.build();
+            }
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVInt(maxDoc);
+            out.writeVInt(count);
+            out.writeVLong(tookTimeNanos);
+            if (count == 0) {
+                return;
+            }
+            if (docIdSet instanceof BitDocIdSet bitDocIdSet && bitDocIdSet.bits() instanceof FixedBitSet fixedBitSet) {
+                out.writeBoolean(true);
+                out.writeLongArray(fixedBitSet.getBits());
+            } else {
+                out.writeBoolean(false);
+                // doc ids are written as deltas to the previous doc id
+                DocIdSetIterator iterator = docIdSet.iterator();
+                int previous = 0;
+                for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+                    out.writeVInt(doc - previous);
+                    previous = doc;
+                }
+            }
+        }
+
+        DocIdSetIterator iterator() throws IOException {
+            return docIdSet.iterator();
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return BASE_RAM_BYTES_USED + docIdSet.ramBytesUsed();
+        }
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryCachingPolicy;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks, for the queries of the node level query cache, how long it takes to build their doc id sets, how much heap the sets
+ * take and how often the queries are used, so that the cache admits and evicts queries by the time they save per byte of heap
+ * rather than by recency alone.
+ * <p>
+ * Nothing is known about the cost of a query until its doc id set is built once, so until then the usage tracking policy of
+ * the shard decides whether it is cached. Once its cost is known, a query is admitted while the cache is below
+ * {@link #PRESSURE_RATIO} of its limits. Above, a few cached queries are sampled and the one that saves the least time per byte
+ * is evicted to make room, unless the candidate would save even less, in which case it is not cached. This keeps huge doc id
+ * sets that are rarely reused from holding on to the cache while cheap and popular ones churn.
+ * <p>
+ * Uses and hits are counted without locking, as they are recorded on every search. The samples are taken by a hand that
+ * sweeps over the tracked queries, and the uses of the sampled queries are halved so that queries which stopped being used
+ * lose their value over time. Only one candidate at a time looks for a query to evict, the others are not cached rather than
+ * waiting, the same way the cache skips caching when its own lock is contended.
+ *
+ * @opensearch.internal
+ */
+final class QueryCostTracker {
+
+    static final double PRESSURE_RATIO = 0.9;
+    // the number of cached queries to sample for one to evict, and the number of tracked queries to look at to find them
+    static final int SAMPLE_SIZE = 8;
+    private static final int MAX_SCANNED = 64;
+
+    private final int maxQueries;
+    private final long maxRamBytesUsed;
+    private final LongSupplier ramBytesUsed;
+    private final Consumer<Query> evictor;
+    private final ConcurrentHashMap<Query, QueryCost> costs = new ConcurrentHashMap<>();
+    // guards the hand, never waited on by the cache, which calls back into the tracker while holding its own lock
+    private final ReentrantLock handLock = new ReentrantLock();
+    private Iterator<Map.Entry<Query, QueryCost>> hand;
+    private final AtomicInteger cachedQueries = new AtomicInteger();
+    private final LongAdder admittedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder evictedCount = new LongAdder();
+
+    /**
+     * @param maxQueries the maximum number of queries of the cache
+     * @param maxRamBytesUsed the maximum heap of the cache
+     * @param ramBytesUsed the current heap of the cache
+     * @param evictor removes a query from the cache
+     */
+    QueryCostTracker(int maxQueries, long maxRamBytesUsed, LongSupplier ramBytesUsed, Consumer<Query> evictor) {
+        this.maxQueries = maxQueries;
+        this.maxRamBytesUsed = maxRamBytesUsed;
+        this.ramBytesUsed = ramBytesUsed;
+        this.evictor = evictor;
+    }
+
+    /**
+     * Wraps the caching policy of a shard into one that admits the queries whose cost is known by their cost.
+     */
+    QueryCachingPolicy wrap(QueryCachingPolicy usagePolicy) {
+        return new QueryCachingPolicy() {
+            @Override
+            public void onUse(Query query) {
+                usagePolicy.onUse(query);
+                QueryCostTracker.this.onUse(query);
+            }
+
+            @Override
+            public boolean shouldCache(Query query) throws IOException {
+                return QueryCostTracker.this.shouldCache(query, usagePolicy);
+            }
+        };
+    }
+
+    /**
+     * Records that a doc id set of the given query was built in the given time and takes the given heap.
+     */
+    void onBuilt(Query query, long buildNanos, long ramBytesUsed) {
+        final QueryCost cost = costs.computeIfAbsent(query, q -> new QueryCost());
+        cost.onBuilt(Math.max(0L, buildNanos), ramBytesUsed);
+        if (costs.size() > 2 * maxQueries) {
+            prune();
+        }
+    }
+
+    void onUse(Query query) {
+        final QueryCost cost = costs.get(query);
+        if (cost != null) {
+            cost.uses.incrementAndGet();
+        }
+    }
+
+    /**
+     * Records a hit on the given query, and returns the time it is estimated to have saved.
+     */
+    long onHit(Query query) {
+        final QueryCost cost = costs.get(query);
+        return cost == null ? 0L : Math.max(0L, cost.averageBuildNanos);
+    }
+
+    void onCached(Query query) {
+        final QueryCost cost = costs.computeIfAbsent(query, q -> new QueryCost());
+        if (cost.cached == false) {
+            cost.cached = true;
+            cachedQueries.incrementAndGet();
+        }
+    }
+
+    void onEvicted(Query query) {
+        final QueryCost cost = costs.get(query);
+        if (cost != null && cost.cached) {
+            cost.cached = false;
+            cachedQueries.decrementAndGet();
+        }
+    }
+
+    void onClear() {
+        for (QueryCost cost : costs.values()) {
+            cost.cached = false;
+        }
+        cachedQueries.set(0);
+    }
+
+    boolean shouldCache(Query query, QueryCachingPolicy usagePolicy) throws IOException {
+        final QueryCost cost = costs.get(query);
+        if (cost == null || cost.isBuilt() == false) {
+            return usagePolicy.shouldCache(query);
+        }
+        if (cost.cached || underPressure() == false) {
+            // the query is cached on other segments already, or there is room for it
+            admittedCount.increment();
+            return true;
+        }
+        if (handLock.tryLock() == false) {
+            // another candidate is making room, this one gets another chance on its next use
+            rejectedCount.increment();
+            return false;
+        }
+        try {
+            final Query victim = findVictim(cost.savedNanosPerByte());
+            if (victim == null) {
+                rejectedCount.increment();
+                return false;
+            }
+            // evicted while sampling is locked so that two candidates don't make room by evicting the same query
+            evictor.accept(victim);
+        } finally {
+            handLock.unlock();
+        }
+        admittedCount.increment();
+        evictedCount.increment();
+        return true;
+    }
+
+    private boolean underPressure() {
+        return ramBytesUsed.getAsLong() >= PRESSURE_RATIO * maxRamBytesUsed || cachedQueries.get() >= PRESSURE_RATIO * maxQueries;
+    }
+
+    /**
+     * Returns the cached query that saves the least time per byte among the next few ones of the hand, if it saves less than
+     * the given candidate would. The uses of the sampled queries that are kept are halved.
+     */
+    private Query findVictim(double candidateSavedNanosPerByte) {
+        assert handLock.isHeldByCurrentThread();
+        Query victim = null;
+        double victimSavedNanosPerByte = candidateSavedNanosPerByte;
+        final int maxScanned = Math.min(MAX_SCANNED, costs.size());
+        int sampled = 0;
+        for (int scanned = 0; scanned < maxScanned && sampled < SAMPLE_SIZE; scanned++) {
+            final Map.Entry<Query, QueryCost> entry = advanceHand();
+            if (entry == null) {
+                break;
+            }
+            final QueryCost cost = entry.getValue();
+            if (cost.cached == false || cost.isBuilt() == false) {
+                continue;
+            }
+            sampled++;
+            final double savedNanosPerByte = cost.savedNanosPerByte();
+            cost.uses.updateAndGet(uses -> uses >>> 1);
+            if (savedNanosPerByte < victimSavedNanosPerByte) {
+                victim = entry.getKey();
+                victimSavedNanosPerByte = savedNanosPerByte;
+            }
+        }
+        return victim;
+    }
+
+    /**
+     * Forgets the costs of some of the queries that are not cached any more once twice as many queries as the cache can hold
+     * are tracked. They are kept until then in case they come back.
+     */
+    private void prune() {
+        if (handLock.tryLock() == false) {
+            return;
+        }
+        try {
+            for (int scanned = 0; scanned < MAX_SCANNED && costs.size() > 2 * maxQueries; scanned++) {
+                final Map.Entry<Query, QueryCost> entry = advanceHand();
+                if (entry == null) {
+                    break;
+                }
+                if (entry.getValue().cached == false) {
+                    hand.remove();
+                }
+            }
+        } finally {
+            handLock.unlock();
+        }
+    }
+
+    private Map.Entry<Query, QueryCost> advanceHand() {
+        if (hand == null || hand.hasNext() == false) {
+            hand = costs.entrySet().iterator();
+            if (hand.hasNext() == false) {
+                return null;
+            }
+        }
+        return hand.next();
+    }
+
+    long getAdmittedCount() {
+        return admittedCount.sum();
+    }
+
+    long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    long getEvictedCount() {
+        return evictedCount.sum();
+    }
+
+    int getCachedQueries() {
+        return cachedQueries.get();
+    }
+
+    int getTrackedQueries() {
+        return costs.size();
+    }
+
+    /**
+     * The cost of a query. The builds are accumulated under the lock of the cost and published as averages.
+     */
+    private static final class QueryCost {
+        final AtomicLong uses = new AtomicLong();
+        // flipped by the cache while it holds its lock
+        volatile boolean cached;
+        private long builds;
+        private long buildNanos;
+        private long builtBytes;
+        private volatile double averageBytes;
+        private volatile long averageBuildNanos = -1L;
+
+        synchronized void onBuilt(long buildNanos, long ramBytesUsed) {
+            this.builds++;
+            this.buildNanos += buildNanos;
+            this.builtBytes += ramBytesUsed;
+            averageBytes = Math.max(1d, (double) builtBytes / builds);
+            // written last, so that a cost that is built has its average size too
+            averageBuildNanos = this.buildNanos / builds;
+        }
+
+        boolean isBuilt() {
+            return averageBuildNanos >= 0L;
+        }
+
+        /**
+         * The time that building the doc id set of the query once takes, times the number of times the query is used, per byte
+         * of its doc id sets.
+         */
+        double savedNanosPerByte() {
+            final long avgBuildNanos = averageBuildNanos;
+            return Math.max(1L, uses.get()) * (double) avgBuildNanos / averageBytes;
+        }
+    }
+}
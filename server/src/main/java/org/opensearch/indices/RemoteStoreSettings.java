@@ -15,6 +15,8 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.remote.RemoteStoreEnums;
 
@@ -68,6 +70,33 @@ public class RemoteStoreSettings {
         Property.Dynamic
     );
 
+    /**
+     * Controls how long the translog and checkpoint files of the shards on a node are held back so that they can be uploaded
+     * to the remote translog together in a single bundle blob. A value of {@code 0} disables bundling, in which case every
+     * file is uploaded as a blob of its own.
+     */
+    public static final Setting<TimeValue> CLUSTER_REMOTE_TRANSLOG_BUNDLE_INTERVAL_SETTING = Setting.timeSetting(
+        "cluster.remote_store.translog.bundle.interval",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        TimeValue.timeValueSeconds(1),
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
+    /**
+     * Controls the size of the translog and checkpoint files above which a bundle is uploaded to the remote translog without
+     * waiting for the bundle interval to elapse.
+     */
+    public static final Setting<ByteSizeValue> CLUSTER_REMOTE_TRANSLOG_BUNDLE_MAX_SIZE_SETTING = Setting.byteSizeSetting(
+        "cluster.remote_store.translog.bundle.max_size",
+        new ByteSizeValue(16, ByteSizeUnit.MB),
+        new ByteSizeValue(1, ByteSizeUnit.MB),
+        new ByteSizeValue(1, ByteSizeUnit.GB),
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
     /**
      * This setting is used to set the remote store blob store path type strategy. This setting is effective only for
      * remote store enabled cluster.
@@ -197,6 +226,8 @@ public class RemoteStoreSettings {
     private volatile TimeValue clusterRemoteTranslogBufferInterval;
     private volatile int minRemoteSegmentMetadataFiles;
     private volatile TimeValue clusterRemoteTranslogTransferTimeout;
+    private volatile TimeValue clusterRemoteTranslogBundleInterval;
+    private volatile ByteSizeValue clusterRemoteTranslogBundleMaxSize;
     private volatile TimeValue clusterRemoteSegmentTransferTimeout;
     private volatile RemoteStoreEnums.PathType pathType;
     private volatile RemoteStoreEnums.PathHashAlgorithm pathHashAlgorithm;
@@ -228,6 +259,18 @@ public class RemoteStoreSettings {
             this::setClusterRemoteTranslogTransferTimeout
         );
 
+        clusterRemoteTranslogBundleInterval = CLUSTER_REMOTE_TRANSLOG_BUNDLE_INTERVAL_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(
+            CLUSTER_REMOTE_TRANSLOG_BUNDLE_INTERVAL_SETTING,
+            this::setClusterRemoteTranslogBundleInterval
+        );
+
+        clusterRemoteTranslogBundleMaxSize = CLUSTER_REMOTE_TRANSLOG_BUNDLE_MAX_SIZE_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(
+            CLUSTER_REMOTE_TRANSLOG_BUNDLE_MAX_SIZE_SETTING,
+            this::setClusterRemoteTranslogBundleMaxSize
+        );
+
         pathType = clusterSettings.get(CLUSTER_REMOTE_STORE_PATH_TYPE_SETTING);
         clusterSettings.addSettingsUpdateConsumer(CLUSTER_REMOTE_STORE_PATH_TYPE_SETTING, this::setPathType);
 
@@ -285,6 +328,22 @@ public class RemoteStoreSettings {
         this.clusterRemoteTranslogTransferTimeout = clusterRemoteTranslogTransferTimeout;
     }
 
+    public TimeValue getClusterRemoteTranslogBundleInterval() {
+        return clusterRemoteTranslogBundleInterval;
+    }
+
+    private void setClusterRemoteTranslogBundleInterval(TimeValue clusterRemoteTranslogBundleInterval) {
+        this.clusterRemoteTranslogBundleInterval = clusterRemoteTranslogBundleInterval;
+    }
+
+    public ByteSizeValue getClusterRemoteTranslogBundleMaxSize() {
+        return clusterRemoteTranslogBundleMaxSize;
+    }
+
+    private void setClusterRemoteTranslogBundleMaxSize(ByteSizeValue clusterRemoteTranslogBundleMaxSize) {
+        this.clusterRemoteTranslogBundleMaxSize = clusterRemoteTranslogBundleMaxSize;
+    }
+
     private void setClusterRemoteSegmentTransferTimeout(TimeValue clusterRemoteSegmentTransferTimeout) {
         this.clusterRemoteSegmentTransferTimeout = clusterRemoteSegmentTransferTimeout;
     }
@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.search.DocIdSet;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.RamUsageEstimator;
+
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * A {@link DocIdSet} backed by a {@link RoaringBitmap}, which picks, for each block of 64K doc ids, the smallest of a sorted
+ * array, a bitmap or a list of runs. Unlike Lucene's own encodings, which use a bit set over the whole segment for any set that
+ * holds more than 1% of its documents, this keeps medium density sets and sets of contiguous doc ids, as produced by range
+ * queries on index sorted segments, a fraction of {@code maxDoc / 8} bytes.
+ * <p>
+ * Its iterator advances within the containers, with a binary search in arrays and runs and a word scan in bitmaps, so that
+ * conjunctions with cached filters skip over the blocks that do not match without decoding them.
+ *
+ * @opensearch.internal
+ */
+final class RoaringBitmapDocIdSet extends DocIdSet {
+    private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(RoaringBitmapDocIdSet.class);
+
+    private final RoaringBitmap bitmap;
+    private final int cardinality;
+
+    /**
+     * Creates a set of the given doc ids, converting the containers of runs of doc ids to run containers.
+     *
+     * @param bitmap the doc ids of the set, which must not be modified any more
+     */
+    RoaringBitmapDocIdSet(RoaringBitmap bitmap) {
+        bitmap.runOptimize();
+        this.bitmap = bitmap;
+        this.cardinality = bitmap.getCardinality();
+    }
+
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    public DocIdSetIterator iterator() {
+        return cardinality == 0 ? DocIdSetIterator.empty() : new Iterator(bitmap.getIntIterator(), cardinality);
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        return BASE_RAM_BYTES_USED + bitmap.getLongSizeInBytes();
+    }
+
+    @Override
+    public String toString() {
+        return "RoaringBitmapDocIdSet(cardinality=" + cardinality + ", ramBytesUsed=" + ramBytesUsed() + ")";
+    }
+
+    private static final class Iterator extends DocIdSetIterator {
+        private final PeekableIntIterator iterator;
+        private final long cost;
+        private int doc = -1;
+
+        Iterator(PeekableIntIterator iterator, long cost) {
+            this.iterator = iterator;
+            this.cost = cost;
+        }
+
+        @Override
+        public int docID() {
+            return doc;
+        }
+
+        @Override
+        public int nextDoc() {
+            return doc = iterator.hasNext() ? iterator.next() : NO_MORE_DOCS;
+        }
+
+        @Override
+        public int advance(int target) {
+            // skips whole containers, and within the container of the target searches rather than iterates
+            iterator.advanceIfNeeded(target);
+            return nextDoc();
+        }
+
+        @Override
+        public long cost() {
+            return cost;
+        }
+    }
+}
@@ -0,0 +1,415 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHitCountCollector;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.Weight;
+import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.common.cache.policy.CachedQueryResult;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.BucketCollector;
+import org.opensearch.search.aggregations.BucketCollectorProcessor;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.MultiBucketCollector;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.FilteredSearchContext;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.query.QueryPhase;
+import org.opensearch.search.query.QuerySearchResult;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Executes aggregation requests segment by segment, caching the partial result of each segment in the {@link IndicesRequestCache}
+ * and reducing the partial results at the shard level. Unlike shard level entries, which are invalidated by every refresh, segment
+ * level entries stay valid as long as their segment is not merged away and its deletes don't change, so that only new segments are
+ * searched again.
+ * <p>
+ * Range clauses which the query requires are checked against the values of each segment. Segments whose values all lie outside
+ * of a range are skipped, and segments whose values all lie within a range are cached without the bounds of the range being part
+ * of the key. This way requests with ranges relative to "now", like the ones of auto refreshing dashboards, are served from the
+ * cache for all the segments but those which straddle the bounds of the range, which are searched by the query phase without
+ * caching.
+ *
+ * @opensearch.internal
+ */
+final class SegmentRequestCacheLoader {
+
+    private final IndicesRequestCache indicesRequestCache;
+    private final NamedWriteableRegistry namedWriteableRegistry;
+
+    SegmentRequestCacheLoader(IndicesRequestCache indicesRequestCache, NamedWriteableRegistry namedWriteableRegistry) {
+        this.indicesRequestCache = indicesRequestCache;
+        this.namedWriteableRegistry = namedWriteableRegistry;
+    }
+
+    /**
+     * Whether the shape of the request allows computing it segment by segment: the request must only ask for aggregations,
+     * and nothing but the query may filter the collected documents.
+     */
+    static boolean canCache(ShardSearchRequest request, SearchContext context) {
+        SearchSourceBuilder source = request.source();
+        if (source == null || context.aggregations() == null || source.suggest() != null) {
+            return false;
+        }
+        // Global aggregations collect all documents regardless of the query, so segments can't be skipped
+        if (context.aggregations().factories().hasGlobalAggregator()) {
+            return false;
+        }
+        // Partial results of segments are reduced like the ones of concurrent search slices, which not all aggregations support,
+        // e.g. samplers only keep the best documents of each slice
+        if (context.aggregations().factories().allFactoriesSupportConcurrentSearch() == false) {
+            return false;
+        }
+        if (context.size() != 0 || context.parsedPostFilter() != null || context.minimumScore() != null) {
+            return false;
+        }
+        if (context.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER) {
+            return false;
+        }
+        // Timed out results must not be cached, so don't bother with requests which may time out
+        return context.timeout() == null || context.timeout().equals(SearchService.NO_TIMEOUT);
+    }
+
+    /**
+     * Computes the result of the request, loading the partial results of the segments from the cache when possible, and sets it
+     * as the {@link SearchContext#queryResult() context's query result}. The segments that can't be cached are searched by the
+     * query phase, which is also how the whole request is executed if no segment can be cached.
+     */
+    void loadIntoContext(
+        ShardSearchRequest request,
+        SearchContext context,
+        QueryPhase queryPhase,
+        IndicesService.IndexShardCacheEntity cacheEntity
+    ) throws Exception {
+        assert canCache(request, context);
+        // An unfrozen copy of the context, to resolve the bounds of ranges relative to "now" the same way the query did
+        QueryShardContext rangeContext = new QueryShardContext(context.getQueryShardContext());
+        QueryBuilder query = request.source().query();
+        List<RangeQueryBuilder> ranges = requiredRanges(query);
+        // The keys of the segments by the ranges they lie within, or null if such segments can't be cached
+        Map<List<Boolean>, BytesReference> keys = new HashMap<>();
+
+        List<LeafReaderContext> cachedLeaves = new ArrayList<>();
+        List<BytesReference> cachedKeys = new ArrayList<>();
+        List<LeafReaderContext> uncachedLeaves = new ArrayList<>();
+        for (LeafReaderContext leaf : context.searcher().getIndexReader().leaves()) {
+            Boolean[] within = new Boolean[ranges.size()];
+            boolean disjoint = false;
+            for (int i = 0; i < ranges.size() && disjoint == false; i++) {
+                MappedFieldType.Relation relation = ranges.get(i).getRelation(rangeContext, leaf.reader());
+                disjoint = relation == MappedFieldType.Relation.DISJOINT;
+                within[i] = relation == MappedFieldType.Relation.WITHIN;
+            }
+            if (disjoint) {
+                // No document of the segment matches the query
+                continue;
+            }
+            List<Boolean> relations = Arrays.asList(within);
+            if (keys.containsKey(relations) == false) {
+                QueryBuilder segmentQuery = withoutBounds(query, ranges, within);
+                keys.put(relations, isCacheable(request, context, segmentQuery) ? segmentKey(request, segmentQuery) : null);
+            }
+            BytesReference key = keys.get(relations);
+            if (key == null || leaf.reader().getReaderCacheHelper() == null) {
+                uncachedLeaves.add(leaf);
+            } else {
+                cachedLeaves.add(leaf);
+                cachedKeys.add(key);
+            }
+        }
+        if (cachedLeaves.isEmpty()) {
+            queryPhase.execute(context);
+            return;
+        }
+
+        // Collected aggregations are built right after the collection, as on the concurrent search path
+        context.setBucketCollectorProcessor(new BucketCollectorProcessor());
+        final Runnable cancellation;
+        if (context.lowLevelCancellation()) {
+            cancellation = context.searcher().addQueryCancellation(() -> {
+                SearchShardTask task = context.getTask();
+                if (task != null && task.isCancelled()) {
+                    throw new TaskCancelledException("cancelled task with reason: " + task.getReasonCancelled());
+                }
+            });
+        } else {
+            cancellation = null;
+        }
+        long hitCount = 0;
+        List<InternalAggregations> partials = new ArrayList<>();
+        try {
+            for (int i = 0; i < cachedLeaves.size(); i++) {
+                LeafReaderContext leaf = cachedLeaves.get(i);
+                BytesReference value = indicesRequestCache.getOrCompute(cacheEntity, () -> {
+                    long beforeCompute = System.nanoTime();
+                    QuerySearchResult partial = compute(context, List.of(leaf));
+                    try (BytesStreamOutput out = new BytesStreamOutput(512)) {
+                        new CachedQueryResult(partial, System.nanoTime() - beforeCompute).writeToNoId(out);
+                        return out.bytes();
+                    }
+                }, leaf.reader(), cachedKeys.get(i));
+                QuerySearchResult partial = new QuerySearchResult();
+                CachedQueryResult.loadQSR(value, partial, context.id(), namedWriteableRegistry);
+                hitCount += partial.getTotalHits().value();
+                partials.add(partial.consumeAggs().expand());
+            }
+        } finally {
+            if (cancellation != null) {
+                context.searcher().removeQueryCancellation(cancellation);
+            }
+        }
+
+        // The other segments are searched by the query phase, with concurrent segment search, cancellation and timeouts applying
+        // as usual. This also builds empty aggregations if no other segment matches.
+        Query uncachedQuery = new SegmentsQuery(context.query(), uncachedLeaves);
+        queryPhase.execute(new FilteredSearchContext(context) {
+            @Override
+            public Query query() {
+                return uncachedQuery;
+            }
+        });
+        QuerySearchResult result = context.queryResult();
+        TotalHits uncachedHits = result.topDocs().topDocs.totalHits;
+        partials.add(result.consumeAggs().expand());
+
+        InternalAggregation.ReduceContext reduceContext = context.partialOnShard();
+        // Partial results of segments are reduced like the ones of slices, applying the shard level bucket count thresholds
+        reduceContext.setSliceLevel(true);
+        result.topDocs(
+            new TopDocsAndMaxScore(
+                new TopDocs(totalHits(hitCount, uncachedHits, context.trackTotalHitsUpTo()), Lucene.EMPTY_SCORE_DOCS),
+                Float.NaN
+            ),
+            new DocValueFormat[0]
+        );
+        result.aggregations(InternalAggregations.reduce(partials, reduceContext));
+    }
+
+    /**
+     * Collects the hit count and the aggregations of the given segments.
+     */
+    static QuerySearchResult compute(SearchContext context, List<LeafReaderContext> leaves) throws IOException {
+        List<Aggregator> aggregators = context.aggregations().factories().createTopLevelNonGlobalAggregators(context);
+        BucketCollector aggregationCollector = MultiBucketCollector.wrap(aggregators);
+        aggregationCollector.preCollection();
+        TotalHitCountCollector hitCountCollector = new TotalHitCountCollector();
+        context.searcher().searchLeaves(leaves, context.query(), MultiCollector.wrap(hitCountCollector, aggregationCollector));
+        List<InternalAggregation> internals = context.bucketCollectorProcessor().toInternalAggregations(List.of(aggregationCollector));
+        context.aggregations().resetBucketMultiConsumer();
+
+        QuerySearchResult partial = new QuerySearchResult();
+        TotalHits totalHits = new TotalHits(hitCountCollector.getTotalHits(), TotalHits.Relation.EQUAL_TO);
+        partial.topDocs(new TopDocsAndMaxScore(new TopDocs(totalHits, Lucene.EMPTY_SCORE_DOCS), Float.NaN), new DocValueFormat[0]);
+        partial.aggregations(InternalAggregations.from(internals));
+        return partial;
+    }
+
+    /**
+     * Whether the result of a segment only depends on the request and the segment, once the ranges the segment lies within are left
+     * out of the query. This is not the case if other parts of the request, e.g. ranges the segment straddles, depend on "now".
+     */
+    private static boolean isCacheable(ShardSearchRequest request, SearchContext context, QueryBuilder segmentQuery) {
+        QueryShardContext checkContext = new QueryShardContext(context.getQueryShardContext());
+        try {
+            if (segmentQuery != null) {
+                checkContext.toQuery(segmentQuery);
+            }
+            if (request.getAliasFilter().getQueryBuilder() != null) {
+                checkContext.toQuery(request.getAliasFilter().getQueryBuilder());
+            }
+            request.source().aggregations().build(checkContext, null);
+        } catch (Exception e) {
+            // The request was already parsed successfully, so this is unexpected; better not to cache
+            return false;
+        }
+        return checkContext.isCacheable();
+    }
+
+    /**
+     * Returns the query with the given ranges replaced by unbounded ones when the segment lies within them, which is how the
+     * range query rewrites itself when a whole shard lies within it.
+     */
+    private static QueryBuilder withoutBounds(QueryBuilder query, List<RangeQueryBuilder> ranges, Boolean[] within) {
+        if (query instanceof RangeQueryBuilder range) {
+            return clauseWithoutBounds(range, ranges, within);
+        }
+        if (query instanceof BoolQueryBuilder bool) {
+            BoolQueryBuilder copy = new BoolQueryBuilder().boost(bool.boost())
+                .queryName(bool.queryName())
+                .minimumShouldMatch(bool.minimumShouldMatch())
+                .adjustPureNegative(bool.adjustPureNegative());
+            bool.must().forEach(clause -> copy.must(clauseWithoutBounds(clause, ranges, within)));
+            bool.filter().forEach(clause -> copy.filter(clauseWithoutBounds(clause, ranges, within)));
+            bool.should().forEach(copy::should);
+            bool.mustNot().forEach(copy::mustNot);
+            return copy;
+        }
+        return query;
+    }
+
+    private static QueryBuilder clauseWithoutBounds(QueryBuilder clause, List<RangeQueryBuilder> ranges, Boolean[] within) {
+        for (int i = 0; i < ranges.size(); i++) {
+            if (ranges.get(i) == clause && within[i]) {
+                return new RangeQueryBuilder(ranges.get(i).fieldName());
+            }
+        }
+        return clause;
+    }
+
+    /**
+     * Returns the range clauses that documents must match, i.e. the query itself or the top level required clauses of a bool query.
+     */
+    private static List<RangeQueryBuilder> requiredRanges(QueryBuilder query) {
+        List<RangeQueryBuilder> ranges = new ArrayList<>();
+        if (query instanceof RangeQueryBuilder range) {
+            ranges.add(range);
+        } else if (query instanceof BoolQueryBuilder bool) {
+            for (List<QueryBuilder> clauses : List.of(bool.must(), bool.filter())) {
+                for (QueryBuilder clause : clauses) {
+                    if (clause instanceof RangeQueryBuilder range) {
+                        ranges.add(range);
+                    }
+                }
+            }
+        }
+        return ranges;
+    }
+
+    /**
+     * Returns the key of the partial result of a segment, which is the one of the request with the query the segment is searched with,
+     * so that segments lying within ranges are keyed regardless of the bounds of the ranges.
+     */
+    private static BytesReference segmentKey(ShardSearchRequest request, QueryBuilder segmentQuery) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.writeByte(request.searchType().id());
+            request.source().shallowCopy().query(segmentQuery).writeTo(out);
+            request.getAliasFilter().writeTo(out);
+            out.writeFloat(request.indexBoost());
+            return out.copyBytes();
+        }
+    }
+
+    private static TotalHits totalHits(long cachedHitCount, TotalHits uncachedHits, int trackTotalHitsUpTo) {
+        if (trackTotalHitsUpTo == SearchContext.TRACK_TOTAL_HITS_DISABLED) {
+            // for bwc hit count is set to 0, it will be converted to -1 by the coordinating node
+            return new TotalHits(0, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
+        }
+        long hitCount = cachedHitCount + uncachedHits.value();
+        if (hitCount > trackTotalHitsUpTo) {
+            return new TotalHits(trackTotalHitsUpTo, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
+        }
+        return new TotalHits(hitCount, uncachedHits.relation());
+    }
+
+    /**
+     * Matches the documents of a query in the given segments only, so that the other segments are skipped by the query phase.
+     */
+    static final class SegmentsQuery extends Query {
+
+        private final Query in;
+        private final BitSet ords;
+
+        SegmentsQuery(Query in, List<LeafReaderContext> leaves) {
+            this.in = in;
+            this.ords = new BitSet();
+            leaves.forEach(leaf -> ords.set(leaf.ord));
+        }
+
+        private SegmentsQuery(Query in, BitSet ords) {
+            this.in = in;
+            this.ords = ords;
+        }
+
+        @Override
+        public Query rewrite(IndexSearcher searcher) throws IOException {
+            Query rewritten = in.rewrite(searcher);
+            return rewritten == in ? this : new SegmentsQuery(rewritten, ords);
+        }
+
+        @Override
+        public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+            Weight weight = searcher.createWeight(in, scoreMode, boost);
+            return new Weight(this) {
+                @Override
+                public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
+                    return ords.get(context.ord) ? weight.scorerSupplier(context) : null;
+                }
+
+                @Override
+                public int count(LeafReaderContext context) throws IOException {
+                    return ords.get(context.ord) ? weight.count(context) : 0;
+                }
+
+                @Override
+                public Explanation explain(LeafReaderContext context, int doc) throws IOException {
+                    return ords.get(context.ord) ? weight.explain(context, doc) : Explanation.noMatch("segment is not searched");
+                }
+
+                @Override
+                public boolean isCacheable(LeafReaderContext ctx) {
+                    return false;
+                }
+            };
+        }
+
+        @Override
+        public void visit(QueryVisitor visitor) {
+            in.visit(visitor.getSubVisitor(BooleanClause.Occur.MUST, this));
+        }
+
+        @Override
+        public String toString(String field) {
+            return "SegmentsQuery(" + in.toString(field) + ")";
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return sameClassAs(other) && in.equals(((SegmentsQuery) other).in) && ords.equals(((SegmentsQuery) other).ords);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(classHash(), in, ords);
+        }
+    }
+}
@@ -62,6 +62,8 @@ public class DefaultStreamPoller implements StreamPoller {
     private IngestionConsumerFactory consumerFactory;
     private String consumerClientId;
     private int shardId;
+    // the partition of the stream the consumer reads, which is the shard id unless the shard consumes multiple partitions
+    private final int partition;
 
     private ExecutorService consumerThread;
 
@@ -94,6 +96,7 @@ public class DefaultStreamPoller implements StreamPoller {
         IngestionConsumerFactory consumerFactory,
         String consumerClientId,
         int shardId,
+        int partition,
         IngestionEngine ingestionEngine,
         ResetState resetState,
         String resetValue,
@@ -103,6 +106,8 @@ public class DefaultStreamPoller implements StreamPoller {
         int pollTimeout,
         int numProcessorThreads,
         int blockingQueueSize,
+        int maxBatchSize,
+        long maxBatchSizeInBytes,
         long pointerBasedLagUpdateIntervalMs,
         IngestionMessageMapper.MapperType mapperType
     ) {
@@ -111,7 +116,16 @@ public class DefaultStreamPoller implements StreamPoller {
             consumerFactory,
             consumerClientId,
             shardId,
-            new PartitionedBlockingQueueContainer(numProcessorThreads, shardId, ingestionEngine, errorStrategy, blockingQueueSize),
+            partition,
+            new PartitionedBlockingQueueContainer(
+                numProcessorThreads,
+                shardId,
+                ingestionEngine,
+                errorStrategy,
+                blockingQueueSize,
+                maxBatchSize,
+                maxBatchSizeInBytes
+            ),
             resetState,
             resetValue,
             errorStrategy,
@@ -120,7 +134,7 @@ public class DefaultStreamPoller implements StreamPoller {
             pollTimeout,
             pointerBasedLagUpdateIntervalMs,
             ingestionEngine.config().getIndexSettings(),
-            IngestionMessageMapper.create(mapperType.getName(), shardId)
+            IngestionMessageMapper.create(mapperType.getName(), partition)
         );
     }
 
@@ -142,10 +156,50 @@ public class DefaultStreamPoller implements StreamPoller {
         long pointerBasedLagUpdateIntervalMs,
         IndexSettings indexSettings,
         IngestionMessageMapper messageMapper
+    ) {
+        this(
+            startPointer,
+            consumerFactory,
+            consumerClientId,
+            shardId,
+            shardId,
+            blockingQueueContainer,
+            resetState,
+            resetValue,
+            errorStrategy,
+            initialState,
+            maxPollSize,
+            pollTimeout,
+            pointerBasedLagUpdateIntervalMs,
+            indexSettings,
+            messageMapper
+        );
+    }
+
+    /**
+     * Visible for testing.
+     */
+    DefaultStreamPoller(
+        IngestionShardPointer startPointer,
+        IngestionConsumerFactory consumerFactory,
+        String consumerClientId,
+        int shardId,
+        int partition,
+        PartitionedBlockingQueueContainer blockingQueueContainer,
+        ResetState resetState,
+        String resetValue,
+        IngestionErrorStrategy errorStrategy,
+        State initialState,
+        long maxPollSize,
+        int pollTimeout,
+        long pointerBasedLagUpdateIntervalMs,
+        IndexSettings indexSettings,
+        IngestionMessageMapper messageMapper
     ) {
         this.consumerFactory = Objects.requireNonNull(consumerFactory);
         this.consumerClientId = Objects.requireNonNull(consumerClientId);
         this.shardId = shardId;
+        this.partition = partition;
         this.resetState = resetState;
         this.resetValue = resetValue;
         this.initialBatchStartPointer = startPointer;
@@ -155,7 +209,7 @@ public class DefaultStreamPoller implements StreamPoller {
         this.pointerBasedLagUpdateIntervalMs = pointerBasedLagUpdateIntervalMs;
         this.blockingQueueContainer = blockingQueueContainer;
         this.consumerThread = Executors.newSingleThreadExecutor(
-            r -> new Thread(r, String.format(Locale.ROOT, "stream-poller-consumer-%d-%d", shardId, System.currentTimeMillis()))
+            r -> new Thread(r, String.format(Locale.ROOT, "stream-poller-consumer-%d-%d", partition, System.currentTimeMillis()))
         );
         this.errorStrategy = errorStrategy;
         this.indexName = indexSettings.getIndex().getName();
@@ -433,6 +487,13 @@ public class DefaultStreamPoller implements StreamPoller {
         return this.state;
     }
 
+    /**
+     * Returns the partition of the stream this poller consumes.
+     */
+    public int getPartition() {
+        return partition;
+    }
+
     @Override
     public IngestionErrorStrategy getErrorStrategy() {
         return this.errorStrategy;
@@ -557,10 +618,10 @@ public class DefaultStreamPoller implements StreamPoller {
     private synchronized void initializeConsumer() {
         try {
             reinitializeConsumer = false;
-            this.consumer = consumerFactory.createShardConsumer(consumerClientId, shardId);
-            logger.info("Successfully initialized consumer for shard {}", shardId);
+            this.consumer = consumerFactory.createShardConsumer(consumerClientId, partition);
+            logger.info("Successfully initialized consumer for shard {} partition {}", shardId, partition);
         } catch (Exception e) {
-            logger.warn("Failed to create consumer for shard {}: {}", shardId, e.getMessage());
+            logger.warn("Failed to create consumer for shard {} partition {}: {}", shardId, partition, e.getMessage());
             totalConsumerErrorCount.inc();
             try {
                 Thread.sleep(CONSUMER_INIT_RETRY_INTERVAL_MS);
@@ -593,6 +654,7 @@ public class DefaultStreamPoller implements StreamPoller {
         private IngestionConsumerFactory consumerFactory;
         private String consumerClientId;
         private int shardId;
+        private int partition;
         private IngestionEngine ingestionEngine;
         private ResetState resetState = ResetState.LATEST;
         private String resetValue = "";
@@ -602,6 +664,8 @@ public class DefaultStreamPoller implements StreamPoller {
         private int pollTimeout = 1000;
         private int numProcessorThreads = 1;
         private int blockingQueueSize = 100;
+        private int maxBatchSize = 1;
+        private long maxBatchSizeInBytes = Long.MAX_VALUE;
         private long pointerBasedLagUpdateIntervalMs = 10000;
         private IngestionMessageMapper.MapperType mapperType = IngestionMessageMapper.MapperType.DEFAULT;
 
@@ -619,10 +683,19 @@ public class DefaultStreamPoller implements StreamPoller {
             this.consumerFactory = Objects.requireNonNull(consumerFactory);
             this.consumerClientId = Objects.requireNonNull(consumerClientId);
             this.shardId = shardId;
+            this.partition = shardId;
             this.ingestionEngine = Objects.requireNonNull(ingestionEngine);
             this.errorStrategy = new DropIngestionErrorStrategy("poller");
         }
 
+        /**
+         * Set the partition of the stream to consume, which defaults to the shard id
+         */
+        public Builder partition(int partition) {
+            this.partition = partition;
+            return this;
+        }
+
         /**
          * Set error strategy
          */
@@ -687,6 +760,22 @@ public class DefaultStreamPoller implements StreamPoller {
             return this;
         }
 
+        /**
+         * Set the maximum number of messages each processor thread writes as a single batch
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Set the maximum total payload size of the messages of a batch
+         */
+        public Builder maxBatchSizeInBytes(long maxBatchSizeInBytes) {
+            this.maxBatchSizeInBytes = maxBatchSizeInBytes;
+            return this;
+        }
+
         /**
          * Set pointer-based lag update interval in milliseconds
          */
@@ -712,6 +801,7 @@ public class DefaultStreamPoller implements StreamPoller {
                 consumerFactory,
                 consumerClientId,
                 shardId,
+                partition,
                 ingestionEngine,
                 resetState,
                 resetValue,
@@ -721,6 +811,8 @@ public class DefaultStreamPoller implements StreamPoller {
                 pollTimeout,
                 numProcessorThreads,
                 blockingQueueSize,
+                maxBatchSize,
+                maxBatchSizeInBytes,
                 pointerBasedLagUpdateIntervalMs,
                 mapperType
             );
@@ -35,6 +35,11 @@ import org.opensearch.index.mapper.VersionFieldMapper;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -46,7 +51,9 @@ import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_SEQ_NO;
 
 /**
  *  A class to process messages from the ingestion stream. It extracts the payload from the message and creates an
- *  engine operation.
+ *  engine operation. When batching is enabled, the messages that are available in the queue are processed in batches:
+ *  all the messages of a batch are parsed before they are applied to the engine together, see
+ *  {@link IngestionEngine#applyBatchInternal}.
  */
 public class MessageProcessorRunnable implements Runnable, Closeable {
     public static final String ID = "_id";
@@ -70,24 +77,35 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
     private final String indexName;
     private final int shardId;
 
+    private final int maxBatchSize;
+    private final long maxBatchSizeInBytes;
+    // messages that were taken from the queue for a batch, but are left for the next batch as an earlier message failed
+    private final Deque<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> pendingMessages = new ArrayDeque<>();
+
     /**
      * Constructor.
      *
      * @param blockingQueue the blocking queue to poll messages from
      * @param engine the ingestion engine
      * @param errorStrategy the error strategy/policy to use
+     * @param maxBatchSize the maximum number of messages to process as a single batch, 1 to process each message on its own
+     * @param maxBatchSizeInBytes the maximum total payload size of the messages of a batch
      */
     public MessageProcessorRunnable(
         BlockingQueue<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> blockingQueue,
         IngestionEngine engine,
-        IngestionErrorStrategy errorStrategy
+        IngestionErrorStrategy errorStrategy,
+        int maxBatchSize,
+        long maxBatchSizeInBytes
     ) {
         this(
             blockingQueue,
             new MessageProcessor(engine),
             errorStrategy,
             engine.config().getShardId().getIndexName(),
-            engine.config().getShardId().getId()
+            engine.config().getShardId().getId(),
+            maxBatchSize,
+            maxBatchSizeInBytes
         );
     }
 
@@ -105,12 +123,36 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
         IngestionErrorStrategy errorStrategy,
         String indexName,
         int shardId
+    ) {
+        this(blockingQueue, messageProcessor, errorStrategy, indexName, shardId, 1, Long.MAX_VALUE);
+    }
+
+    /**
+     * Constructor visible for testing.
+     * @param blockingQueue the blocking queue to poll messages from
+     * @param messageProcessor the message processor
+     * @param errorStrategy the error strategy/policy to use
+     * @param indexName the index name
+     * @param shardId the shard ID
+     * @param maxBatchSize the maximum number of messages to process as a single batch, 1 to process each message on its own
+     * @param maxBatchSizeInBytes the maximum total payload size of the messages of a batch
+     */
+    MessageProcessorRunnable(
+        BlockingQueue<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> blockingQueue,
+        MessageProcessor messageProcessor,
+        IngestionErrorStrategy errorStrategy,
+        String indexName,
+        int shardId,
+        int maxBatchSize,
+        long maxBatchSizeInBytes
     ) {
         this.blockingQueue = Objects.requireNonNull(blockingQueue);
         this.messageProcessor = messageProcessor;
         this.errorStrategy = errorStrategy;
         this.indexName = indexName;
         this.shardId = shardId;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchSizeInBytes = maxBatchSizeInBytes;
     }
 
     static class MessageProcessor {
@@ -167,6 +209,43 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
             }
         }
 
+        /**
+         * Visible for testing. Process a batch of messages. The messages are all mapped to engine operations, which includes
+         * parsing their documents, before the operations are applied to the engine as a single batch. Messages with version
+         * conflicts are dropped, as they are when processed on their own. Processing stops at the first message that cannot be
+         * mapped or applied, which is left for the caller to process on its own along with the messages after it.
+         *
+         * @param shardUpdateMessages the messages to process
+         * @param messageProcessorMetrics message processor metrics
+         * @return the number of messages that were processed
+         */
+        protected int processBatch(
+            List<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> shardUpdateMessages,
+            MessageProcessorMetrics messageProcessorMetrics
+        ) {
+            // invalid messages are counted when they are processed on their own
+            final MessageProcessorMetrics batchMetrics = MessageProcessorMetrics.create();
+            final List<Engine.Operation> operations = new ArrayList<>(shardUpdateMessages.size());
+            final BitSet createModes = new BitSet(shardUpdateMessages.size());
+            for (ShardUpdateMessage shardUpdateMessage : shardUpdateMessages) {
+                try {
+                    MessageOperation operation = getOperation(shardUpdateMessage, batchMetrics);
+                    if (operation.opType == DocWriteRequest.OpType.CREATE) {
+                        createModes.set(operations.size());
+                    }
+                    operations.add(operation.engineOperation);
+                } catch (Exception e) {
+                    logger.debug("Failed to map message at pointer {} in batch", shardUpdateMessage.pointer().asString(), e);
+                    break;
+                }
+            }
+
+            return engine.applyBatchInternal(operations, createModes, i -> {
+                messageProcessorMetrics.versionConflictCounter.inc();
+                logger.debug("Dropping message due to version conflict. ShardPointer: {}", shardUpdateMessages.get(i).pointer().asString());
+            });
+        }
+
         /**
          * Visible for testing. Get the engine operation from the message.
          * @param shardUpdateMessage an update message containing payload and pointer for the update
@@ -298,6 +377,7 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
     /**
      * Polls messages from the blocking queue and processes messages. If message processing fails, the failed message
      * is retried indefinitely after a retry wait time, unless a DROP error policy is used to skip the failed message.
+     * When batching is enabled, a message that fails in a batch is processed on its own, with the same retries.
      */
     @Override
     public void run() {
@@ -305,6 +385,10 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
         int retryCount = 0;
 
         while (Thread.currentThread().isInterrupted() == false && closed == false) {
+            if (shardUpdateMessage == null && maxBatchSize > 1) {
+                shardUpdateMessage = processBatch();
+                continue;
+            }
             try {
                 if (shardUpdateMessage == null) {
                     shardUpdateMessage = blockingQueue.poll(1000, TimeUnit.MILLISECONDS);
@@ -347,6 +431,56 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
         }
     }
 
+    /**
+     * Takes the next batch of messages, waiting for the first one, and processes them.
+     *
+     * @return the message of the batch that failed and is to be processed on its own, if any
+     */
+    @Nullable
+    private ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message> processBatch() {
+        final List<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> batch = new ArrayList<>();
+        long batchSizeInBytes = 0;
+        try {
+            while (batch.size() < maxBatchSize && batchSizeInBytes < maxBatchSizeInBytes) {
+                ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message> message = pendingMessages.poll();
+                if (message == null) {
+                    message = batch.isEmpty() ? blockingQueue.poll(1000, TimeUnit.MILLISECONDS) : blockingQueue.poll();
+                }
+                if (message == null) {
+                    break;
+                }
+                batch.add(message);
+                batchSizeInBytes += payloadSizeInBytes(message);
+            }
+        } catch (InterruptedException e) {
+            messageProcessorMetrics.processorThreadInterruptCounter.inc();
+            logger.debug("MessageProcessorRunnable poll interruptedException", e);
+            Thread.currentThread().interrupt(); // Restore interrupt status
+        }
+        if (batch.isEmpty()) {
+            return null;
+        }
+
+        currentShardPointer = batch.get(0).pointer();
+        final int processed = messageProcessor.processBatch(batch, messageProcessorMetrics);
+        messageProcessorMetrics.processedCounter.inc(processed);
+        if (processed > 0) {
+            currentShardPointer = batch.get(processed - 1).pointer();
+        }
+        if (processed == batch.size()) {
+            return null;
+        }
+        for (int i = batch.size() - 1; i > processed; i--) {
+            pendingMessages.addFirst(batch.get(i));
+        }
+        return batch.get(processed);
+    }
+
+    private static long payloadSizeInBytes(ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message> shardUpdateMessage) {
+        Message message = shardUpdateMessage.originalMessage();
+        return message != null && message.getPayload() instanceof byte[] payload ? payload.length : 0;
+    }
+
     private void waitBeforeRetry() {
         try {
             Thread.sleep(WAIT_BEFORE_RETRY_DURATION_MS);
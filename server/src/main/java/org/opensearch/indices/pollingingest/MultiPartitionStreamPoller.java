@@ -0,0 +1,225 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.pollingingest;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.metadata.IngestionSource;
+import org.opensearch.index.IngestionShardConsumer;
+import org.opensearch.index.IngestionShardPointer;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A poller for a shard that consumes multiple partitions of the stream. Each partition is consumed by its own
+ * {@link DefaultStreamPoller}, with its own consumer thread and processor threads, so that the partitions are polled and
+ * written in parallel while the messages of a partition, and hence of any document id, are still applied in order.
+ * <p>
+ * The batch start pointer of each partition only depends on the messages of that partition, and is committed independently
+ * under {@link StreamPoller#partitionBatchStartKey(int)}, so that a slow partition does not hold back the recovery point
+ * of the others.
+ */
+public class MultiPartitionStreamPoller implements StreamPoller {
+    private static final Logger logger = LogManager.getLogger(MultiPartitionStreamPoller.class);
+
+    private final List<DefaultStreamPoller> pollers;
+
+    /**
+     * @param pollers the pollers of the partitions, the first of which consumes the partition numbered after the shard
+     */
+    public MultiPartitionStreamPoller(List<DefaultStreamPoller> pollers) {
+        if (pollers.isEmpty()) {
+            throw new IllegalArgumentException("at least one partition poller is required");
+        }
+        this.pollers = List.copyOf(pollers);
+    }
+
+    @Override
+    public void start() {
+        for (DefaultStreamPoller poller : pollers) {
+            poller.start();
+        }
+    }
+
+    @Override
+    public void pause() {
+        for (DefaultStreamPoller poller : pollers) {
+            poller.pause();
+        }
+    }
+
+    @Override
+    public void resume() {
+        for (DefaultStreamPoller poller : pollers) {
+            poller.resume();
+        }
+    }
+
+    /**
+     * @return if the pollers of all the partitions are paused
+     */
+    @Override
+    public boolean isPaused() {
+        return pollers.stream().allMatch(DefaultStreamPoller::isPaused);
+    }
+
+    @Override
+    public boolean isClosed() {
+        return pollers.stream().allMatch(DefaultStreamPoller::isClosed);
+    }
+
+    /**
+     * Returns the batch start pointer of the partition numbered after the shard. The pointers of all the partitions are
+     * returned by {@link #getPartitionBatchStartPointers()}.
+     */
+    @Override
+    public IngestionShardPointer getBatchStartPointer() {
+        return pollers.get(0).getBatchStartPointer();
+    }
+
+    @Override
+    public Map<String, IngestionShardPointer> getPartitionBatchStartPointers() {
+        Map<String, IngestionShardPointer> pointers = new TreeMap<>();
+        for (DefaultStreamPoller poller : pollers) {
+            IngestionShardPointer pointer = poller.getBatchStartPointer();
+            if (pointer != null) {
+                pointers.put(StreamPoller.partitionBatchStartKey(poller.getPartition()), pointer);
+            }
+        }
+        return pointers;
+    }
+
+    /**
+     * Returns the sum of the counters of the pollers of all the partitions, along with the lag of the partition that is
+     * furthest behind.
+     */
+    @Override
+    public PollingIngestStats getStats() {
+        long totalProcessedCount = 0;
+        long totalInvalidMessageCount = 0;
+        long totalVersionConflictsCount = 0;
+        long totalFailedCount = 0;
+        long totalFailuresDroppedCount = 0;
+        long totalProcessorThreadInterruptCount = 0;
+        long totalPolledCount = 0;
+        long lagInMillis = 0;
+        long totalConsumerErrorCount = 0;
+        long totalPollerMessageFailureCount = 0;
+        long totalPollerMessageDroppedCount = 0;
+        long pointerBasedLag = 0;
+        for (DefaultStreamPoller poller : pollers) {
+            PollingIngestStats stats = poller.getStats();
+            PollingIngestStats.MessageProcessorStats processorStats = stats.getMessageProcessorStats();
+            totalProcessedCount += processorStats.totalProcessedCount();
+            totalInvalidMessageCount += processorStats.totalInvalidMessageCount();
+            totalVersionConflictsCount += processorStats.totalVersionConflictsCount();
+            totalFailedCount += processorStats.totalFailedCount();
+            totalFailuresDroppedCount += processorStats.totalFailuresDroppedCount();
+            totalProcessorThreadInterruptCount += processorStats.totalProcessorThreadInterruptCount();
+            PollingIngestStats.ConsumerStats consumerStats = stats.getConsumerStats();
+            totalPolledCount += consumerStats.totalPolledCount();
+            lagInMillis = Math.max(lagInMillis, consumerStats.lagInMillis());
+            totalConsumerErrorCount += consumerStats.totalConsumerErrorCount();
+            totalPollerMessageFailureCount += consumerStats.totalPollerMessageFailureCount();
+            totalPollerMessageDroppedCount += consumerStats.totalPollerMessageDroppedCount();
+            pointerBasedLag = Math.max(pointerBasedLag, consumerStats.pointerBasedLag());
+        }
+        return PollingIngestStats.builder()
+            .setTotalProcessedCount(totalProcessedCount)
+            .setTotalInvalidMessageCount(totalInvalidMessageCount)
+            .setTotalProcessorVersionConflictsCount(totalVersionConflictsCount)
+            .setTotalProcessorFailedCount(totalFailedCount)
+            .setTotalProcessorFailuresDroppedCount(totalFailuresDroppedCount)
+            .setTotalProcessorThreadInterruptCount(totalProcessorThreadInterruptCount)
+            .setTotalPolledCount(totalPolledCount)
+            .setLagInMillis(lagInMillis)
+            .setTotalConsumerErrorCount(totalConsumerErrorCount)
+            .setTotalPollerMessageFailureCount(totalPollerMessageFailureCount)
+            .setTotalPollerMessageDroppedCount(totalPollerMessageDroppedCount)
+            .setPointerBasedLag(pointerBasedLag)
+            .build();
+    }
+
+    @Override
+    public IngestionErrorStrategy getErrorStrategy() {
+        return pollers.get(0).getErrorStrategy();
+    }
+
+    /**
+     * Returns the most active state across the pollers of all the partitions, so that the shard is reported as processing
+     * as long as any of its partitions is.
+     */
+    @Override
+    public State getState() {
+        return pollers.stream().map(DefaultStreamPoller::getState).max(Comparator.comparingInt(State::ordinal)).get();
+    }
+
+    @Override
+    public void updateErrorStrategy(IngestionErrorStrategy errorStrategy) {
+        for (DefaultStreamPoller poller : pollers) {
+            poller.updateErrorStrategy(errorStrategy);
+        }
+    }
+
+    @Override
+    public boolean isWriteBlockEnabled() {
+        return pollers.get(0).isWriteBlockEnabled();
+    }
+
+    @Override
+    public void setWriteBlockEnabled(boolean isWriteBlockEnabled) {
+        for (DefaultStreamPoller poller : pollers) {
+            poller.setWriteBlockEnabled(isWriteBlockEnabled);
+        }
+    }
+
+    /**
+     * Returns the consumer of the partition numbered after the shard.
+     */
+    @Override
+    public IngestionShardConsumer getConsumer() {
+        return pollers.get(0).getConsumer();
+    }
+
+    @Override
+    public void requestConsumerReinitialization(IngestionSource updatedIngestionSource) {
+        for (DefaultStreamPoller poller : pollers) {
+            poller.requestConsumerReinitialization(updatedIngestionSource);
+        }
+    }
+
+    @Override
+    public void clusterChanged(ClusterChangedEvent event) {
+        for (DefaultStreamPoller poller : pollers) {
+            poller.clusterChanged(event);
+        }
+    }
+
+    @Override
+    public void close() {
+        for (DefaultStreamPoller poller : pollers) {
+            try {
+                poller.close();
+            } catch (Exception e) {
+                logger.error("Error in closing the poller of partition {}: {}", poller.getPartition(), e);
+            }
+        }
+    }
+
+    /**
+     * Returns the pollers of the partitions. Visible for testing.
+     */
+    List<DefaultStreamPoller> getPollers() {
+        return pollers;
+    }
+}
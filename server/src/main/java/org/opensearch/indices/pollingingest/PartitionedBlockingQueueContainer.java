@@ -49,7 +49,9 @@ public class PartitionedBlockingQueueContainer {
         int shardId,
         IngestionEngine ingestionEngine,
         IngestionErrorStrategy errorStrategy,
-        int blockingQueueSize
+        int blockingQueueSize,
+        int maxBatchSize,
+        long maxBatchSizeInBytes
     ) {
         assert numPartitions > 0 : "Number of processor threads / partitions must be greater than 0";
         partitionToQueueMap = new ConcurrentHashMap<>();
@@ -76,7 +78,9 @@ public class PartitionedBlockingQueueContainer {
             MessageProcessorRunnable messageProcessorRunnable = new MessageProcessorRunnable(
                 partitionToQueueMap.get(partition),
                 ingestionEngine,
-                errorStrategy
+                errorStrategy,
+                maxBatchSize,
+                maxBatchSizeInBytes
             );
             partitionToMessageProcessorMap.put(partition, messageProcessorRunnable);
         }
@@ -15,6 +15,8 @@ import org.opensearch.index.IngestionShardConsumer;
 import org.opensearch.index.IngestionShardPointer;
 
 import java.io.Closeable;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * A poller for reading messages from an ingestion shard. This is used in the ingestion engine.
@@ -53,6 +55,22 @@ public interface StreamPoller extends Closeable, ClusterStateListener {
      */
     IngestionShardPointer getBatchStartPointer();
 
+    /**
+     * Get the pointers to the start of the current batch of messages of each of the stream partitions the poller consumes, keyed
+     * by the commit data key each of them is committed under. Pollers that consume a single partition only commit the
+     * {@link #getBatchStartPointer() batch start pointer} under {@link #BATCH_START}, and return an empty map.
+     */
+    default Map<String, IngestionShardPointer> getPartitionBatchStartPointers() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * The commit data key of the batch start pointer of a stream partition, for shards that consume multiple partitions.
+     */
+    static String partitionBatchStartKey(int partition) {
+        return BATCH_START + "." + partition;
+    }
+
     PollingIngestStats getStats();
 
     IngestionErrorStrategy getErrorStrategy();
@@ -123,12 +123,23 @@ public final class IngestDocument {
      * or if the field that is found at the provided path is not of the expected type.
      */
     public <T> T getFieldValue(String path, Class<T> clazz) {
-        FieldPath fieldPath = new FieldPath(path);
-        Object context = fieldPath.initialContext;
+        return getFieldValue(new FieldPath(path), clazz);
+    }
+
+    /**
+     * Returns the value contained in the document for the provided compiled path
+     * @param fieldPath The compiled path within the document
+     * @param clazz The expected class of the field value
+     * @return the value for the provided path if existing, null otherwise
+     * @throws IllegalArgumentException if the path is invalid, if the field doesn't exist
+     * or if the field that is found at the provided path is not of the expected type.
+     */
+    public <T> T getFieldValue(FieldPath fieldPath, Class<T> clazz) {
+        Object context = initialContext(fieldPath);
         for (String pathElement : fieldPath.pathElements) {
-            context = resolve(pathElement, path, context);
+            context = resolve(pathElement, fieldPath.path, context);
         }
-        return cast(path, context, clazz);
+        return cast(fieldPath.path, context, clazz);
     }
 
     /**
@@ -142,10 +153,24 @@ public final class IngestDocument {
      * or if the field that is found at the provided path is not of the expected type.
      */
     public <T> T getFieldValue(String path, Class<T> clazz, boolean ignoreMissing) {
+        return getFieldValue(new FieldPath(path), clazz, ignoreMissing);
+    }
+
+    /**
+     * Returns the value contained in the document for the provided compiled path
+     *
+     * @param fieldPath The compiled path within the document
+     * @param clazz The expected class of the field value
+     * @param ignoreMissing The flag to determine whether to throw an exception when `path` is not found in the document.
+     * @return the value for the provided path if existing, null otherwise.
+     * @throws IllegalArgumentException only if ignoreMissing is false and the path is invalid, if the field doesn't exist
+     * or if the field that is found at the provided path is not of the expected type.
+     */
+    public <T> T getFieldValue(FieldPath fieldPath, Class<T> clazz, boolean ignoreMissing) {
         try {
-            return getFieldValue(path, clazz);
+            return getFieldValue(fieldPath, clazz);
         } catch (IllegalArgumentException e) {
-            if (ignoreMissing && hasField(path) != true) {
+            if (ignoreMissing && hasField(fieldPath) != true) {
                 return null;
             } else {
                 throw e;
@@ -162,7 +187,7 @@ public final class IngestDocument {
      * or if the field that is found at the provided path is not of the expected type.
      */
     public <T> T getFieldValue(TemplateScript.Factory pathTemplate, Class<T> clazz) {
-        return getFieldValue(renderTemplate(pathTemplate), clazz);
+        return getFieldValue(renderFieldPath(pathTemplate), clazz);
     }
 
     /**
@@ -207,7 +232,7 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty or invalid
      */
     public boolean hasField(TemplateScript.Factory fieldPathTemplate) {
-        return hasField(renderTemplate(fieldPathTemplate));
+        return hasField(renderFieldPath(fieldPathTemplate), false);
     }
 
     /**
@@ -228,8 +253,29 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty or invalid.
      */
     public boolean hasField(String path, boolean failOutOfRange) {
-        FieldPath fieldPath = new FieldPath(path);
-        Object context = fieldPath.initialContext;
+        return hasField(new FieldPath(path), failOutOfRange);
+    }
+
+    /**
+     * Checks whether the document contains a value for the provided compiled path
+     * @param fieldPath The compiled path within the document
+     * @return true if the document contains a value for the field, false otherwise
+     * @throws IllegalArgumentException if the path is invalid.
+     */
+    public boolean hasField(FieldPath fieldPath) {
+        return hasField(fieldPath, false);
+    }
+
+    /**
+     * Checks whether the document contains a value for the provided compiled path
+     * @param fieldPath The compiled path within the document
+     * @param failOutOfRange Whether to throw an IllegalArgumentException if array is accessed outside of its range
+     * @return true if the document contains a value for the field, false otherwise
+     * @throws IllegalArgumentException if the path is invalid.
+     */
+    public boolean hasField(FieldPath fieldPath, boolean failOutOfRange) {
+        final String path = fieldPath.path;
+        Object context = initialContext(fieldPath);
         for (int i = 0; i < fieldPath.pathElements.length - 1; i++) {
             String pathElement = fieldPath.pathElements[i];
             if (context == null) {
@@ -304,7 +350,7 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty, invalid or if the field doesn't exist.
      */
     public void removeField(TemplateScript.Factory fieldPathTemplate) {
-        removeField(renderTemplate(fieldPathTemplate));
+        removeField(renderFieldPath(fieldPathTemplate));
     }
 
     /**
@@ -313,8 +359,17 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty, invalid or if the field doesn't exist.
      */
     public void removeField(String path) {
-        FieldPath fieldPath = new FieldPath(path);
-        Object context = fieldPath.initialContext;
+        removeField(new FieldPath(path));
+    }
+
+    /**
+     * Removes the field identified by the provided compiled path.
+     * @param fieldPath the compiled path of the field to be removed
+     * @throws IllegalArgumentException if the path is invalid or if the field doesn't exist.
+     */
+    public void removeField(FieldPath fieldPath) {
+        final String path = fieldPath.path;
+        Object context = initialContext(fieldPath);
         for (int i = 0; i < fieldPath.pathElements.length - 1; i++) {
             context = resolve(fieldPath.pathElements[i], path, context);
         }
@@ -430,7 +485,7 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty or invalid.
      */
     public void appendFieldValue(String path, Object value, boolean allowDuplicates) {
-        setFieldValue(path, value, true, allowDuplicates);
+        setFieldValue(new FieldPath(path), value, true, allowDuplicates);
     }
 
     /**
@@ -446,8 +501,8 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty or invalid.
      */
     public void appendFieldValue(TemplateScript.Factory fieldPathTemplate, ValueSource valueSource) {
-        Map<String, Object> model = createTemplateModel();
-        appendFieldValue(fieldPathTemplate.newInstance(model).execute(), valueSource.copyAndResolve(model));
+        Map<String, Object> model = createTemplateModel(fieldPathTemplate, valueSource);
+        setFieldValue(renderFieldPath(fieldPathTemplate, model), valueSource.copyAndResolve(model), true, true);
     }
 
     /**
@@ -464,8 +519,8 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty or invalid.
      */
     public void appendFieldValue(TemplateScript.Factory fieldPathTemplate, ValueSource valueSource, boolean allowDuplicates) {
-        Map<String, Object> model = createTemplateModel();
-        appendFieldValue(fieldPathTemplate.newInstance(model).execute(), valueSource.copyAndResolve(model), allowDuplicates);
+        Map<String, Object> model = createTemplateModel(fieldPathTemplate, valueSource);
+        setFieldValue(renderFieldPath(fieldPathTemplate, model), valueSource.copyAndResolve(model), true, allowDuplicates);
     }
 
     /**
@@ -479,7 +534,20 @@ public final class IngestDocument {
      * item identified by the provided path.
      */
     public void setFieldValue(String path, Object value) {
-        setFieldValue(path, value, false);
+        setFieldValue(new FieldPath(path), value, false, true);
+    }
+
+    /**
+     * Sets the provided value to the provided compiled path in the document.
+     * Any non existing path element will be created.
+     * If the last item in the path is a list, the value will replace the existing list as a whole.
+     * @param fieldPath The compiled path within the document
+     * @param value The value to put in for the path key
+     * @throws IllegalArgumentException if the path is invalid or if the value cannot be set to the
+     * item identified by the provided path.
+     */
+    public void setFieldValue(FieldPath fieldPath, Object value) {
+        setFieldValue(fieldPath, value, false, true);
     }
 
     /**
@@ -492,8 +560,8 @@ public final class IngestDocument {
      * item identified by the provided path.
      */
     public void setFieldValue(TemplateScript.Factory fieldPathTemplate, ValueSource valueSource) {
-        Map<String, Object> model = createTemplateModel();
-        setFieldValue(fieldPathTemplate.newInstance(model).execute(), valueSource.copyAndResolve(model), false);
+        Map<String, Object> model = createTemplateModel(fieldPathTemplate, valueSource);
+        setFieldValue(renderFieldPath(fieldPathTemplate, model), valueSource.copyAndResolve(model), false, true);
     }
 
     /**
@@ -507,7 +575,7 @@ public final class IngestDocument {
      * item identified by the provided path.
      */
     public void setFieldValue(TemplateScript.Factory fieldPathTemplate, ValueSource valueSource, boolean ignoreEmptyValue) {
-        Map<String, Object> model = createTemplateModel();
+        Map<String, Object> model = createTemplateModel(fieldPathTemplate, valueSource);
         Object value = valueSource.copyAndResolve(model);
         if (ignoreEmptyValue && valueSource instanceof ValueSource.TemplatedValue) {
             if (value == null) {
@@ -519,16 +587,12 @@ public final class IngestDocument {
             }
         }
 
-        setFieldValue(fieldPathTemplate.newInstance(model).execute(), value, false);
+        setFieldValue(renderFieldPath(fieldPathTemplate, model), value, false, true);
     }
 
-    private void setFieldValue(String path, Object value, boolean append) {
-        setFieldValue(path, value, append, true);
-    }
-
-    private void setFieldValue(String path, Object value, boolean append, boolean allowDuplicates) {
-        FieldPath fieldPath = new FieldPath(path);
-        Object context = fieldPath.initialContext;
+    private void setFieldValue(FieldPath fieldPath, Object value, boolean append, boolean allowDuplicates) {
+        final String path = fieldPath.path;
+        Object context = initialContext(fieldPath);
         for (int i = 0; i < fieldPath.pathElements.length - 1; i++) {
             String pathElement = fieldPath.pathElements[i];
             if (context == null) {
@@ -695,9 +759,41 @@ public final class IngestDocument {
     }
 
     public String renderTemplate(TemplateScript.Factory template) {
+        if (template instanceof StaticTemplateScriptFactory staticTemplate) {
+            return staticTemplate.getValue();
+        }
         return template.newInstance(createTemplateModel()).execute();
     }
 
+    /**
+     * Renders the given template into a compiled field path, which is only parsed once for a template that holds no template
+     * snippets.
+     */
+    public FieldPath renderFieldPath(TemplateScript.Factory fieldPathTemplate) {
+        if (fieldPathTemplate instanceof StaticTemplateScriptFactory staticTemplate) {
+            return staticTemplate.getFieldPath();
+        }
+        return new FieldPath(renderTemplate(fieldPathTemplate));
+    }
+
+    private static FieldPath renderFieldPath(TemplateScript.Factory fieldPathTemplate, Map<String, Object> model) {
+        if (fieldPathTemplate instanceof StaticTemplateScriptFactory staticTemplate) {
+            return staticTemplate.getFieldPath();
+        }
+        return new FieldPath(fieldPathTemplate.newInstance(model).execute());
+    }
+
+    /**
+     * Returns the model to render the given path and value against, or {@code null} if neither of them is templated, as copying
+     * the source of the document into a model is the most expensive part of setting a value.
+     */
+    private Map<String, Object> createTemplateModel(TemplateScript.Factory fieldPathTemplate, ValueSource valueSource) {
+        if (fieldPathTemplate instanceof StaticTemplateScriptFactory && valueSource.isStatic()) {
+            return null;
+        }
+        return createTemplateModel();
+    }
+
     private Map<String, Object> createTemplateModel() {
         Map<String, Object> model = new HashMap<>(sourceAndMetadata);
         model.put(SourceFieldMapper.NAME, sourceAndMetadata);
@@ -868,32 +964,68 @@ public final class IngestDocument {
         }
     }
 
-    private class FieldPath {
+    private Object initialContext(FieldPath fieldPath) {
+        if (fieldPath.pathElements == null) {
+            throw new IllegalArgumentException(fieldPath.error);
+        }
+        return fieldPath.inIngestMetadata ? ingestMetadata : sourceAndMetadata;
+    }
 
+    /**
+     * A path within a document in dot-notation, parsed once so that it can be resolved against any number of documents. Processors
+     * that know the paths they access when they are created compile them once rather than have every document parse them again.
+     * <p>
+     * An invalid path is only rejected when it is resolved against a document, the same as when the path is passed as a string.
+     *
+     * @opensearch.internal
+     */
+    public static final class FieldPath {
+
+        private final String path;
+        private final boolean inIngestMetadata;
         private final String[] pathElements;
-        private final Object initialContext;
+        private final String error;
 
-        private FieldPath(String path) {
+        public FieldPath(String path) {
+            this.path = path;
             if (Strings.isEmpty(path)) {
-                throw new IllegalArgumentException("path cannot be null nor empty");
+                this.inIngestMetadata = false;
+                this.pathElements = null;
+                this.error = "path cannot be null nor empty";
+                return;
             }
             String newPath;
             if (path.startsWith(INGEST_KEY_PREFIX)) {
-                initialContext = ingestMetadata;
+                inIngestMetadata = true;
                 newPath = path.substring(INGEST_KEY_PREFIX.length(), path.length());
             } else {
-                initialContext = sourceAndMetadata;
+                inIngestMetadata = false;
                 if (path.startsWith(SOURCE_PREFIX)) {
                     newPath = path.substring(SOURCE_PREFIX.length(), path.length());
                 } else {
                     newPath = path;
                 }
             }
-            this.pathElements = newPath.split("\\.");
-            if (pathElements.length == 1 && pathElements[0].isEmpty()) {
-                throw new IllegalArgumentException("path [" + path + "] is not valid");
+            String[] elements = newPath.split("\\.");
+            if (elements.length == 1 && elements[0].isEmpty()) {
+                this.pathElements = null;
+                this.error = "path [" + path + "] is not valid";
+            } else {
+                this.pathElements = elements;
+                this.error = null;
             }
         }
 
+        /**
+         * Returns the path as it was given.
+         */
+        public String getPath() {
+            return path;
+        }
+
+        @Override
+        public String toString() {
+            return path;
+        }
     }
 }
@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest;
+
+import org.opensearch.script.TemplateScript;
+
+import java.util.Map;
+
+/**
+ * A template factory for a processor property that holds no template snippets, which always renders to the value of the
+ * property. {@link IngestDocument} recognizes it so that rendering it needs no template model, and so that a field path is
+ * only parsed once rather than once per document.
+ *
+ * @opensearch.internal
+ */
+public final class StaticTemplateScriptFactory implements TemplateScript.Factory {
+
+    private final String value;
+    private volatile IngestDocument.FieldPath fieldPath;
+
+    public StaticTemplateScriptFactory(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the value compiled as a field path. It is compiled on first use, as not every template is a field path.
+     */
+    public IngestDocument.FieldPath getFieldPath() {
+        IngestDocument.FieldPath fieldPath = this.fieldPath;
+        if (fieldPath == null) {
+            fieldPath = new IngestDocument.FieldPath(value);
+            this.fieldPath = fieldPath;
+        }
+        return fieldPath;
+    }
+
+    @Override
+    public TemplateScript newInstance(Map<String, Object> params) {
+        return new TemplateScript(params) {
+            @Override
+            public String execute() {
+                return value;
+            }
+        };
+    }
+}
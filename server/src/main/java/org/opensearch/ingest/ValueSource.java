@@ -64,6 +64,13 @@ public interface ValueSource {
      */
     Object copyAndResolve(Map<String, Object> model);
 
+    /**
+     * Returns whether the value holds no template snippets, in which case it can be resolved without a model.
+     */
+    default boolean isStatic() {
+        return false;
+    }
+
     static ValueSource wrap(Object value, ScriptService scriptService) {
         return switch (value) {
             case Map<?, ?> mapValue -> {
@@ -111,9 +118,11 @@ public interface ValueSource {
     final class MapValue implements ValueSource {
 
         private final Map<ValueSource, ValueSource> map;
+        private final boolean isStatic;
 
         MapValue(Map<ValueSource, ValueSource> map) {
             this.map = map;
+            this.isStatic = map.entrySet().stream().allMatch(e -> e.getKey().isStatic() && e.getValue().isStatic());
         }
 
         @Override
@@ -125,6 +134,11 @@ public interface ValueSource {
             return copy;
         }
 
+        @Override
+        public boolean isStatic() {
+            return isStatic;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
@@ -149,9 +163,11 @@ public interface ValueSource {
     final class ListValue implements ValueSource {
 
         private final List<ValueSource> values;
+        private final boolean isStatic;
 
         ListValue(List<ValueSource> values) {
             this.values = values;
+            this.isStatic = values.stream().allMatch(ValueSource::isStatic);
         }
 
         @Override
@@ -163,6 +179,11 @@ public interface ValueSource {
             return copy;
         }
 
+        @Override
+        public boolean isStatic() {
+            return isStatic;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
@@ -197,6 +218,11 @@ public interface ValueSource {
             return value;
         }
 
+        @Override
+        public boolean isStatic() {
+            return true;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
@@ -230,6 +256,11 @@ public interface ValueSource {
             return value;
         }
 
+        @Override
+        public boolean isStatic() {
+            return true;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
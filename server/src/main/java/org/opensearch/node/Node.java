@@ -1613,7 +1613,14 @@ public class Node implements Closeable {
                     b.bind(StreamSearchTransportService.class).toProvider((Providers.of(null)));
                 }
                 b.bind(SearchPhaseController.class)
-                    .toInstance(new SearchPhaseController(namedWriteableRegistry, searchService::aggReduceContextBuilder));
+                    .toInstance(
+                        new SearchPhaseController(
+                            namedWriteableRegistry,
+                            searchService::aggReduceContextBuilder,
+                            clusterService.getClusterSettings(),
+                            environment.tmpDir()
+                        )
+                    );
                 b.bind(Transport.class).toInstance(transport);
                 b.bind(TransportService.class).toInstance(transportService);
                 if (streamTransportService.isPresent()) {
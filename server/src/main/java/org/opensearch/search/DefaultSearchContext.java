@@ -1191,6 +1191,24 @@ final class DefaultSearchContext extends SearchContext {
 
     }
 
+    @Override
+    public String getSliceStrategy() {
+        return indexService.getIndexSettings()
+            .getSettings()
+            .get(
+                IndexSettings.INDEX_CONCURRENT_SEGMENT_SEARCH_SLICE_STRATEGY.getKey(),
+                clusterService.getClusterSettings().get(SearchService.CONCURRENT_SEGMENT_SEARCH_SLICE_STRATEGY_SETTING)
+            );
+    }
+
+    @Override
+    public int getConcurrentFetchMinHits() {
+        if (shouldUseConcurrentSearch() == false) {
+            return 0;
+        }
+        return clusterService.getClusterSettings().get(SearchService.CONCURRENT_SEGMENT_SEARCH_FETCH_MIN_HITS_SETTING);
+    }
+
     @Override
     public boolean shouldUseTimeSeriesDescSortOptimization() {
         return indexShard.isTimeSeriesDescSortOptimizationEnabled()
@@ -341,6 +341,32 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         Property.Dynamic,
         Property.NodeScope
     );
+
+    // Assign whole segments to slices, balancing them by document count
+    public static final String CONCURRENT_SEGMENT_SEARCH_SLICE_STRATEGY_SEGMENT = "segment";
+
+    // Balance slices by the estimated cost of the query per segment, splitting large segments into doc id ranges when possible
+    public static final String CONCURRENT_SEGMENT_SEARCH_SLICE_STRATEGY_COST = "cost";
+
+    // settings to configure how the OS custom slice computation mechanism groups segments into slices
+    public static final Setting<String> CONCURRENT_SEGMENT_SEARCH_SLICE_STRATEGY_SETTING = Setting.simpleString(
+        "search.concurrent.slice_strategy",
+        CONCURRENT_SEGMENT_SEARCH_SLICE_STRATEGY_SEGMENT,
+        SearchService::validateSliceStrategy,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    // value 0 means the fetch phase builds all the hits on the search thread, otherwise fetches of at least this many hits are
+    // split into slices that run on the concurrent segment search executor, for requests that use concurrent segment search
+    public static final Setting<Integer> CONCURRENT_SEGMENT_SEARCH_FETCH_MIN_HITS_SETTING = Setting.intSetting(
+        "search.concurrent.fetch.min_hits",
+        0,
+        0,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     // value 0 means rewrite filters optimization in aggregations will be disabled
     @ExperimentalApi
     public static final Setting<Integer> MAX_AGGREGATION_REWRITE_FILTERS = Setting.intSetting(
@@ -725,9 +751,12 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
      * Try to load the query results from the cache or execute the query phase directly if the cache cannot be used.
      */
     private void loadOrExecuteQueryPhase(final ShardSearchRequest request, final SearchContext context) throws Exception {
-        final boolean canCache = indicesService.canCache(request, context);
+        final boolean canCacheSegmentLevel = indicesService.canCacheSegmentLevel(request, context);
+        final boolean canCache = canCacheSegmentLevel == false && indicesService.canCache(request, context);
         context.getQueryShardContext().freezeContext();
-        if (canCache) {
+        if (canCacheSegmentLevel) {
+            indicesService.loadSegmentLevelIntoContext(request, context, queryPhase);
+        } else if (canCache) {
             indicesService.loadIntoContext(request, context, queryPhase);
         } else {
             queryPhase.execute(context);
@@ -2051,6 +2080,17 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         return Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() / 2, 4));
     }
 
+    public static void validateSliceStrategy(String value) {
+        switch (value) {
+            case CONCURRENT_SEGMENT_SEARCH_SLICE_STRATEGY_SEGMENT:
+            case CONCURRENT_SEGMENT_SEARCH_SLICE_STRATEGY_COST:
+                // valid setting
+                break;
+            default:
+                throw new IllegalArgumentException("Setting value must be one of [segment, cost]");
+        }
+    }
+
     /**
      * This helper class ensures we only execute either the success or the failure path for {@link SearchOperationListener}.
      * This is crucial for some implementations like {@link org.opensearch.index.search.stats.ShardSearchStats}.
@@ -5883,11 +5883,17 @@ public abstract class AbstractHyperLogLog extends AbstractCardinalityAlgorithm {
         addRunLen(bucketOrd, index, runLen);
     }
 
-    static long index(long hash, int p) {
+    /**
+     * Returns the register of the given hash for the given precision.
+     */
+    public static long index(long hash, int p) {
         return hash >>> (64 - p);
     }
 
-    static int runLen(long hash, int p) {
+    /**
+     * Returns the run length of the given hash for the given precision.
+     */
+    public static int runLen(long hash, int p) {
         return 1 + Math.min(Long.numberOfLeadingZeros(hash << p), 64 - p);
     }
 
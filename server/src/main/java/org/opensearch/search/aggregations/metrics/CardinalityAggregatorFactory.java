@@ -32,13 +32,14 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.CardinalityValueAggregator;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
-import org.opensearch.search.aggregations.support.ValuesSourceAggregatorFactory;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.internal.SearchContext;
@@ -53,7 +54,7 @@ import java.util.Map;
  *
  * @opensearch.internal
  */
-class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory {
+class CardinalityAggregatorFactory extends MetricAggregatorFactory {
 
     /**
      * Execution mode for cardinality agg
@@ -128,6 +129,19 @@ class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory {
             .build(name, config, precision(), searchContext, parent, metadata, executionMode);
     }
 
+    @Override
+    public MetricStat getMetricStat() {
+        return MetricStat.CARDINALITY;
+    }
+
+    /**
+     * Star-tree sketches can only be folded down to a lower precision, so higher precisions are resolved from the segment doc values
+     */
+    @Override
+    public boolean supportsStarTree() {
+        return precision() <= CardinalityValueAggregator.SKETCH_PRECISION;
+    }
+
     @Override
     protected boolean supportsConcurrentSegmentSearch() {
         return true;
@@ -201,6 +201,47 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
         }
     }
 
+    /**
+     * Merges dense HyperLogLog registers, holding one run length per byte, into the given bucket. The registers may have
+     * been computed with a higher precision than this instance, in which case they are folded down to this precision.
+     */
+    public void mergeRegisters(long thisBucket, BytesRef registers) {
+        final int registersPrecision = Integer.numberOfTrailingZeros(registers.length);
+        if (registers.length != 1 << registersPrecision || registersPrecision < precision()) {
+            throw new IllegalArgumentException(
+                "Cannot merge " + registers.length + " registers into a sketch with precision [" + precision() + "]"
+            );
+        }
+        hll.ensureCapacity(thisBucket + 1);
+        for (int i = 0; i < registers.length; ++i) {
+            final int runLen = registers.bytes[registers.offset + i];
+            if (runLen != 0) {
+                mergeRegister(thisBucket, registersPrecision, i, runLen);
+            }
+        }
+    }
+
+    /**
+     * Merges a single HyperLogLog register, computed with the given precision, into the given bucket. This allows merging
+     * registers that are not stored densely, see {@link #mergeRegisters(long, BytesRef)}.
+     */
+    public void mergeRegister(long thisBucket, int registersPrecision, int register, int runLen) {
+        if (registersPrecision < precision()) {
+            throw new IllegalArgumentException(
+                "Cannot merge a register with precision [" + registersPrecision + "] into a sketch with precision [" + precision() + "]"
+            );
+        }
+        hll.ensureCapacity(thisBucket + 1);
+        if (algorithm.get(thisBucket) == LINEAR_COUNTING) {
+            upgradeToHll(thisBucket);
+        }
+        final int shift = registersPrecision - precision();
+        // the low bits of the register index become the leading bits of the hash at the lower precision
+        final int lowBits = register & ((1 << shift) - 1);
+        final int foldedRunLen = lowBits != 0 ? shift - (Integer.SIZE - Integer.numberOfLeadingZeros(lowBits)) + 1 : runLen + shift;
+        hll.addRunLen(thisBucket, register >>> shift, foldedRunLen);
+    }
+
     private void merge(long thisBucket, AbstractLinearCounting.HashesIterator values) {
         while (values.next()) {
             final int encoded = values.value();
@@ -34,4 +34,11 @@ public abstract class MetricAggregatorFactory extends ValuesSourceAggregatorFact
     }
 
     public abstract MetricStat getMetricStat();
+
+    /**
+     * Returns true if this aggregation can be resolved from the pre-computed star-tree metric
+     */
+    public boolean supportsStarTree() {
+        return true;
+    }
 }
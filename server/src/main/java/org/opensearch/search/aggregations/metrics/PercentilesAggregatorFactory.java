@@ -32,13 +32,14 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.PercentilesValueAggregator;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
-import org.opensearch.search.aggregations.support.ValuesSourceAggregatorFactory;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.internal.SearchContext;
@@ -53,7 +54,7 @@ import java.util.Map;
  *
  * @opensearch.internal
  */
-class PercentilesAggregatorFactory extends ValuesSourceAggregatorFactory {
+class PercentilesAggregatorFactory extends MetricAggregatorFactory {
 
     private final double[] percents;
     private final PercentilesConfig percentilesConfig;
@@ -104,6 +105,20 @@ class PercentilesAggregatorFactory extends ValuesSourceAggregatorFactory {
             .build(name, config.getValuesSource(), searchContext, parent, percents, percentilesConfig, keyed, config.format(), metadata);
     }
 
+    @Override
+    public MetricStat getMetricStat() {
+        return MetricStat.PERCENTILES;
+    }
+
+    /**
+     * Star-tree nodes store tdigest sketches, so only tdigest requests with at most the stored compression are resolved from them
+     */
+    @Override
+    public boolean supportsStarTree() {
+        return percentilesConfig instanceof PercentilesConfig.TDigest tDigest
+            && tDigest.getCompression() <= PercentilesValueAggregator.SKETCH_COMPRESSION;
+    }
+
     @Override
     protected boolean supportsConcurrentSegmentSearch() {
         return true;
@@ -38,6 +38,7 @@ import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.query.ParsedQuery;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.SearchExtBuilder;
+import org.opensearch.search.fetch.subphase.DocValuesSourceLoader;
 import org.opensearch.search.fetch.subphase.FetchDocValuesContext;
 import org.opensearch.search.fetch.subphase.FetchFieldsContext;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
@@ -136,6 +137,13 @@ public class FetchContext {
         return searchContext.fetchSourceContext();
     }
 
+    /**
+     * Loader of the _source of the hits from doc values, or {@code null} if the stored _source must be read
+     */
+    public DocValuesSourceLoader docValuesSourceLoader() {
+        return DocValuesSourceLoader.create(searchContext);
+    }
+
     /**
      * Should the response include `explain` output
      */
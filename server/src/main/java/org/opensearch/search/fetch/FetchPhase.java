@@ -36,6 +36,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.index.StoredFields;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.TotalHits;
@@ -64,6 +65,7 @@ import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.fetch.FetchSubPhase.HitContext;
+import org.opensearch.search.fetch.subphase.DocValuesSourceLoader;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.fetch.subphase.InnerHitsContext;
 import org.opensearch.search.fetch.subphase.InnerHitsPhase;
@@ -85,6 +87,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.function.Function;
 
 import static java.util.Collections.emptyMap;
@@ -99,6 +102,10 @@ import static java.util.Collections.emptyMap;
 public class FetchPhase {
     private static final Logger LOGGER = LogManager.getLogger(FetchPhase.class);
 
+    // the minimum number of hits of a segment, and the maximum average distance between them, to load them in a batch
+    static final int BATCH_MIN_DOCS = 10;
+    static final int BATCH_MAX_AVERAGE_GAP = 8;
+
     private final FetchSubPhase[] fetchSubPhases;
 
     public FetchPhase(List<FetchSubPhase> fetchSubPhases) {
@@ -142,40 +149,87 @@ public class FetchPhase {
         // make sure that we iterate in doc id order
         Arrays.sort(docs);
 
-        Map<String, Set<String>> storedToRequestedFields = new HashMap<>();
-        FieldsVisitor fieldsVisitor = profile(
-            breakdown,
-            FetchTimingType.CREATE_STORED_FIELDS_VISITOR,
-            () -> createStoredFieldsVisitor(context, storedToRequestedFields)
-        );
-
-        FetchContext fetchContext = new FetchContext(context);
-
         SearchHit[] hits = new SearchHit[context.docIdsToLoadSize()];
+        boolean hasSequentialDocs = hasSequentialDocs(docs);
+        int slices = concurrentFetchSlices(context, docs.length);
+        if (slices > 1) {
+            fetchHitsConcurrently(context, docs, slices, hasSequentialDocs, hits);
+        } else {
+            Map<String, Set<String>> storedToRequestedFields = new HashMap<>();
+            FieldsVisitor fieldsVisitor = profile(
+                breakdown,
+                FetchTimingType.CREATE_STORED_FIELDS_VISITOR,
+                () -> createStoredFieldsVisitor(context, storedToRequestedFields)
+            );
 
-        List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors = profile(
-            breakdown,
-            FetchTimingType.BUILD_SUB_PHASE_PROCESSORS,
-            () -> getProcessors(context.shardTarget(), fetchContext)
-        );
+            FetchContext fetchContext = new FetchContext(context);
 
-        Map<FetchSubPhaseProcessor, FetchProfileBreakdown> processorProfiles = new HashMap<>();
-        if (breakdown != null) {
-            for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
-                if (p.v2() instanceof InnerHitsPhase == false) {
-                    FetchProfileBreakdown pb = context.getProfilers()
-                        .getFetchProfiler()
-                        .startSubPhase(p.v2().getClass().getSimpleName(), profileDescription);
-                    processorProfiles.put(p.v1(), pb);
+            List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors = profile(
+                breakdown,
+                FetchTimingType.BUILD_SUB_PHASE_PROCESSORS,
+                () -> getProcessors(context.shardTarget(), fetchContext)
+            );
+
+            Map<FetchSubPhaseProcessor, FetchProfileBreakdown> processorProfiles = new HashMap<>();
+            if (breakdown != null) {
+                for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
+                    if (p.v2() instanceof InnerHitsPhase == false) {
+                        FetchProfileBreakdown pb = context.getProfilers()
+                            .getFetchProfiler()
+                            .startSubPhase(p.v2().getClass().getSimpleName(), profileDescription);
+                        processorProfiles.put(p.v1(), pb);
+                    }
                 }
             }
+            fetchHits(
+                context,
+                fetchContext,
+                fieldsVisitor,
+                storedToRequestedFields,
+                processors,
+                processorProfiles,
+                docs,
+                0,
+                docs.length,
+                hasSequentialDocs,
+                hits,
+                breakdown
+            );
+        }
+
+        if (context.isCancelled()) {
+            throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
+        }
+
+        TotalHits totalHits = context.queryResult().getTotalHits();
+        context.fetchResult().hits(new SearchHits(hits, totalHits, context.queryResult().getMaxScore()));
+
+        if (fetchProfiler != null) {
+            fetchProfiler.endFetchPhase(profileDescription);
         }
+    }
 
+    /**
+     * Builds the hits of the sorted docs in {@code [from, to)} into their slots of the given hits.
+     */
+    private void fetchHits(
+        SearchContext context,
+        FetchContext fetchContext,
+        FieldsVisitor fieldsVisitor,
+        Map<String, Set<String>> storedToRequestedFields,
+        List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors,
+        Map<FetchSubPhaseProcessor, FetchProfileBreakdown> processorProfiles,
+        DocIdToIndex[] docs,
+        int from,
+        int to,
+        boolean hasSequentialDocs,
+        SearchHit[] hits,
+        FetchProfileBreakdown breakdown
+    ) {
         int currentReaderIndex = -1;
         LeafReaderContext currentReaderContext = null;
         CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader = null;
-        boolean hasSequentialDocs = hasSequentialDocs(docs);
-        for (int index = 0; index < context.docIdsToLoadSize(); index++) {
+        for (int index = from; index < to; index++) {
             if (context.isCancelled()) {
                 throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
             }
@@ -189,17 +243,16 @@ public class FetchPhase {
                         () -> context.searcher().getIndexReader().leaves().get(readerIndex)
                     );
                     currentReaderIndex = readerIndex;
-                    if (currentReaderContext.reader() instanceof SequentialStoredFieldsLeafReader lf
-                        && hasSequentialDocs
-                        && docs.length >= 10) {
-                        // All the docs to fetch are adjacent but Lucene stored fields are optimized
-                        // for random access and don't optimize for sequential access - except for merging.
-                        // So we do a little hack here and pretend we're going to do merges in order to
-                        // get better sequential access.
-                        fieldReader = lf.getSequentialStoredFieldsReader()::document;
-                    } else {
-                        fieldReader = currentReaderContext.reader().storedFields()::document;
-                    }
+                    StoredFields storedFields = storedFields(
+                        currentReaderContext,
+                        docs,
+                        index,
+                        to,
+                        hasSequentialDocs,
+                        fieldsVisitor != null,
+                        breakdown
+                    );
+                    fieldReader = storedFields::document;
                     for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
                         FetchProfileBreakdown pbd = processorProfiles.get(p.v1());
                         LeafReaderContext readerCtx = currentReaderContext;
@@ -233,15 +286,67 @@ public class FetchPhase {
                 throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase for doc [" + docId + "]", e);
             }
         }
-        if (context.isCancelled()) {
-            throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
-        }
+    }
 
-        TotalHits totalHits = context.queryResult().getTotalHits();
-        context.fetchResult().hits(new SearchHits(hits, totalHits, context.queryResult().getMaxScore()));
+    /**
+     * Returns the number of slices to build the given number of hits in concurrently, or 1 to build them on the calling thread.
+     */
+    static int concurrentFetchSlices(SearchContext context, int hitCount) {
+        final int minHits = context.getConcurrentFetchMinHits();
+        if (minHits == 0 || hitCount < minHits || context.getProfilers() != null) {
+            return 1;
+        }
+        // inner hits are fetched through the contexts of the inner hits, which are shared by all the hits
+        if (context.innerHits().getInnerHits().isEmpty() == false) {
+            return 1;
+        }
+        return Math.min(hitCount, context.searcher().getSlices().length);
+    }
 
-        if (fetchProfiler != null) {
-            fetchProfiler.endFetchPhase(profileDescription);
+    /**
+     * Splits the sorted docs into contiguous slices of about the same number of hits, and builds the hits of each slice on the
+     * executor of concurrent segment search. Each slice has its own stored fields visitor, lookup and sub-phase processors, as
+     * those keep the state of the segment they are positioned on, and writes its hits to their own slots of the given hits.
+     * The visitors and processors are all built on the calling thread, as building them may set the fetch source context of the
+     * search context, so that the slices only read the search context.
+     */
+    private void fetchHitsConcurrently(
+        SearchContext context,
+        DocIdToIndex[] docs,
+        int slices,
+        boolean hasSequentialDocs,
+        SearchHit[] hits
+    ) {
+        final List<Callable<Void>> tasks = new ArrayList<>(slices);
+        for (int slice = 0; slice < slices; slice++) {
+            final int from = (int) ((long) docs.length * slice / slices);
+            final int to = (int) ((long) docs.length * (slice + 1) / slices);
+            final Map<String, Set<String>> storedToRequestedFields = new HashMap<>();
+            final FieldsVisitor fieldsVisitor = createStoredFieldsVisitor(context, storedToRequestedFields);
+            final FetchContext fetchContext = new FetchContext(context);
+            final List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors = getProcessors(context.shardTarget(), fetchContext);
+            tasks.add(() -> {
+                fetchHits(
+                    context,
+                    fetchContext,
+                    fieldsVisitor,
+                    storedToRequestedFields,
+                    processors,
+                    Collections.emptyMap(),
+                    docs,
+                    from,
+                    to,
+                    hasSequentialDocs,
+                    hits,
+                    null
+                );
+                return null;
+            });
+        }
+        try {
+            context.searcher().getTaskExecutor().invokeAll(tasks);
+        } catch (IOException e) {
+            throw new FetchPhaseExecutionException(context.shardTarget(), "Error running concurrent fetch phase", e);
         }
     }
 
@@ -283,7 +388,7 @@ public class FetchPhase {
             if (!context.hasScriptFields() && !context.hasFetchSourceContext()) {
                 context.fetchSourceContext(new FetchSourceContext(true));
             }
-            boolean loadSource = sourceRequired(context);
+            boolean loadSource = sourceRequired(context) && DocValuesSourceLoader.create(context) == null;
             return new FieldsVisitor(
                 loadSource,
                 context.hasFetchSourceContext() ? context.fetchSourceContext().includes() : null,
@@ -317,7 +422,7 @@ public class FetchPhase {
                     }
                 }
             }
-            boolean loadSource = sourceRequired(context);
+            boolean loadSource = sourceRequired(context) && DocValuesSourceLoader.create(context) == null;
             if (storedToRequestedFields.isEmpty()) {
                 // empty list specified, default to disable _source if no explicit indication
                 return new FieldsVisitor(
@@ -413,6 +518,9 @@ public class FetchPhase {
                 loadStoredFields(context::fieldType, fieldReader, fieldsVisitor, subDocId);
                 return null;
             });
+            if (breakdown != null && fieldsVisitor.source() != null) {
+                breakdown.addSourceBytesRead(fieldsVisitor.source().length());
+            }
 
             String id = fieldsVisitor.id();
             if (fieldsVisitor.fields().isEmpty() == false) {
@@ -640,6 +748,43 @@ public class FetchPhase {
         return nestedIdentity;
     }
 
+    /**
+     * Returns the stored fields to load the hits of the given segment with, from {@code from} and before {@code to} in the sorted
+     * docs, and
+     * if the stored fields are loaded, prefetches the blocks that hold them so that reading them from slow storage, like remote
+     * backed segments, overlaps.
+     */
+    private static StoredFields storedFields(
+        LeafReaderContext readerContext,
+        DocIdToIndex[] docs,
+        int from,
+        int to,
+        boolean hasSequentialDocs,
+        boolean prefetch,
+        FetchProfileBreakdown breakdown
+    ) throws IOException {
+        final int end = Math.min(to, segmentEnd(docs, from, readerContext.docBase + readerContext.reader().maxDoc()));
+        final StoredFields storedFields;
+        if (readerContext.reader() instanceof SequentialStoredFieldsLeafReader lf
+            && ((hasSequentialDocs && docs.length >= 10) || isBatchable(docs, from, end))) {
+            // Lucene stored fields are optimized for random access and decompress the block of a document for every
+            // document that is loaded - except for merging, which keeps the last decompressed block. So we do a little
+            // hack here and pretend we're going to do merges in order to decompress each block once for all the hits in it.
+            storedFields = lf.getSequentialStoredFieldsReader();
+            if (breakdown != null) {
+                breakdown.incrementBatchedSegments();
+            }
+        } else {
+            storedFields = readerContext.reader().storedFields();
+        }
+        if (prefetch) {
+            for (int index = from; index < end; index++) {
+                storedFields.prefetch(docs[index].docId - readerContext.docBase);
+            }
+        }
+        return storedFields;
+    }
+
     private void loadStoredFields(
         Function<String, MappedFieldType> fieldTypeLookup,
         CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader,
@@ -703,4 +848,26 @@ public class FetchPhase {
     static boolean hasSequentialDocs(DocIdToIndex[] docs) {
         return docs.length > 0 && docs[docs.length - 1].docId - docs[0].docId == docs.length - 1;
     }
+
+    /**
+     * Returns the index after the last of the sorted <code>docs</code>, starting at <code>from</code>, that is below
+     * <code>maxDocId</code>.
+     */
+    static int segmentEnd(DocIdToIndex[] docs, int from, int maxDocId) {
+        int to = from;
+        while (to < docs.length && docs[to].docId < maxDocId) {
+            to++;
+        }
+        return to;
+    }
+
+    /**
+     * Returns <code>true</code> if there are enough of the sorted <code>docs</code> in <code>[from, to)</code>, and they
+     * are close enough to each other, for several of them to share a stored fields block on average, in which case loading
+     * them in a batch decompresses fewer blocks than loading them one by one.
+     */
+    static boolean isBatchable(DocIdToIndex[] docs, int from, int to) {
+        final int count = to - from;
+        return count >= BATCH_MIN_DOCS && docs[to - 1].docId - docs[from].docId < (long) count * BATCH_MAX_AVERAGE_GAP;
+    }
 }
@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch.subphase;
+
+import org.apache.lucene.index.LeafReader;
+import org.opensearch.OpenSearchException;
+import org.opensearch.common.regex.Regex;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.mapper.DocumentMapper;
+import org.opensearch.index.mapper.FieldMapper;
+import org.opensearch.index.mapper.Mapper;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.ObjectMapper;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Builds the filtered {@code _source} of a hit from the doc values of the fields of {@code _source.includes}, so that hits
+ * which only include a few fields of large documents don't decompress and parse their whole stored {@code _source}.
+ * <p>
+ * The fields are written the way derived source writes them: a multi-valued field may come back sorted and deduplicated,
+ * and the objects on the path of an included field are present even if the field has no value.
+ *
+ * @opensearch.internal
+ */
+public final class DocValuesSourceLoader {
+
+    private final Node root;
+
+    private DocValuesSourceLoader(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns a loader for the {@code _source} of the hits of the given search, or {@code null} if the source must be read
+     * from the stored {@code _source}, i.e. if the index didn't opt in, the source filter isn't a list of fields with doc
+     * values, or other parts of the request read the source of the hits.
+     */
+    public static DocValuesSourceLoader create(SearchContext context) {
+        if (context.hasFetchSourceContext() == false) {
+            return null;
+        }
+        final FetchSourceContext fetchSourceContext = context.fetchSourceContext();
+        if (fetchSourceContext.fetchSource() == false
+            || fetchSourceContext.includes().length == 0
+            || fetchSourceContext.excludes().length != 0) {
+            return null;
+        }
+        if (context.fetchFieldsContext() != null
+            || context.highlight() != null
+            || context.hasScriptFields()
+            || context.innerHits().getInnerHits().isEmpty() == false) {
+            return null;
+        }
+        return create(context.mapperService(), fetchSourceContext.includes());
+    }
+
+    static DocValuesSourceLoader create(MapperService mapperService, String[] includes) {
+        final IndexSettings indexSettings = mapperService.getIndexSettings();
+        final DocumentMapper documentMapper = mapperService.documentMapper();
+        if (documentMapper == null || mapperService.hasNested()) {
+            return null;
+        }
+        if (indexSettings.isDerivedSourceEnabled() == false
+            && (indexSettings.isSourceFromDocValuesEnabled() == false || documentMapper.sourceMapper().isComplete() == false)) {
+            return null;
+        }
+
+        final Node root = new Node(null);
+        for (String include : includes) {
+            if (Regex.isSimpleMatchPattern(include)) {
+                return null;
+            }
+            final String[] path = include.split("\\.");
+            ObjectMapper parent = documentMapper.root();
+            Node node = root;
+            for (int i = 0; i < path.length; i++) {
+                final Mapper mapper = parent.getMapper(path[i]);
+                if (i < path.length - 1) {
+                    if (mapper instanceof ObjectMapper == false || ((ObjectMapper) mapper).nested().isNested()) {
+                        return null;
+                    }
+                    parent = (ObjectMapper) mapper;
+                    node = node.children.computeIfAbsent(path[i], k -> new Node(null));
+                } else {
+                    if (mapper instanceof FieldMapper == false || ((FieldMapper) mapper).canDeriveSourceFromDocValues() == false) {
+                        return null;
+                    }
+                    node.children.putIfAbsent(path[i], new Node((FieldMapper) mapper));
+                }
+            }
+        }
+        return new DocValuesSourceLoader(root);
+    }
+
+    /**
+     * Builds the source of the given document of the segment.
+     */
+    public BytesReference load(LeafReader reader, int docId) {
+        try {
+            final XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+            write(builder, root, reader, docId);
+            return BytesReference.bytes(builder.endObject());
+        } catch (IOException e) {
+            throw new OpenSearchException("Failed to derive source for doc id [" + docId + "]", e);
+        }
+    }
+
+    private static void write(XContentBuilder builder, Node node, LeafReader reader, int docId) throws IOException {
+        for (Map.Entry<String, Node> child : node.children.entrySet()) {
+            if (child.getValue().field != null) {
+                child.getValue().field.deriveSource(builder, reader, docId);
+            } else {
+                builder.startObject(child.getKey());
+                write(builder, child.getValue(), reader, docId);
+                builder.endObject();
+            }
+        }
+    }
+
+    /**
+     * An object or a field on the path of the included fields
+     */
+    private static final class Node {
+        private final FieldMapper field;
+        private final Map<String, Node> children = new LinkedHashMap<>();
+
+        private Node(FieldMapper field) {
+            this.field = field;
+        }
+    }
+}
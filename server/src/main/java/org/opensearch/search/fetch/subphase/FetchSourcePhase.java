@@ -61,6 +61,7 @@ public final class FetchSourcePhase implements FetchSubPhase {
         }
         String index = fetchContext.getIndexName();
         assert fetchSourceContext.fetchSource();
+        DocValuesSourceLoader docValuesSourceLoader = fetchContext.docValuesSourceLoader();
 
         return new FetchSubPhaseProcessor() {
             @Override
@@ -70,6 +71,11 @@ public final class FetchSourcePhase implements FetchSubPhase {
 
             @Override
             public void process(HitContext hitContext) {
+                if (docValuesSourceLoader != null && hitContext.hit().getNestedIdentity() == null) {
+                    // only fields with doc values are included, build them without reading the stored _source
+                    hitContext.hit().sourceRef(docValuesSourceLoader.load(hitContext.reader(), hitContext.docId()));
+                    return;
+                }
                 hitExecute(index, fetchSourceContext, hitContext);
             }
         };
@@ -280,6 +280,19 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         search(partitions, weight, collector);
     }
 
+    /**
+     * Searches the given leaves only, with a single collector. This is used to compute results segment by segment, like the segment
+     * level request cache does.
+     */
+    public void searchLeaves(List<LeafReaderContext> leaves, Query query, Collector collector) throws IOException {
+        query = collector.scoreMode().needsScores() ? rewrite(query) : rewrite(new ConstantScoreQuery(query));
+        Weight weight = createWeight(query, collector.scoreMode(), 1);
+        LeafReaderContextPartition[] partitions = leaves.stream()
+            .map(LeafReaderContextPartition::createForEntireSegment)
+            .toArray(LeafReaderContextPartition[]::new);
+        search(partitions, weight, collector);
+    }
+
     public void search(
         Query query,
         CollectorManager<?, TopFieldDocs> manager,
@@ -577,7 +590,11 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
      */
     @Override
     protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
-        return slicesInternal(leaves, searchContext.getTargetMaxSliceCount());
+        final int targetMaxSlice = searchContext.getTargetMaxSliceCount();
+        if (targetMaxSlice > 1 && SearchService.CONCURRENT_SEGMENT_SEARCH_SLICE_STRATEGY_COST.equals(searchContext.getSliceStrategy())) {
+            return costAwareSlicesInternal(leaves, targetMaxSlice);
+        }
+        return slicesInternal(leaves, targetMaxSlice);
     }
 
     public DirectoryReader getDirectoryReader() {
@@ -660,4 +677,56 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         }
         return leafSlices;
     }
+
+    // package-private for testing
+    LeafSlice[] costAwareSlicesInternal(List<LeafReaderContext> leaves, int targetMaxSlice) {
+        LeafSlice[] leafSlices = CostAwareSliceSupplier.getSlices(leaves, estimateLeafCosts(leaves), targetMaxSlice, canPartitionLeaves());
+        logger.debug("Slice count using cost aware slice supplier [{}]", leafSlices.length);
+        return leafSlices;
+    }
+
+    /**
+     * Estimates the cost of searching each leaf as the cost of the scorer of the query on that leaf, bounded by its live
+     * document count. Falls back to the live document count when the query is not known yet or is being profiled, since the
+     * weight created here would otherwise show up in the profile.
+     */
+    private long[] estimateLeafCosts(List<LeafReaderContext> leaves) {
+        final long[] costs = new long[leaves.size()];
+        for (int i = 0; i < leaves.size(); i++) {
+            costs[i] = leaves.get(i).reader().numDocs();
+        }
+        final Query query = searchContext.query();
+        if (query == null || profiler != null) {
+            return costs;
+        }
+        try {
+            // scores are requested so that estimating the costs doesn't populate the query cache
+            final Weight weight = super.createWeight(rewrite(query), ScoreMode.COMPLETE, 1f);
+            for (int i = 0; i < leaves.size(); i++) {
+                final ScorerSupplier scorerSupplier = weight.scorerSupplier(leaves.get(i));
+                costs[i] = scorerSupplier == null ? 0L : Math.min(costs[i], scorerSupplier.cost());
+            }
+        } catch (IOException e) {
+            logger.debug("Failed to estimate the query cost per segment, using document counts instead", e);
+            for (int i = 0; i < leaves.size(); i++) {
+                costs[i] = leaves.get(i).reader().numDocs();
+            }
+        }
+        return costs;
+    }
+
+    /**
+     * Whether leaves can be split into doc id range partitions searched by different slices. Aggregations, hit counts computed
+     * from whole segments, field collapsing, terminate_after and the profiler all keep per segment state, and block joins need
+     * parent and child documents to be searched by the same slice.
+     */
+    private boolean canPartitionLeaves() {
+        return searchContext.aggregations() == null
+            && searchContext.size() > 0
+            && searchContext.collapse() == null
+            && searchContext.terminateAfter() == SearchContext.DEFAULT_TERMINATE_AFTER
+            && searchContext.getProfilers() == null
+            && searchContext.isStreamSearch() == false
+            && searchContext.mapperService().hasNested() == false;
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Supplier to compute leaf slices based on the estimated cost of searching each leaf rather than on leaf counts. Unlike
+ * {@link MaxTargetSliceSupplier}, which can only assign whole leaves, it can split a leaf that is more expensive than the
+ * average slice into doc id range partitions, so that a shard with one large segment and many small ones still spreads its
+ * work across all the slices. The leaf partitions are then assigned to the cheapest slice first, in descending order of cost,
+ * making sure that a slice never gets two partitions of the same leaf.
+ *
+ * @opensearch.internal
+ */
+final class CostAwareSliceSupplier {
+
+    // Leaves are not split into partitions smaller than this, as the per partition overhead of creating scorers would outweigh
+    // the gain of searching them concurrently
+    static final int MIN_DOCS_PER_PARTITION = 1 << 16;
+
+    private CostAwareSliceSupplier() {}
+
+    /**
+     * @param leaves the leaves to slice
+     * @param costs the estimated cost of searching each leaf, in the same order as the leaves
+     * @param targetMaxSlice the maximum number of slices
+     * @param allowPartitions whether leaves may be split into doc id range partitions
+     */
+    static IndexSearcher.LeafSlice[] getSlices(List<LeafReaderContext> leaves, long[] costs, int targetMaxSlice, boolean allowPartitions) {
+        return getSlices(leaves, costs, targetMaxSlice, allowPartitions ? MIN_DOCS_PER_PARTITION : Integer.MAX_VALUE);
+    }
+
+    // package-private for testing
+    static IndexSearcher.LeafSlice[] getSlices(List<LeafReaderContext> leaves, long[] costs, int targetMaxSlice, int minDocsPerPartition) {
+        if (targetMaxSlice <= 0) {
+            throw new IllegalArgumentException("CostAwareSliceSupplier called with unexpected slice count of " + targetMaxSlice);
+        }
+        assert minDocsPerPartition > 0 : "expected a positive partition size but got " + minDocsPerPartition;
+        final boolean allowPartitions = minDocsPerPartition != Integer.MAX_VALUE;
+        assert costs.length == leaves.size() : "expected a cost for each of the " + leaves.size() + " leaves but got " + costs.length;
+
+        long totalCost = 0;
+        for (long cost : costs) {
+            totalCost += Math.max(1L, cost);
+        }
+
+        // without partitions, the slice count should not exceed the segment count
+        final int targetSliceCount = allowPartitions ? targetMaxSlice : Math.min(targetMaxSlice, leaves.size());
+        final long targetSliceCost = Math.max(1L, (totalCost + targetSliceCount - 1) / targetSliceCount);
+
+        final List<Partition> partitions = new ArrayList<>();
+        for (int i = 0; i < leaves.size(); i++) {
+            final LeafReaderContext leaf = leaves.get(i);
+            final long cost = Math.max(1L, costs[i]);
+            final int maxDoc = leaf.reader().maxDoc();
+            int partitionCount = 1;
+            if (allowPartitions && cost > targetSliceCost) {
+                long wanted = (cost + targetSliceCost - 1) / targetSliceCost;
+                partitionCount = (int) Math.max(1L, Math.min(Math.min(wanted, targetSliceCount), maxDoc / minDocsPerPartition));
+            }
+            if (partitionCount == 1) {
+                partitions.add(new Partition(i, IndexSearcher.LeafReaderContextPartition.createForEntireSegment(leaf), cost));
+                continue;
+            }
+            // matching documents are assumed to be evenly spread across the doc id space of the leaf
+            for (int p = 0; p < partitionCount; p++) {
+                final int minDocId = (int) ((long) maxDoc * p / partitionCount);
+                final int maxDocId = (int) ((long) maxDoc * (p + 1) / partitionCount);
+                partitions.add(
+                    new Partition(
+                        i,
+                        IndexSearcher.LeafReaderContextPartition.createFromAndTo(leaf, minDocId, maxDocId),
+                        Math.max(1L, cost / partitionCount)
+                    )
+                );
+            }
+        }
+
+        // Sort by cost, descending, so that the greedy assignment below puts the most expensive partitions first:
+        partitions.sort(Comparator.comparingLong((Partition p) -> p.cost).reversed());
+
+        final List<Group> groups = new ArrayList<>(targetSliceCount);
+        final PriorityQueue<Group> groupQueue = new PriorityQueue<>();
+        for (int i = 0; i < targetSliceCount; i++) {
+            Group group = new Group(i, leaves.size());
+            groups.add(group);
+            groupQueue.offer(group);
+        }
+        final List<Group> skipped = new ArrayList<>();
+        for (Partition partition : partitions) {
+            Group minGroup = groupQueue.poll();
+            // A leaf is split into at most targetSliceCount partitions, so there is always a group without this leaf
+            while (minGroup.leaves[partition.leafIndex]) {
+                skipped.add(minGroup);
+                minGroup = groupQueue.poll();
+            }
+            minGroup.add(partition);
+            groupQueue.offer(minGroup);
+            groupQueue.addAll(skipped);
+            skipped.clear();
+        }
+
+        final List<IndexSearcher.LeafSlice> slices = new ArrayList<>(targetSliceCount);
+        for (Group group : groups) {
+            if (group.partitions.isEmpty()) {
+                continue;
+            }
+            // keep the reader order within a slice, which the time series sort optimization relies on
+            group.partitions.sort(
+                Comparator.comparingInt((IndexSearcher.LeafReaderContextPartition p) -> p.ctx.ord).thenComparingInt(p -> p.minDocId)
+            );
+            slices.add(new IndexSearcher.LeafSlice(group.partitions));
+        }
+        return slices.toArray(new IndexSearcher.LeafSlice[0]);
+    }
+
+    private static final class Partition {
+        final int leafIndex;
+        final IndexSearcher.LeafReaderContextPartition partition;
+        final long cost;
+
+        Partition(int leafIndex, IndexSearcher.LeafReaderContextPartition partition, long cost) {
+            this.leafIndex = leafIndex;
+            this.partition = partition;
+            this.cost = cost;
+        }
+    }
+
+    private static final class Group implements Comparable<Group> {
+        final int index;
+        final boolean[] leaves;
+        final List<IndexSearcher.LeafReaderContextPartition> partitions = new ArrayList<>();
+        long cost;
+
+        Group(int index, int leafCount) {
+            this.index = index;
+            this.leaves = new boolean[leafCount];
+        }
+
+        void add(Partition partition) {
+            leaves[partition.leafIndex] = true;
+            partitions.add(partition.partition);
+            cost += partition.cost;
+        }
+
+        @Override
+        public int compareTo(Group other) {
+            int cmp = Long.compare(this.cost, other.cost);
+            return cmp != 0 ? cmp : Integer.compare(this.index, other.index);
+        }
+    }
+}
@@ -578,6 +578,16 @@ public abstract class FilteredSearchContext extends SearchContext {
         return in.getTargetMaxSliceCount();
     }
 
+    @Override
+    public String getSliceStrategy() {
+        return in.getSliceStrategy();
+    }
+
+    @Override
+    public int getConcurrentFetchMinHits() {
+        return in.getConcurrentFetchMinHits();
+    }
+
     @Override
     public boolean shouldUseTimeSeriesDescSortOptimization() {
         return in.shouldUseTimeSeriesDescSortOptimization();
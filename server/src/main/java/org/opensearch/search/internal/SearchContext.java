@@ -521,6 +521,23 @@ public abstract class SearchContext implements Releasable {
 
     public abstract int getTargetMaxSliceCount();
 
+    /**
+     * Returns the strategy used to group segments into slices for concurrent segment search, one of
+     * {@link SearchService#CONCURRENT_SEGMENT_SEARCH_SLICE_STRATEGY_SEGMENT} or
+     * {@link SearchService#CONCURRENT_SEGMENT_SEARCH_SLICE_STRATEGY_COST}.
+     */
+    public String getSliceStrategy() {
+        return SearchService.CONCURRENT_SEGMENT_SEARCH_SLICE_STRATEGY_SEGMENT;
+    }
+
+    /**
+     * Returns the minimum number of hits for the fetch phase to build them concurrently, on the executor of concurrent segment
+     * search, or 0 if the fetch phase must build them on the calling thread.
+     */
+    public int getConcurrentFetchMinHits() {
+        return 0;
+    }
+
     @ExperimentalApi
     public long getStreamingMaxEstimatedBucketCount() {
         return 100_000L;
@@ -99,6 +99,12 @@ public class SubSearchContext extends FilteredSearchContext {
     @Override
     public void preProcess(boolean rewrite) {}
 
+    @Override
+    public int getConcurrentFetchMinHits() {
+        // top hits and inner hits are fetched from within the aggregations or the fetch phase of the parent request
+        return 0;
+    }
+
     @Override
     public Query buildFilteredQuery(Query query) {
         throw new UnsupportedOperationException("this context should be read only");
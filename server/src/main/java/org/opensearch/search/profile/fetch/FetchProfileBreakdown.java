@@ -12,12 +12,42 @@ import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.search.profile.AbstractProfileBreakdown;
 import org.opensearch.search.profile.ProfileMetricUtil;
 
+import java.util.Map;
+
 /**
  * A record of timings for the various operations that may happen during fetch execution.
  */
 @ExperimentalApi()
 public class FetchProfileBreakdown extends AbstractProfileBreakdown {
+    static final String SOURCE_BYTES_READ = "source_bytes_read";
+    static final String BATCHED_SEGMENTS = "batched_segments";
+
+    private long sourceBytesRead;
+    private long batchedSegments;
+
     public FetchProfileBreakdown() {
         super(ProfileMetricUtil.getFetchProfileMetrics());
     }
+
+    /**
+     * Records the bytes of the _source loaded from the stored fields of a hit.
+     */
+    public void addSourceBytesRead(long bytes) {
+        sourceBytesRead += bytes;
+    }
+
+    /**
+     * Records that the hits of a segment were loaded in a batch, decompressing each stored fields block once for all of them.
+     */
+    public void incrementBatchedSegments() {
+        batchedSegments++;
+    }
+
+    @Override
+    public Map<String, Object> toDebugMap() {
+        if (sourceBytesRead == 0 && batchedSegments == 0) {
+            return super.toDebugMap();
+        }
+        return Map.of(SOURCE_BYTES_READ, sourceBytesRead, BATCHED_SEGMENTS, batchedSegments);
+    }
 }
@@ -80,6 +80,7 @@ public class CollectorResult implements ToXContentObject, Writeable {
     private static final ParseField MIN_SLICE_TIME_IN_NANOS = new ParseField("min_slice_time_in_nanos");
     private static final ParseField AVG_SLICE_TIME_IN_NANOS = new ParseField("avg_slice_time_in_nanos");
     private static final ParseField SLICE_COUNT = new ParseField("slice_count");
+    private static final ParseField SLICE_TIMES_NANOS = new ParseField("slice_times_in_nanos");
     private static final ParseField CHILDREN = new ParseField("children");
 
     /**
@@ -122,6 +123,11 @@ public class CollectorResult implements ToXContentObject, Writeable {
      */
     private final int sliceCount;
 
+    /**
+     * The time of each slice for this CollectorManager, in the order the slices were reduced
+     */
+    private final List<Long> sliceTimes;
+
     /**
      * A list of children collectors "embedded" inside this collector
      */
@@ -141,6 +147,21 @@ public class CollectorResult implements ToXContentObject, Writeable {
         long avgSliceTime,
         int sliceCount,
         List<CollectorResult> children
+    ) {
+        this(collectorName, reason, time, reduceTime, maxSliceTime, minSliceTime, avgSliceTime, sliceCount, List.of(), children);
+    }
+
+    public CollectorResult(
+        String collectorName,
+        String reason,
+        long time,
+        long reduceTime,
+        long maxSliceTime,
+        long minSliceTime,
+        long avgSliceTime,
+        int sliceCount,
+        List<Long> sliceTimes,
+        List<CollectorResult> children
     ) {
         this.collectorName = collectorName;
         this.reason = reason;
@@ -150,6 +171,7 @@ public class CollectorResult implements ToXContentObject, Writeable {
         this.minSliceTime = minSliceTime;
         this.avgSliceTime = avgSliceTime;
         this.sliceCount = sliceCount;
+        this.sliceTimes = sliceTimes;
         this.children = children;
     }
 
@@ -179,6 +201,11 @@ public class CollectorResult implements ToXContentObject, Writeable {
             this.avgSliceTime = this.time;
             this.sliceCount = 1;
         }
+        if (in.getVersion().onOrAfter(Version.V_3_4_0)) {
+            this.sliceTimes = in.readList(StreamInput::readVLong);
+        } else {
+            this.sliceTimes = List.of();
+        }
     }
 
     @Override
@@ -197,6 +224,9 @@ public class CollectorResult implements ToXContentObject, Writeable {
             out.writeLong(avgSliceTime);
             out.writeVInt(sliceCount);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
+            out.writeCollection(sliceTimes, StreamOutput::writeVLong);
+        }
     }
 
     /**
@@ -241,6 +271,13 @@ public class CollectorResult implements ToXContentObject, Writeable {
         return this.sliceCount;
     }
 
+    /**
+     * @return the profiled time of each slice for this collector manager (inclusive of children), empty if not recorded
+     */
+    public List<Long> getSliceTimes() {
+        return this.sliceTimes;
+    }
+
     /**
      * @return a human readable "hint" about what this collector/collector manager was used for
      */
@@ -277,6 +314,9 @@ public class CollectorResult implements ToXContentObject, Writeable {
             builder.field(MIN_SLICE_TIME_IN_NANOS.getPreferredName(), getMinSliceTime());
             builder.field(AVG_SLICE_TIME_IN_NANOS.getPreferredName(), getAvgSliceTime());
             builder.field(SLICE_COUNT.getPreferredName(), getSliceCount());
+            if (getSliceTimes().isEmpty() == false) {
+                builder.field(SLICE_TIMES_NANOS.getPreferredName(), getSliceTimes());
+            }
         }
 
         if (!children.isEmpty()) {
@@ -301,6 +341,7 @@ public class CollectorResult implements ToXContentObject, Writeable {
         long minSliceTime = -1;
         long avgSliceTime = -1;
         int sliceCount = 0;
+        List<Long> sliceTimes = new ArrayList<>();
         List<CollectorResult> children = new ArrayList<>();
         while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
             if (token == XContentParser.Token.FIELD_NAME) {
@@ -333,6 +374,10 @@ public class CollectorResult implements ToXContentObject, Writeable {
                     while ((token = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
                         children.add(CollectorResult.fromXContent(parser));
                     }
+                } else if (SLICE_TIMES_NANOS.match(currentFieldName, parser.getDeprecationHandler())) {
+                    while ((token = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
+                        sliceTimes.add(parser.longValue());
+                    }
                 } else {
                     parser.skipChildren();
                 }
@@ -340,6 +385,17 @@ public class CollectorResult implements ToXContentObject, Writeable {
                 parser.skipChildren();
             }
         }
-        return new CollectorResult(name, reason, time, reduceTime, maxSliceTime, minSliceTime, avgSliceTime, sliceCount, children);
+        return new CollectorResult(
+            name,
+            reason,
+            time,
+            reduceTime,
+            maxSliceTime,
+            minSliceTime,
+            avgSliceTime,
+            sliceCount,
+            sliceTimes,
+            children
+        );
     }
 }
@@ -39,6 +39,7 @@ public class InternalProfileCollectorManager
     private long minSliceTime = Long.MAX_VALUE;
     private long avgSliceTime = 0;
     private int sliceCount = 0;
+    private final List<Long> sliceTimes = new ArrayList<>();
     private String collectorManagerName;
 
     public InternalProfileCollectorManager(
@@ -90,6 +91,7 @@ public class InternalProfileCollectorManager
                 maxSliceTime = Math.max(maxSliceTime, collector.getTime());
                 minSliceTime = Math.min(minSliceTime, collector.getTime());
                 avgSliceTime += collector.getTime();
+                sliceTimes.add(collector.getTime());
             }
             time = maxSliceEndTime - minSliceStartTime;
             sliceCount = collectors.size();
@@ -132,6 +134,10 @@ public class InternalProfileCollectorManager
         return sliceCount;
     }
 
+    public List<Long> getSliceTimes() {
+        return sliceTimes;
+    }
+
     @Override
     public Collection<? extends InternalProfileComponent> children() {
         return children;
@@ -162,6 +168,7 @@ public class InternalProfileCollectorManager
             collector.getMinSliceTime(),
             collector.getAvgSliceTime(),
             collector.getSliceCount(),
+            collector.getSliceTimes(),
             childResults
         );
     }
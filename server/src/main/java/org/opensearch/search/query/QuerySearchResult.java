@@ -259,6 +259,10 @@ public final class QuerySearchResult extends SearchPhaseResult {
         return hasProfileResults;
     }
 
+    /**
+     * Consumes everything this result still holds, to free up memory. Aggregations that were already consumed, for instance
+     * because they were spilled to disk by the coordinating node, are skipped.
+     */
     public void consumeAll() {
         if (hasProfileResults()) {
             consumeProfileResult();
@@ -266,7 +270,7 @@ public final class QuerySearchResult extends SearchPhaseResult {
         if (hasConsumedTopDocs() == false) {
             consumeTopDocs();
         }
-        if (hasAggs()) {
+        if (hasAggs() && aggregations != null) {
             consumeAggs();
         }
     }
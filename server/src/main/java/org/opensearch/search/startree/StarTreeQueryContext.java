@@ -145,7 +145,10 @@ public class StarTreeQueryContext {
             MetricStat metricStat = metricAggregatorFactory.getMetricStat();
             field = metricAggregatorFactory.getField();
 
-            return field != null && supportedMetrics.containsKey(field) && supportedMetrics.get(field).contains(metricStat);
+            return field != null
+                && supportedMetrics.containsKey(field)
+                && supportedMetrics.get(field).contains(metricStat)
+                && metricAggregatorFactory.supportsStarTree();
         }
         return false;
     }
@@ -11,6 +11,7 @@ package org.opensearch.search.startree;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SegmentReader;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.FixedBitSet;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
@@ -19,6 +20,7 @@ import org.opensearch.index.compositeindex.datacube.Dimension;
 import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
 import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeUtils;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.BinaryStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.mapper.DocCountFieldMapper;
 import org.opensearch.index.query.QueryShardContext;
@@ -114,6 +116,42 @@ public class StarTreeQueryHelper {
         finalConsumer.run();
     }
 
+    /**
+     * Get the star-tree leaf collector for sketch metrics
+     * This collector merges the pre-aggregated sketches of the matching star-tree entries and invokes an early termination collector
+     */
+    public static void precomputeLeafSketchUsingStarTree(
+        SearchContext context,
+        ValuesSource.Numeric valuesSource,
+        LeafReaderContext ctx,
+        CompositeIndexFieldInfo starTree,
+        String metric,
+        Consumer<BytesRef> sketchConsumer,
+        Runnable finalConsumer
+    ) throws IOException {
+        StarTreeValues starTreeValues = getStarTreeValues(ctx, starTree);
+        assert starTreeValues != null;
+        String fieldName = ((ValuesSource.Numeric.FieldData) valuesSource).getIndexFieldName();
+        String metricName = StarTreeUtils.fullyQualifiedFieldNameForStarTreeMetricsDocValues(starTree.getField(), fieldName, metric);
+
+        BinaryStarTreeValuesIterator valuesIterator = (BinaryStarTreeValuesIterator) starTreeValues.getMetricValuesIterator(metricName);
+        FixedBitSet filteredValues = getStarTreeFilteredValues(context, ctx, starTreeValues);
+
+        int numBits = filteredValues.length();
+        if (numBits > 0) {
+            for (int bit = filteredValues.nextSetBit(0); bit != DocIdSetIterator.NO_MORE_DOCS; bit = (bit + 1 < numBits)
+                ? filteredValues.nextSetBit(bit + 1)
+                : DocIdSetIterator.NO_MORE_DOCS) {
+                if (valuesIterator.advanceExact(bit) == false) {
+                    continue;
+                }
+                sketchConsumer.accept(valuesIterator.binaryValue());
+            }
+        }
+
+        finalConsumer.run();
+    }
+
     /**
      * Get the filtered values for the star-tree query
      * Cache the results in case of multiple aggregations (if cache is initialized)
@@ -180,6 +218,36 @@ public class StarTreeQueryHelper {
         };
     }
 
+    public static StarTreeBucketCollector getStarTreeBucketSketchCollector(
+        CompositeIndexFieldInfo starTree,
+        String metric,
+        ValuesSource.Numeric valuesSource,
+        StarTreeBucketCollector parentCollector,
+        Consumer<Long> growArrays,
+        BiConsumer<Long, BytesRef> updateBucket
+    ) throws IOException {
+        assert parentCollector != null;
+        return new StarTreeBucketCollector(parentCollector) {
+            String metricName = StarTreeUtils.fullyQualifiedFieldNameForStarTreeMetricsDocValues(
+                starTree.getField(),
+                ((ValuesSource.Numeric.FieldData) valuesSource).getIndexFieldName(),
+                metric
+            );
+            BinaryStarTreeValuesIterator metricValuesIterator = (BinaryStarTreeValuesIterator) starTreeValues.getMetricValuesIterator(
+                metricName
+            );
+
+            @Override
+            public void collectStarTreeEntry(int starTreeEntryBit, long bucket) throws IOException {
+                growArrays.accept(bucket);
+                if (!metricValuesIterator.advanceExact(starTreeEntryBit)) {
+                    return;
+                }
+                updateBucket.accept(bucket, metricValuesIterator.binaryValue());
+            }
+        };
+    }
+
     /**
      * Fetches the metric values iterator for document counts from StarTreeValues.
      */
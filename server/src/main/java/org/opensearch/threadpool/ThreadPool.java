@@ -51,6 +51,7 @@ import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.service.ReportingService;
 import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
@@ -104,6 +105,10 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         public static final String GET = "get";
         public static final String ANALYZE = "analyze";
         public static final String WRITE = "write";
+        /**
+         * The prefix of the names of the write lanes, see {@link ThreadPool#WRITE_LANES_SETTING}.
+         */
+        public static final String WRITE_LANE_PREFIX = "write_lane_";
         public static final String SEARCH = "search";
         public static final String STREAM_SEARCH = "stream_search";
         public static final String SEARCH_THROTTLED = "search_throttled";
@@ -233,6 +238,19 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         Setting.Property.NodeScope
     );
 
+    /**
+     * The number of write lanes, which are single threaded executors that each shard is pinned to for its writes, see
+     * {@link #writeExecutorName(ShardId)}. Disabled with 0, the default, in which case the writes run on the write thread pool.
+     */
+    public static final Setting<Integer> WRITE_LANES_SETTING = Setting.intSetting(
+        "thread_pool.write.shard_lanes",
+        0,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    private final int writeLanes;
+
     public static final Setting<Settings> CLUSTER_THREAD_POOL_SIZE_SETTING = Setting.groupSetting(
         "cluster.thread_pool.",
         Setting.Property.Dynamic,
@@ -341,6 +359,12 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
             new FixedExecutorBuilder(settings, Names.REMOTE_STATE_CHECKSUM, ClusterStateChecksum.COMPONENT_SIZE, 1000)
         );
 
+        this.writeLanes = WRITE_LANES_SETTING.get(settings);
+        for (int lane = 0; lane < writeLanes; lane++) {
+            final String name = Names.WRITE_LANE_PREFIX + lane;
+            builders.put(name, new FixedExecutorBuilder(settings, name, 1, 1000));
+        }
+
         for (final ExecutorBuilder<?> builder : customBuilders) {
             if (builders.containsKey(builder.name())) {
                 throw new IllegalArgumentException("builder with name [" + builder.name() + "] already exists");
@@ -624,6 +648,31 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         return holder.executor();
     }
 
+    /**
+     * Returns the name of the executor the writes to the given shard run on. With {@link #WRITE_LANES_SETTING write lanes},
+     * each shard is pinned to a lane so that its writes mostly run one after the other, rather than contending with each other
+     * for the locks of its engine and its live version map. The writes go to the write thread pool instead while the lane of
+     * the shard has a backlog and the write thread pool has idle threads, so that a busy lane does not hold writes back while
+     * threads are available to run them.
+     * <p>
+     * Lanes don't order the writes of a shard: those that overflow run concurrently with, and may complete before, the ones
+     * queued on the lane, as they would on the write thread pool without lanes. The engine orders the operations of a shard by
+     * their sequence numbers and versions regardless of the thread they run on.
+     */
+    public String writeExecutorName(ShardId shardId) {
+        if (writeLanes == 0) {
+            return Names.WRITE;
+        }
+        final String lane = Names.WRITE_LANE_PREFIX + Math.floorMod(shardId.hashCode(), writeLanes);
+        if (executor(lane) instanceof ThreadPoolExecutor laneExecutor
+            && laneExecutor.getQueue().isEmpty() == false
+            && executor(Names.WRITE) instanceof ThreadPoolExecutor writeExecutor
+            && writeExecutor.getActiveCount() < writeExecutor.getMaximumPoolSize()) {
+            return Names.WRITE;
+        }
+        return lane;
+    }
+
     /**
      * Schedules a one-shot command to run after a given delay. The command is run in the context of the calling thread.
      *
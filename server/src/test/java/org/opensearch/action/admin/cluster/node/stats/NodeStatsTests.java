@@ -85,6 +85,8 @@ import org.opensearch.index.shard.IndexingStats;
 import org.opensearch.index.shard.ShardPath;
 import org.opensearch.index.store.StoreStats;
 import org.opensearch.index.translog.RemoteTranslogStats;
+import org.opensearch.index.translog.TranslogGroupCommitStats;
+import org.opensearch.indices.IndexingBufferStats;
 import org.opensearch.indices.NodeIndicesStats;
 import org.opensearch.ingest.IngestStats;
 import org.opensearch.monitor.fs.FsInfo;
@@ -621,6 +623,9 @@ public class NodeStatsTests extends OpenSearchTestCase {
                 } else {
                     assertEquals(remoteStoreNodeStats, deserializedRemoteStoreNodeStats);
                 }
+
+                assertEquals(nodeStats.getIndexingBufferStats(), deserializedNodeStats.getIndexingBufferStats());
+                assertEquals(nodeStats.getTranslogGroupCommitStats(), deserializedNodeStats.getTranslogGroupCommitStats());
             }
         }
     }
@@ -1008,6 +1013,43 @@ public class NodeStatsTests extends OpenSearchTestCase {
             nodeCacheStats = new NodeCacheStats(cacheStatsMap, flags);
         }
 
+        IndexingBufferStats indexingBufferStats = null;
+        if (frequently()) {
+            List<IndexingBufferStats.ShardIndexingBufferStats> shards = new ArrayList<>();
+            int numShards = randomIntBetween(0, 5);
+            for (int i = 0; i < numShards; i++) {
+                shards.add(
+                    new IndexingBufferStats.ShardIndexingBufferStats(
+                        new ShardId(randomAlphaOfLength(5), randomAlphaOfLength(5), i),
+                        randomNonNegativeLong(),
+                        randomNonNegativeLong(),
+                        randomNonNegativeLong(),
+                        randomNonNegativeLong(),
+                        randomBoolean()
+                    )
+                );
+            }
+            indexingBufferStats = new IndexingBufferStats(
+                randomBoolean(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                shards
+            );
+        }
+
+        TranslogGroupCommitStats translogGroupCommitStats = null;
+        if (frequently()) {
+            translogGroupCommitStats = new TranslogGroupCommitStats(
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong()
+            );
+        }
+
         RemoteStoreNodeStats remoteStoreNodeStats = null;
         if (frequently()) {
             remoteStoreNodeStats = new RemoteStoreNodeStats() {
@@ -1050,7 +1092,9 @@ public class NodeStatsTests extends OpenSearchTestCase {
             null,
             admissionControlStats,
             nodeCacheStats,
-            remoteStoreNodeStats
+            remoteStoreNodeStats,
+            indexingBufferStats,
+            translogGroupCommitStats
         );
     }
 
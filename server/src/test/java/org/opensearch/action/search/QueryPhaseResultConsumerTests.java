@@ -38,14 +38,18 @@ import org.apache.lucene.search.TotalHits;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.common.breaker.TestCircuitBreaker;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.OpenSearchThreadPoolExecutor;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.CircuitBreakingException;
 import org.opensearch.core.common.breaker.NoopCircuitBreaker;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.tasks.TaskCancelledException;
 import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchModule;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.InternalAggregation;
@@ -60,6 +64,9 @@ import org.opensearch.threadpool.ThreadPool;
 import org.junit.After;
 import org.junit.Before;
 
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -185,6 +192,168 @@ public class QueryPhaseResultConsumerTests extends OpenSearchTestCase {
         assertThrows(CircuitBreakingException.class, queryPhaseResultConsumer::reduce);
     }
 
+    public void testSpillsAggregationsOverMemoryBudget() throws Exception {
+        SearchRequest searchRequest = new SearchRequest("index");
+        searchRequest.source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("max").field("test")).size(1));
+        searchRequest.setBatchedReduceSize(4);
+        NamedWriteableRegistry namedWriteableRegistry = new NamedWriteableRegistry(
+            new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedWriteables()
+        );
+        Path spillDirectory = createTempDir();
+        AtomicReference<Exception> onPartialMergeFailure = new AtomicReference<>();
+        QueryPhaseResultConsumer queryPhaseResultConsumer = new QueryPhaseResultConsumer(
+            searchRequest,
+            executor,
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+            searchPhaseController,
+            SearchProgressListener.NOOP,
+            namedWriteableRegistry,
+            10,
+            onPartialMergeFailure::set,
+            () -> false,
+            // small enough for every result to be spilled and reduced on its own
+            1,
+            spillDirectory
+        );
+
+        CountDownLatch partialReduceLatch = new CountDownLatch(10);
+        for (int i = 0; i < 10; i++) {
+            QuerySearchResult querySearchResult = getQuerySearchResult(i);
+            querySearchResult.aggregations(InternalAggregations.from(List.of(new InternalMax("max", i, DocValueFormat.RAW, null))));
+            queryPhaseResultConsumer.consumeResult(querySearchResult, partialReduceLatch::countDown);
+        }
+        assertTrue(partialReduceLatch.await(10, TimeUnit.SECONDS));
+        assertNull(onPartialMergeFailure.get());
+        assertTrue(queryPhaseResultConsumer.getNumReducePhases() > 1);
+
+        SearchPhaseController.ReducedQueryPhase reducedQueryPhase = queryPhaseResultConsumer.reduce();
+        InternalMax max = (InternalMax) reducedQueryPhase.aggregations.asList().get(0);
+        assertEquals(9d, max.getValue(), 0d);
+
+        queryPhaseResultConsumer.close();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(spillDirectory)) {
+            assertFalse("spill files should be deleted on close", files.iterator().hasNext());
+        }
+    }
+
+    public void testSpillsConcurrentlyConsumedResults() throws Exception {
+        SearchRequest searchRequest = new SearchRequest("index");
+        searchRequest.source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("max").field("test")).size(1));
+        searchRequest.setBatchedReduceSize(4);
+        NamedWriteableRegistry namedWriteableRegistry = new NamedWriteableRegistry(
+            new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedWriteables()
+        );
+        Path spillDirectory = createTempDir();
+        AtomicReference<Exception> onPartialMergeFailure = new AtomicReference<>();
+        int numShards = randomIntBetween(20, 100);
+        QueryPhaseResultConsumer queryPhaseResultConsumer = new QueryPhaseResultConsumer(
+            searchRequest,
+            executor,
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+            searchPhaseController,
+            SearchProgressListener.NOOP,
+            namedWriteableRegistry,
+            numShards,
+            onPartialMergeFailure::set,
+            () -> false,
+            // small enough for every result to be spilled
+            1,
+            spillDirectory
+        );
+
+        // shard results are delivered by several threads at once, and written to the spill file while others are consumed
+        CountDownLatch partialReduceLatch = new CountDownLatch(numShards);
+        Thread[] threads = new Thread[randomIntBetween(2, 8)];
+        for (int t = 0; t < threads.length; t++) {
+            final int first = t;
+            threads[t] = new Thread(() -> {
+                for (int i = first; i < numShards; i += threads.length) {
+                    QuerySearchResult querySearchResult = getQuerySearchResult(i);
+                    querySearchResult.aggregations(
+                        InternalAggregations.from(List.of(new InternalMax("max", i, DocValueFormat.RAW, null)))
+                    );
+                    queryPhaseResultConsumer.consumeResult(querySearchResult, partialReduceLatch::countDown);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(partialReduceLatch.await(10, TimeUnit.SECONDS));
+        assertNull(onPartialMergeFailure.get());
+
+        SearchPhaseController.ReducedQueryPhase reducedQueryPhase = queryPhaseResultConsumer.reduce();
+        InternalMax max = (InternalMax) reducedQueryPhase.aggregations.asList().get(0);
+        assertEquals(numShards - 1, max.getValue(), 0d);
+
+        queryPhaseResultConsumer.close();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(spillDirectory)) {
+            assertFalse("spill files should be deleted on close", files.iterator().hasNext());
+        }
+    }
+
+    public void testFailsConcurrentlyWithSpills() throws Exception {
+        SearchRequest searchRequest = new SearchRequest("index");
+        searchRequest.source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("max").field("test")).size(1));
+        searchRequest.setBatchedReduceSize(4);
+        NamedWriteableRegistry namedWriteableRegistry = new NamedWriteableRegistry(
+            new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedWriteables()
+        );
+        Path spillDirectory = createTempDir();
+        int numShards = randomIntBetween(20, 100);
+        // the search is cancelled while other shard results are being spilled, so that results admitted for a spill are
+        // released after their aggregations were consumed
+        AtomicInteger cancellationChecks = new AtomicInteger();
+        int cancelAfter = randomIntBetween(1, numShards);
+        QueryPhaseResultConsumer queryPhaseResultConsumer = new QueryPhaseResultConsumer(
+            searchRequest,
+            executor,
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+            searchPhaseController,
+            SearchProgressListener.NOOP,
+            namedWriteableRegistry,
+            numShards,
+            e -> {},
+            () -> cancellationChecks.incrementAndGet() > cancelAfter,
+            // small enough for every result to be spilled
+            1,
+            spillDirectory
+        );
+
+        CountDownLatch callbacks = new CountDownLatch(numShards);
+        AtomicReference<Exception> consumeFailure = new AtomicReference<>();
+        Thread[] threads = new Thread[randomIntBetween(2, 8)];
+        for (int t = 0; t < threads.length; t++) {
+            final int first = t;
+            threads[t] = new Thread(() -> {
+                for (int i = first; i < numShards; i += threads.length) {
+                    QuerySearchResult querySearchResult = getQuerySearchResult(i);
+                    querySearchResult.aggregations(
+                        InternalAggregations.from(List.of(new InternalMax("max", i, DocValueFormat.RAW, null)))
+                    );
+                    try {
+                        queryPhaseResultConsumer.consumeResult(querySearchResult, callbacks::countDown);
+                    } catch (Exception e) {
+                        consumeFailure.set(e);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(consumeFailure.get());
+        assertTrue("the callback of every result must run", callbacks.await(10, TimeUnit.SECONDS));
+        expectThrows(TaskCancelledException.class, queryPhaseResultConsumer::reduce);
+
+        queryPhaseResultConsumer.close();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(spillDirectory)) {
+            assertFalse("spill files should be deleted on close", files.iterator().hasNext());
+        }
+    }
+
     private static QuerySearchResult getQuerySearchResult(int i) {
         SearchShardTarget searchShardTarget = new SearchShardTarget("node", new ShardId("index", "uuid", i), null, OriginalIndices.NONE);
 
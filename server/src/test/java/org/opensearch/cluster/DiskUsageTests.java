@@ -210,6 +210,8 @@ public class DiskUsageTests extends OpenSearchTestCase {
                 null,
                 null,
                 null,
+                null,
+                null,
                 null
             ),
             new NodeStats(
@@ -242,6 +244,8 @@ public class DiskUsageTests extends OpenSearchTestCase {
                 null,
                 null,
                 null,
+                null,
+                null,
                 null
             ),
             new NodeStats(
@@ -274,6 +278,8 @@ public class DiskUsageTests extends OpenSearchTestCase {
                 null,
                 null,
                 null,
+                null,
+                null,
                 null
             )
         );
@@ -337,6 +343,8 @@ public class DiskUsageTests extends OpenSearchTestCase {
                 null,
                 null,
                 null,
+                null,
+                null,
                 null
             ),
             new NodeStats(
@@ -369,6 +377,8 @@ public class DiskUsageTests extends OpenSearchTestCase {
                 null,
                 null,
                 null,
+                null,
+                null,
                 null
             ),
             new NodeStats(
@@ -401,6 +411,8 @@ public class DiskUsageTests extends OpenSearchTestCase {
                 null,
                 null,
                 null,
+                null,
+                null,
                 null
             )
         );
@@ -9,6 +9,8 @@
 package org.opensearch.common.cache.module;
 
 import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.store.OpenSearchOffHeapCache;
+import org.opensearch.common.cache.store.OpenSearchOnHeapCache;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.plugins.CachePlugin;
 import org.opensearch.test.OpenSearchTestCase;
@@ -34,6 +36,9 @@ public class CacheModuleTests extends OpenSearchTestCase {
         Map<String, ICache.Factory> factoryMap = cacheModule.getCacheStoreTypeFactories();
         assertEquals(factoryMap.get("cache1"), factory1);
         assertEquals(factoryMap.get("cache2"), factory2);
+        // the core stores are always registered
+        assertTrue(factoryMap.containsKey(OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory.NAME));
+        assertTrue(factoryMap.containsKey(OpenSearchOffHeapCache.OpenSearchOffHeapCacheFactory.NAME));
     }
 
     public void testWithSameCacheStoreTypeAndName() {
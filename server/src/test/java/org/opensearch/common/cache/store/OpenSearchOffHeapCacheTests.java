@@ -0,0 +1,384 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache.store;
+
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.LoadAwareCacheLoader;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.serializer.Serializer;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.cache.store.settings.OpenSearchOffHeapCacheSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.monitor.jvm.JvmInfo;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.opensearch.common.cache.store.OpenSearchOffHeapCache.BLOCK_SIZE_IN_BYTES;
+import static org.opensearch.common.cache.store.settings.OpenSearchOffHeapCacheSettings.MAXIMUM_SIZE_IN_BYTES_KEY;
+import static org.opensearch.common.cache.store.settings.OpenSearchOffHeapCacheSettings.SEGMENT_COUNT_KEY;
+import static org.hamcrest.Matchers.containsString;
+
+public class OpenSearchOffHeapCacheTests extends OpenSearchTestCase {
+    // Each entry weighs a whole block, so that the weight and the blocks of the cache run out at the same time
+    private final static long keyValueSize = BLOCK_SIZE_IN_BYTES;
+    private final static List<String> dimensionNames = List.of("dim1", "dim2", "dim3");
+
+    public void testStats() throws Exception {
+        MockRemovalListener<String, String> listener = new MockRemovalListener<>();
+        int maxKeys = between(10, 50);
+        int numEvicted = between(10, 20);
+        OpenSearchOffHeapCache<String, String> cache = getCache(maxKeys, listener, true);
+
+        List<ICacheKey<String>> keysAdded = new ArrayList<>();
+        int numAdded = maxKeys + numEvicted;
+        for (int i = 0; i < numAdded; i++) {
+            ICacheKey<String> key = getICacheKey(UUID.randomUUID().toString());
+            keysAdded.add(key);
+            cache.computeIfAbsent(key, getLoadAwareCacheLoader());
+
+            assertEquals(i + 1, cache.stats().getTotalMisses());
+            assertEquals(0, cache.stats().getTotalHits());
+            assertEquals(Math.min(maxKeys, i + 1), cache.stats().getTotalItems());
+            assertEquals(Math.min(maxKeys, i + 1) * keyValueSize, cache.stats().getTotalSizeInBytes());
+            assertEquals(Math.max(0, i + 1 - maxKeys), cache.stats().getTotalEvictions());
+        }
+        assertEquals(numEvicted, listener.evictions);
+
+        // do gets from the last part of the list, which should be hits
+        for (int i = numAdded - maxKeys; i < numAdded; i++) {
+            cache.computeIfAbsent(keysAdded.get(i), getLoadAwareCacheLoader());
+            int numHits = i + 1 - (numAdded - maxKeys);
+
+            assertEquals(numAdded, cache.stats().getTotalMisses());
+            assertEquals(numHits, cache.stats().getTotalHits());
+            assertEquals(maxKeys, cache.stats().getTotalItems());
+        }
+
+        // invalidate keys
+        for (int i = numAdded - maxKeys; i < numAdded; i++) {
+            cache.invalidate(keysAdded.get(i));
+            int numInvalidated = i + 1 - (numAdded - maxKeys);
+
+            assertEquals(maxKeys - numInvalidated, cache.stats().getTotalItems());
+            assertEquals((maxKeys - numInvalidated) * keyValueSize, cache.stats().getTotalSizeInBytes());
+            assertEquals(numEvicted, cache.stats().getTotalEvictions());
+        }
+        assertEquals(maxKeys, listener.invalidations);
+        assertEquals(0, cache.count());
+    }
+
+    public void testPutAndGet() {
+        MockRemovalListener<String, String> listener = new MockRemovalListener<>();
+        int maxKeys = between(10, 50);
+        OpenSearchOffHeapCache<String, String> cache = getCache(maxKeys, listener, true);
+
+        ICacheKey<String> key = getICacheKey(UUID.randomUUID().toString());
+        assertNull(cache.get(key));
+        String value = randomAlphaOfLengthBetween(1, BLOCK_SIZE_IN_BYTES);
+        cache.put(key, value);
+        assertEquals(value, cache.get(key));
+        assertEquals(1, cache.count());
+        assertEquals(1, cache.stats().getTotalHits());
+        assertEquals(1, cache.stats().getTotalMisses());
+    }
+
+    public void testValuesSpanningSeveralBlocks() {
+        MockRemovalListener<String, String> listener = new MockRemovalListener<>();
+        OpenSearchOffHeapCache.Builder<String, String> builder = new OpenSearchOffHeapCache.Builder<String, String>()
+            .setDimensionNames(dimensionNames)
+            .setValueSerializer(new StringSerializer());
+        builder.setMaximumWeightInBytes(64 * BLOCK_SIZE_IN_BYTES)
+            .setNumberOfSegments(1)
+            .setWeigher((k, v) -> v.length())
+            .setRemovalListener(listener);
+        OpenSearchOffHeapCache<String, String> cache = (OpenSearchOffHeapCache<String, String>) builder.build();
+
+        List<ICacheKey<String>> keys = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            ICacheKey<String> key = getICacheKey(UUID.randomUUID().toString());
+            String value = randomAlphaOfLengthBetween(BLOCK_SIZE_IN_BYTES + 1, 4 * BLOCK_SIZE_IN_BYTES);
+            cache.put(key, value);
+            keys.add(key);
+            values.add(value);
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            assertEquals(values.get(i), cache.get(keys.get(i)));
+        }
+        assertEquals(0, listener.evictions);
+    }
+
+    public void testReferencedEntriesGetSecondChance() {
+        MockRemovalListener<String, String> listener = new MockRemovalListener<>();
+        int maxKeys = between(10, 50);
+        OpenSearchOffHeapCache<String, String> cache = getCache(maxKeys, listener, true);
+
+        List<ICacheKey<String>> keysAdded = new ArrayList<>();
+        for (int i = 0; i < maxKeys; i++) {
+            ICacheKey<String> key = getICacheKey(UUID.randomUUID().toString());
+            keysAdded.add(key);
+            cache.put(key, UUID.randomUUID().toString());
+        }
+        // the oldest entry was read, so the next oldest one is evicted instead
+        assertNotNull(cache.get(keysAdded.get(0)));
+        cache.put(getICacheKey(UUID.randomUUID().toString()), UUID.randomUUID().toString());
+
+        assertEquals(1, listener.evictions);
+        assertNotNull(cache.get(keysAdded.get(0)));
+        assertNull(cache.get(keysAdded.get(1)));
+        assertEquals(maxKeys, cache.count());
+    }
+
+    public void testReplacedValuesRecycleBlocks() {
+        MockRemovalListener<String, String> listener = new MockRemovalListener<>();
+        int maxKeys = between(10, 50);
+        OpenSearchOffHeapCache<String, String> cache = getCache(maxKeys, listener, true);
+
+        ICacheKey<String> key = getICacheKey(UUID.randomUUID().toString());
+        int numPuts = between(2, 100);
+        String value = null;
+        for (int i = 0; i < numPuts; i++) {
+            value = UUID.randomUUID().toString();
+            cache.put(key, value);
+        }
+        assertEquals(value, cache.get(key));
+        assertEquals(1, cache.count());
+        assertEquals(numPuts - 1, listener.replacements);
+        assertEquals(0, listener.evictions);
+        assertEquals(BLOCK_SIZE_IN_BYTES, cache.getAllocatedBytes());
+        assertEquals(keyValueSize, cache.stats().getTotalSizeInBytes());
+    }
+
+    public void testValuesBiggerThanTheCacheAreNotCached() {
+        MockRemovalListener<String, String> listener = new MockRemovalListener<>();
+        int maxKeys = between(1, 5);
+        OpenSearchOffHeapCache<String, String> cache = getCache(maxKeys, listener, true);
+
+        ICacheKey<String> key = getICacheKey(UUID.randomUUID().toString());
+        cache.put(key, "small");
+        // a value which does not fit still replaces the previous one
+        cache.put(key, randomAlphaOfLength((maxKeys + 1) * BLOCK_SIZE_IN_BYTES));
+        assertNull(cache.get(key));
+        assertEquals(0, cache.count());
+        assertEquals(1, listener.replacements);
+        assertEquals(0, listener.evictions);
+        assertEquals(0, cache.stats().getTotalItems());
+    }
+
+    public void testInvalidateAllAndKeys() {
+        MockRemovalListener<String, String> listener = new MockRemovalListener<>();
+        int maxKeys = between(10, 50);
+        OpenSearchOffHeapCache<String, String> cache = getCache(maxKeys, listener, true);
+
+        int numAdded = between(2, maxKeys);
+        for (int i = 0; i < numAdded; i++) {
+            cache.put(getICacheKey(UUID.randomUUID().toString()), UUID.randomUUID().toString());
+        }
+        int numKeys = 0;
+        for (ICacheKey<String> ignored : cache.keys()) {
+            numKeys++;
+        }
+        assertEquals(numAdded, numKeys);
+
+        Iterator<ICacheKey<String>> iterator = cache.keys().iterator();
+        ICacheKey<String> removedKey = iterator.next();
+        iterator.remove();
+        assertNull(cache.get(removedKey));
+        assertEquals(numAdded - 1, cache.count());
+        assertEquals(1, listener.invalidations);
+
+        long allocatedBytes = cache.getAllocatedBytes();
+        cache.invalidateAll();
+        assertEquals(0, cache.count());
+        assertEquals(numAdded, listener.invalidations);
+        assertEquals(0, cache.stats().getTotalItems());
+        // the blocks are kept for reuse
+        assertEquals(allocatedBytes, cache.getAllocatedBytes());
+        for (int i = 0; i < numAdded; i++) {
+            cache.put(getICacheKey(UUID.randomUUID().toString()), UUID.randomUUID().toString());
+        }
+        assertEquals(allocatedBytes, cache.getAllocatedBytes());
+    }
+
+    public void testEnsureFitsInDirectMemory() {
+        long maxDirectMemory = between(1, 1024) * BLOCK_SIZE_IN_BYTES;
+        OpenSearchOffHeapCache.ensureFitsInDirectMemory(maxDirectMemory / 2, maxDirectMemory);
+        // the limit of the JVM is unknown
+        OpenSearchOffHeapCache.ensureFitsInDirectMemory(maxDirectMemory, 0);
+        IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> OpenSearchOffHeapCache.ensureFitsInDirectMemory(maxDirectMemory / 2 + 1, maxDirectMemory)
+        );
+        assertThat(e.getMessage(), containsString("MaxDirectMemorySize"));
+    }
+
+    public void testCacheBiggerThanDirectMemoryCannotBeCreated() {
+        long maxDirectMemory = JvmInfo.jvmInfo().getMem().getDirectMemoryMax().getBytes();
+        assumeTrue("the direct memory limit of the JVM is unknown", maxDirectMemory > 0);
+        OpenSearchOffHeapCache.Builder<String, String> builder = new OpenSearchOffHeapCache.Builder<String, String>()
+            .setDimensionNames(dimensionNames)
+            .setValueSerializer(new StringSerializer());
+        builder.setMaximumWeightInBytes(maxDirectMemory).setWeigher((k, v) -> keyValueSize).setRemovalListener(new MockRemovalListener<>());
+        // no slab is allocated before the first put, so this doesn't take any direct memory either way
+        expectThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    public void testWithoutStatsTracking() throws Exception {
+        MockRemovalListener<String, String> listener = new MockRemovalListener<>();
+        int maxKeys = between(10, 50);
+        int numEvicted = between(10, 20);
+        OpenSearchOffHeapCache<String, String> cache = getCache(maxKeys, listener, false);
+        for (int i = 0; i < maxKeys + numEvicted; i++) {
+            cache.computeIfAbsent(getICacheKey(UUID.randomUUID().toString()), getLoadAwareCacheLoader());
+            assertEquals(Math.min(maxKeys, i + 1), cache.count());
+            assertEquals(0, cache.stats().getTotalItems());
+            assertEquals(0, cache.stats().getTotalMisses());
+        }
+    }
+
+    public void testFactoryWithSettings() {
+        long maxSizeFromSetting = between(1000, 2000) * keyValueSize;
+        int segmentCount = between(1, 16);
+        Settings settings = Settings.builder()
+            .put(
+                OpenSearchOffHeapCacheSettings.getSettingListForCacheType(CacheType.INDICES_REQUEST_CACHE)
+                    .get(MAXIMUM_SIZE_IN_BYTES_KEY)
+                    .getKey(),
+                maxSizeFromSetting + "b"
+            )
+            .put(
+                OpenSearchOffHeapCacheSettings.getSettingListForCacheType(CacheType.INDICES_REQUEST_CACHE).get(SEGMENT_COUNT_KEY).getKey(),
+                segmentCount
+            )
+            .build();
+        OpenSearchOffHeapCache<String, String> cache = createWithFactory(settings, -1);
+        assertEquals(maxSizeFromSetting, cache.getMaximumWeight());
+        assertEquals(segmentCount, cache.getNumberOfSegments());
+
+        // the size from the config wins over the setting
+        long maxSizeFromConfig = between(3000, 4000) * keyValueSize;
+        cache = createWithFactory(settings, maxSizeFromConfig);
+        assertEquals(maxSizeFromConfig, cache.getMaximumWeight());
+    }
+
+    public void testFactoryRequiresValueSerializer() {
+        CacheConfig<String, String> cacheConfig = new CacheConfig.Builder<String, String>().setKeyType(String.class)
+            .setValueType(String.class)
+            .setWeigher((k, v) -> keyValueSize)
+            .setRemovalListener(new MockRemovalListener<>())
+            .setSettings(Settings.EMPTY)
+            .setDimensionNames(dimensionNames)
+            .build();
+        ICache.Factory factory = new OpenSearchOffHeapCache.OpenSearchOffHeapCacheFactory();
+        expectThrows(NullPointerException.class, () -> factory.create(cacheConfig, CacheType.INDICES_REQUEST_CACHE, null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private OpenSearchOffHeapCache<String, String> createWithFactory(Settings settings, long maxSizeFromConfig) {
+        CacheConfig.Builder<String, String> cacheConfigBuilder = new CacheConfig.Builder<String, String>().setKeyType(String.class)
+            .setValueType(String.class)
+            .setValueSerializer(new StringSerializer())
+            .setWeigher((k, v) -> keyValueSize)
+            .setRemovalListener(new MockRemovalListener<>())
+            .setSettings(settings)
+            .setDimensionNames(dimensionNames)
+            .setStatsTrackingEnabled(true);
+        if (maxSizeFromConfig > 0) {
+            cacheConfigBuilder.setMaxSizeInBytes(maxSizeFromConfig);
+        }
+        ICache.Factory factory = new OpenSearchOffHeapCache.OpenSearchOffHeapCacheFactory();
+        return (OpenSearchOffHeapCache<String, String>) factory.create(cacheConfigBuilder.build(), CacheType.INDICES_REQUEST_CACHE, null);
+    }
+
+    private OpenSearchOffHeapCache<String, String> getCache(
+        int maxSizeKeys,
+        MockRemovalListener<String, String> listener,
+        boolean statsTrackingEnabled
+    ) {
+        // A single segment, so that evictions are predictable
+        OpenSearchOffHeapCache.Builder<String, String> builder = new OpenSearchOffHeapCache.Builder<String, String>()
+            .setDimensionNames(dimensionNames)
+            .setValueSerializer(new StringSerializer());
+        builder.setMaximumWeightInBytes(maxSizeKeys * keyValueSize)
+            .setNumberOfSegments(1)
+            .setWeigher((k, v) -> keyValueSize)
+            .setRemovalListener(listener)
+            .setStatsTrackingEnabled(statsTrackingEnabled);
+        return (OpenSearchOffHeapCache<String, String>) builder.build();
+    }
+
+    private static class StringSerializer implements Serializer<String, byte[]> {
+        @Override
+        public byte[] serialize(String object) {
+            return object.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String deserialize(byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public boolean equals(String object, byte[] bytes) {
+            return object.equals(deserialize(bytes));
+        }
+    }
+
+    private static class MockRemovalListener<K, V> implements RemovalListener<ICacheKey<K>, V> {
+        int evictions;
+        int replacements;
+        int invalidations;
+
+        @Override
+        public void onRemoval(RemovalNotification<ICacheKey<K>, V> notification) {
+            assertNotNull(notification.getValue());
+            if (notification.getRemovalReason() == RemovalReason.EVICTED) {
+                evictions++;
+            } else if (notification.getRemovalReason() == RemovalReason.REPLACED) {
+                replacements++;
+            } else if (notification.getRemovalReason() == RemovalReason.INVALIDATED) {
+                invalidations++;
+            }
+        }
+    }
+
+    private ICacheKey<String> getICacheKey(String key) {
+        List<String> dims = new ArrayList<>();
+        for (String dimName : dimensionNames) {
+            dims.add("0");
+        }
+        return new ICacheKey<>(key, dims);
+    }
+
+    private LoadAwareCacheLoader<ICacheKey<String>, String> getLoadAwareCacheLoader() {
+        return new LoadAwareCacheLoader<>() {
+            boolean isLoaded = false;
+
+            @Override
+            public String load(ICacheKey<String> key) {
+                isLoaded = true;
+                return UUID.randomUUID().toString();
+            }
+
+            @Override
+            public boolean isLoaded() {
+                return isLoaded;
+            }
+        };
+    }
+}
@@ -33,9 +33,13 @@
 package org.opensearch.common.xcontent.support;
 
 import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.util.PageCacheRecycler;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
 import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
@@ -47,6 +51,7 @@ import org.opensearch.test.OpenSearchTestCase;
 import org.hamcrest.Matchers;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -268,4 +273,46 @@ public class XContentHelperTests extends OpenSearchTestCase {
         }
 
     }
+
+    public void testCreateParserFromContiguousAndSplitBytes() throws IOException {
+        final byte[] doc = "{\"field\":\"value\"}".getBytes(StandardCharsets.UTF_8);
+        final int splitDocOffset = PageCacheRecycler.BYTE_PAGE_SIZE - doc.length / 2;
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            // one document within the first page and another one across the first two pages
+            out.write(doc);
+            for (int i = doc.length; i < splitDocOffset; i++) {
+                out.writeByte((byte) ' ');
+            }
+            out.write(doc);
+            out.write(doc);
+            BytesReference bytes = out.bytes();
+            assertFalse(bytes instanceof BytesArray);
+
+            BytesReference contiguous = bytes.slice(0, doc.length);
+            assertNotNull(XContentHelper.contiguousBytes(contiguous));
+            assertParsesToDoc(contiguous);
+
+            BytesReference split = bytes.slice(splitDocOffset, doc.length);
+            assertNull(XContentHelper.contiguousBytes(split));
+            assertParsesToDoc(split);
+        }
+
+        BytesReference composite = CompositeBytesReference.of(new BytesArray(doc, 0, 5), new BytesArray(doc, 5, doc.length - 5));
+        assertNull(XContentHelper.contiguousBytes(composite));
+        assertParsesToDoc(composite);
+        assertNotNull(XContentHelper.contiguousBytes(new BytesArray(doc)));
+    }
+
+    private static void assertParsesToDoc(BytesReference bytes) throws IOException {
+        try (
+            XContentParser parser = XContentHelper.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+                bytes,
+                MediaTypeRegistry.JSON
+            )
+        ) {
+            assertEquals(Map.of("field", "value"), parser.map());
+        }
+    }
 }
@@ -0,0 +1,232 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.BitMixer;
+import org.opensearch.index.compositeindex.datacube.startree.utils.SketchType;
+import org.opensearch.index.fielddata.IndexNumericFieldData;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.AbstractHyperLogLog;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlus;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class CardinalityValueAggregatorTests extends AbstractValueAggregatorTests {
+
+    private CardinalityValueAggregator aggregator;
+
+    public CardinalityValueAggregatorTests(FieldValueConverter fieldValueConverter) {
+        super(fieldValueConverter);
+    }
+
+    @Override
+    public ValueAggregator getValueAggregator(FieldValueConverter fieldValueConverter) {
+        aggregator = new CardinalityValueAggregator(fieldValueConverter);
+        return aggregator;
+    }
+
+    @Override
+    public void testGetInitialAggregatedValueForSegmentDocNullValue() {
+        assertArrayEquals(aggregator.getIdentityMetricValue(), aggregator.getInitialAggregatedValueForSegmentDocValue(null));
+    }
+
+    @Override
+    public void testMergeAggregatedNullValueAndSegmentNullValue() {
+        assertArrayEquals(aggregator.getIdentityMetricValue(), aggregator.mergeAggregatedValueAndSegmentValue(null, null));
+    }
+
+    @Override
+    public void testMergeAggregatedNullValues() {
+        assertArrayEquals(aggregator.getIdentityMetricValue(), aggregator.mergeAggregatedValues(null, null));
+    }
+
+    @Override
+    public void testGetInitialAggregatedNullValue() {
+        assertArrayEquals(aggregator.getIdentityMetricValue(), aggregator.getInitialAggregatedValue(null));
+    }
+
+    @Override
+    public void testGetInitialAggregatedValueForSegmentDocValue() {
+        byte[] registers = CardinalityValueAggregator.registers(aggregator.getInitialAggregatedValueForSegmentDocValue(randomLong()));
+        assertEquals(1 << CardinalityValueAggregator.SKETCH_PRECISION, registers.length);
+        assertEquals(1, countNonZeroRegisters(registers));
+    }
+
+    public void testMergeAggregatedValueAndSegmentValue() {
+        long value = randomLong();
+        byte[] registers = aggregator.getInitialAggregatedValueForSegmentDocValue(value);
+        byte[] merged = aggregator.mergeAggregatedValueAndSegmentValue(aggregator.getInitialAggregatedValue(registers), value);
+        assertArrayEquals(registers, merged);
+    }
+
+    public void testMergeAggregatedValues() {
+        byte[] first = aggregator.getInitialAggregatedValueForSegmentDocValue(randomLong());
+        byte[] second = aggregator.getInitialAggregatedValueForSegmentDocValue(randomLong());
+        byte[] merged = CardinalityValueAggregator.registers(
+            aggregator.mergeAggregatedValues(first, aggregator.getInitialAggregatedValue(second))
+        );
+        byte[] firstRegisters = CardinalityValueAggregator.registers(first);
+        byte[] secondRegisters = CardinalityValueAggregator.registers(second);
+        for (int i = 0; i < merged.length; i++) {
+            assertEquals(Math.max(firstRegisters[i], secondRegisters[i]), merged[i]);
+        }
+        assertArrayEquals(second, aggregator.mergeAggregatedValues(null, aggregator.getInitialAggregatedValue(second)));
+        assertArrayEquals(first, aggregator.mergeAggregatedValues(first, null));
+    }
+
+    public void testGetInitialAggregatedValue() {
+        byte[] registers = aggregator.getInitialAggregatedValueForSegmentDocValue(randomLong());
+        byte[] copy = aggregator.getInitialAggregatedValue(registers);
+        assertArrayEquals(registers, copy);
+        assertNotSame(registers, copy);
+    }
+
+    public void testToAggregatedValueType() {
+        assertArrayEquals(aggregator.getIdentityMetricValue(), aggregator.toAggregatedValueType(null));
+        expectThrows(IllegalStateException.class, () -> aggregator.toAggregatedValueType(randomLong()));
+    }
+
+    public void testIdentityMetricValue() {
+        byte[] identity = aggregator.getIdentityMetricValue();
+        assertEquals(1, identity.length);
+        assertEquals(0, countNonZeroRegisters(CardinalityValueAggregator.registers(identity)));
+    }
+
+    public void testAggregatedValueType() {
+        assertTrue(aggregator.getAggregatedValueType() instanceof SketchType);
+    }
+
+    public void testSerialization() {
+        byte[] registers = null;
+        int numValues = randomIntBetween(1, 5000);
+        for (int i = 0; i < numValues; i++) {
+            registers = aggregator.mergeAggregatedValueAndSegmentValue(registers, randomLong());
+        }
+        BytesRef serialized = aggregator.serialize(registers);
+        assertEquals(registers.length, serialized.length);
+        assertThat(serialized.length, lessThanOrEqualTo(aggregator.getSerializedSizeInBytes()));
+
+        // deserialization must not depend on the offset of the bytes and must copy them
+        byte[] padded = new byte[serialized.length + 2];
+        System.arraycopy(serialized.bytes, serialized.offset, padded, 1, serialized.length);
+        byte[] deserialized = aggregator.deserialize(new BytesRef(padded, 1, serialized.length));
+        assertArrayEquals(registers, deserialized);
+        Arrays.fill(padded, (byte) 0);
+        assertArrayEquals(registers, deserialized);
+
+        assertEquals(new BytesRef(aggregator.getIdentityMetricValue()), aggregator.serialize(null));
+        expectThrows(IllegalStateException.class, () -> aggregator.deserialize(new BytesRef(new byte[2])));
+        expectThrows(IllegalStateException.class, () -> aggregator.deserialize(new BytesRef(new byte[] { 2 })));
+        expectThrows(IllegalStateException.class, () -> aggregator.deserialize(new BytesRef(new byte[] { 1, 0 })));
+    }
+
+    public void testRegistersMatchCardinalityAggregation() {
+        HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(
+            CardinalityValueAggregator.SKETCH_PRECISION,
+            BigArrays.NON_RECYCLING_INSTANCE,
+            1
+        );
+        Set<Long> hashes = new HashSet<>();
+        byte[] sketch = null;
+        int numValues = randomIntBetween(1, 10000);
+        for (int i = 0; i < numValues; i++) {
+            long value = randomLong();
+            hashes.add(hash(value));
+            sketch = aggregator.mergeAggregatedValueAndSegmentValue(sketch, value);
+        }
+        byte[] registers = CardinalityValueAggregator.registers(sketch);
+        for (long hash : hashes) {
+            int register = (int) AbstractHyperLogLog.index(hash, CardinalityValueAggregator.SKETCH_PRECISION);
+            assertTrue(registers[register] >= AbstractHyperLogLog.runLen(hash, CardinalityValueAggregator.SKETCH_PRECISION));
+        }
+        CardinalityValueAggregator.mergeSketch(counts, 0, aggregator.serialize(sketch));
+        assertThat((double) counts.cardinality(0), closeTo(hashes.size(), 0.1 * hashes.size()));
+    }
+
+    public void testSparseSketches() {
+        // sketches of few distinct values hold three bytes per non empty register
+        byte[] sketch = null;
+        Set<Integer> nonEmptyRegisters = new HashSet<>();
+        while (nonEmptyRegisters.size() < CardinalityValueAggregator.MAX_SPARSE_REGISTERS) {
+            long value = randomLong();
+            nonEmptyRegisters.add((int) AbstractHyperLogLog.index(hash(value), CardinalityValueAggregator.SKETCH_PRECISION));
+            sketch = aggregator.mergeAggregatedValueAndSegmentValue(sketch, value);
+            assertEquals(1 + 3 * nonEmptyRegisters.size(), sketch.length);
+        }
+        // and switch to dense registers once they have more
+        while (nonEmptyRegisters.size() == CardinalityValueAggregator.MAX_SPARSE_REGISTERS) {
+            long value = randomLong();
+            nonEmptyRegisters.add((int) AbstractHyperLogLog.index(hash(value), CardinalityValueAggregator.SKETCH_PRECISION));
+            sketch = aggregator.mergeAggregatedValueAndSegmentValue(sketch, value);
+        }
+        assertEquals(aggregator.getSerializedSizeInBytes(), sketch.length);
+        assertEquals(nonEmptyRegisters.size(), countNonZeroRegisters(CardinalityValueAggregator.registers(sketch)));
+    }
+
+    public void testMergeSparseAndDenseSketches() {
+        byte[] expected = null;
+        byte[] merged = null;
+        int numSketches = randomIntBetween(2, 10);
+        for (int i = 0; i < numSketches; i++) {
+            byte[] sketch = null;
+            // mixes sketches that stay sparse with sketches that switch to dense registers
+            int numValues = randomBoolean() ? randomIntBetween(1, 100) : randomIntBetween(1, 5000);
+            for (int j = 0; j < numValues; j++) {
+                long value = randomLong();
+                sketch = aggregator.mergeAggregatedValueAndSegmentValue(sketch, value);
+                expected = aggregator.mergeAggregatedValueAndSegmentValue(expected, value);
+            }
+            merged = aggregator.mergeAggregatedValues(sketch, merged);
+        }
+        assertArrayEquals(CardinalityValueAggregator.registers(expected), CardinalityValueAggregator.registers(merged));
+
+        HyperLogLogPlusPlus expectedCounts = new HyperLogLogPlusPlus(
+            CardinalityValueAggregator.SKETCH_PRECISION,
+            BigArrays.NON_RECYCLING_INSTANCE,
+            1
+        );
+        expectedCounts.mergeRegisters(0, new BytesRef(CardinalityValueAggregator.registers(expected)));
+        HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(
+            CardinalityValueAggregator.SKETCH_PRECISION,
+            BigArrays.NON_RECYCLING_INSTANCE,
+            1
+        );
+        CardinalityValueAggregator.mergeSketch(counts, 0, aggregator.serialize(merged));
+        assertEquals(expectedCounts.cardinality(0), counts.cardinality(0));
+    }
+
+    /**
+     * Hashes the value the same way as the cardinality aggregation does
+     */
+    private long hash(long value) {
+        IndexNumericFieldData.NumericType numericType = ((NumberFieldMapper.NumberType) fieldValueConverter).numericType();
+        if (numericType.isFloatingPoint() || numericType == IndexNumericFieldData.NumericType.UNSIGNED_LONG) {
+            return BitMixer.mix64(Double.doubleToLongBits(fieldValueConverter.toDoubleValue(value)));
+        }
+        return BitMixer.mix64(value);
+    }
+
+    private static int countNonZeroRegisters(byte[] registers) {
+        int count = 0;
+        for (byte register : registers) {
+            if (register != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.compositeindex.datacube.startree.utils.SketchType;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+
+import java.nio.ByteBuffer;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class PercentilesValueAggregatorTests extends AbstractValueAggregatorTests {
+
+    private PercentilesValueAggregator aggregator;
+
+    public PercentilesValueAggregatorTests(FieldValueConverter fieldValueConverter) {
+        super(fieldValueConverter);
+    }
+
+    @Override
+    public ValueAggregator getValueAggregator(FieldValueConverter fieldValueConverter) {
+        aggregator = new PercentilesValueAggregator(fieldValueConverter);
+        return aggregator;
+    }
+
+    @Override
+    public void testGetInitialAggregatedValueForSegmentDocValue() {
+        long randomLong = randomValue();
+        TDigestState digest = aggregator.getInitialAggregatedValueForSegmentDocValue(randomLong);
+        assertEquals(1, digest.size());
+        assertEquals(fieldValueConverter.toDoubleValue(randomLong), digest.centroids().iterator().next().mean(), 0.0);
+    }
+
+    public void testMergeAggregatedValueAndSegmentValue() {
+        TDigestState digest = aggregator.getInitialAggregatedValueForSegmentDocValue(randomValue());
+        digest = aggregator.mergeAggregatedValueAndSegmentValue(digest, randomValue());
+        assertEquals(2, digest.size());
+        assertEquals(1, aggregator.mergeAggregatedValueAndSegmentValue(null, randomValue()).size());
+    }
+
+    public void testMergeAggregatedValues() {
+        TDigestState first = aggregator.getInitialAggregatedValueForSegmentDocValue(randomValue());
+        TDigestState second = aggregator.getInitialAggregatedValueForSegmentDocValue(randomValue());
+        TDigestState merged = aggregator.mergeAggregatedValues(first, aggregator.getInitialAggregatedValue(second));
+        assertEquals(2, merged.size());
+        assertEquals(1, aggregator.mergeAggregatedValues(null, aggregator.getInitialAggregatedValue(second)).size());
+        TDigestState copy = aggregator.mergeAggregatedValues(first, null);
+        assertEquals(1, copy.size());
+        assertNotSame(first, copy);
+    }
+
+    public void testToAggregatedValueType() {
+        assertEquals(aggregator.getIdentityMetricValue(), aggregator.toAggregatedValueType(null));
+        expectThrows(IllegalStateException.class, () -> aggregator.toAggregatedValueType(randomLong()));
+    }
+
+    public void testIdentityMetricValue() {
+        TDigestState identity = aggregator.getIdentityMetricValue();
+        assertEquals(0, identity.size());
+        assertEquals(PercentilesValueAggregator.SKETCH_COMPRESSION, identity.compression(), 0.0);
+    }
+
+    public void testAggregatedValueType() {
+        assertTrue(aggregator.getAggregatedValueType() instanceof SketchType);
+    }
+
+    public void testSerialization() {
+        TDigestState digest = null;
+        int numValues = randomIntBetween(1, 10000);
+        for (int i = 0; i < numValues; i++) {
+            digest = aggregator.mergeAggregatedValueAndSegmentValue(digest, randomValue());
+        }
+        BytesRef serialized = aggregator.serialize(digest);
+        assertEquals(aggregator.getSerializedSizeInBytes(), serialized.length);
+        TDigestState deserialized = aggregator.deserialize(serialized);
+        assertEquals(digest.size(), deserialized.size());
+        assertThat(deserialized.centroidCount(), lessThanOrEqualTo(PercentilesValueAggregator.MAX_CENTROIDS));
+
+        BytesRef identity = aggregator.serialize(null);
+        assertEquals(aggregator.getSerializedSizeInBytes(), identity.length);
+        assertEquals(0, aggregator.deserialize(identity).size());
+        expectThrows(IllegalStateException.class, () -> aggregator.deserialize(new BytesRef(new byte[1])));
+    }
+
+    public void testSerializedDigestKeepsQuantiles() {
+        PercentilesValueAggregator longAggregator = new PercentilesValueAggregator(NumberFieldMapper.NumberType.LONG);
+        TDigestState digest = null;
+        int numValues = randomIntBetween(1000, 10000);
+        for (int i = 0; i < numValues; i++) {
+            digest = longAggregator.mergeAggregatedValueAndSegmentValue(digest, (long) i);
+        }
+        TDigestState deserialized = longAggregator.deserialize(longAggregator.serialize(digest));
+        for (double q : new double[] { 0.01, 0.25, 0.5, 0.75, 0.99 }) {
+            assertThat(deserialized.quantile(q), closeTo(q * numValues, 0.01 * numValues));
+        }
+    }
+
+    public void testSerializationKeepsCompression() {
+        // merging digests leaves more centroids than adding values one by one
+        TDigestState digest = null;
+        int numDigests = randomIntBetween(10, 100);
+        for (int i = 0; i < numDigests; i++) {
+            TDigestState other = null;
+            int numValues = randomIntBetween(100, 1000);
+            for (int j = 0; j < numValues; j++) {
+                other = aggregator.mergeAggregatedValueAndSegmentValue(other, randomValue());
+            }
+            digest = aggregator.mergeAggregatedValues(other, digest);
+        }
+        BytesRef serialized = aggregator.serialize(digest);
+        int numCentroids = ByteBuffer.wrap(serialized.bytes, serialized.offset, serialized.length).getInt();
+        assertThat(numCentroids, lessThanOrEqualTo(PercentilesValueAggregator.MAX_CENTROIDS));
+        // the centroids are stored as they are rather than compressed further
+        assertEquals(digest.centroidCount(), numCentroids);
+        TDigestState deserialized = aggregator.deserialize(serialized);
+        assertEquals(digest.size(), deserialized.size());
+        assertEquals(PercentilesValueAggregator.SKETCH_COMPRESSION, deserialized.compression(), 0.0);
+    }
+
+    /**
+     * Returns a random segment doc value which converts to a finite double, as digests do not accept NaN
+     */
+    private long randomValue() {
+        long value;
+        do {
+            value = randomLong();
+        } while (Double.isFinite(fieldValueConverter.toDoubleValue(value)) == false);
+        return value;
+    }
+}
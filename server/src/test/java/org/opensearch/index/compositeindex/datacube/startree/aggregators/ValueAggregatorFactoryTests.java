@@ -38,6 +38,18 @@ public class ValueAggregatorFactoryTests extends OpenSearchTestCase {
         assertEquals(CountValueAggregator.class, aggregator.getClass());
     }
 
+    public void testGetValueAggregatorForCardinalityType() {
+        ValueAggregator aggregator = ValueAggregatorFactory.getValueAggregator(MetricStat.CARDINALITY, NumberFieldMapper.NumberType.LONG);
+        assertNotNull(aggregator);
+        assertEquals(CardinalityValueAggregator.class, aggregator.getClass());
+    }
+
+    public void testGetValueAggregatorForPercentilesType() {
+        ValueAggregator aggregator = ValueAggregatorFactory.getValueAggregator(MetricStat.PERCENTILES, NumberFieldMapper.NumberType.LONG);
+        assertNotNull(aggregator);
+        assertEquals(PercentilesValueAggregator.class, aggregator.getClass());
+    }
+
     public void testGetValueAggregatorForAvgType() {
         assertThrows(
             IllegalStateException.class,
@@ -267,4 +267,54 @@ public class StarTreeDocumentsSorterTests extends OpenSearchTestCase {
         }
     }
 
+    public void testMergeSortedRuns() {
+        Random random = Randomness.get();
+        int numDimensions = randomIntBetween(1, 10);
+        List<Comparator<Long>> comparatorList = new ArrayList<>();
+        for (int i = 0; i < numDimensions; i++) {
+            comparatorList.add(
+                random.nextBoolean() ? new NumericDimension("fieldName").comparator() : new UnsignedLongDimension("fieldName").comparator()
+            );
+        }
+        int numRuns = randomIntBetween(1, 10);
+        int[] runStarts = new int[numRuns];
+        List<Long[]> testData = new ArrayList<>();
+        for (int run = 0; run < numRuns; run++) {
+            runStarts[run] = testData.size();
+            int numRunDocs = randomIntBetween(0, 100);
+            Long[][] runDocs = new Long[numRunDocs][];
+            for (int i = 0; i < numRunDocs; i++) {
+                runDocs[i] = new Long[numDimensions];
+                for (int j = 0; j < numDimensions; j++) {
+                    runDocs[i][j] = random.nextFloat() < 0.2 ? null : Long.valueOf(randomIntBetween(-5, 5));
+                }
+            }
+            Arrays.sort(runDocs, (doc1, doc2) -> StarTreeDocumentsSorter.compareDimensions(doc1, doc2, -1, comparatorList));
+            testData.addAll(Arrays.asList(runDocs));
+        }
+        int numDocs = testData.size();
+
+        int[] mergedDocIds = StarTreeDocumentsSorter.mergeSortedRuns(runStarts, numDocs, testData::get, comparatorList);
+
+        int[] sortedDocIds = new int[numDocs];
+        for (int i = 0; i < numDocs; i++) {
+            sortedDocIds[i] = i;
+        }
+        StarTreeDocumentsSorter.sort(sortedDocIds, -1, numDocs, i -> testData.get(sortedDocIds[i]), comparatorList);
+
+        assertEquals(numDocs, mergedDocIds.length);
+        assertEquals(numDocs, Arrays.stream(mergedDocIds).distinct().count());
+        for (int i = 0; i < numDocs; i++) {
+            assertArrayEquals(testData.get(sortedDocIds[i]), testData.get(mergedDocIds[i]));
+        }
+    }
+
+    public void testMergeSortedRunsWithEmptyRuns() {
+        List<Comparator<Long>> comparatorList = List.of(new NumericDimension("dim1").comparator());
+        List<Long[]> testData = List.of(new Long[] { 1L }, new Long[] { 3L }, new Long[] { 2L }, new Long[] { null });
+        int[] mergedDocIds = StarTreeDocumentsSorter.mergeSortedRuns(new int[] { 0, 0, 2, 4 }, 4, testData::get, comparatorList);
+        assertArrayEquals(new int[] { 0, 2, 1, 3 }, mergedDocIds);
+        assertEquals(0, StarTreeDocumentsSorter.mergeSortedRuns(new int[0], 0, testData::get, comparatorList).length);
+    }
+
 }
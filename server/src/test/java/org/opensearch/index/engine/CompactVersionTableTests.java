@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class CompactVersionTableTests extends OpenSearchTestCase {
+
+    private static VersionValue randomVersionValue() {
+        if (randomBoolean()) {
+            return new IndexVersionValue(null, randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong());
+        }
+        return new DeleteVersionValue(randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong());
+    }
+
+    public void testPutGetRemove() {
+        CompactVersionTable table = new CompactVersionTable(randomIntBetween(0, 100));
+        Map<BytesRef, VersionValue> expected = new HashMap<>();
+        long ramBytesUsed = 0;
+        int numOps = randomIntBetween(1, 5000);
+        for (int i = 0; i < numOps; i++) {
+            BytesRef uid = new BytesRef(Integer.toString(randomIntBetween(0, 500)));
+            if (randomBoolean()) {
+                VersionValue value = randomVersionValue();
+                ramBytesUsed += table.put(uid, value);
+                expected.put(uid, value);
+            } else {
+                ramBytesUsed += table.remove(uid);
+                expected.remove(uid);
+            }
+            assertTrue(ramBytesUsed >= 0);
+            assertEquals(expected.get(uid), table.get(uid));
+        }
+        assertEquals(expected.size(), table.size());
+        assertEquals(expected, table.asMap());
+        for (Map.Entry<BytesRef, VersionValue> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), table.get(BytesRef.deepCopyOf(entry.getKey())));
+        }
+    }
+
+    public void testRamBytesUsed() {
+        CompactVersionTable table = new CompactVersionTable(0);
+        BytesRef uid = new BytesRef("uid");
+        VersionValue first = randomVersionValue();
+        long uidBytes = CompactVersionTable.BASE_BYTES_PER_UID + uid.length;
+        assertEquals(uidBytes + first.ramBytesUsed(), table.put(uid, first));
+
+        VersionValue second = randomVersionValue();
+        assertEquals(second.ramBytesUsed() - first.ramBytesUsed(), table.put(uid, second));
+
+        // the uid stays in the table once removed, so only its version is freed
+        assertEquals(-second.ramBytesUsed(), table.remove(uid));
+        assertEquals(0, table.remove(uid));
+        assertNull(table.get(uid));
+        assertEquals(0, table.size());
+
+        VersionValue third = randomVersionValue();
+        assertEquals(third.ramBytesUsed(), table.put(uid, third));
+        assertEquals(1, table.size());
+    }
+}
@@ -30,6 +30,7 @@ import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.io.IOUtils;
@@ -49,10 +50,12 @@ import org.opensearch.index.seqno.LocalCheckpointTracker;
 import org.opensearch.index.seqno.LocalCheckpointTrackerTests;
 import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.index.translog.transfer.BlobStoreTransferService;
+import org.opensearch.index.translog.transfer.TranslogBundleUploader;
 import org.opensearch.index.translog.transfer.TranslogTransferManager;
 import org.opensearch.index.translog.transfer.TranslogTransferMetadata;
 import org.opensearch.index.translog.transfer.TranslogUploadFailedException;
 import org.opensearch.indices.DefaultRemoteStoreSettings;
+import org.opensearch.indices.RemoteStoreSettings;
 import org.opensearch.indices.recovery.RecoverySettings;
 import org.opensearch.indices.replication.common.ReplicationType;
 import org.opensearch.repositories.blobstore.BlobStoreRepository;
@@ -134,6 +137,11 @@ public class RemoteFsTranslogTests extends OpenSearchTestCase {
 
     BlobStoreTransferService blobStoreTransferService;
 
+    // the interval of the translog bundles of the translogs that the test creates, which don't bundle their files if null
+    TimeValue bundleInterval;
+
+    TranslogBundleUploader bundleUploader;
+
     TestTranslog.FailSwitch fail;
 
     TestTranslog.SlowDownWriteSwitch slowDown;
@@ -165,6 +173,7 @@ public class RemoteFsTranslogTests extends OpenSearchTestCase {
             translog.close();
         } finally {
             super.tearDown();
+            IOUtils.close(bundleUploader);
             terminate(threadPool);
         }
     }
@@ -187,6 +196,16 @@ public class RemoteFsTranslogTests extends OpenSearchTestCase {
         final TranslogDeletionPolicy deletionPolicy = createTranslogDeletionPolicy(translogConfig.getIndexSettings());
         threadPool = new TestThreadPool(getClass().getName());
         blobStoreTransferService = new BlobStoreTransferService(repository.blobStore(), threadPool);
+        if (bundleInterval != null) {
+            final Settings settings = Settings.builder()
+                .put(RemoteStoreSettings.CLUSTER_REMOTE_TRANSLOG_BUNDLE_INTERVAL_SETTING.getKey(), bundleInterval)
+                .build();
+            final RemoteStoreSettings remoteStoreSettings = new RemoteStoreSettings(
+                settings,
+                new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+            );
+            bundleUploader = new TranslogBundleUploader(threadPool, remoteStoreSettings, () -> "node");
+        }
         return createTranslogInstance(translogConfig, translogUUID, deletionPolicy, isServerSideEncryptionEnabled);
     }
 
@@ -210,7 +229,8 @@ public class RemoteFsTranslogTests extends OpenSearchTestCase {
             DefaultRemoteStoreSettings.INSTANCE,
             TranslogOperationHelper.DEFAULT,
             null,
-            isServerSideEncryptionEnabled
+            isServerSideEncryptionEnabled,
+            bundleUploader
         );
     }
 
@@ -582,6 +602,64 @@ public class RemoteFsTranslogTests extends OpenSearchTestCase {
         }
     }
 
+    public void testReadLocationDownloadWithBundles() throws IOException {
+        translog.getDeletionPolicy().assertNoOpenTranslogRefs();
+        translog.close();
+        terminate(threadPool);
+        bundleInterval = TimeValue.timeValueMillis(randomIntBetween(1, 100));
+        translogDir = createTempDir();
+        translog = create(translogDir);
+
+        ArrayList<Translog.Operation> ops = new ArrayList<>();
+        ArrayList<Translog.Location> locs = new ArrayList<>();
+        int numOps = randomIntBetween(2, 10);
+        for (int i = 0; i < numOps; i++) {
+            Translog.Index op = new Translog.Index(Integer.toString(i), i, primaryTerm.get(), new byte[] { 1 });
+            locs.add(addToTranslogAndListAndUpload(translog, ops, op));
+            if (randomBoolean()) {
+                translog.rollGeneration();
+            }
+        }
+        translog.sync();
+        assertUploadStatsNoFailures(translog.getRemoteTranslogTracker());
+
+        // the files were uploaded as part of bundles rather than as blobs of their own
+        BlobPath dataPath = getTranslogDirectory().add(DATA_DIR).add(String.valueOf(primaryTerm.get()));
+        assertEquals(Set.of(), blobStoreTransferService.listAll(dataPath));
+        assertFalse(blobStoreTransferService.listAll(repository.basePath().add("translog-bundles").add("node")).isEmpty());
+
+        String translogUUID = translog.translogUUID;
+        try {
+            translog.getDeletionPolicy().assertNoOpenTranslogRefs();
+            translog.close();
+        } finally {
+            IOUtils.close(bundleUploader);
+            terminate(threadPool);
+        }
+
+        // Delete translog files to recover them from the bundles
+        for (Path file : FileSystemUtils.files(translogDir)) {
+            Files.delete(file);
+        }
+
+        translog = create(translogDir, repository, translogUUID, false);
+        int i = 0;
+        for (Translog.Operation op : ops) {
+            assertEquals(op, translog.readOperation(locs.get(i++)));
+        }
+        try (Translog.Snapshot snapshot = translog.newSnapshot()) {
+            assertThat(snapshot, SnapshotMatchers.equalsTo(ops));
+        }
+        RemoteTranslogTransferTracker statsTracker = translog.getRemoteTranslogTracker();
+        assertUploadStatsNoUploads(statsTracker);
+        assertDownloadStatsPopulated(statsTracker);
+
+        // the recovered translog keeps syncing through the bundles
+        Translog.Index op = new Translog.Index(Integer.toString(numOps), numOps, primaryTerm.get(), new byte[] { 1 });
+        addToTranslogAndListAndUpload(translog, ops, op);
+        assertEquals(Set.of(), blobStoreTransferService.listAll(dataPath));
+    }
+
     public void testSnapshotWithNewTranslog() throws IOException {
         List<Closeable> toClose = new ArrayList<>();
         try {
@@ -0,0 +1,219 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TranslogGroupCommitSchedulerTests extends OpenSearchTestCase {
+
+    private TranslogGroupCommitScheduler newScheduler(String window, Path... dataPaths) {
+        Settings settings = Settings.builder().put(TranslogGroupCommitScheduler.GROUP_COMMIT_WINDOW_SETTING.getKey(), window).build();
+        return new TranslogGroupCommitScheduler(
+            settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            dataPaths
+        );
+    }
+
+    public void testConcurrentSyncsAreGrouped() throws Exception {
+        Path dataPath = createTempDir();
+        try (TranslogGroupCommitScheduler scheduler = newScheduler("20ms", dataPath)) {
+            int numThreads = randomIntBetween(2, 8);
+            int syncsPerThread = randomIntBetween(1, 20);
+            AtomicInteger synced = new AtomicInteger();
+            AtomicReference<Exception> failure = new AtomicReference<>();
+            CyclicBarrier barrier = new CyclicBarrier(numThreads);
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < numThreads; t++) {
+                Path translogPath = dataPath.resolve("indices").resolve("index").resolve(Integer.toString(t)).resolve("translog");
+                Thread thread = new Thread(() -> {
+                    try {
+                        barrier.await();
+                        for (int i = 0; i < syncsPerThread; i++) {
+                            scheduler.sync(translogPath, synced::incrementAndGet);
+                        }
+                    } catch (Exception e) {
+                        failure.set(e);
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertNull(failure.get());
+            assertEquals(numThreads * syncsPerThread, synced.get());
+
+            TranslogGroupCommitStats stats = scheduler.stats();
+            assertEquals(numThreads * syncsPerThread, stats.getSyncs());
+            assertTrue(stats.getGroupCommits() > 0);
+            assertTrue(stats.getGroupCommits() <= stats.getSyncs());
+            assertTrue(stats.getMaxSyncsPerGroupCommit() >= 1);
+            assertTrue(stats.getMaxSyncsPerGroupCommit() <= numThreads);
+        }
+    }
+
+    public void testSyncsOfGroupCommitRunConcurrently() throws Exception {
+        Path dataPath = createTempDir();
+        try (TranslogGroupCommitScheduler scheduler = newScheduler("0ms", dataPath)) {
+            // holds up the first group commit, so that the next syncs queue up behind it
+            CountDownLatch syncing = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicReference<Exception> failure = new AtomicReference<>();
+            Thread blocker = new Thread(() -> {
+                try {
+                    scheduler.sync(dataPath.resolve("translog"), () -> {
+                        syncing.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    });
+                } catch (Exception e) {
+                    failure.set(e);
+                }
+            });
+            blocker.start();
+            syncing.await();
+
+            // each sync waits for all the others, which only completes if they are issued at the same time
+            int numThreads = randomIntBetween(2, 8);
+            CyclicBarrier barrier = new CyclicBarrier(numThreads);
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < numThreads; t++) {
+                Path translogPath = dataPath.resolve(Integer.toString(t)).resolve("translog");
+                Thread thread = new Thread(() -> {
+                    try {
+                        scheduler.sync(translogPath, () -> {
+                            try {
+                                barrier.await(10, TimeUnit.SECONDS);
+                            } catch (Exception e) {
+                                throw new IOException(e);
+                            }
+                        });
+                    } catch (Exception e) {
+                        failure.set(e);
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            assertBusy(() -> assertEquals(numThreads, scheduler.pendingSyncs()));
+
+            release.countDown();
+            blocker.join();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertNull(failure.get());
+
+            TranslogGroupCommitStats stats = scheduler.stats();
+            assertEquals(2, stats.getGroupCommits());
+            assertEquals(numThreads + 1, stats.getSyncs());
+            assertEquals(numThreads, stats.getMaxSyncsPerGroupCommit());
+        }
+    }
+
+    public void testFailureIsRethrownToCaller() throws Exception {
+        Path dataPath = createTempDir();
+        try (TranslogGroupCommitScheduler scheduler = newScheduler("0ms", dataPath)) {
+            IOException e = expectThrows(IOException.class, () -> scheduler.sync(dataPath.resolve("translog"), () -> {
+                throw new IOException("boom");
+            }));
+            assertEquals("boom", e.getMessage());
+
+            // the committer keeps going after a failed sync
+            AtomicInteger synced = new AtomicInteger();
+            scheduler.sync(dataPath.resolve("translog"), synced::incrementAndGet);
+            assertEquals(1, synced.get());
+        }
+    }
+
+    public void testSyncOutsideOfDataPathsIsNotGrouped() throws Exception {
+        Path dataPath = createTempDir();
+        Path otherPath = createTempDir();
+        try (TranslogGroupCommitScheduler scheduler = newScheduler("1ms", dataPath)) {
+            Thread caller = Thread.currentThread();
+            AtomicReference<Thread> syncThread = new AtomicReference<>();
+            scheduler.sync(otherPath.resolve("translog"), () -> syncThread.set(Thread.currentThread()));
+            assertSame(caller, syncThread.get());
+            assertEquals(0, scheduler.stats().getSyncs());
+
+            // grouped syncs run on the caller too, once released by their group commit
+            syncThread.set(null);
+            scheduler.sync(dataPath.resolve("translog"), () -> syncThread.set(Thread.currentThread()));
+            assertSame(caller, syncThread.get());
+            assertEquals(1, scheduler.stats().getSyncs());
+            assertEquals(1, scheduler.stats().getGroupCommits());
+        }
+    }
+
+    public void testCloseFailsPendingSyncs() throws Exception {
+        Path dataPath = createTempDir();
+        TranslogGroupCommitScheduler scheduler = newScheduler("0ms", dataPath);
+        CountDownLatch syncing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread blocked = new Thread(() -> {
+            try {
+                scheduler.sync(dataPath.resolve("translog"), () -> {
+                    syncing.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        });
+        blocked.start();
+        syncing.await();
+
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        Thread pending = new Thread(() -> {
+            try {
+                scheduler.sync(dataPath.resolve("translog"), () -> {});
+            } catch (Exception e) {
+                failure.set(e);
+            }
+        });
+        pending.start();
+        assertBusy(() -> assertTrue(pending.getState() == Thread.State.WAITING));
+
+        release.countDown();
+        scheduler.close();
+        pending.join();
+        blocked.join();
+        // the pending sync either made it into the last group commit or was failed on close
+        if (failure.get() != null) {
+            assertTrue(failure.get() instanceof AlreadyClosedException);
+        }
+
+        // syncs after close run on the caller
+        AtomicInteger synced = new AtomicInteger();
+        scheduler.sync(dataPath.resolve("translog"), synced::incrementAndGet);
+        assertEquals(1, synced.get());
+    }
+}
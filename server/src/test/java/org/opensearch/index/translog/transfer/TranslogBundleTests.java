@@ -0,0 +1,345 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog.transfer;
+
+import org.opensearch.common.blobstore.BlobPath;
+import org.opensearch.common.blobstore.BlobStore;
+import org.opensearch.common.blobstore.fs.FsBlobStore;
+import org.opensearch.common.blobstore.stream.write.WritePriority;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.indices.RemoteStoreSettings;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.opensearch.index.translog.transfer.FileSnapshot.TransferFileSnapshot;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+public class TranslogBundleTests extends OpenSearchTestCase {
+
+    public void testWriteAndReadIndex() throws Exception {
+        List<TranslogBundle.PendingFile> files = new ArrayList<>();
+        int numFiles = randomIntBetween(1, 10);
+        for (int i = 0; i < numFiles; i++) {
+            files.add(
+                new TranslogBundle.PendingFile(
+                    "base/" + randomAlphaOfLength(5) + "/translog/metadata/",
+                    randomNonNegativeLong(),
+                    i,
+                    "translog-" + i + ".tlog",
+                    randomByteArrayOfLength(randomIntBetween(0, 100))
+                )
+            );
+        }
+        TranslogBundle.Bundle bundle = TranslogBundle.write(files);
+        assertEquals(numFiles, bundle.entries.size());
+
+        int indexLength = ByteBuffer.wrap(bundle.content).getInt();
+        byte[] index = Arrays.copyOfRange(bundle.content, Integer.BYTES, Integer.BYTES + indexLength);
+        List<TranslogBundle.Entry> entries = TranslogBundle.readIndex(index);
+        assertEquals(numFiles, entries.size());
+        for (int i = 0; i < numFiles; i++) {
+            TranslogBundle.PendingFile file = files.get(i);
+            TranslogBundle.Entry written = bundle.entries.get(i);
+            TranslogBundle.Entry read = entries.get(i);
+            assertEquals(file.metadataPath, read.metadataPath);
+            assertEquals(file.primaryTerm, read.primaryTerm);
+            assertEquals(file.generation, read.generation);
+            assertEquals(file.fileName, read.fileName);
+            assertEquals(written.offset, read.offset);
+            assertEquals(file.content.length, read.length);
+            byte[] content = Arrays.copyOfRange(bundle.content, (int) read.offset, (int) (read.offset + read.length));
+            assertArrayEquals(file.content, content);
+        }
+    }
+
+    public void testGenerationLocation() {
+        TranslogBundle.GenerationLocation location = new TranslogBundle.GenerationLocation(
+            "base/translog-bundles/node/",
+            TranslogBundle.blobName(randomNonNegativeLong()),
+            randomNonNegativeLong(),
+            randomNonNegativeLong(),
+            randomNonNegativeLong(),
+            randomNonNegativeLong()
+        );
+        TranslogBundle.GenerationLocation decoded = TranslogBundle.GenerationLocation.decode(location.encode());
+        assertEquals(location.path, decoded.path);
+        assertEquals(location.blobName, decoded.blobName);
+        assertEquals(location.translogOffset, decoded.translogOffset);
+        assertEquals(location.translogLength, decoded.translogLength);
+        assertEquals(location.checkpointOffset, decoded.checkpointOffset);
+        assertEquals(location.checkpointLength, decoded.checkpointLength);
+
+        expectThrows(IllegalArgumentException.class, () -> TranslogBundle.GenerationLocation.decode("base|bundle"));
+    }
+
+    public void testBlobName() {
+        long timestamp = randomNonNegativeLong();
+        assertEquals(timestamp, TranslogBundle.timestamp(TranslogBundle.blobName(timestamp)));
+        // names sort from the most recent to the oldest bundle
+        assertTrue(TranslogBundle.blobName(2).compareTo(TranslogBundle.blobName(1)) < 0);
+    }
+
+    public void testToBlobPath() {
+        BlobPath path = BlobPath.cleanPath().add("base").add("index").add("0").add("translog");
+        assertEquals(path.buildAsString(), TranslogBundle.toBlobPath(path.buildAsString()).buildAsString());
+    }
+
+    public void testUploaderBundlesFilesOfSeveralUploads() throws Exception {
+        ThreadPool threadPool = new TestThreadPool(getTestName());
+        ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        RemoteStoreSettings remoteStoreSettings = new RemoteStoreSettings(
+            Settings.builder().put(RemoteStoreSettings.CLUSTER_REMOTE_TRANSLOG_BUNDLE_INTERVAL_SETTING.getKey(), "100ms").build(),
+            clusterSettings
+        );
+        try (
+            BlobStore blobStore = new FsBlobStore(randomIntBetween(1, 8) * 1024, createTempDir(), false);
+            TranslogBundleUploader uploader = new TranslogBundleUploader(threadPool, remoteStoreSettings, () -> "node")
+        ) {
+            assertTrue(uploader.isEnabled());
+            TransferService transferService = new BlobStoreTransferService(blobStore, threadPool);
+            TranslogBundleUploader.Target target = uploader.target("repo", transferService, BlobPath.cleanPath().add("base"));
+
+            int numUploads = randomIntBetween(2, 5);
+            List<Tuple<String, List<TranslogBundle.Entry>>> results = new ArrayList<>();
+            CountDownLatch latch = new CountDownLatch(numUploads);
+            for (int i = 0; i < numUploads; i++) {
+                byte[] content = ("shard-" + i).getBytes(StandardCharsets.UTF_8);
+                TranslogBundle.PendingFile file = new TranslogBundle.PendingFile("shard-" + i, 1, 1, "translog-1.tlog", content);
+                uploader.upload(target, List.of(file), ActionListener.wrap(result -> {
+                    synchronized (results) {
+                        results.add(result);
+                    }
+                    latch.countDown();
+                }, e -> { throw new AssertionError(e); }));
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+            Set<String> blobs = transferService.listAll(target.getPath());
+            assertEquals(1, blobs.size());
+            for (Tuple<String, List<TranslogBundle.Entry>> result : results) {
+                assertEquals(blobs.iterator().next(), result.v1());
+                assertEquals(1, result.v2().size());
+                TranslogBundle.Entry entry = result.v2().get(0);
+                try (InputStream in = transferService.downloadBlob(target.getPath(), result.v1(), entry.offset, entry.length)) {
+                    assertEquals(entry.metadataPath, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                }
+            }
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    public void testUploaderUploadsBundleOnceMaxSizeIsReached() throws Exception {
+        CapturingThreadPool threadPool = new CapturingThreadPool();
+        RemoteStoreSettings remoteStoreSettings = remoteStoreSettings("1s", "1mb");
+        try (
+            BlobStore blobStore = new FsBlobStore(randomIntBetween(1, 8) * 1024, createTempDir(), false);
+            TranslogBundleUploader uploader = new TranslogBundleUploader(threadPool, remoteStoreSettings, () -> "node")
+        ) {
+            TransferService transferService = new BlobStoreTransferService(blobStore, threadPool);
+            TranslogBundleUploader.Target target = uploader.target("repo", transferService, BlobPath.cleanPath().add("base"));
+            int halfMaxSize = (int) remoteStoreSettings.getClusterRemoteTranslogBundleMaxSize().getBytes() / 2;
+
+            // below the max size, the files wait for the interval
+            UploadListener first = new UploadListener();
+            uploader.upload(target, List.of(pendingFile("shard-0", 1, halfMaxSize)), first);
+            assertEquals(1, first.latch.getCount());
+            assertEquals(1, threadPool.flushes.size());
+
+            // reaching it uploads the files of both shards right away
+            UploadListener second = new UploadListener();
+            uploader.upload(target, List.of(pendingFile("shard-1", 1, halfMaxSize)), second);
+            assertTrue(first.latch.await(10, TimeUnit.SECONDS));
+            assertTrue(second.latch.await(10, TimeUnit.SECONDS));
+            assertEquals(first.result.v1(), second.result.v1());
+            assertEquals(Set.of(first.result.v1()), transferService.listAll(target.getPath()));
+
+            // the interval of the uploaded bundle then elapses without uploading anything
+            threadPool.flushes.remove(0).run();
+            assertEquals(1, transferService.listAll(target.getPath()).size());
+
+            // and the next files start a new bundle
+            UploadListener third = new UploadListener();
+            uploader.upload(target, List.of(pendingFile("shard-0", 2, 10)), third);
+            assertEquals(1, third.latch.getCount());
+            threadPool.flushes.remove(0).run();
+            assertTrue(third.latch.await(10, TimeUnit.SECONDS));
+            assertNotEquals(first.result.v1(), third.result.v1());
+            assertEquals(Set.of(first.result.v1(), third.result.v1()), transferService.listAll(target.getPath()));
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    public void testUploaderFailsEveryUploadOfBundle() throws Exception {
+        CapturingThreadPool threadPool = new CapturingThreadPool();
+        try (TranslogBundleUploader uploader = new TranslogBundleUploader(threadPool, remoteStoreSettings("1s", "1mb"), () -> "node")) {
+            TransferService transferService = mock(TransferService.class);
+            IOException failure = new IOException("upload failed");
+            doThrow(failure).when(transferService)
+                .uploadBlob(any(TransferFileSnapshot.class), any(BlobPath.class), any(WritePriority.class));
+            TranslogBundleUploader.Target target = uploader.target("repo", transferService, BlobPath.cleanPath().add("base"));
+
+            List<UploadListener> listeners = new ArrayList<>();
+            int numUploads = randomIntBetween(2, 5);
+            for (int i = 0; i < numUploads; i++) {
+                UploadListener listener = new UploadListener();
+                uploader.upload(target, List.of(pendingFile("shard-" + i, 1, 10)), listener);
+                listeners.add(listener);
+            }
+            assertEquals(1, threadPool.flushes.size());
+            threadPool.flushes.remove(0).run();
+            for (UploadListener listener : listeners) {
+                assertTrue(listener.latch.await(10, TimeUnit.SECONDS));
+                assertNull(listener.result);
+                assertSame(failure, listener.failure);
+            }
+
+            // the files that wait for the next bundle fail once the uploader is closed
+            UploadListener pending = new UploadListener();
+            uploader.upload(target, List.of(pendingFile("shard-0", 2, 10)), pending);
+            uploader.close();
+            assertTrue(pending.latch.await(10, TimeUnit.SECONDS));
+            assertThat(pending.failure, instanceOf(IllegalStateException.class));
+            UploadListener closed = new UploadListener();
+            uploader.upload(target, List.of(pendingFile("shard-0", 3, 10)), closed);
+            assertTrue(closed.latch.await(10, TimeUnit.SECONDS));
+            assertThat(closed.failure, instanceOf(IllegalStateException.class));
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    public void testCleanupDeletesUnreferencedBundles() throws Exception {
+        ThreadPool threadPool = new TestThreadPool(getTestName());
+        try (
+            BlobStore blobStore = new FsBlobStore(randomIntBetween(1, 8) * 1024, createTempDir(), false);
+            TranslogBundleUploader uploader = new TranslogBundleUploader(threadPool, remoteStoreSettings("100ms", "1mb"), () -> "node")
+        ) {
+            TransferService transferService = new BlobStoreTransferService(blobStore, threadPool);
+            TranslogBundleUploader.Target target = uploader.target("repo", transferService, BlobPath.cleanPath().add("base"));
+            BlobPath shardMetadataPath = BlobPath.cleanPath().add("base").add("index").add("0").add("translog").add("metadata");
+            String shard = shardMetadataPath.buildAsString();
+            // the other shard has no translog metadata anymore, as if it was deleted
+            String deletedShard = BlobPath.cleanPath().add("base").add("index").add("1").add("translog").add("metadata").buildAsString();
+            String metadataFileName = new TranslogTransferMetadata(1, 5, 3, 1).getFileName();
+            uploadMetadata(transferService, shardMetadataPath, metadataFileName);
+
+            long old = threadPool.absoluteTimeInMillis() - TimeValue.timeValueHours(1).millis();
+            String unreferenced = uploadBundle(transferService, target, old, pendingFile(shard, 1, 10), pendingFile(shard, 2, 10));
+            String referenced = uploadBundle(transferService, target, old, pendingFile(shard, 2, 10), pendingFile(shard, 3, 10));
+            String ofDeletedShard = uploadBundle(transferService, target, old, pendingFile(deletedShard, 7, 10));
+            // recent bundles may hold files of metadata that is still being uploaded
+            String recent = uploadBundle(transferService, target, threadPool.absoluteTimeInMillis(), pendingFile(deletedShard, 1, 10));
+            assertThat(transferService.listAll(target.getPath()), containsInAnyOrder(unreferenced, referenced, ofDeletedShard, recent));
+
+            uploader.cleanup();
+            assertThat(transferService.listAll(target.getPath()), containsInAnyOrder(referenced, recent));
+
+            // the shard trims the generations of the referenced bundle
+            transferService.deleteBlobs(shardMetadataPath, List.of(metadataFileName));
+            metadataFileName = new TranslogTransferMetadata(1, 6, 4, 1).getFileName();
+            uploadMetadata(transferService, shardMetadataPath, metadataFileName);
+            uploader.cleanup();
+            assertEquals(Set.of(recent), transferService.listAll(target.getPath()));
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    private static RemoteStoreSettings remoteStoreSettings(String interval, String maxSize) {
+        return new RemoteStoreSettings(
+            Settings.builder()
+                .put(RemoteStoreSettings.CLUSTER_REMOTE_TRANSLOG_BUNDLE_INTERVAL_SETTING.getKey(), interval)
+                .put(RemoteStoreSettings.CLUSTER_REMOTE_TRANSLOG_BUNDLE_MAX_SIZE_SETTING.getKey(), maxSize)
+                .build(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+    }
+
+    private static TranslogBundle.PendingFile pendingFile(String metadataPath, long generation, int length) {
+        String fileName = "translog-" + generation + ".tlog";
+        return new TranslogBundle.PendingFile(metadataPath, 1, generation, fileName, randomByteArrayOfLength(length));
+    }
+
+    private static void uploadMetadata(TransferService transferService, BlobPath path, String fileName) throws IOException {
+        transferService.uploadBlob(new TransferFileSnapshot(fileName, new byte[] { 1 }, 1), path, WritePriority.HIGH);
+    }
+
+    private static String uploadBundle(
+        TransferService transferService,
+        TranslogBundleUploader.Target target,
+        long timestamp,
+        TranslogBundle.PendingFile... files
+    ) throws IOException {
+        String blobName = TranslogBundle.blobName(timestamp);
+        TranslogBundle.Bundle bundle = TranslogBundle.write(List.of(files));
+        transferService.uploadBlob(new TransferFileSnapshot(blobName, bundle.content, 0L), target.getPath(), WritePriority.HIGH);
+        return blobName;
+    }
+
+    private static class UploadListener implements ActionListener<Tuple<String, List<TranslogBundle.Entry>>> {
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private volatile Tuple<String, List<TranslogBundle.Entry>> result;
+        private volatile Exception failure;
+
+        @Override
+        public void onResponse(Tuple<String, List<TranslogBundle.Entry>> result) {
+            this.result = result;
+            latch.countDown();
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+            this.failure = e;
+            latch.countDown();
+        }
+    }
+
+    /**
+     * Captures the flushes of bundles rather than running them once their interval elapses, so that tests decide when the
+     * interval elapses. Other tasks, such as the cleanup of bundles, never run.
+     */
+    private class CapturingThreadPool extends TestThreadPool {
+        private final List<Runnable> flushes = Collections.synchronizedList(new ArrayList<>());
+
+        private CapturingThreadPool() {
+            super(getTestName());
+        }
+
+        @Override
+        public ScheduledCancellable schedule(Runnable task, TimeValue delay, String executor) {
+            if (ThreadPool.Names.TRANSLOG_TRANSFER.equals(executor)) {
+                flushes.add(task);
+            }
+            return null;
+        }
+    }
+}
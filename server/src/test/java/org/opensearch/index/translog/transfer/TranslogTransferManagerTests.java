@@ -16,9 +16,12 @@ import org.opensearch.common.blobstore.BlobMetadata;
 import org.opensearch.common.blobstore.BlobPath;
 import org.opensearch.common.blobstore.BlobStore;
 import org.opensearch.common.blobstore.InputStreamWithMetadata;
+import org.opensearch.common.blobstore.fs.FsBlobStore;
 import org.opensearch.common.blobstore.stream.write.WritePriority;
 import org.opensearch.common.blobstore.support.PlainBlobMetadata;
 import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.index.Index;
@@ -47,6 +50,7 @@ import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -792,6 +796,93 @@ public class TranslogTransferManagerTests extends OpenSearchTestCase {
         assertEquals(2, fileTransferTracker.allUploaded().size());
     }
 
+    public void testTransferSnapshotWithBundles() throws Exception {
+        RemoteStoreSettings remoteStoreSettings = new RemoteStoreSettings(
+            Settings.builder().put(RemoteStoreSettings.CLUSTER_REMOTE_TRANSLOG_BUNDLE_INTERVAL_SETTING.getKey(), "10ms").build(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+        try (
+            BlobStore blobStore = new FsBlobStore(randomIntBetween(1, 8) * 1024, createTempDir(), false);
+            TranslogBundleUploader uploader = new TranslogBundleUploader(threadPool, remoteStoreSettings, () -> "node")
+        ) {
+            TransferService blobStoreTransferService = new BlobStoreTransferService(blobStore, threadPool);
+            translogTransferManager = new TranslogTransferManager(
+                shardId,
+                blobStoreTransferService,
+                remoteBaseTransferPath.add(TRANSLOG.getName()),
+                remoteBaseTransferPath.add(METADATA.getName()),
+                tracker,
+                remoteTranslogTransferTracker,
+                DefaultRemoteStoreSettings.INSTANCE,
+                false
+            );
+            translogTransferManager.setBundleUploader(uploader, "repo", remoteBaseTransferPath);
+            TranslogTransferListener listener = new TranslogTransferListener() {
+                @Override
+                public void onUploadComplete(TransferSnapshot transferSnapshot) {}
+
+                @Override
+                public void onUploadFailed(TransferSnapshot transferSnapshot, Exception ex) {
+                    throw new AssertionError(ex);
+                }
+            };
+            Path location = createTempDir();
+
+            assertTrue(translogTransferManager.transferSnapshot(createTransferSnapshot(location, 1, 2), listener));
+            assertEquals(Set.of(1L, 2L), translogTransferManager.getBundledGenerations());
+            assertEquals(Set.of("1", "2"), translogTransferManager.readMetadata().getGenerationToBundleLocation().keySet());
+            // the files were bundled rather than uploaded as blobs of their own
+            BlobPath dataPath = remoteBaseTransferPath.add(TRANSLOG.getName()).add(String.valueOf(primaryTerm));
+            assertEquals(Set.of(), blobStoreTransferService.listAll(dataPath));
+
+            // the translog moves on to new generations and trims the older ones, which the metadata doesn't reference anymore
+            assertTrue(translogTransferManager.transferSnapshot(createTransferSnapshot(location, 3, 4), listener));
+            assertEquals(Set.of(3L, 4L), translogTransferManager.getBundledGenerations());
+            assertEquals(Set.of("3", "4"), translogTransferManager.readMetadata().getGenerationToBundleLocation().keySet());
+            assertEquals(Set.of(), blobStoreTransferService.listAll(dataPath));
+        }
+    }
+
+    private TransferSnapshot createTransferSnapshot(Path location, long minGeneration, long maxGeneration) throws IOException {
+        Set<TransferFileSnapshot> translogFileSnapshots = new HashSet<>();
+        Set<TransferFileSnapshot> checkpointFileSnapshots = new HashSet<>();
+        for (long generation = minGeneration; generation <= maxGeneration; generation++) {
+            Path translogPath = location.resolve(Translog.getFilename(generation));
+            Files.write(translogPath, randomByteArrayOfLength(randomIntBetween(1, 100)));
+            translogFileSnapshots.add(new TranslogFileSnapshot(primaryTerm, generation, translogPath, null));
+            Path checkpointPath = location.resolve(Translog.getCommitCheckpointFileName(generation));
+            Files.write(checkpointPath, randomByteArrayOfLength(randomIntBetween(1, 100)));
+            checkpointFileSnapshots.add(new CheckpointFileSnapshot(primaryTerm, generation, minGeneration, checkpointPath, null));
+        }
+        TranslogTransferMetadata translogTransferMetadata = new TranslogTransferMetadata(
+            primaryTerm,
+            maxGeneration,
+            minGeneration,
+            translogFileSnapshots.size() + checkpointFileSnapshots.size()
+        );
+        return new TransferSnapshot() {
+            @Override
+            public Set<TransferFileSnapshot> getCheckpointFileSnapshots() {
+                return checkpointFileSnapshots;
+            }
+
+            @Override
+            public Set<TransferFileSnapshot> getTranslogFileSnapshots() {
+                return translogFileSnapshots;
+            }
+
+            @Override
+            public TranslogTransferMetadata getTranslogTransferMetadata() {
+                return translogTransferMetadata;
+            }
+
+            @Override
+            public Set<TransferFileSnapshot> getTranslogFileSnapshotWithMetadata() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
     public void testDownloadTranslogWithMetadata() throws IOException {
         isTranslogMetadataEnabled = true;
         translogTransferManager = new TranslogTransferManager(
@@ -27,6 +27,8 @@ public class TranslogTransferMetadataHandlerFactoryTests extends OpenSearchTestC
     public void testGetHandlerReturnsBasedOnVersion() {
         IndexIOStreamHandler<TranslogTransferMetadata> versionOneHandler = translogTransferMetadataHandlerFactory.getHandler(1);
         assertTrue(versionOneHandler instanceof TranslogTransferMetadataHandler);
+        IndexIOStreamHandler<TranslogTransferMetadata> versionTwoHandler = translogTransferMetadataHandlerFactory.getHandler(2);
+        assertTrue(versionTwoHandler instanceof TranslogTransferMetadataHandler);
     }
 
     public void testGetHandlerWhenCalledMultipleTimesReturnsCachedHandler() {
@@ -36,7 +38,7 @@ public class TranslogTransferMetadataHandlerFactoryTests extends OpenSearchTestC
     }
 
     public void testGetHandlerWhenHandlerNotProvidedThrowsException() {
-        Throwable throwable = assertThrows(IllegalArgumentException.class, () -> { translogTransferMetadataHandlerFactory.getHandler(2); });
-        assertEquals("Unsupported TranslogTransferMetadata version: 2", throwable.getMessage());
+        Throwable throwable = assertThrows(IllegalArgumentException.class, () -> { translogTransferMetadataHandlerFactory.getHandler(3); });
+        assertEquals("Unsupported TranslogTransferMetadata version: 3", throwable.getMessage());
     }
 }
@@ -61,6 +61,25 @@ public class TranslogTransferMetadataHandlerTests extends OpenSearchTestCase {
         assertEquals(expectedMetadata, actualMetadata);
     }
 
+    public void testBundledVersionRoundTrip() throws IOException {
+        TranslogTransferMetadata expectedMetadata = getTestMetadata();
+        Map<String, String> generationToBundleLocation = new HashMap<>();
+        generationToBundleLocation.put("500", "translog-bundles/node|bundle__1|4|100|104|60");
+        expectedMetadata.setGenerationToBundleLocation(generationToBundleLocation);
+
+        TranslogTransferMetadataHandler bundledHandler = new TranslogTransferMetadataHandler(TranslogTransferMetadata.BUNDLED_VERSION);
+        BytesStreamOutput output = new BytesStreamOutput();
+        OutputStreamIndexOutput actualMetadataStream = new OutputStreamIndexOutput("dummy bytes", "dummy stream", output, 4096);
+        bundledHandler.writeContent(actualMetadataStream, expectedMetadata);
+        actualMetadataStream.close();
+
+        IndexInput indexInput = new ByteArrayIndexInput("metadata file", BytesReference.toBytes(output.bytes()));
+        TranslogTransferMetadata actualMetadata = bundledHandler.readContent(indexInput);
+        assertEquals(expectedMetadata, actualMetadata);
+        assertEquals(expectedMetadata.getGenerationToPrimaryTermMapper(), actualMetadata.getGenerationToPrimaryTermMapper());
+        assertEquals(generationToBundleLocation, actualMetadata.getGenerationToBundleLocation());
+    }
+
     private TranslogTransferMetadata getTestMetadata() {
         long primaryTerm = 3;
         long generation = 500;
@@ -38,6 +38,7 @@ import org.opensearch.common.SetOnce;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.index.codec.CodecService;
 import org.opensearch.index.engine.EngineConfig;
@@ -59,6 +60,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -80,6 +82,9 @@ public class IndexingMemoryControllerTests extends IndexShardTestCase {
         // Shards that are currently throttled
         final Set<IndexShard> throttled = new HashSet<>();
 
+        // The clock the ingest rates are measured with
+        long nanoTime;
+
         MockController(Settings settings) {
             super(
                 Settings.builder()
@@ -119,6 +124,16 @@ public class IndexingMemoryControllerTests extends IndexShardTestCase {
         @Override
         protected void checkIdle(IndexShard shard, long inactiveTimeNS) {}
 
+        @Override
+        protected long relativeTimeInNanos() {
+            return nanoTime;
+        }
+
+        public void setBuffer(IndexShard shard, int mb) {
+            indexBufferRAMBytesUsed.put(shard, mb * 1024L * 1024L);
+            writingBytes.putIfAbsent(shard, 0L);
+        }
+
         @Override
         public void writeIndexingBufferAsync(IndexShard shard) {
             long bytes = indexBufferRAMBytesUsed.put(shard, 0L);
@@ -212,6 +227,52 @@ public class IndexingMemoryControllerTests extends IndexShardTestCase {
         closeShards(shard0, shard1, shard2);
     }
 
+    public void testAdaptiveBudgetFollowsIngestRates() throws IOException {
+        final long mb = 1024 * 1024;
+        MockController controller = new MockController(
+            Settings.builder()
+                .put("indices.memory.index_buffer_size", "10mb")
+                .put(IndexingMemoryController.ADAPTIVE_INDEX_BUFFER_SETTING.getKey(), true)
+                .build()
+        );
+        IndexShard hot = newShard(new ShardId("index", "_na_", 0), true);
+        IndexShard cold = newShard(new ShardId("index", "_na_", 1), true);
+        controller.setBuffer(hot, 0);
+        controller.setBuffer(cold, 0);
+        controller.forceCheck();
+
+        // checks that are triggered before the clock moves leave the bytes to the next rate sample
+        controller.bytesWritten(hot.shardId(), 9 * 1024 * 1024);
+        controller.bytesWritten(cold.shardId(), 1024 * 1024);
+        controller.nanoTime += TimeUnit.SECONDS.toNanos(1);
+
+        // the hot shard uses more heap, but it is within its share of the budget while the cold shard is not
+        controller.setBuffer(hot, 6);
+        controller.setBuffer(cold, 5);
+        controller.forceCheck();
+        controller.assertBuffer(hot, 6);
+        controller.assertBuffer(cold, 0);
+        controller.assertWriting(cold, 5);
+
+        IndexingBufferStats stats = controller.stats();
+        assertTrue(stats.isAdaptive());
+        assertEquals(10 * mb, stats.getBudgetInBytes());
+        assertEquals(11 * mb, stats.getUsedInBytes());
+        assertEquals(1, stats.getWriteCount());
+        assertEquals(2, stats.getShards().size());
+        IndexingBufferStats.ShardIndexingBufferStats hotStats = stats.getShards().get(0);
+        IndexingBufferStats.ShardIndexingBufferStats coldStats = stats.getShards().get(1);
+        assertEquals(hot.shardId(), hotStats.getShardId());
+        assertEquals(9 * mb, hotStats.getBudgetInBytes(), 1);
+        assertEquals(0, hotStats.getWriteCount());
+        assertEquals(cold.shardId(), coldStats.getShardId());
+        assertEquals(mb, coldStats.getBudgetInBytes(), 1);
+        assertEquals(1, coldStats.getWriteCount());
+        assertTrue(hotStats.getIngestRateInBytesPerSecond() > coldStats.getIngestRateInBytesPerSecond());
+
+        closeShards(hot, cold);
+    }
+
     public void testActiveInactive() throws IOException {
 
         MockController controller = new MockController(Settings.builder().put("indices.memory.index_buffer_size", "5mb").build());
@@ -33,11 +33,14 @@
 package org.opensearch.indices;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
 import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
@@ -59,12 +62,23 @@ import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TotalHitCountCollector;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BitDocIdSet;
 import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.RoaringDocIdSet;
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.module.CacheModule;
+import org.opensearch.common.cache.settings.CacheSettings;
+import org.opensearch.common.cache.store.OpenSearchOnHeapCache;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.env.NodeEnvironment;
 import org.opensearch.index.cache.query.QueryCacheStats;
 import org.opensearch.index.mapper.KeywordFieldMapper;
 import org.opensearch.test.OpenSearchTestCase;
@@ -225,6 +239,182 @@ public class IndicesQueryCacheTests extends OpenSearchTestCase {
         cache.close(); // this triggers some assertions
     }
 
+    public void testPluggableCache() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, newIndexWriterConfig());
+        w.addDocument(new Document());
+        DirectoryReader r = DirectoryReader.open(w);
+        w.close();
+        ShardId shard = new ShardId("index", "_na_", 0);
+        r = OpenSearchDirectoryReader.wrap(r, shard);
+        IndexSearcher s = new IndexSearcher(r);
+        s.setQueryCachingPolicy(alwaysCachePolicy());
+
+        Settings settings = Settings.builder()
+            .put(IndicesQueryCache.INDICES_CACHE_QUERY_COUNT_SETTING.getKey(), 10)
+            .put(IndicesQueryCache.INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING.getKey(), true)
+            .put(
+                CacheSettings.getConcreteStoreNameSettingForCacheType(CacheType.INDICES_QUERY_CACHE).getKey(),
+                OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory.NAME
+            )
+            .build();
+        try (NodeEnvironment env = newNodeEnvironment(settings)) {
+            IndicesQueryCache cache = new IndicesQueryCache(
+                settings,
+                new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+                new CacheModule(new ArrayList<>(), settings).getCacheService(),
+                env
+            );
+            s.setQueryCache(cache);
+
+            assertEquals(1, s.count(new DummyQuery(0)));
+
+            QueryCacheStats stats = cache.getStats(shard);
+            assertEquals(1L, stats.getCacheSize());
+            assertEquals(1L, stats.getCacheCount());
+            assertEquals(0L, stats.getHitCount());
+            assertEquals(1L, stats.getMissCount());
+            assertTrue(stats.getMemorySizeInBytes() > 0L && stats.getMemorySizeInBytes() < Long.MAX_VALUE);
+
+            assertEquals(1, s.count(new DummyQuery(0)));
+
+            stats = cache.getStats(shard);
+            assertEquals(1L, stats.getCacheSize());
+            assertEquals(1L, stats.getHitCount());
+            assertEquals(1L, stats.getMissCount());
+
+            for (int i = 1; i < 20; ++i) {
+                assertEquals(1, s.count(new DummyQuery(i)));
+            }
+
+            stats = cache.getStats(shard);
+            assertEquals(20L, stats.getCacheSize());
+            assertEquals(20L, stats.getCacheCount());
+
+            // only the 10 most recently used queries are tracked, the entries of the others are removed on cleanup
+            cache.cleanCache();
+            stats = cache.getStats(shard);
+            assertEquals(10L, stats.getCacheSize());
+            assertEquals(20L, stats.getCacheCount());
+
+            IOUtils.close(r, dir);
+
+            // the entries of closed segments are removed on cleanup, but no changes to other metrics
+            cache.cleanCache();
+            stats = cache.getStats(shard);
+            assertEquals(0L, stats.getCacheSize());
+            assertEquals(20L, stats.getCacheCount());
+            assertEquals(1L, stats.getHitCount());
+            assertEquals(20L, stats.getMissCount());
+            assertEquals(0L, stats.getMemorySizeInBytes());
+
+            cache.onClose(shard);
+
+            // forgot everything
+            stats = cache.getStats(shard);
+            assertEquals(0L, stats.getCacheSize());
+            assertEquals(0L, stats.getCacheCount());
+            assertEquals(0L, stats.getHitCount());
+            assertEquals(0L, stats.getMissCount());
+
+            cache.close();
+        }
+    }
+
+    public void testPluggableCacheCountWithDeletions() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE));
+        for (int i = 0; i < 5; i++) {
+            Document doc = new Document();
+            doc.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+            w.addDocument(doc);
+        }
+        DirectoryReader r = DirectoryReader.open(w);
+        ShardId shard = new ShardId("index", "_na_", 0);
+        r = OpenSearchDirectoryReader.wrap(r, shard);
+        IndexSearcher s = new IndexSearcher(r);
+        s.setQueryCachingPolicy(alwaysCachePolicy());
+
+        Settings settings = Settings.builder()
+            .put(IndicesQueryCache.INDICES_CACHE_QUERY_COUNT_SETTING.getKey(), 10)
+            .put(IndicesQueryCache.INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING.getKey(), true)
+            .put(
+                CacheSettings.getConcreteStoreNameSettingForCacheType(CacheType.INDICES_QUERY_CACHE).getKey(),
+                OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory.NAME
+            )
+            .build();
+        try (NodeEnvironment env = newNodeEnvironment(settings)) {
+            IndicesQueryCache cache = new IndicesQueryCache(
+                settings,
+                new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+                new CacheModule(new ArrayList<>(), settings).getCacheService(),
+                env
+            );
+            s.setQueryCache(cache);
+            assertEquals(5, s.count(new DummyQuery(0)));
+            assertEquals(1L, cache.getStats(shard).getCacheSize());
+
+            // deletes keep the core cache key of the segment, so the cached doc id set still holds the deleted documents
+            w.deleteDocuments(new Term("id", "0"), new Term("id", "3"));
+            DirectoryReader newReader = DirectoryReader.openIfChanged(r);
+            assertNotNull(newReader);
+            IOUtils.close(r);
+            r = newReader;
+            assertTrue(r.leaves().get(0).reader().hasDeletions());
+            s = new IndexSearcher(r);
+            s.setQueryCachingPolicy(alwaysCachePolicy());
+            s.setQueryCache(cache);
+
+            assertEquals(3, s.count(new DummyQuery(0)));
+            QueryCacheStats stats = cache.getStats(shard);
+            assertEquals(1L, stats.getCacheSize());
+            assertEquals(1L, stats.getHitCount());
+
+            IOUtils.close(r, w, dir);
+            cache.onClose(shard);
+            cache.close();
+        }
+    }
+
+    public void testPluggableCacheSerialization() throws IOException {
+        ShardId shard = new ShardId("index", "_na_", 0);
+        PluggableQueryCache.Key key = new PluggableQueryCache.Key(shard, randomNonNegativeLong(), randomNonNegativeLong());
+        IQCKeyWriteableSerializer keySerializer = new IQCKeyWriteableSerializer();
+        assertEquals(key, keySerializer.deserialize(keySerializer.serialize(key)));
+        assertTrue(keySerializer.equals(key, keySerializer.serialize(key)));
+
+        IQCValueWriteableSerializer valueSerializer = new IQCValueWriteableSerializer();
+        int maxDoc = randomIntBetween(1, 100000);
+        for (boolean dense : new boolean[] { true, false }) {
+            List<Integer> docs = new ArrayList<>();
+            FixedBitSet bitSet = new FixedBitSet(maxDoc);
+            RoaringDocIdSet.Builder builder = new RoaringDocIdSet.Builder(maxDoc);
+            for (int doc = 0; doc < maxDoc; doc++) {
+                if (randomBoolean()) {
+                    docs.add(doc);
+                    bitSet.set(doc);
+                    builder.add(doc);
+                }
+            }
+            PluggableQueryCache.CachedDocIdSet value = new PluggableQueryCache.CachedDocIdSet(
+                maxDoc,
+                dense ? new BitDocIdSet(bitSet, docs.size()) : builder.build(),
+                docs.size(),
+                randomNonNegativeLong()
+            );
+            PluggableQueryCache.CachedDocIdSet deserialized = valueSerializer.deserialize(valueSerializer.serialize(value));
+            assertEquals(value.maxDoc, deserialized.maxDoc);
+            assertEquals(value.count, deserialized.count);
+            assertEquals(value.tookTimeNanos, deserialized.tookTimeNanos);
+            List<Integer> deserializedDocs = new ArrayList<>();
+            DocIdSetIterator iterator = deserialized.iterator();
+            for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+                deserializedDocs.add(doc);
+            }
+            assertEquals(docs, deserializedDocs);
+        }
+    }
+
     public void testTwoShards() throws IOException {
         Directory dir1 = newDirectory();
         IndexWriter w1 = new IndexWriter(dir1, newIndexWriterConfig());
@@ -363,6 +553,50 @@ public class IndicesQueryCacheTests extends OpenSearchTestCase {
     // with an empty cache gets closed. In that particular case, the eviction
     // callback is called with a number of evicted entries equal to 0
     // see https://github.com/elastic/elasticsearch/issues/15043
+    public void testRoaringDocIdSets() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, newIndexWriterConfig());
+        for (int i = 0; i < 10_000; i++) {
+            w.addDocument(new Document());
+        }
+        w.forceMerge(1);
+        DirectoryReader r = DirectoryReader.open(w);
+        w.close();
+        ShardId shard = new ShardId("index", "_na_", 0);
+        r = OpenSearchDirectoryReader.wrap(r, shard);
+        IndexSearcher s = new IndexSearcher(r);
+        s.setQueryCachingPolicy(alwaysCachePolicy());
+
+        long[] memorySizes = new long[2];
+        List<IndicesQueryCache> caches = new ArrayList<>();
+        for (boolean roaring : new boolean[] { false, true }) {
+            Settings settings = Settings.builder()
+                .put(IndicesQueryCache.INDICES_CACHE_QUERY_COUNT_SETTING.getKey(), 10)
+                .put(IndicesQueryCache.INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING.getKey(), true)
+                .put(IndicesQueryCache.INDICES_QUERIES_CACHE_ROARING_DOC_ID_SETS_SETTING.getKey(), roaring)
+                .build();
+            IndicesQueryCache cache = new IndicesQueryCache(settings);
+            caches.add(cache);
+            s.setQueryCache(cache);
+
+            assertEquals(10_000, s.count(new DummyQuery(0)));
+            assertEquals(10_000, s.count(new DummyQuery(0)));
+
+            QueryCacheStats stats = cache.getStats(shard);
+            assertEquals(1L, stats.getCacheSize());
+            assertEquals(1L, stats.getHitCount());
+            memorySizes[roaring ? 1 : 0] = stats.getMemorySizeInBytes();
+        }
+        // all the documents match, which a roaring bitmap keeps as a single run rather than as a bit per document
+        assertTrue(memorySizes[1] + " < " + memorySizes[0], memorySizes[1] < memorySizes[0]);
+
+        IOUtils.close(r, dir);
+        for (IndicesQueryCache cache : caches) {
+            cache.onClose(shard);
+            cache.close(); // this triggers some assertions
+        }
+    }
+
     public void testStatsOnEviction() throws IOException {
         Directory dir1 = newDirectory();
         IndexWriter w1 = new IndexWriter(dir1, newIndexWriterConfig());
@@ -511,6 +745,14 @@ public class IndicesQueryCacheTests extends OpenSearchTestCase {
         cache.close();
     }
 
+    public void testTimeSavedOnlyRenderedWhenTracked() {
+        QueryCacheStats stats = new QueryCacheStats.Builder().hitCount(1).build();
+        assertFalse(Strings.toString(MediaTypeRegistry.JSON, stats).contains("estimated_time_saved"));
+
+        stats = new QueryCacheStats.Builder().hitCount(1).timeSavedInNanos(TimeValue.timeValueMillis(5).nanos()).build();
+        assertTrue(Strings.toString(MediaTypeRegistry.JSON, stats).contains("\"estimated_time_saved_in_millis\":5"));
+    }
+
     public void testDynamicChangeSettings() throws IOException {
         Directory dir = newDirectory();
         IndexWriterConfig conf = newIndexWriterConfig();
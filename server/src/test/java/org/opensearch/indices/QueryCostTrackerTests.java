@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryCachingPolicy;
+import org.apache.lucene.search.TermQuery;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class QueryCostTrackerTests extends OpenSearchTestCase {
+
+    private final AtomicLong ramBytesUsed = new AtomicLong();
+    private final List<Query> evicted = new ArrayList<>();
+    private QueryCostTracker tracker;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        tracker = new QueryCostTracker(10, 1000, ramBytesUsed::get, query -> {
+            evicted.add(query);
+            tracker.onEvicted(query);
+        });
+    }
+
+    private static QueryCachingPolicy policy(boolean shouldCache) {
+        return new QueryCachingPolicy() {
+            @Override
+            public void onUse(Query query) {
+
+            }
+
+            @Override
+            public boolean shouldCache(Query query) {
+                return shouldCache;
+            }
+        };
+    }
+
+    private void build(Query query, long buildNanos, long ramBytesUsed) {
+        tracker.onBuilt(query, buildNanos, ramBytesUsed);
+    }
+
+    public void testUnknownCostIsLeftToUsagePolicy() throws IOException {
+        Query query = new TermQuery(new Term("field", "value"));
+        assertFalse(tracker.wrap(policy(false)).shouldCache(query));
+        assertTrue(tracker.wrap(policy(true)).shouldCache(query));
+        assertEquals(0L, tracker.getAdmittedCount());
+        assertEquals(0L, tracker.onHit(query));
+    }
+
+    public void testAdmitsWithoutPressure() throws IOException {
+        Query query = new TermQuery(new Term("field", "value"));
+        build(query, 1_000_000L, 100);
+        assertTrue(tracker.wrap(policy(false)).shouldCache(query));
+        assertEquals(1L, tracker.getAdmittedCount());
+        assertTrue(evicted.isEmpty());
+
+        tracker.onCached(query);
+        assertEquals(1, tracker.getCachedQueries());
+        assertEquals(1_000_000L, tracker.onHit(query));
+    }
+
+    public void testAdmitsAndEvictsByCostUnderPressure() throws IOException {
+        Query cached = new TermQuery(new Term("field", "cached"));
+        Query cheap = new TermQuery(new Term("field", "cheap"));
+        Query expensive = new TermQuery(new Term("field", "expensive"));
+        QueryCachingPolicy policy = tracker.wrap(policy(true));
+
+        build(cached, 1_000_000L, 100);
+        tracker.onCached(cached);
+        build(cheap, 0L, 1_000_000);
+        build(expensive, 1_000_000_000L, 100);
+        ramBytesUsed.set(950);
+
+        // a large doc id set that is quick to build saves less than the cached query, so it is not cached
+        assertFalse(policy.shouldCache(cheap));
+        assertEquals(1L, tracker.getRejectedCount());
+        assertTrue(evicted.isEmpty());
+
+        // an expensive one makes room for itself by evicting the cached query
+        assertTrue(policy.shouldCache(expensive));
+        assertEquals(List.of(cached), evicted);
+        assertEquals(1L, tracker.getAdmittedCount());
+        assertEquals(1L, tracker.getEvictedCount());
+        assertEquals(0, tracker.getCachedQueries());
+    }
+
+    public void testClear() {
+        Query query = new TermQuery(new Term("field", "value"));
+        build(query, 1_000L, 100);
+        tracker.onCached(query);
+        assertEquals(1, tracker.getCachedQueries());
+        tracker.onClear();
+        assertEquals(0, tracker.getCachedQueries());
+        tracker.onEvicted(query);
+        assertEquals(0, tracker.getCachedQueries());
+    }
+
+    public void testPrunesCostsOfQueriesThatAreNotCached() {
+        Query cached = new TermQuery(new Term("field", "cached"));
+        build(cached, 1_000L, 100);
+        tracker.onCached(cached);
+        for (int i = 0; i < 100; i++) {
+            build(new TermQuery(new Term("field", Integer.toString(i))), 1_000L, 100);
+        }
+        // twice the number of queries the cache holds are tracked at most, and the cached ones are kept
+        assertEquals(20, tracker.getTrackedQueries());
+        assertEquals(1_000L, tracker.onHit(cached));
+    }
+
+    public void testConcurrentUses() throws Exception {
+        Query query = new TermQuery(new Term("field", "value"));
+        build(query, 1_000L, 100);
+        QueryCachingPolicy policy = tracker.wrap(policy(false));
+        int numThreads = randomIntBetween(2, 8);
+        int numUses = randomIntBetween(100, 1000);
+        CyclicBarrier barrier = new CyclicBarrier(numThreads);
+        Thread[] threads = new Thread[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    barrier.await();
+                    for (int j = 0; j < numUses; j++) {
+                        policy.onUse(query);
+                        assertTrue(policy.shouldCache(query));
+                    }
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals((long) numThreads * numUses, tracker.getAdmittedCount());
+        assertEquals(0L, tracker.getRejectedCount());
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.BitSetIterator;
+import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+import org.roaringbitmap.RoaringBitmap;
+
+public class RoaringBitmapDocIdSetTests extends OpenSearchTestCase {
+
+    public void testIterator() throws IOException {
+        final int maxDoc = randomIntBetween(1, 300_000);
+        final FixedBitSet expected = new FixedBitSet(maxDoc);
+        final RoaringBitmap bitmap = new RoaringBitmap();
+        final double density = randomFrom(0.001, 0.05, 0.5, 0.99);
+        for (int doc = 0; doc < maxDoc; doc++) {
+            // runs of matching documents, as produced by range queries on sorted indices
+            final boolean run = doc > 0 && expected.get(doc - 1) && randomBoolean();
+            if (run || random().nextDouble() < density) {
+                expected.set(doc);
+                bitmap.add(doc);
+            }
+        }
+        final RoaringBitmapDocIdSet docIdSet = new RoaringBitmapDocIdSet(bitmap);
+        assertEquals(expected.cardinality(), docIdSet.cardinality());
+
+        DocIdSetIterator actual = docIdSet.iterator();
+        DocIdSetIterator reference = new BitSetIterator(expected, expected.cardinality());
+        assertEquals(reference.cost(), actual.cost());
+        for (int doc = reference.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = reference.nextDoc()) {
+            assertEquals(doc, actual.nextDoc());
+            assertEquals(doc, actual.docID());
+        }
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, actual.nextDoc());
+
+        actual = docIdSet.iterator();
+        reference = new BitSetIterator(expected, expected.cardinality());
+        int target = 0;
+        while (true) {
+            final int doc = reference.advance(target);
+            assertEquals(doc, actual.advance(target));
+            if (doc == DocIdSetIterator.NO_MORE_DOCS) {
+                break;
+            }
+            target = doc + 1 + randomIntBetween(0, 100_000);
+            if (target >= maxDoc) {
+                assertEquals(DocIdSetIterator.NO_MORE_DOCS, actual.advance(target));
+                break;
+            }
+        }
+    }
+
+    public void testEmpty() throws IOException {
+        final RoaringBitmapDocIdSet docIdSet = new RoaringBitmapDocIdSet(new RoaringBitmap());
+        assertEquals(0, docIdSet.cardinality());
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, docIdSet.iterator().nextDoc());
+    }
+
+    public void testRunsTakeLessThanBitSet() {
+        final int maxDoc = 1 << 20;
+        final RoaringBitmap bitmap = new RoaringBitmap();
+        bitmap.add(1000L, maxDoc - 1000L);
+        final RoaringBitmapDocIdSet docIdSet = new RoaringBitmapDocIdSet(bitmap);
+        assertEquals(maxDoc - 2000, docIdSet.cardinality());
+        assertTrue(docIdSet.ramBytesUsed() < new FixedBitSet(maxDoc).ramBytesUsed() / 10);
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.AggregatorTestCase;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.MultiBucketConsumerService.MultiBucketConsumer;
+import org.opensearch.search.aggregations.SearchContextAggregations;
+import org.opensearch.search.aggregations.bucket.global.GlobalAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.sampler.SamplerAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.InternalMax;
+import org.opensearch.search.aggregations.metrics.InternalSum;
+import org.opensearch.search.aggregations.metrics.MaxAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.SumAggregationBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.search.suggest.SuggestBuilder;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SegmentRequestCacheLoaderTests extends AggregatorTestCase {
+
+    private static final String FIELD = "value";
+
+    private final MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType(FIELD, NumberFieldMapper.NumberType.LONG);
+
+    private SearchContext searchContext(IndexSearcher searcher, AggregationBuilder... aggregations) throws IOException {
+        MultiBucketConsumer bucketConsumer = new MultiBucketConsumer(
+            DEFAULT_MAX_BUCKETS,
+            new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)
+        );
+        SearchContext context = createSearchContext(searcher, createIndexSettings(), new MatchAllDocsQuery(), bucketConsumer, fieldType);
+        AggregatorFactories.Builder builder = new AggregatorFactories.Builder();
+        for (AggregationBuilder aggregation : aggregations) {
+            builder.addAggregator(aggregation);
+        }
+        AggregatorFactories factories = builder.build(context.getQueryShardContext(), null);
+        when(context.aggregations()).thenReturn(new SearchContextAggregations(factories, bucketConsumer));
+        return context;
+    }
+
+    private static ShardSearchRequest request(SearchSourceBuilder source) {
+        ShardSearchRequest request = mock(ShardSearchRequest.class);
+        when(request.source()).thenReturn(source);
+        return request;
+    }
+
+    public void testCanCache() throws IOException {
+        try (Directory directory = newDirectory(); RandomIndexWriter iw = new RandomIndexWriter(random(), directory)) {
+            iw.addDocument(new Document());
+            try (IndexReader reader = iw.getReader()) {
+                IndexSearcher searcher = newSearcher(reader, false, false);
+                SumAggregationBuilder sum = new SumAggregationBuilder("sum").field(FIELD);
+                SearchSourceBuilder source = new SearchSourceBuilder().size(0).aggregation(sum);
+
+                SearchContext context = searchContext(searcher, sum);
+                assertTrue(SegmentRequestCacheLoader.canCache(request(source), context));
+
+                // hits, minimum scores, early termination and suggestions are not computed by segment
+                when(context.size()).thenReturn(10);
+                assertFalse(SegmentRequestCacheLoader.canCache(request(source), context));
+                when(context.size()).thenReturn(0);
+                when(context.minimumScore()).thenReturn(1f);
+                assertFalse(SegmentRequestCacheLoader.canCache(request(source), context));
+                when(context.minimumScore()).thenReturn(null);
+                when(context.terminateAfter()).thenReturn(5);
+                assertFalse(SegmentRequestCacheLoader.canCache(request(source), context));
+                when(context.terminateAfter()).thenReturn(SearchContext.DEFAULT_TERMINATE_AFTER);
+                SearchSourceBuilder suggest = new SearchSourceBuilder().size(0).aggregation(sum).suggest(new SuggestBuilder());
+                assertFalse(SegmentRequestCacheLoader.canCache(request(suggest), context));
+                assertFalse(SegmentRequestCacheLoader.canCache(request(null), context));
+
+                // global aggregations ignore the query
+                GlobalAggregationBuilder global = new GlobalAggregationBuilder("global").subAggregation(sum);
+                context = searchContext(searcher, global);
+                assertFalse(SegmentRequestCacheLoader.canCache(request(new SearchSourceBuilder().size(0).aggregation(global)), context));
+
+                // samplers can't be reduced from the partial results of segments, neither on their own nor as a sub aggregation
+                SamplerAggregationBuilder sampler = new SamplerAggregationBuilder("sampler").subAggregation(sum);
+                context = searchContext(searcher, sum, sampler);
+                assertFalse(SegmentRequestCacheLoader.canCache(request(new SearchSourceBuilder().size(0).aggregation(sampler)), context));
+            }
+        }
+    }
+
+    public void testComputeBySegment() throws IOException {
+        try (Directory directory = newDirectory(); RandomIndexWriter iw = new RandomIndexWriter(random(), directory)) {
+            int numSegments = randomIntBetween(2, 5);
+            long expectedSum = 0;
+            long expectedMax = Long.MIN_VALUE;
+            int numDocs = 0;
+            for (int segment = 0; segment < numSegments; segment++) {
+                int segmentDocs = randomIntBetween(1, 20);
+                for (int i = 0; i < segmentDocs; i++) {
+                    long value = randomLongBetween(-1000, 1000);
+                    Document doc = new Document();
+                    doc.add(new SortedNumericDocValuesField(FIELD, value));
+                    iw.addDocument(doc);
+                    expectedSum += value;
+                    expectedMax = Math.max(expectedMax, value);
+                }
+                numDocs += segmentDocs;
+                iw.commit();
+            }
+            try (DirectoryReader reader = iw.getReader()) {
+                IndexSearcher searcher = newSearcher(reader, false, false);
+                SearchContext context = searchContext(
+                    searcher,
+                    new SumAggregationBuilder("sum").field(FIELD),
+                    new MaxAggregationBuilder("max").field(FIELD)
+                );
+
+                // the partial results of the segments add up to the result of the whole shard
+                long hits = 0;
+                long sum = 0;
+                double max = Double.NEGATIVE_INFINITY;
+                for (LeafReaderContext leaf : reader.leaves()) {
+                    QuerySearchResult partial = SegmentRequestCacheLoader.compute(context, List.of(leaf));
+                    assertEquals(leaf.reader().numDocs(), partial.getTotalHits().value());
+                    hits += partial.getTotalHits().value();
+                    InternalAggregations aggregations = partial.consumeAggs().expand();
+                    sum += (long) ((InternalSum) aggregations.get("sum")).value();
+                    max = Math.max(max, ((InternalMax) aggregations.get("max")).value());
+                }
+                assertEquals(numDocs, hits);
+                assertEquals(expectedSum, sum);
+                assertEquals(expectedMax, max, 0d);
+
+                QuerySearchResult all = SegmentRequestCacheLoader.compute(context, reader.leaves());
+                assertEquals(numDocs, all.getTotalHits().value());
+                InternalAggregations aggregations = all.consumeAggs().expand();
+                assertEquals(expectedSum, ((InternalSum) aggregations.get("sum")).value(), 0d);
+                assertEquals(expectedMax, ((InternalMax) aggregations.get("max")).value(), 0d);
+
+                // no segment still builds the empty aggregations
+                QuerySearchResult none = SegmentRequestCacheLoader.compute(context, List.of());
+                assertEquals(0L, none.getTotalHits().value());
+                assertEquals(0d, ((InternalSum) none.consumeAggs().expand().get("sum")).value(), 0d);
+            }
+        }
+    }
+
+    public void testSegmentsQuery() throws IOException {
+        try (Directory directory = newDirectory(); RandomIndexWriter iw = new RandomIndexWriter(random(), directory)) {
+            int numSegments = randomIntBetween(2, 5);
+            for (int segment = 0; segment < numSegments; segment++) {
+                int segmentDocs = randomIntBetween(1, 20);
+                for (int i = 0; i < segmentDocs; i++) {
+                    Document doc = new Document();
+                    doc.add(new SortedNumericDocValuesField(FIELD, i));
+                    iw.addDocument(doc);
+                }
+                iw.commit();
+            }
+            try (DirectoryReader reader = iw.getReader()) {
+                IndexSearcher searcher = newSearcher(reader, false, false);
+                List<LeafReaderContext> leaves = randomSubsetOf(reader.leaves());
+                int expectedCount = leaves.stream().mapToInt(leaf -> leaf.reader().numDocs()).sum();
+
+                // only the documents of the given segments match, whether they are counted or collected
+                Query query = new SegmentRequestCacheLoader.SegmentsQuery(new MatchAllDocsQuery(), leaves);
+                assertEquals(expectedCount, searcher.count(query));
+                assertEquals(expectedCount, searcher.search(query, 1).totalHits.value());
+                assertEquals(query, searcher.rewrite(query));
+            }
+        }
+    }
+}
@@ -24,13 +24,19 @@ import org.junit.Before;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
 
 import org.mockito.ArgumentCaptor;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -272,4 +278,91 @@ public class MessageProcessorTests extends OpenSearchTestCase {
         messageProcessorRunnable.close();
         thread.interrupt();
     }
+
+    public void testProcessBatch() throws IOException {
+        FakeIngestionSource.FakeIngestionShardPointer pointer = new FakeIngestionSource.FakeIngestionShardPointer(0);
+        ParsedDocument parsedDocument = mock(ParsedDocument.class);
+        when(documentMapper.parse(any())).thenReturn(parsedDocument);
+        when(parsedDocument.rootDoc()).thenReturn(new ParseContext.Document());
+        when(ingestionEngine.applyBatchInternal(any(), any(), any())).thenAnswer(invocation -> {
+            List<Engine.Operation> operations = invocation.getArgument(0);
+            // the second operation has a version conflict
+            invocation.<IntConsumer>getArgument(2).accept(1);
+            return operations.size();
+        });
+
+        List<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> messages = List.of(
+            message(pointer, "{\"_id\":\"1\",\"_source\":{}}"),
+            message(pointer, "{\"_id\":\"2\",\"_op_type\":\"delete\"}"),
+            message(pointer, "{\"_id\":\"3\",\"_source\":{},\"_op_type\":\"create\"}"),
+            // missing id, the batch stops here
+            message(pointer, "{\"_source\":{}}"),
+            message(pointer, "{\"_id\":\"5\",\"_source\":{}}")
+        );
+        MessageProcessorRunnable.MessageProcessorMetrics metrics = MessageProcessorRunnable.MessageProcessorMetrics.create();
+        assertEquals(3, processor.processBatch(messages, metrics));
+
+        ArgumentCaptor<List<Engine.Operation>> operationsCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<BitSet> createModesCaptor = ArgumentCaptor.forClass(BitSet.class);
+        verify(ingestionEngine).applyBatchInternal(operationsCaptor.capture(), createModesCaptor.capture(), any());
+        List<Engine.Operation> operations = operationsCaptor.getValue();
+        assertEquals(3, operations.size());
+        assertTrue(operations.get(0) instanceof Engine.Index);
+        assertTrue(operations.get(1) instanceof Engine.Delete);
+        assertTrue(operations.get(2) instanceof Engine.Index);
+        assertEquals(BitSet.valueOf(new long[] { 0b100 }), createModesCaptor.getValue());
+        assertEquals(1, metrics.versionConflictCounter().count());
+        // the invalid message is counted when it is processed on its own
+        assertEquals(0, metrics.invalidMessageCounter().count());
+    }
+
+    public void testBatchedMessageProcessing() throws Exception {
+        MessageProcessorRunnable.MessageProcessor processor = mock(MessageProcessorRunnable.MessageProcessor.class);
+        DropIngestionErrorStrategy errorStrategy = new DropIngestionErrorStrategy("ingestion_source");
+        MessageProcessorRunnable messageProcessorRunnable = new MessageProcessorRunnable(
+            new ArrayBlockingQueue<>(5),
+            processor,
+            errorStrategy,
+            "test_index",
+            0,
+            3,
+            Long.MAX_VALUE
+        );
+        List<ShardUpdateMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ShardUpdateMessage message = new ShardUpdateMessage(
+                new FakeIngestionSource.FakeIngestionShardPointer(i),
+                null,
+                Collections.emptyMap(),
+                -1
+            );
+            messages.add(message);
+            messageProcessorRunnable.getBlockingQueue().put(message);
+        }
+
+        // the second message of the first batch fails and is processed on its own, before the third one is batched again
+        List<List<ShardUpdateMessage>> batches = new CopyOnWriteArrayList<>();
+        when(processor.processBatch(any(), any())).thenAnswer(invocation -> {
+            List<ShardUpdateMessage> batch = invocation.getArgument(0);
+            batches.add(new ArrayList<>(batch));
+            return batch.size() == 3 ? 1 : batch.size();
+        });
+
+        Thread thread = new Thread(messageProcessorRunnable::run);
+        thread.start();
+        assertBusy(() -> {
+            assertEquals(List.of(messages, List.of(messages.get(2))), batches);
+            verify(processor, times(1)).process(eq(messages.get(1)), any());
+            assertEquals(3, messageProcessorRunnable.getMessageProcessorMetrics().processedCounter().count());
+            assertEquals(messages.get(2).pointer(), messageProcessorRunnable.getCurrentShardPointer());
+        }, 1, TimeUnit.MINUTES);
+
+        messageProcessorRunnable.close();
+        thread.interrupt();
+    }
+
+    private static ShardUpdateMessage message(IngestionShardPointer pointer, String payload) {
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        return new ShardUpdateMessage(pointer, mock(Message.class), IngestionUtils.getParsedPayloadMap(bytes), -1);
+    }
 }
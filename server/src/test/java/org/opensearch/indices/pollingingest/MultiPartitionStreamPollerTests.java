@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.pollingingest;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.engine.FakeIngestionSource;
+import org.opensearch.indices.pollingingest.mappers.DefaultIngestionMessageMapper;
+import org.opensearch.test.IndexSettingsModule;
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.After;
+import org.junit.Before;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class MultiPartitionStreamPollerTests extends OpenSearchTestCase {
+    private MultiPartitionStreamPoller poller;
+    private List<PartitionedBlockingQueueContainer> containers;
+    private CountDownLatch processedLatch;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        List<byte[]> messages = new ArrayList<>();
+        messages.add("{\"_id\":\"1\",\"_source\":{\"name\":\"bob\", \"age\": 24}}".getBytes(StandardCharsets.UTF_8));
+        messages.add("{\"_id\":\"2\",\"_source\":{\"name\":\"alice\", \"age\": 21}}".getBytes(StandardCharsets.UTF_8));
+        FakeIngestionSource.FakeIngestionConsumerFactory consumerFactory = new FakeIngestionSource.FakeIngestionConsumerFactory(
+            messages
+        );
+        IndexSettings indexSettings = IndexSettingsModule.newIndexSettings("index", Settings.EMPTY);
+        DropIngestionErrorStrategy errorStrategy = new DropIngestionErrorStrategy("ingestion_source");
+        processedLatch = new CountDownLatch(4);
+
+        // shard 0 of an index with 2 shards consumes the partitions 0 and 2
+        containers = new ArrayList<>();
+        List<DefaultStreamPoller> pollers = new ArrayList<>();
+        for (int partition : new int[] { 0, 2 }) {
+            MessageProcessorRunnable.MessageProcessor processor = mock(MessageProcessorRunnable.MessageProcessor.class);
+            doAnswer(invocation -> {
+                processedLatch.countDown();
+                return null;
+            }).when(processor).process(any(), any());
+            MessageProcessorRunnable processorRunnable = new MessageProcessorRunnable(
+                new ArrayBlockingQueue<>(5),
+                processor,
+                errorStrategy,
+                "test_index",
+                0
+            );
+            PartitionedBlockingQueueContainer container = new PartitionedBlockingQueueContainer(processorRunnable, 0);
+            containers.add(container);
+            pollers.add(
+                new DefaultStreamPoller(
+                    new FakeIngestionSource.FakeIngestionShardPointer(0),
+                    consumerFactory,
+                    "",
+                    0,
+                    partition,
+                    container,
+                    StreamPoller.ResetState.NONE,
+                    "",
+                    errorStrategy,
+                    StreamPoller.State.NONE,
+                    1000,
+                    1000,
+                    10000,
+                    indexSettings,
+                    new DefaultIngestionMessageMapper()
+                )
+            );
+            container.startProcessorThreads();
+        }
+        poller = new MultiPartitionStreamPoller(pollers);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (!poller.isClosed()) {
+            poller.close();
+        }
+        for (PartitionedBlockingQueueContainer container : containers) {
+            container.close();
+        }
+        super.tearDown();
+    }
+
+    public void testConsumesAllPartitions() throws Exception {
+        poller.start();
+        assertTrue(processedLatch.await(30, TimeUnit.SECONDS));
+
+        List<DefaultStreamPoller> pollers = poller.getPollers();
+        assertBusy(() -> {
+            for (DefaultStreamPoller partitionPoller : pollers) {
+                assertNotNull(partitionPoller.getConsumer());
+                assertEquals(partitionPoller.getPartition(), partitionPoller.getConsumer().getShardId());
+            }
+        });
+        assertEquals(4, poller.getStats().getConsumerStats().totalPolledCount());
+        assertEquals(4, poller.getStats().getMessageProcessorStats().totalProcessedCount());
+    }
+
+    public void testPartitionBatchStartPointers() {
+        Map<String, ?> pointers = poller.getPartitionBatchStartPointers();
+        assertEquals(2, pointers.size());
+        assertEquals(new FakeIngestionSource.FakeIngestionShardPointer(0), pointers.get(StreamPoller.partitionBatchStartKey(0)));
+        assertEquals(new FakeIngestionSource.FakeIngestionShardPointer(0), pointers.get(StreamPoller.partitionBatchStartKey(2)));
+        assertEquals("batch_start.2", StreamPoller.partitionBatchStartKey(2));
+        assertEquals(poller.getPollers().get(0).getBatchStartPointer(), poller.getBatchStartPointer());
+    }
+
+    public void testPauseResumeAndClose() throws Exception {
+        poller.pause();
+        poller.start();
+        assertTrue(poller.isPaused());
+        assertBusy(() -> assertEquals(StreamPoller.State.PAUSED, poller.getState()));
+
+        poller.resume();
+        assertFalse(poller.isPaused());
+        assertTrue(processedLatch.await(30, TimeUnit.SECONDS));
+
+        poller.close();
+        assertTrue(poller.isClosed());
+    }
+}
@@ -265,6 +265,7 @@ public class ConfigurationUtilsTests extends OpenSearchTestCase {
             propertyValue,
             scriptService
         );
+        assertThat(result, instanceOf(StaticTemplateScriptFactory.class));
         assertThat(result.newInstance(null).execute(), equalTo(propertyValue));
         verify(scriptService, times(0)).compile(any(), any());
     }
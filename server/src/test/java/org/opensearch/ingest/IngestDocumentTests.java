@@ -827,6 +827,50 @@ public class IngestDocumentTests extends OpenSearchTestCase {
         }
     }
 
+    public void testCompiledFieldPath() {
+        IngestDocument.FieldPath fieldPath = new IngestDocument.FieldPath("_source.fizz.buzz");
+        IngestDocument.FieldPath newFieldPath = new IngestDocument.FieldPath("fizz.new_field");
+        IngestDocument copy = new IngestDocument(ingestDocument);
+        for (IngestDocument document : List.of(ingestDocument, copy)) {
+            assertTrue(document.hasField(fieldPath));
+            assertThat(document.getFieldValue(fieldPath, String.class), equalTo("hello world"));
+            assertFalse(document.hasField(newFieldPath));
+            assertThat(document.getFieldValue(newFieldPath, String.class, true), nullValue());
+            document.setFieldValue(newFieldPath, "bar");
+            assertThat(document.getFieldValue("fizz.new_field", String.class), equalTo("bar"));
+            document.removeField(fieldPath);
+            assertFalse(document.hasField("fizz.buzz"));
+        }
+        assertThat(ingestDocument, equalTo(copy));
+        assertThat(new IngestDocument.FieldPath("_ingest.timestamp").getPath(), equalTo("_ingest.timestamp"));
+        assertTrue(ingestDocument.hasField(new IngestDocument.FieldPath("_ingest.timestamp")));
+    }
+
+    public void testCompiledFieldPathInvalid() {
+        // an invalid path is only rejected once it is resolved, as a path given as a string is
+        IngestDocument.FieldPath emptyPath = new IngestDocument.FieldPath("");
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> ingestDocument.hasField(emptyPath));
+        assertThat(e.getMessage(), equalTo("path cannot be null nor empty"));
+        IngestDocument.FieldPath prefixOnly = new IngestDocument.FieldPath("_ingest.");
+        e = expectThrows(IllegalArgumentException.class, () -> ingestDocument.setFieldValue(prefixOnly, "bar"));
+        assertThat(e.getMessage(), equalTo("path [_ingest.] is not valid"));
+    }
+
+    public void testStaticTemplateFieldPath() {
+        StaticTemplateScriptFactory fieldPathTemplate = new StaticTemplateScriptFactory("fizz.new_field");
+        assertThat(fieldPathTemplate.getFieldPath(), sameInstance(fieldPathTemplate.getFieldPath()));
+        assertThat(ingestDocument.renderTemplate(fieldPathTemplate), equalTo("fizz.new_field"));
+        assertThat(ingestDocument.renderFieldPath(fieldPathTemplate), sameInstance(fieldPathTemplate.getFieldPath()));
+
+        ingestDocument.setFieldValue(fieldPathTemplate, ValueSource.wrap(List.of("bar"), TestTemplateService.instance()));
+        assertThat(ingestDocument.getFieldValue(fieldPathTemplate, List.class), equalTo(List.of("bar")));
+        ingestDocument.appendFieldValue(fieldPathTemplate, ValueSource.wrap("baz", TestTemplateService.instance()));
+        assertThat(ingestDocument.getFieldValue("fizz.new_field", List.class), equalTo(List.of("bar", "baz")));
+        assertTrue(ingestDocument.hasField(fieldPathTemplate));
+        ingestDocument.removeField(fieldPathTemplate);
+        assertFalse(ingestDocument.hasField(fieldPathTemplate));
+    }
+
     public void testRemoveField() {
         ingestDocument.removeField("foo");
         assertThat(ingestDocument.getSourceAndMetadata().size(), equalTo(initialSourceAndMetadataSize - 1));
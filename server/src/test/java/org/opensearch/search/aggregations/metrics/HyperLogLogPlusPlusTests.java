@@ -32,6 +32,7 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.BitMixer;
 import org.opensearch.core.common.breaker.CircuitBreaker;
@@ -124,6 +125,33 @@ public class HyperLogLogPlusPlusTests extends OpenSearchTestCase {
         }
     }
 
+    public void testMergeRegisters() {
+        final int p = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
+        final int registersPrecision = randomIntBetween(p, MAX_PRECISION);
+        final long bucket = randomInt(20);
+        final HyperLogLogPlusPlus expected = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 0);
+        final HyperLogLogPlusPlus actual = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 0);
+        final byte[] registers = new byte[1 << registersPrecision];
+        final int numValues = randomIntBetween(1, 100000);
+        final int maxValue = randomIntBetween(1, randomBoolean() ? 1000 : 1000000);
+        for (int i = 0; i < numValues; ++i) {
+            final long hash = BitMixer.mix64(randomInt(maxValue));
+            expected.collect(bucket, hash);
+            final int register = (int) AbstractHyperLogLog.index(hash, registersPrecision);
+            registers[register] = (byte) Math.max(registers[register], AbstractHyperLogLog.runLen(hash, registersPrecision));
+        }
+        // registers are always merged as hyperloglog
+        expected.upgradeToHll(bucket);
+        actual.mergeRegisters(bucket, new BytesRef(registers));
+        assertEquals(expected.cardinality(bucket), actual.cardinality(bucket));
+    }
+
+    public void testMergeRegistersWithLowerPrecision() {
+        final HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(MAX_PRECISION, BigArrays.NON_RECYCLING_INSTANCE, 0);
+        expectThrows(IllegalArgumentException.class, () -> counts.mergeRegisters(0, new BytesRef(new byte[1 << MIN_PRECISION])));
+        expectThrows(IllegalArgumentException.class, () -> counts.mergeRegister(0, MIN_PRECISION, 0, 1));
+    }
+
     public void testFakeHashes() {
         // hashes with lots of leading zeros trigger different paths in the code that we try to go through here
         final int p = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
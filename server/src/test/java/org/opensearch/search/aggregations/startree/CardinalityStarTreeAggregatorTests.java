@@ -0,0 +1,351 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.startree;
+
+import com.carrotsearch.randomizedtesting.RandomizedTest;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.lucene103.Lucene103Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.opensearch.common.Rounding;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.codec.composite.CompositeIndexReader;
+import org.opensearch.index.codec.composite.composite103.Composite103Codec;
+import org.opensearch.index.codec.composite912.datacube.startree.StarTreeDocValuesFormatTests;
+import org.opensearch.index.compositeindex.datacube.DateDimension;
+import org.opensearch.index.compositeindex.datacube.Dimension;
+import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.NumericDimension;
+import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
+import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeUtils;
+import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitAdapter;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.BinaryStarTreeValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.StarTreeValuesIterator;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregatorTestCase;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.opensearch.search.aggregations.bucket.histogram.InternalDateHistogram;
+import org.opensearch.search.aggregations.metrics.CardinalityAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.InternalCardinality;
+import org.opensearch.search.startree.StarTreeQueryHelper;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiConsumer;
+
+import static org.opensearch.index.codec.composite912.datacube.startree.AbstractStarTreeDVFormatTests.topMapping;
+import static org.opensearch.search.aggregations.AggregationBuilders.cardinality;
+import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * Compares the cardinality aggregation resolved from the HyperLogLog sketches of a star-tree with the one computed from the
+ * doc values, on its own and under a date histogram.
+ */
+public class CardinalityStarTreeAggregatorTests extends DateHistogramAggregatorTestCase {
+    static final String TIMESTAMP_FIELD = "@timestamp";
+    static final MappedFieldType TIMESTAMP_FIELD_TYPE = new DateFieldMapper.DateFieldType(TIMESTAMP_FIELD);
+    static final String STATUS = "status";
+    static final String SIZE = "size";
+    static final MappedFieldType SIZE_FIELD_TYPE = new NumberFieldMapper.NumberFieldType(SIZE, NumberFieldMapper.NumberType.INTEGER);
+
+    static Codec getCodec(String sketchStat) {
+        final Logger testLogger = LogManager.getLogger(CardinalityStarTreeAggregatorTests.class);
+        MapperService mapperService;
+        try {
+            mapperService = StarTreeDocValuesFormatTests.createMapperService(getExpandedMapping(randomIntBetween(1, 10), sketchStat));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return new Composite103Codec(Lucene103Codec.Mode.BEST_SPEED, mapperService, testLogger);
+    }
+
+    public void testStarTreeCardinality() throws IOException {
+        Directory directory = newDirectory();
+        IndexWriterConfig conf = newIndexWriterConfig(null);
+        conf.setCodec(getCodec("cardinality"));
+        conf.setMergePolicy(newLogMergePolicy());
+        RandomIndexWriter iw = new RandomIndexWriter(random(), directory, conf);
+        indexRandomDocuments(iw);
+        iw.close();
+
+        DirectoryReader ir = DirectoryReader.open(directory);
+        initValuesSourceRegistry();
+        LeafReaderContext context = ir.leaves().get(0);
+        SegmentReader reader = Lucene.segmentReader(context.reader());
+        IndexSearcher indexSearcher = newSearcher(reader, false, false);
+        CompositeIndexReader starTreeDocValuesReader = (CompositeIndexReader) reader.getDocValuesReader();
+        CompositeIndexFieldInfo starTree = starTreeDocValuesReader.getCompositeIndexFields().get(0);
+
+        // the default precision is the one of the sketches, a lower one folds them down
+        List<CardinalityAggregationBuilder> aggregationBuilders = List.of(
+            cardinality("_name").field(SIZE),
+            cardinality("_name").field(SIZE).precisionThreshold(100)
+        );
+        BiConsumer<InternalCardinality, InternalCardinality> verify = (expected, actual) -> assertEquals(
+            expected.getValue(),
+            actual.getValue(),
+            Math.max(1d, 0.05 * expected.getValue())
+        );
+
+        Random random = RandomizedTest.getRandom();
+        for (CardinalityAggregationBuilder aggregationBuilder : aggregationBuilders) {
+            testCase(indexSearcher, new MatchAllDocsQuery(), null, aggregationBuilder, starTree, verify);
+            testCase(
+                indexSearcher,
+                new MatchAllDocsQuery(),
+                null,
+                dateHistogram(DateHistogramInterval.MONTH, aggregationBuilder),
+                starTree,
+                verifyBuckets(verify)
+            );
+            for (int cases = 0; cases < 10; cases++) {
+                long status = random.nextInt(10);
+                Query query = SortedNumericDocValuesField.newSlowExactQuery(STATUS, status);
+                QueryBuilder queryBuilder = new TermQueryBuilder(STATUS, status);
+                testCase(indexSearcher, query, queryBuilder, aggregationBuilder, starTree, verify);
+                testCase(
+                    indexSearcher,
+                    query,
+                    queryBuilder,
+                    dateHistogram(DateHistogramInterval.DAY, aggregationBuilder),
+                    starTree,
+                    verifyBuckets(verify)
+                );
+            }
+        }
+        ir.close();
+        directory.close();
+    }
+
+    public void testStarTreeSketchSizeForLowCardinality() throws IOException {
+        Directory directory = newDirectory();
+        IndexWriterConfig conf = newIndexWriterConfig(null);
+        conf.setCodec(getCodec("cardinality"));
+        conf.setMergePolicy(newLogMergePolicy());
+        RandomIndexWriter iw = new RandomIndexWriter(random(), directory, conf);
+        int numSizes = randomIntBetween(1, 5);
+        for (int i = 0; i < 100; i++) {
+            Document doc = new Document();
+            doc.add(new SortedNumericDocValuesField(STATUS, randomIntBetween(0, 9)));
+            doc.add(new SortedNumericDocValuesField(SIZE, randomIntBetween(0, numSizes - 1)));
+            long date = randomIntBetween(0, 179) * 24 * 60 * 60 * 1000L;
+            doc.add(new SortedNumericDocValuesField(TIMESTAMP_FIELD, date));
+            doc.add(new LongPoint(TIMESTAMP_FIELD, date));
+            iw.addDocument(doc);
+        }
+        iw.forceMerge(1);
+        iw.close();
+
+        DirectoryReader ir = DirectoryReader.open(directory);
+        LeafReaderContext context = ir.leaves().get(0);
+        CompositeIndexReader starTreeDocValuesReader = (CompositeIndexReader) Lucene.segmentReader(context.reader())
+            .getDocValuesReader();
+        CompositeIndexFieldInfo starTree = starTreeDocValuesReader.getCompositeIndexFields().get(0);
+        StarTreeValues starTreeValues = StarTreeQueryHelper.getStarTreeValues(context, starTree);
+        String metricName = StarTreeUtils.fullyQualifiedFieldNameForStarTreeMetricsDocValues(
+            starTree.getField(),
+            SIZE,
+            MetricStat.CARDINALITY.getTypeName()
+        );
+        BinaryStarTreeValuesIterator sketches = (BinaryStarTreeValuesIterator) starTreeValues.getMetricValuesIterator(metricName);
+
+        // the stored sketches of a few distinct values hold three bytes per value, rather than one byte per register
+        int numSketches = 0;
+        while (sketches.nextEntry() != StarTreeValuesIterator.NO_MORE_ENTRIES) {
+            assertThat(sketches.binaryValue().length, lessThanOrEqualTo(1 + 3 * numSizes));
+            numSketches++;
+        }
+        assertEquals(starTreeValues.getStarTreeDocumentCount(), numSketches);
+        ir.close();
+        directory.close();
+    }
+
+    static void indexRandomDocuments(RandomIndexWriter iw) throws IOException {
+        Random random = RandomizedTest.getRandom();
+        int totalDocs = 100;
+        for (int i = 0; i < totalDocs; i++) {
+            Document doc = new Document();
+            if (random.nextBoolean()) {
+                doc.add(new SortedNumericDocValuesField(STATUS, random.nextInt(10)));
+            }
+            if (random.nextBoolean()) {
+                doc.add(new SortedNumericDocValuesField(SIZE, random.nextInt(100)));
+            }
+            long date = random.nextInt(180) * 24 * 60 * 60 * 1000L; // Random date within 180 days
+            doc.add(new SortedNumericDocValuesField(TIMESTAMP_FIELD, date));
+            doc.add(new LongPoint(TIMESTAMP_FIELD, date));
+            iw.addDocument(doc);
+        }
+        if (random.nextBoolean()) {
+            iw.forceMerge(1);
+        }
+    }
+
+    static DateHistogramAggregationBuilder dateHistogram(DateHistogramInterval interval, AggregationBuilder subAggregation) {
+        return AggregationBuilders.dateHistogram("by_" + interval)
+            .field(TIMESTAMP_FIELD)
+            .calendarInterval(interval)
+            .subAggregation(subAggregation);
+    }
+
+    static LinkedHashMap<Dimension, MappedFieldType> supportedDimensions() {
+        LinkedHashMap<Dimension, MappedFieldType> supportedDimensions = new LinkedHashMap<>();
+        supportedDimensions.put(
+            new NumericDimension(STATUS),
+            new NumberFieldMapper.NumberFieldType(STATUS, NumberFieldMapper.NumberType.INTEGER)
+        );
+        supportedDimensions.put(
+            new DateDimension(
+                TIMESTAMP_FIELD,
+                List.of(
+                    new DateTimeUnitAdapter(Rounding.DateTimeUnit.MONTH_OF_YEAR),
+                    new DateTimeUnitAdapter(Rounding.DateTimeUnit.DAY_OF_MONTH)
+                ),
+                DateFieldMapper.Resolution.MILLISECONDS
+            ),
+            TIMESTAMP_FIELD_TYPE
+        );
+        return supportedDimensions;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <V extends InternalAggregation> BiConsumer<InternalDateHistogram, InternalDateHistogram> verifyBuckets(
+        BiConsumer<V, V> verify
+    ) {
+        return (expected, actual) -> {
+            assertEquals(expected.getBuckets().size(), actual.getBuckets().size());
+            for (int i = 0; i < expected.getBuckets().size(); i++) {
+                InternalDateHistogram.Bucket expectedBucket = expected.getBuckets().get(i);
+                InternalDateHistogram.Bucket actualBucket = actual.getBuckets().get(i);
+                assertEquals(expectedBucket.getKey(), actualBucket.getKey());
+                assertEquals(expectedBucket.getDocCount(), actualBucket.getDocCount());
+                verify.accept((V) expectedBucket.getAggregations().get("_name"), (V) actualBucket.getAggregations().get("_name"));
+            }
+        };
+    }
+
+    private <V extends InternalAggregation> void testCase(
+        IndexSearcher indexSearcher,
+        Query query,
+        QueryBuilder queryBuilder,
+        AggregationBuilder aggregationBuilder,
+        CompositeIndexFieldInfo starTree,
+        BiConsumer<V, V> verify
+    ) throws IOException {
+        V starTreeAggregation = searchAndReduceStarTree(
+            createIndexSettings(),
+            indexSearcher,
+            query,
+            queryBuilder,
+            aggregationBuilder,
+            starTree,
+            supportedDimensions(),
+            null,
+            DEFAULT_MAX_BUCKETS,
+            false,
+            null,
+            true,
+            TIMESTAMP_FIELD_TYPE,
+            SIZE_FIELD_TYPE
+        );
+        V defaultAggregation = searchAndReduceStarTree(
+            createIndexSettings(),
+            indexSearcher,
+            query,
+            queryBuilder,
+            aggregationBuilder,
+            null,
+            null,
+            null,
+            DEFAULT_MAX_BUCKETS,
+            false,
+            null,
+            false,
+            TIMESTAMP_FIELD_TYPE,
+            SIZE_FIELD_TYPE
+        );
+        verify.accept(defaultAggregation, starTreeAggregation);
+    }
+
+    /**
+     * A star-tree on status and the month and day of the timestamp, with the given sketch stat on size
+     */
+    static XContentBuilder getExpandedMapping(int maxLeafDocs, String sketchStat) throws IOException {
+        return topMapping(b -> {
+            b.startObject("composite");
+            b.startObject("startree");
+            b.field("type", "star_tree");
+            b.startObject("config");
+            b.field("max_leaf_docs", maxLeafDocs);
+            b.startArray("ordered_dimensions");
+            b.startObject();
+            b.field("name", STATUS);
+            b.endObject();
+            b.startObject();
+            b.field("name", TIMESTAMP_FIELD);
+            b.startArray("calendar_intervals");
+            b.value("month");
+            b.value("day");
+            b.endArray();
+            b.endObject();
+            b.endArray();
+            b.startArray("metrics");
+            b.startObject();
+            b.field("name", SIZE);
+            b.startArray("stats");
+            b.value("value_count");
+            b.value(sketchStat);
+            b.endArray();
+            b.endObject();
+            b.endArray();
+            b.endObject();
+            b.endObject();
+            b.endObject();
+            b.startObject("properties");
+            b.startObject(TIMESTAMP_FIELD);
+            b.field("type", "date");
+            b.field("format", "strict_date_optional_time||epoch_millis");
+            b.endObject();
+            b.startObject(STATUS);
+            b.field("type", "integer");
+            b.endObject();
+            b.startObject(SIZE);
+            b.field("type", "integer");
+            b.endObject();
+            b.endObject();
+        });
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.startree;
+
+import com.carrotsearch.randomizedtesting.RandomizedTest;
+
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.codec.composite.CompositeIndexReader;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregatorTestCase;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.opensearch.search.aggregations.metrics.InternalTDigestPercentileRanks;
+import org.opensearch.search.aggregations.metrics.InternalTDigestPercentiles;
+import org.opensearch.search.aggregations.metrics.PercentilesAggregationBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiConsumer;
+
+import static org.opensearch.search.aggregations.AggregationBuilders.percentileRanks;
+import static org.opensearch.search.aggregations.AggregationBuilders.percentiles;
+import static org.opensearch.search.aggregations.startree.CardinalityStarTreeAggregatorTests.SIZE;
+import static org.opensearch.search.aggregations.startree.CardinalityStarTreeAggregatorTests.SIZE_FIELD_TYPE;
+import static org.opensearch.search.aggregations.startree.CardinalityStarTreeAggregatorTests.STATUS;
+import static org.opensearch.search.aggregations.startree.CardinalityStarTreeAggregatorTests.TIMESTAMP_FIELD_TYPE;
+import static org.opensearch.search.aggregations.startree.CardinalityStarTreeAggregatorTests.dateHistogram;
+import static org.opensearch.search.aggregations.startree.CardinalityStarTreeAggregatorTests.getCodec;
+import static org.opensearch.search.aggregations.startree.CardinalityStarTreeAggregatorTests.indexRandomDocuments;
+import static org.opensearch.search.aggregations.startree.CardinalityStarTreeAggregatorTests.supportedDimensions;
+import static org.opensearch.search.aggregations.startree.CardinalityStarTreeAggregatorTests.verifyBuckets;
+import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
+
+/**
+ * Compares the percentiles and percentile ranks aggregations resolved from the TDigest sketches of a star-tree with the ones
+ * computed from the doc values, on their own and under a date histogram.
+ */
+public class PercentilesStarTreeAggregatorTests extends DateHistogramAggregatorTestCase {
+    private static final double[] PERCENTS = new double[] { 1, 25, 50, 75, 99 };
+    private static final double[] VALUES = new double[] { 10, 50, 90 };
+    // the sizes range from 0 to 99, and the star-tree merges digests of groups of documents rather than adding the values
+    private static final double DELTA = 5;
+
+    public void testStarTreePercentiles() throws IOException {
+        Directory directory = newDirectory();
+        IndexWriterConfig conf = newIndexWriterConfig(null);
+        conf.setCodec(getCodec("percentiles"));
+        conf.setMergePolicy(newLogMergePolicy());
+        RandomIndexWriter iw = new RandomIndexWriter(random(), directory, conf);
+        indexRandomDocuments(iw);
+        iw.close();
+
+        DirectoryReader ir = DirectoryReader.open(directory);
+        initValuesSourceRegistry();
+        LeafReaderContext context = ir.leaves().get(0);
+        SegmentReader reader = Lucene.segmentReader(context.reader());
+        IndexSearcher indexSearcher = newSearcher(reader, false, false);
+        CompositeIndexReader starTreeDocValuesReader = (CompositeIndexReader) reader.getDocValuesReader();
+        CompositeIndexFieldInfo starTree = starTreeDocValuesReader.getCompositeIndexFields().get(0);
+
+        // the default compression is the one of the sketches, a lower one is resolved from them too
+        List<PercentilesAggregationBuilder> percentilesBuilders = List.of(
+            percentiles("_name").field(SIZE).percentiles(PERCENTS),
+            percentiles("_name").field(SIZE).percentiles(PERCENTS).compression(50)
+        );
+        BiConsumer<InternalTDigestPercentiles, InternalTDigestPercentiles> verifyPercentiles = (expected, actual) -> {
+            for (double percent : PERCENTS) {
+                assertEquals(expected.percentile(percent), actual.percentile(percent), DELTA);
+            }
+        };
+        AggregationBuilder percentileRanksBuilder = percentileRanks("_name", VALUES).field(SIZE);
+        BiConsumer<InternalTDigestPercentileRanks, InternalTDigestPercentileRanks> verifyPercentileRanks = (expected, actual) -> {
+            for (double value : VALUES) {
+                assertEquals(expected.percent(value), actual.percent(value), DELTA);
+            }
+        };
+
+        Random random = RandomizedTest.getRandom();
+        for (PercentilesAggregationBuilder percentilesBuilder : percentilesBuilders) {
+            testCase(indexSearcher, new MatchAllDocsQuery(), null, percentilesBuilder, starTree, verifyPercentiles);
+            testCase(
+                indexSearcher,
+                new MatchAllDocsQuery(),
+                null,
+                dateHistogram(DateHistogramInterval.MONTH, percentilesBuilder),
+                starTree,
+                verifyBuckets(verifyPercentiles)
+            );
+            for (int cases = 0; cases < 10; cases++) {
+                long status = random.nextInt(10);
+                Query query = SortedNumericDocValuesField.newSlowExactQuery(STATUS, status);
+                QueryBuilder queryBuilder = new TermQueryBuilder(STATUS, status);
+                testCase(indexSearcher, query, queryBuilder, percentilesBuilder, starTree, verifyPercentiles);
+                testCase(
+                    indexSearcher,
+                    query,
+                    queryBuilder,
+                    dateHistogram(DateHistogramInterval.DAY, percentilesBuilder),
+                    starTree,
+                    verifyBuckets(verifyPercentiles)
+                );
+            }
+        }
+
+        testCase(indexSearcher, new MatchAllDocsQuery(), null, percentileRanksBuilder, starTree, verifyPercentileRanks);
+        testCase(
+            indexSearcher,
+            new MatchAllDocsQuery(),
+            null,
+            dateHistogram(DateHistogramInterval.MONTH, percentileRanksBuilder),
+            starTree,
+            verifyBuckets(verifyPercentileRanks)
+        );
+        ir.close();
+        directory.close();
+    }
+
+    private <V extends InternalAggregation> void testCase(
+        IndexSearcher indexSearcher,
+        Query query,
+        QueryBuilder queryBuilder,
+        AggregationBuilder aggregationBuilder,
+        CompositeIndexFieldInfo starTree,
+        BiConsumer<V, V> verify
+    ) throws IOException {
+        V starTreeAggregation = searchAndReduceStarTree(
+            createIndexSettings(),
+            indexSearcher,
+            query,
+            queryBuilder,
+            aggregationBuilder,
+            starTree,
+            supportedDimensions(),
+            null,
+            DEFAULT_MAX_BUCKETS,
+            false,
+            null,
+            true,
+            TIMESTAMP_FIELD_TYPE,
+            SIZE_FIELD_TYPE
+        );
+        V defaultAggregation = searchAndReduceStarTree(
+            createIndexSettings(),
+            indexSearcher,
+            query,
+            queryBuilder,
+            aggregationBuilder,
+            null,
+            null,
+            null,
+            DEFAULT_MAX_BUCKETS,
+            false,
+            null,
+            false,
+            TIMESTAMP_FIELD_TYPE,
+            SIZE_FIELD_TYPE
+        );
+        verify.accept(defaultAggregation, starTreeAggregation);
+    }
+}
@@ -77,6 +77,37 @@ public class FetchPhaseTests extends OpenSearchTestCase {
         assertFalse(FetchPhase.hasSequentialDocs(docs));
     }
 
+    public void testSegmentEndAndBatchableDocs() {
+        FetchPhase.DocIdToIndex[] docs = new FetchPhase.DocIdToIndex[30];
+        // 20 close docs in the first segment, which ends at 1000, and 10 far apart docs in the second one
+        int docId = 100;
+        for (int i = 0; i < 20; i++) {
+            docId += randomIntBetween(1, FetchPhase.BATCH_MAX_AVERAGE_GAP - 1);
+            docs[i] = new FetchPhase.DocIdToIndex(docId, i);
+        }
+        for (int i = 20; i < 30; i++) {
+            docs[i] = new FetchPhase.DocIdToIndex(1000 + (i - 20) * 1000, i);
+        }
+        assertEquals(20, FetchPhase.segmentEnd(docs, 0, 1000));
+        assertEquals(30, FetchPhase.segmentEnd(docs, 20, 100_000));
+        assertEquals(20, FetchPhase.segmentEnd(docs, 20, 1000));
+
+        assertTrue(FetchPhase.isBatchable(docs, 0, 20));
+        assertFalse(FetchPhase.isBatchable(docs, 20, 30));
+        // too few docs to be worth it
+        assertFalse(FetchPhase.isBatchable(docs, 0, FetchPhase.BATCH_MIN_DOCS - 1));
+    }
+
+    public void testConcurrentFetchSlices() {
+        SearchContext context = mock(SearchContext.class);
+        // disabled
+        when(context.getConcurrentFetchMinHits()).thenReturn(0);
+        assertEquals(1, FetchPhase.concurrentFetchSlices(context, 10_000));
+        // not enough hits
+        when(context.getConcurrentFetchMinHits()).thenReturn(1000);
+        assertEquals(1, FetchPhase.concurrentFetchSlices(context, 999));
+    }
+
     public void testFieldsVisitorsInFetchPhase() {
 
         FetchPhase fetchPhase = new FetchPhase(new ArrayList<>());
@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch.subphase;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.MapperServiceTestCase;
+import org.opensearch.index.mapper.ParsedDocument;
+
+import java.io.IOException;
+
+public class DocValuesSourceLoaderTests extends MapperServiceTestCase {
+
+    private boolean sourceFromDocValuesEnabled = true;
+
+    @Override
+    protected Settings getIndexSettings() {
+        return Settings.builder()
+            .put(super.getIndexSettings())
+            .put(IndexSettings.INDEX_SEARCH_SOURCE_FROM_DOC_VALUES_SETTING.getKey(), sourceFromDocValuesEnabled)
+            .build();
+    }
+
+    private MapperService createMapperService() throws IOException {
+        XContentBuilder mapping = mapping(b -> {
+            b.startObject("keyword").field("type", "keyword").endObject();
+            b.startObject("long").field("type", "long").endObject();
+            b.startObject("no_doc_values").field("type", "long").field("doc_values", false).endObject();
+            b.startObject("text").field("type", "text").endObject();
+            b.startObject("object");
+            {
+                b.startObject("properties");
+                b.startObject("long").field("type", "long").endObject();
+                b.startObject("keyword").field("type", "keyword").endObject();
+                b.endObject();
+            }
+            b.endObject();
+        });
+        return createMapperService(mapping);
+    }
+
+    public void testLoad() throws IOException {
+        MapperService mapperService = createMapperService();
+        String[] includes = new String[] { "object.long", "keyword", "object.keyword" };
+        DocValuesSourceLoader loader = DocValuesSourceLoader.create(mapperService, includes);
+        assertNotNull(loader);
+        ParsedDocument doc = mapperService.documentMapper().parse(source(b -> {
+            b.field("keyword", "value");
+            b.field("long", 42L);
+            b.field("text", "some text");
+            b.startObject("object").field("long", 7L).endObject();
+        }));
+        withLuceneIndex(mapperService, iw -> iw.addDocuments(doc.docs()), reader -> {
+            // fields are written in the order of the includes, the unset object.keyword is left out
+            BytesReference source = loader.load(reader.leaves().get(0).reader(), 0);
+            assertEquals("{\"object\":{\"long\":7},\"keyword\":\"value\"}", source.utf8ToString());
+        });
+    }
+
+    public void testNotApplicable() throws IOException {
+        MapperService mapperService = createMapperService();
+        // no doc values
+        assertNull(DocValuesSourceLoader.create(mapperService, new String[] { "keyword", "no_doc_values" }));
+        assertNull(DocValuesSourceLoader.create(mapperService, new String[] { "text" }));
+        // patterns, objects and unmapped fields
+        assertNull(DocValuesSourceLoader.create(mapperService, new String[] { "key*" }));
+        assertNull(DocValuesSourceLoader.create(mapperService, new String[] { "object" }));
+        assertNull(DocValuesSourceLoader.create(mapperService, new String[] { "unmapped" }));
+        assertNull(DocValuesSourceLoader.create(mapperService, new String[] { "keyword.unmapped" }));
+    }
+
+    public void testDisabled() throws IOException {
+        sourceFromDocValuesEnabled = false;
+        MapperService mapperService = createMapperService();
+        assertNull(DocValuesSourceLoader.create(mapperService, new String[] { "keyword" }));
+    }
+}
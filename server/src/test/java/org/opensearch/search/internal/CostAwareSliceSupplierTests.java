@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.store.Directory;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class CostAwareSliceSupplierTests extends OpenSearchTestCase {
+
+    public void testNegativeSliceCount() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> CostAwareSliceSupplier.getSlices(new ArrayList<>(), new long[0], randomIntBetween(-3, 0), randomBoolean())
+        );
+    }
+
+    public void testEmptyLeaves() {
+        IndexSearcher.LeafSlice[] slices = CostAwareSliceSupplier.getSlices(new ArrayList<>(), new long[0], 2, randomBoolean());
+        assertEquals(0, slices.length);
+    }
+
+    public void testSplitsExpensiveLeaf() throws Exception {
+        try (Directory directory = newDirectory()) {
+            indexSegments(directory, 100, 1, 1, 1, 1);
+            try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+                List<LeafReaderContext> leaves = directoryReader.leaves();
+                IndexSearcher.LeafSlice[] slices = CostAwareSliceSupplier.getSlices(leaves, maxDocs(leaves), 4, 10);
+                assertEquals(4, slices.length);
+
+                LeafReaderContext largeLeaf = leaves.stream().filter(l -> l.reader().maxDoc() == 100).findFirst().orElseThrow();
+                int coveredDocs = 0;
+                Set<LeafReaderContext> smallLeaves = new HashSet<>();
+                for (IndexSearcher.LeafSlice slice : slices) {
+                    int largeLeafPartitions = 0;
+                    for (IndexSearcher.LeafReaderContextPartition partition : slice.partitions) {
+                        if (partition.ctx == largeLeaf) {
+                            largeLeafPartitions++;
+                            coveredDocs += partition.maxDocId - partition.minDocId;
+                        } else {
+                            assertTrue(smallLeaves.add(partition.ctx));
+                        }
+                    }
+                    // each slice searches one quarter of the large leaf
+                    assertEquals(1, largeLeafPartitions);
+                    assertTrue(slice.getMaxDocs() <= 27);
+                }
+                assertEquals(100, coveredDocs);
+                assertEquals(4, smallLeaves.size());
+            }
+        }
+    }
+
+    public void testDoesNotSplitSmallLeaves() throws Exception {
+        try (Directory directory = newDirectory()) {
+            indexSegments(directory, 100, 1, 1, 1, 1);
+            try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+                List<LeafReaderContext> leaves = directoryReader.leaves();
+                // partitions of the large leaf would be smaller than the minimum partition size
+                IndexSearcher.LeafSlice[] slices = CostAwareSliceSupplier.getSlices(leaves, maxDocs(leaves), 4, 200);
+                assertWholeSegments(slices, leaves.size());
+                assertEquals(4, slices.length);
+
+                // same when partitions are not allowed
+                slices = CostAwareSliceSupplier.getSlices(leaves, maxDocs(leaves), 4, false);
+                assertWholeSegments(slices, leaves.size());
+                assertEquals(4, slices.length);
+            }
+        }
+    }
+
+    public void testBalancesByCost() throws Exception {
+        try (Directory directory = newDirectory()) {
+            indexSegments(directory, 10, 10, 10, 10);
+            try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+                List<LeafReaderContext> leaves = directoryReader.leaves();
+                // the first leaf is as expensive as all the others together, so it gets a slice of its own
+                long[] costs = new long[] { 30, 10, 10, 10 };
+                IndexSearcher.LeafSlice[] slices = CostAwareSliceSupplier.getSlices(leaves, costs, 2, false);
+                assertWholeSegments(slices, leaves.size());
+                assertEquals(2, slices.length);
+                for (IndexSearcher.LeafSlice slice : slices) {
+                    boolean hasExpensiveLeaf = false;
+                    for (IndexSearcher.LeafReaderContextPartition partition : slice.partitions) {
+                        hasExpensiveLeaf |= partition.ctx == leaves.get(0);
+                    }
+                    assertEquals(hasExpensiveLeaf ? 1 : 3, slice.partitions.length);
+                }
+            }
+        }
+    }
+
+    private static void assertWholeSegments(IndexSearcher.LeafSlice[] slices, int leafCount) {
+        Set<LeafReaderContext> seen = new HashSet<>();
+        for (IndexSearcher.LeafSlice slice : slices) {
+            for (IndexSearcher.LeafReaderContextPartition partition : slice.partitions) {
+                assertEquals(0, partition.minDocId);
+                assertEquals(DocIdSetIterator.NO_MORE_DOCS, partition.maxDocId);
+                assertTrue(seen.add(partition.ctx));
+            }
+        }
+        assertEquals(leafCount, seen.size());
+    }
+
+    private static long[] maxDocs(List<LeafReaderContext> leaves) {
+        return leaves.stream().mapToLong(l -> l.reader().maxDoc()).toArray();
+    }
+
+    private static void indexSegments(Directory directory, int... docCounts) throws IOException {
+        try (
+            IndexWriter iw = new IndexWriter(
+                directory,
+                new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE)
+            )
+        ) {
+            for (int docCount : docCounts) {
+                for (int i = 0; i < docCount; ++i) {
+                    Document document = new Document();
+                    document.add(new StringField("field1", "value" + i, Field.Store.NO));
+                    iw.addDocument(document);
+                }
+                iw.commit();
+            }
+        }
+    }
+}
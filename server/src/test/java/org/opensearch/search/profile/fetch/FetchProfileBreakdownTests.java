@@ -42,4 +42,15 @@ public class FetchProfileBreakdownTests extends OpenSearchTestCase {
         }
         assertEquals(sum, total);
     }
+
+    public void testDebugMap() {
+        FetchProfileBreakdown breakdown = new FetchProfileBreakdown();
+        assertTrue(breakdown.toDebugMap().isEmpty());
+        breakdown.addSourceBytesRead(100);
+        breakdown.addSourceBytesRead(20);
+        breakdown.incrementBatchedSegments();
+        Map<String, Object> debug = breakdown.toDebugMap();
+        assertEquals(120L, debug.get(FetchProfileBreakdown.SOURCE_BYTES_READ));
+        assertEquals(1L, debug.get(FetchProfileBreakdown.BATCHED_SEGMENTS));
+    }
 }
@@ -120,6 +120,16 @@ public class QuerySearchResultTests extends OpenSearchTestCase {
         assertEquals(querySearchResult.terminatedEarly(), deserialized.terminatedEarly());
     }
 
+    public void testConsumeAllAfterAggsConsumed() throws Exception {
+        QuerySearchResult querySearchResult = createTestInstance();
+        querySearchResult.aggregations(InternalAggregationsTests.createTestInstance());
+        assertNotNull(querySearchResult.consumeAggs());
+        // the aggregations of a result spilled by the coordinating node are consumed before the result is released
+        querySearchResult.consumeAll();
+        assertTrue(querySearchResult.hasConsumedTopDocs());
+        expectThrows(IllegalStateException.class, querySearchResult::consumeAggs);
+    }
+
     public void testNullResponse() throws Exception {
         QuerySearchResult querySearchResult = QuerySearchResult.nullInstance();
         QuerySearchResult deserialized = copyWriteable(querySearchResult, namedWriteableRegistry, QuerySearchResult::new, Version.CURRENT);
@@ -42,6 +42,7 @@ import org.opensearch.common.util.concurrent.OpenSearchThreadPoolExecutor;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.test.OpenSearchTestCase;
@@ -204,6 +205,104 @@ public class ThreadPoolTests extends OpenSearchTestCase {
         }
     }
 
+    public void testWriteLanes() throws Exception {
+        TestThreadPool threadPool = new TestThreadPool("test", Settings.builder().put(ThreadPool.WRITE_LANES_SETTING.getKey(), 4).build());
+        CountDownLatch blockLane = new CountDownLatch(1);
+        try {
+            ShardId shardId = new ShardId("index", "_na_", randomIntBetween(0, 100));
+            String lane = threadPool.writeExecutorName(shardId);
+            assertThat(lane, equalTo(ThreadPool.Names.WRITE_LANE_PREFIX + Math.floorMod(shardId.hashCode(), 4)));
+            assertEquals(lane, threadPool.writeExecutorName(new ShardId("index", "_na_", shardId.id())));
+            OpenSearchThreadPoolExecutor laneExecutor = (OpenSearchThreadPoolExecutor) threadPool.executor(lane);
+            assertEquals(1, laneExecutor.getMaximumPoolSize());
+            assertEquals(4, threadPool.stats().stats().stream().filter(s -> s.getName().startsWith("write_lane_")).count());
+
+            // a backlog on the lane sends the writes to the idle write thread pool
+            CountDownLatch laneBusy = new CountDownLatch(1);
+            laneExecutor.execute(() -> {
+                laneBusy.countDown();
+                try {
+                    blockLane.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            laneBusy.await();
+            laneExecutor.execute(() -> {});
+            assertEquals(ThreadPool.Names.WRITE, threadPool.writeExecutorName(shardId));
+            assertTrue(
+                threadPool.stats().stats().stream().anyMatch(s -> s.getName().equals(lane) && s.getQueue() == 1 && s.getActive() == 1)
+            );
+
+            blockLane.countDown();
+            assertBusy(() -> assertEquals(lane, threadPool.writeExecutorName(shardId)));
+        } finally {
+            blockLane.countDown();
+            terminate(threadPool);
+        }
+    }
+
+    public void testWriteLanesOverflow() throws Exception {
+        TestThreadPool threadPool = new TestThreadPool(
+            "test",
+            Settings.builder().put(ThreadPool.WRITE_LANES_SETTING.getKey(), 1).put("thread_pool.write.size", 1).build()
+        );
+        CountDownLatch blockLane = new CountDownLatch(1);
+        CountDownLatch blockWrite = new CountDownLatch(1);
+        try {
+            ShardId shardId = new ShardId("index", "_na_", randomIntBetween(0, 100));
+            String lane = ThreadPool.Names.WRITE_LANE_PREFIX + 0;
+            assertEquals(lane, threadPool.writeExecutorName(shardId));
+
+            // a lane with a backlog overflows to the write thread pool while it has idle threads
+            block(threadPool.executor(lane), blockLane);
+            threadPool.executor(lane).execute(() -> {});
+            String overflow = threadPool.writeExecutorName(shardId);
+            assertEquals(ThreadPool.Names.WRITE, overflow);
+            assertThat(runOn(threadPool, overflow).get(10, TimeUnit.SECONDS), containsString("[" + ThreadPool.Names.WRITE + "]"));
+
+            // once the write thread pool is busy too, the writes queue up on the lane
+            block(threadPool.executor(ThreadPool.Names.WRITE), blockWrite);
+            String queued = threadPool.writeExecutorName(shardId);
+            assertEquals(lane, queued);
+            Future<String> onLane = runOn(threadPool, queued);
+            assertFalse(onLane.isDone());
+            blockLane.countDown();
+            assertThat(onLane.get(10, TimeUnit.SECONDS), containsString("[" + lane + "]"));
+        } finally {
+            blockLane.countDown();
+            blockWrite.countDown();
+            terminate(threadPool);
+        }
+    }
+
+    private static void block(ExecutorService executor, CountDownLatch latch) throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(1);
+        executor.execute(() -> {
+            running.countDown();
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+        });
+        running.await();
+    }
+
+    private static Future<String> runOn(ThreadPool threadPool, String executor) {
+        return threadPool.executor(executor).submit(() -> Thread.currentThread().getName());
+    }
+
+    public void testWriteLanesDisabledByDefault() {
+        TestThreadPool threadPool = new TestThreadPool("test");
+        try {
+            assertEquals(ThreadPool.Names.WRITE, threadPool.writeExecutorName(new ShardId("index", "_na_", 0)));
+            assertFalse(threadPool.stats().stats().stream().anyMatch(s -> s.getName().startsWith("write_lane_")));
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
     public void testThreadPoolResizeFail() {
         TestThreadPool threadPool = new TestThreadPool("test");
         try {
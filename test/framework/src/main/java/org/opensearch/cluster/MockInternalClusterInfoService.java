@@ -150,7 +150,9 @@ public class MockInternalClusterInfoService extends InternalClusterInfoService {
                 nodeStats.getRepositoriesStats(),
                 nodeStats.getAdmissionControlStats(),
                 nodeStats.getNodeCacheStats(),
-                nodeStats.getRemoteStoreNodeStats()
+                nodeStats.getRemoteStoreNodeStats(),
+                nodeStats.getIndexingBufferStats(),
+                nodeStats.getTranslogGroupCommitStats()
             );
         }).collect(Collectors.toList());
     }
@@ -2700,6 +2700,8 @@ public final class InternalTestCluster extends TestCluster {
                     false,
                     false,
                     false,
+                    false,
+                    false,
                     false
                 );
                 assertThat(